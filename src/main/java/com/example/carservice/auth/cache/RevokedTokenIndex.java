@@ -0,0 +1,146 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.RevokedTokenIndexProperties;
+import com.example.carservice.auth.model.entity.InvalidTokenEntity;
+import com.example.carservice.auth.repository.InvalidTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of revoked token IDs (jti) that answers revocation checks without a database round trip.
+ * <p>
+ * The index is loaded from the {@code INVALID_TOKEN} table once the application is ready and is updated
+ * immediately for tokens revoked through this instance. Revocations written by other replicas are pulled
+ * incrementally every {@code carservice.auth.revoked-token-index.refresh-interval}, so a token revoked on
+ * another replica is accepted here for at most that interval. Until the initial load has succeeded the
+ * index reports itself as not ready and callers must fall back to the database.
+ * Each entry remembers the expiry of its token so that it can be dropped once the token is no longer usable.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RevokedTokenIndex {
+
+    private final InvalidTokenRepository invalidTokenRepository;
+    private final RevokedTokenIndexProperties revokedTokenIndexProperties;
+
+    private final Map<String, LocalDateTime> revokedTokenIds = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastRefreshStartedAt;
+
+    public RevokedTokenIndex(final InvalidTokenRepository invalidTokenRepository,
+                             final RevokedTokenIndexProperties revokedTokenIndexProperties,
+                             final MeterRegistry meterRegistry) {
+
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.revokedTokenIndexProperties = revokedTokenIndexProperties;
+
+        Gauge.builder("revoked.token.index.size", revokedTokenIds, Map::size)
+                .description("Number of revoked token IDs held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every revoked, not yet expired token ID from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        if (!revokedTokenIndexProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            final LocalDateTime refreshStartedAt = LocalDateTime.now();
+            this.addAll(invalidTokenRepository.findAllByExpiresAtAfterOrExpiresAtIsNull(refreshStartedAt));
+            lastRefreshStartedAt = refreshStartedAt;
+            ready = true;
+            log.info("Revoked token index loaded with {} token ids", revokedTokenIds.size());
+        } catch (RuntimeException exception) {
+            log.warn("Revoked token index could not be loaded, revocation checks fall back to the database", exception);
+        }
+
+    }
+
+    /**
+     * Pulls token IDs revoked since the last refresh, including those revoked by other replicas.
+     * Retries the initial load if it has not succeeded yet.
+     */
+    @Scheduled(
+            fixedDelayString = "${carservice.auth.revoked-token-index.refresh-interval:10s}",
+            initialDelayString = "${carservice.auth.revoked-token-index.refresh-interval:10s}"
+    )
+    public void refresh() {
+
+        if (!revokedTokenIndexProperties.isEnabled()) {
+            return;
+        }
+
+        if (!ready) {
+            this.load();
+            return;
+        }
+
+        try {
+            final LocalDateTime refreshStartedAt = LocalDateTime.now();
+            final LocalDateTime since = lastRefreshStartedAt.minus(revokedTokenIndexProperties.getRefreshLookback());
+            this.addAll(invalidTokenRepository.findAllByCreatedAtGreaterThanEqual(since));
+            lastRefreshStartedAt = refreshStartedAt;
+        } catch (RuntimeException exception) {
+            log.warn("Revoked token index refresh failed, keeping the current snapshot", exception);
+        }
+
+    }
+
+    /**
+     * Returns whether the index has been loaded and can answer revocation checks on its own.
+     *
+     * @return {@code true} if the index is enabled and loaded
+     */
+    public boolean isReady() {
+        return revokedTokenIndexProperties.isEnabled() && ready;
+    }
+
+    /**
+     * Checks whether the given token ID is known to be revoked.
+     *
+     * @param tokenId the token ID to check
+     * @return {@code true} if the token ID is in the index
+     */
+    public boolean contains(final String tokenId) {
+        return revokedTokenIds.containsKey(tokenId);
+    }
+
+    /**
+     * Adds newly revoked tokens to the index.
+     *
+     * @param invalidTokenEntities the revoked tokens
+     */
+    public void addAll(final Collection<InvalidTokenEntity> invalidTokenEntities) {
+        invalidTokenEntities.forEach(invalidTokenEntity -> revokedTokenIds.put(
+                invalidTokenEntity.getTokenId(),
+                invalidTokenEntity.getExpiresAt() != null ? invalidTokenEntity.getExpiresAt() : LocalDateTime.MAX
+        ));
+    }
+
+    /**
+     * Drops the entries whose token has expired before the given time.
+     *
+     * @param now the current time
+     */
+    public void removeExpired(final LocalDateTime now) {
+        revokedTokenIds.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+    }
+
+}
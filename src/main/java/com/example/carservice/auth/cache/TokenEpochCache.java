@@ -0,0 +1,101 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.TokenEpochCacheProperties;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.EntityCacheInvalidationBus;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Size-bounded in-memory cache of the token epoch of each user.
+ * <p>
+ * Every token carries the epoch its user had when it was issued; bumping the epoch revokes all tokens issued
+ * before, whatever their number, without storing their IDs. Entries are keyed by user ID, loaded from the
+ * {@link UserRepository} on a miss. A user published on the {@link EntityCacheInvalidationBus}, as when the
+ * epoch is bumped on another instance, is dropped and read again; the time to live only covers messages lost
+ * on the bus. Unknown users have epoch {@code 0}.
+ * </p>
+ * Hit and miss counts are published to the Micrometer registry under the {@value #CACHE_NAME} cache name.
+ */
+@Component
+public class TokenEpochCache {
+
+    static final String CACHE_NAME = "tokenEpochCache";
+
+    private static final String USER_ENTITY_NAME = UserEntity.class.getName();
+
+    private final UserRepository userRepository;
+    private final Cache<String, Integer> cache;
+
+    public TokenEpochCache(final UserRepository userRepository,
+                           final EntityCacheInvalidationBus invalidationBus,
+                           final TokenEpochCacheProperties tokenEpochCacheProperties,
+                           final MeterRegistry meterRegistry) {
+
+        this.userRepository = userRepository;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tokenEpochCacheProperties.getMaximumSize())
+                .expireAfterWrite(tokenEpochCacheProperties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Returns whether a token issued at the given epoch has been revoked by a later bump of the user's epoch.
+     * A token newer than the cached epoch, issued after a bump on another instance, is not revoked.
+     *
+     * @param userId     the ID of the user the token was issued to
+     * @param tokenEpoch the epoch carried by the token
+     * @return {@code true} if the user's epoch is past the token's
+     */
+    public boolean isRevoked(final String userId, final int tokenEpoch) {
+        return tokenEpoch < cache.get(userId, this::load);
+    }
+
+    /**
+     * Records the current epoch of a user, as after it has been bumped on this instance.
+     * Inside a transaction the epoch is recorded once the transaction commits, so that a rolled back bump
+     * never revokes tokens.
+     *
+     * @param userId     the user ID
+     * @param tokenEpoch the user's current epoch
+     */
+    public void put(final String userId, final int tokenEpoch) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(userId, tokenEpoch);
+                }
+            });
+            return;
+        }
+
+        cache.put(userId, tokenEpoch);
+    }
+
+    private Integer load(final String userId) {
+        return userRepository.findTokenEpochById(userId).orElse(0);
+    }
+
+    private void onInvalidation(final EntityCacheInvalidation invalidation) {
+        if (invalidation.getTarget() == CacheInvalidationTarget.ENTITY && USER_ENTITY_NAME.equals(invalidation.getRole())) {
+            cache.invalidate(invalidation.getKey());
+        }
+    }
+
+}
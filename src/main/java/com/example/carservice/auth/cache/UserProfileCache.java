@@ -0,0 +1,61 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.UserProfileCacheProperties;
+import com.example.carservice.auth.exception.UserNotFoundException;
+import com.example.carservice.auth.model.UserProfile;
+import com.example.carservice.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size-bounded in-memory cache of the user profiles that compact access tokens no longer carry.
+ * Entries are keyed by user ID, loaded from the {@link UserRepository} on a miss and dropped after the
+ * configured time to live, so that a profile change shows up at the latest one TTL later.
+ * <p>
+ * Hit and miss counts are published to the Micrometer registry under the {@value #CACHE_NAME} cache name.
+ * </p>
+ */
+@Component
+public class UserProfileCache {
+
+    static final String CACHE_NAME = "userProfileCache";
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserProfile> cache;
+
+    public UserProfileCache(final UserRepository userRepository,
+                            final UserProfileCacheProperties userProfileCacheProperties,
+                            final MeterRegistry meterRegistry) {
+
+        this.userRepository = userRepository;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(userProfileCacheProperties.getMaximumSize())
+                .expireAfterWrite(userProfileCacheProperties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the profile of the given user, loading it when it is not cached.
+     *
+     * @param userId the user ID
+     * @return the profile
+     * @throws UserNotFoundException if no user has the given ID
+     */
+    public UserProfile get(final String userId) {
+        return cache.get(userId, this::load);
+    }
+
+    private UserProfile load(final String userId) {
+        return userRepository.findById(userId)
+                .map(UserProfile::from)
+                .orElseThrow(UserNotFoundException::new);
+    }
+
+}
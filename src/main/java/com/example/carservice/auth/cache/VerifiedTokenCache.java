@@ -0,0 +1,145 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.VerifiedTokenCacheProperties;
+import com.example.carservice.auth.model.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Size-bounded in-memory cache of access tokens whose signature has already been verified.
+ * Entries are keyed by the SHA-256 digest of the raw token, hold the already built
+ * {@link UsernamePasswordAuthenticationToken} and expire exactly at the token's {@code exp} claim.
+ * <p>
+ * The cache never answers revocation questions: callers must still check the cached token ID
+ * against the invalid token store, and the cached token epoch against the user's, on every hit.
+ * Hit and miss counts are published to the Micrometer registry under the {@value #CACHE_NAME}
+ * cache name.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "verifiedTokenCache";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final boolean enabled;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public VerifiedTokenCache(final VerifiedTokenCacheProperties verifiedTokenCacheProperties,
+                              final MeterRegistry meterRegistry) {
+
+        this.enabled = verifiedTokenCacheProperties.isEnabled();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheProperties.getMaximumSize())
+                .expireAfter(new ExpiresAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached authentication of the given raw token, if present and not yet expired.
+     *
+     * @param jwt the raw JWT
+     * @return the cached entry, or {@code null} on a miss or when the cache is disabled
+     */
+    public CachedAuthentication get(final String jwt) {
+
+        if (!enabled) {
+            return null;
+        }
+
+        return cache.getIfPresent(digest(jwt));
+    }
+
+    /**
+     * Caches the authentication built from a verified token until the token expires.
+     *
+     * @param verifiedToken  the verified token
+     * @param authentication the authentication built from the token
+     */
+    public void put(final VerifiedToken verifiedToken,
+                    final UsernamePasswordAuthenticationToken authentication) {
+
+        if (!enabled) {
+            return;
+        }
+
+        final CachedAuthentication cachedAuthentication = CachedAuthentication.builder()
+                .tokenId(verifiedToken.getId())
+                .userId(verifiedToken.getUserId())
+                .tokenEpoch(verifiedToken.getTokenEpoch())
+                .authentication(authentication)
+                .expiresAt(verifiedToken.getPayload().getExpiration().toInstant())
+                .build();
+
+        cache.put(digest(verifiedToken.getJwt()), cachedAuthentication);
+    }
+
+    private static String digest(final String jwt) {
+        try {
+            final byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(jwt.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", exception);
+        }
+    }
+
+    /**
+     * A cached, already built authentication together with the data needed to re-check it.
+     */
+    @Getter
+    @Builder
+    public static class CachedAuthentication {
+
+        private String tokenId;
+        private String userId;
+        private int tokenEpoch;
+        private UsernamePasswordAuthenticationToken authentication;
+        private Instant expiresAt;
+
+    }
+
+    /**
+     * Expires each entry at the {@code exp} claim of its token, independent of reads or updates.
+     */
+    private static class ExpiresAtTokenExpiration implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            final long millisUntilExpiry = value.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0L, millisUntilExpiry) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.example.carservice.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the scheduled purge of expired rows in the {@code INVALID_TOKEN} table.
+ * Bound from the {@code carservice.auth.invalid-token-purge} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.invalid-token-purge")
+public class InvalidTokenPurgeProperties {
+
+    /**
+     * Whether expired invalid tokens are purged.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cron expression of the purge schedule.
+     */
+    private String cron = "0 */15 * * * *";
+
+    /**
+     * Number of rows deleted per batch, each batch in its own short transaction.
+     */
+    private int batchSize = 1_000;
+
+}
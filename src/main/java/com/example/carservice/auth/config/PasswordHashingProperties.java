@@ -0,0 +1,42 @@
+package com.example.carservice.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for password hashing.
+ * Bound from the {@code carservice.auth.password-hashing} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt work factor (log2 of the number of rounds, between 4 and 31). Stored hashes with another cost are
+     * re-hashed at the next successful login.
+     */
+    private int strength = 10;
+
+    /**
+     * Number of threads hashing passwords; {@code 0} uses half of the available processors (at least one),
+     * leaving the other half to the rest of the traffic.
+     */
+    private int threads = 0;
+
+    /**
+     * Maximum number of hashing requests waiting for a thread. Further requests are rejected right away.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * How long a caller waits for its hash, queueing included, before the request is rejected.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,38 @@
+package com.example.carservice.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory index of revoked token IDs.
+ * Bound from the {@code carservice.auth.revoked-token-index} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.revoked-token-index")
+public class RevokedTokenIndexProperties {
+
+    /**
+     * Whether revocation checks are answered from the in-memory index instead of the database.
+     * Disable it to always query the database, e.g. when no revocation delay is acceptable.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often revocations written by other replicas are pulled from the database.
+     * This is the upper bound on how long a token revoked on another replica is still accepted here.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * How far before the last refresh each incremental refresh looks back,
+     * covering clock skew between replicas and transactions that committed late.
+     */
+    private Duration refreshLookback = Duration.ofMinutes(1);
+
+}
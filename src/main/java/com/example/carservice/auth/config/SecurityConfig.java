@@ -1,7 +1,9 @@
 package com.example.carservice.auth.config;
 
 import com.example.carservice.auth.filter.CustomBearerTokenAuthenticationFilter;
+import com.example.carservice.auth.security.BoundedPasswordEncoder;
 import com.example.carservice.auth.security.CustomAuthenticationEntryPoint;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +14,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistryImpl;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -90,6 +91,11 @@ public class SecurityConfig {
                 .cors(customizer -> customizer.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(customizer -> customizer
+                        .requestMatchers(
+                                HttpMethod.POST,
+                                "/api/v1/authentication/user/logout-all",
+                                "/api/v1/authentication/user/*/logout-all"
+                        ).authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/v1/authentication/**").permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -126,12 +132,18 @@ public class SecurityConfig {
 
     /**
      * Provides the password encoder bean used for hashing user passwords.
+     * <p>
+     * Hashing runs on a bounded executor of its own, so that bursts of logins cannot take every request thread.
+     * </p>
      *
+     * @param passwordHashingProperties the BCrypt strength and executor limits
+     * @param meterRegistry the registry the hashing metrics are registered in
      * @return a {@link PasswordEncoder} instance using BCrypt
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(final PasswordHashingProperties passwordHashingProperties,
+                                           final MeterRegistry meterRegistry) {
+        return BoundedPasswordEncoder.of(passwordHashingProperties, meterRegistry);
     }
 
 }
@@ -0,0 +1,26 @@
+package com.example.carservice.auth.config;
+
+import com.example.carservice.auth.model.enums.TokenClaimsProfile;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the user claims written to access tokens.
+ * Bound from the {@code carservice.auth.token-claims} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.token-claims")
+public class TokenClaimsProperties {
+
+    /**
+     * Claims profile of newly issued access tokens. Tokens of either profile are accepted whatever the setting.
+     * Defaults to {@link TokenClaimsProfile#FULL}, which keeps the email and name claims clients may read;
+     * deployments whose clients do not read them can opt in to {@link TokenClaimsProfile#COMPACT}.
+     */
+    private TokenClaimsProfile profile = TokenClaimsProfile.FULL;
+
+}
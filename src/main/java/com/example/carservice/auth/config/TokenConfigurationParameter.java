@@ -1,25 +1,45 @@
 package com.example.carservice.auth.config;
 
+import com.example.carservice.auth.model.TokenSigningKey;
 import com.example.carservice.auth.model.enums.ConfigurationParameter;
+import com.example.carservice.auth.model.enums.SigningAlgorithm;
 import com.example.carservice.auth.utils.KeyConverter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Getter
 @Configuration
 public class TokenConfigurationParameter {
 
+    /**
+     * Key ID of the built-in RSA key pair, used when no key is configured.
+     */
+    public static final String DEFAULT_KEY_ID = "default";
+
     private final String issuer;
     private final int accessTokenExpireMinute;
     private final int refreshTokenExpireDay;
-    private final PublicKey publicKey;
-    private final PrivateKey privateKey;
+    private final TokenSigningKey signingKey;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TokenSigningKey> keys = new LinkedHashMap<>();
 
 
     public TokenConfigurationParameter() {
+        this(new TokenKeyRingProperties());
+    }
+
+    @Autowired
+    public TokenConfigurationParameter(final TokenKeyRingProperties tokenKeyRingProperties) {
 
         this.issuer = ConfigurationParameter.ISSUER.getDefaultValue();
 
@@ -31,15 +51,83 @@ public class TokenConfigurationParameter {
                 ConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.getDefaultValue()
         );
 
-        this.publicKey = KeyConverter.convertPublicKey(
-                ConfigurationParameter.AUTH_PUBLIC_KEY.getDefaultValue()
-        );
+        if (tokenKeyRingProperties.getKeys().isEmpty()) {
+            this.addKey(TokenSigningKey.builder()
+                    .id(DEFAULT_KEY_ID)
+                    .algorithm(SigningAlgorithm.RS256)
+                    .publicKey(KeyConverter.convertPublicKey(ConfigurationParameter.AUTH_PUBLIC_KEY.getDefaultValue()))
+                    .privateKey(KeyConverter.convertPrivateKey(ConfigurationParameter.AUTH_PRIVATE_KEY.getDefaultValue()))
+                    .build());
+        }
 
-        this.privateKey = KeyConverter.convertPrivateKey(
-                ConfigurationParameter.AUTH_PRIVATE_KEY.getDefaultValue()
-        );
+        for (TokenKeyRingProperties.Key key : tokenKeyRingProperties.getKeys()) {
+            this.addKey(TokenSigningKey.builder()
+                    .id(key.getId())
+                    .algorithm(key.getAlgorithm())
+                    .publicKey(KeyConverter.convertPublicKey(key.getPublicKey()))
+                    .privateKey(StringUtils.hasText(key.getPrivateKey()) ? KeyConverter.convertPrivateKey(key.getPrivateKey()) : null)
+                    .build());
+        }
+
+        this.signingKey = this.resolveSigningKey(tokenKeyRingProperties.getActiveKeyId());
+
+    }
+
+    /**
+     * Returns the public key of the active signing key.
+     *
+     * @return the public key new tokens are verified with
+     */
+    public PublicKey getPublicKey() {
+        return signingKey.getPublicKey();
+    }
+
+    /**
+     * Returns the private key of the active signing key.
+     *
+     * @return the private key new tokens are signed with
+     */
+    public PrivateKey getPrivateKey() {
+        return signingKey.getPrivateKey();
+    }
+
+    /**
+     * Returns the public key verifying tokens signed with the given key ID.
+     * Tokens without key ID, issued before the key ring, are verified with the active key.
+     *
+     * @param keyId the {@code kid} header of the token, may be {@code null}
+     * @return the matching public key
+     * @throws InvalidKeyException if no key of the ring has the given ID
+     */
+    public PublicKey getVerificationKey(final String keyId) {
+
+        if (keyId == null) {
+            return signingKey.getPublicKey();
+        }
 
+        final TokenSigningKey key = keys.get(keyId);
+        if (key == null) {
+            throw new InvalidKeyException("Unknown token key ID: " + keyId);
+        }
+        return key.getPublicKey();
     }
 
+    private void addKey(final TokenSigningKey key) {
+        if (!StringUtils.hasText(key.getId()) || keys.putIfAbsent(key.getId(), key) != null) {
+            throw new IllegalStateException("Token keys need a unique, non-blank ID: " + key.getId());
+        }
+    }
+
+    private TokenSigningKey resolveSigningKey(final String activeKeyId) {
+
+        final TokenSigningKey key = StringUtils.hasText(activeKeyId)
+                ? keys.get(activeKeyId)
+                : keys.values().stream().filter(candidate -> candidate.getPrivateKey() != null).findFirst().orElse(null);
+
+        if (key == null || key.getPrivateKey() == null) {
+            throw new IllegalStateException("No token key with a private key to sign with: " + activeKeyId);
+        }
+        return key;
+    }
 
 }
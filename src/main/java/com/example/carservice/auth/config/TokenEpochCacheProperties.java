@@ -0,0 +1,31 @@
+package com.example.carservice.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory cache of per-user token epochs.
+ * Bound from the {@code carservice.auth.token-epoch-cache} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.token-epoch-cache")
+public class TokenEpochCacheProperties {
+
+    /**
+     * Maximum number of cached epochs before the least valuable entries are evicted.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long an epoch is reused before it is read again. Epochs bumped on this instance apply at once;
+     * this bounds how long tokens revoked on another instance are still accepted here.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+}
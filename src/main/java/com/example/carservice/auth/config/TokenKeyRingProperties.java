@@ -0,0 +1,60 @@
+package com.example.carservice.auth.config;
+
+import com.example.carservice.auth.model.enums.SigningAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the keys tokens are signed and verified with.
+ * Bound from the {@code carservice.auth.token-keys} prefix.
+ * <p>
+ * Without configured keys, tokens are signed with the built-in RSA key pair under the {@code default} key ID.
+ * To rotate keys without downtime, add the new key, make it the active one, and keep the previous key
+ * (its private key may be dropped) until the tokens it signed have expired.
+ * </p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.token-keys")
+public class TokenKeyRingProperties {
+
+    /**
+     * ID of the key new tokens are signed with; the first key with a private key when not set.
+     */
+    private String activeKeyId;
+
+    private List<Key> keys = new ArrayList<>();
+
+    /**
+     * A key of the ring.
+     */
+    @Getter
+    @Setter
+    public static class Key {
+
+        /**
+         * Key ID, written to the {@code kid} header of the tokens signed with this key.
+         */
+        private String id;
+
+        private SigningAlgorithm algorithm = SigningAlgorithm.RS256;
+
+        /**
+         * PEM-encoded public key.
+         */
+        private String publicKey;
+
+        /**
+         * PEM-encoded private key; only needed while the key signs new tokens.
+         */
+        private String privateKey;
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.carservice.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory cache of user profiles read on behalf of compact access tokens.
+ * Bound from the {@code carservice.auth.user-profile-cache} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.user-profile-cache")
+public class UserProfileCacheProperties {
+
+    /**
+     * Maximum number of cached profiles before the least valuable entries are evicted.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a profile is reused after it was loaded, which bounds how stale a cached profile can get.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+}
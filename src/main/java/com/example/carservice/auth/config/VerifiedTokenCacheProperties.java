@@ -0,0 +1,28 @@
+package com.example.carservice.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory cache of already verified access tokens.
+ * Bound from the {@code carservice.auth.verified-token-cache} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.auth.verified-token-cache")
+public class VerifiedTokenCacheProperties {
+
+    /**
+     * Whether verified tokens are cached at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached tokens before the least valuable entries are evicted.
+     */
+    private long maximumSize = 10_000;
+
+}
@@ -1,6 +1,7 @@
 package com.example.carservice.auth.controller;
 
 import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.UserIdentity;
 import com.example.carservice.auth.model.dto.request.LoginRequest;
 import com.example.carservice.auth.model.dto.request.RegisterRequest;
 import com.example.carservice.auth.model.dto.request.TokenInvalidateRequest;
@@ -17,7 +18,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.UUID;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -51,6 +55,8 @@ public class AuthController {
 
     private final LogoutService logoutService;
 
+    private final UserIdentity userIdentity;
+
     private final TokenToTokenResponseMapper tokenToTokenResponseMapper = TokenToTokenResponseMapper.initialize();
 
     /**
@@ -137,4 +143,46 @@ public class AuthController {
         return CustomResponse.SUCCESS;
     }
 
+    /**
+     * Endpoint to log the authenticated user out of all sessions.
+     *
+     * @return A {@link CustomResponse} indicating the success of the logout operation.
+     */
+    @Operation(
+            summary = "Log out of all sessions",
+            description = "Invalidates every access and refresh token issued to the authenticated user so far.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Logout successful"),
+                    @ApiResponse(responseCode = "401", description = "Missing or invalid access token")
+            }
+    )
+    @PostMapping("/logout-all")
+    public CustomResponse<Void> logoutAll() {
+        logoutService.logoutAll(userIdentity.getUserId());
+        return CustomResponse.SUCCESS;
+    }
+
+    /**
+     * Endpoint to log a given user out of all sessions, as when the user's account is compromised or disabled.
+     *
+     * @param userId The ID of the user to log out.
+     * @return A {@link CustomResponse} indicating the success of the logout operation.
+     */
+    @Operation(
+            summary = "Log a user out of all sessions",
+            description = "Invalidates every access and refresh token issued to the given user so far. Admin only.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Logout successful"),
+                    @ApiResponse(responseCode = "401", description = "Missing or invalid access token"),
+                    @ApiResponse(responseCode = "403", description = "Caller is not an admin"),
+                    @ApiResponse(responseCode = "404", description = "User not found")
+            }
+    )
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping("/{userId}/logout-all")
+    public CustomResponse<Void> logoutAll(@PathVariable @Valid @UUID final String userId) {
+        logoutService.logoutAll(userId);
+        return CustomResponse.SUCCESS;
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.example.carservice.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a password cannot be hashed or checked because the password hashing executor is saturated.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 6180325517437912664L;
+
+    public static final HttpStatus STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    private static final String DEFAULT_MESSAGE = """
+            Too many authentication requests, please try again shortly!
+            """;
+
+    /**
+     * Constructs a {@code PasswordHashingUnavailableException} with a default message.
+     */
+    public PasswordHashingUnavailableException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    /**
+     * Constructs a {@code PasswordHashingUnavailableException} with additional context message.
+     *
+     * @param message additional information about why the request was rejected
+     */
+    public PasswordHashingUnavailableException(final String message) {
+        super(DEFAULT_MESSAGE + " " + message);
+    }
+
+}
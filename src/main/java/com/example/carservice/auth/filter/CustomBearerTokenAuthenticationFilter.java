@@ -1,6 +1,10 @@
 package com.example.carservice.auth.filter;
 
+import com.example.carservice.auth.cache.TokenEpochCache;
+import com.example.carservice.auth.cache.VerifiedTokenCache;
+import com.example.carservice.auth.exception.TokenAlreadyInvalidatedException;
 import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.VerifiedToken;
 import com.example.carservice.auth.service.InvalidTokenService;
 import com.example.carservice.auth.service.TokenService;
 import jakarta.servlet.FilterChain;
@@ -36,15 +40,19 @@ public class CustomBearerTokenAuthenticationFilter extends OncePerRequestFilter
 
     private final TokenService tokenService;
     private final InvalidTokenService invalidTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochCache tokenEpochCache;
 
     /**
      * Intercepts incoming HTTP requests to process JWT-based Bearer authentication.
      * <p>
      * If the Authorization header contains a valid Bearer token, this method:
      * <ul>
-     *     <li>Validates the JWT</li>
-     *     <li>Checks if the token is invalidated</li>
-     *     <li>Builds authentication details and sets them in the SecurityContext</li>
+     *     <li>Reuses the authentication of an already verified token from the {@link VerifiedTokenCache}, or
+     *     verifies the JWT once and keeps the parsed claims as a {@link VerifiedToken}</li>
+     *     <li>Checks if the token is invalidated, or was issued before its user's current token epoch,
+     *     on cache hits as well as on misses</li>
+     *     <li>Builds authentication details from the parsed claims and sets them in the SecurityContext</li>
      * </ul>
      * </p>
      *
@@ -67,21 +75,62 @@ public class CustomBearerTokenAuthenticationFilter extends OncePerRequestFilter
 
             final String jwt = Token.getJwt(authorizationHeader);
 
-            tokenService.verifyAndValidate(jwt);
+            final UsernamePasswordAuthenticationToken authentication = this.authenticate(jwt);
 
-            final String tokenId = tokenService.getId(jwt);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            invalidTokenService.checkForInvalidityOfToken(tokenId);
+        }
 
-            final UsernamePasswordAuthenticationToken authentication = tokenService
-                    .getAuthentication(jwt);
+        filterChain.doFilter(httpServletRequest,httpServletResponse);
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 
+    /**
+     * Resolves the authentication of the given JWT, verifying the token only when it is not cached yet.
+     * Revocation is checked on every call so that logged-out tokens, and all tokens of users logged out
+     * of every session, are rejected even when cached.
+     *
+     * @param jwt the raw JWT
+     * @return the authentication of the token
+     */
+    private UsernamePasswordAuthenticationToken authenticate(final String jwt) {
+
+        final VerifiedTokenCache.CachedAuthentication cachedAuthentication = verifiedTokenCache.get(jwt);
+
+        if (cachedAuthentication != null) {
+            invalidTokenService.checkForInvalidityOfToken(cachedAuthentication.getTokenId());
+            this.checkTokenEpoch(
+                    cachedAuthentication.getTokenId(),
+                    cachedAuthentication.getUserId(),
+                    cachedAuthentication.getTokenEpoch()
+            );
+            return cachedAuthentication.getAuthentication();
         }
 
-        filterChain.doFilter(httpServletRequest,httpServletResponse);
+        final VerifiedToken verifiedToken = tokenService.verify(jwt);
 
+        invalidTokenService.checkForInvalidityOfToken(verifiedToken);
+        this.checkTokenEpoch(verifiedToken.getId(), verifiedToken.getUserId(), verifiedToken.getTokenEpoch());
+
+        final UsernamePasswordAuthenticationToken authentication = tokenService
+                .getAuthentication(verifiedToken);
+
+        verifiedTokenCache.put(verifiedToken, authentication);
+
+        return authentication;
+    }
+
+    /**
+     * Rejects a token issued before the current token epoch of its user, read from the {@link TokenEpochCache}.
+     *
+     * @param tokenId    the token ID
+     * @param userId     the ID of the user the token was issued to
+     * @param tokenEpoch the epoch carried by the token
+     */
+    private void checkTokenEpoch(final String tokenId, final String userId, final int tokenEpoch) {
+        if (userId != null && tokenEpochCache.isRevoked(userId, tokenEpoch)) {
+            throw new TokenAlreadyInvalidatedException(tokenId);
+        }
     }
 
 }
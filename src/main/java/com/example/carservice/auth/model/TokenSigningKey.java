@@ -0,0 +1,23 @@
+package com.example.carservice.auth.model;
+
+import com.example.carservice.auth.model.enums.SigningAlgorithm;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * Represents a key of the token key ring, identified in token headers by its key ID ({@code kid}).
+ * Keys kept only to verify tokens issued before a rotation have no private key.
+ */
+@Getter
+@Builder
+public class TokenSigningKey {
+
+    private String id;
+    private SigningAlgorithm algorithm;
+    private PublicKey publicKey;
+    private PrivateKey privateKey;
+
+}
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Component;
  * A request-scoped component that provides access to identity information of the authenticated user.
  * This class extracts user-specific details such as user ID and user type from the JWT token stored
  * in the Spring Security context. It is useful for associating data access or auditing with the current user.
+ * The {@link Jwt} principal is built once per request from the {@link VerifiedToken} produced by the
+ * authentication filter, so reading claims here never parses or verifies the token again.
  *
  * Scoped to each HTTP request via {@link BeanScope#SCOPE_REQUEST}.
  *
@@ -20,6 +22,8 @@ import org.springframework.stereotype.Component;
  * @see org.springframework.security.core.context.SecurityContextHolder
  * @see TokenClaims
  * @see UserType
+ * @see VerifiedToken
+ * @see UserProfileReference
  */
 @Component
 @Scope(value = BeanScope.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
@@ -40,6 +44,16 @@ public class UserIdentity {
         return UserType.valueOf(userType); // Assumes "USER" or "ADMIN"
     }
 
+    /**
+     * Returns the profile of the authenticated user. Compact tokens do not carry it, in which case it is
+     * read from the user profile cache, so callers that only need the ID or type should not ask for it.
+     *
+     * @return the {@link UserProfile}
+     */
+    public UserProfile getProfile() {
+        return ((UserProfileReference) SecurityContextHolder.getContext().getAuthentication().getDetails()).get();
+    }
+
     /**
      * Retrieves the JWT token for the authenticated user from the security context.
      * This method is used internally to access user-specific claims from the JWT.
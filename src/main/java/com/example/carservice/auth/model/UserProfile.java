@@ -0,0 +1,71 @@
+package com.example.carservice.auth.model;
+
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.TokenClaims;
+import com.example.carservice.auth.model.enums.UserStatus;
+import com.example.carservice.auth.model.enums.UserType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Represents the profile of an authenticated user, as embedded in a full access token
+ * or as loaded for a compact one.
+ */
+@Getter
+@Builder
+public class UserProfile {
+
+    private String id;
+    private UserType userType;
+    private UserStatus userStatus;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+
+    /**
+     * Builds the profile of the given user.
+     *
+     * @param userEntity the user
+     * @return the profile
+     */
+    public static UserProfile from(final UserEntity userEntity) {
+        return UserProfile.builder()
+                .id(userEntity.getId())
+                .userType(userEntity.getUserType())
+                .userStatus(userEntity.getUserStatus())
+                .firstName(userEntity.getFirstName())
+                .lastName(userEntity.getLastName())
+                .email(userEntity.getEmail())
+                .phoneNumber(userEntity.getPhoneNumber())
+                .build();
+    }
+
+    /**
+     * Builds the profile from the claims of a full access token.
+     *
+     * @param claims the token claims
+     * @return the profile
+     */
+    public static UserProfile from(final Map<String, Object> claims) {
+        return UserProfile.builder()
+                .id(claim(claims, TokenClaims.USER_ID))
+                .userType(UserType.valueOf(claim(claims, TokenClaims.USER_TYPE)))
+                .userStatus(claims.containsKey(TokenClaims.USER_STATUS.getValue())
+                        ? UserStatus.valueOf(claim(claims, TokenClaims.USER_STATUS))
+                        : null)
+                .firstName(claim(claims, TokenClaims.USER_FIRST_NAME))
+                .lastName(claim(claims, TokenClaims.USER_LAST_NAME))
+                .email(claim(claims, TokenClaims.USER_EMAIL))
+                .phoneNumber(claim(claims, TokenClaims.USER_PHONE_NUMBER))
+                .build();
+    }
+
+    private static String claim(final Map<String, Object> claims, final TokenClaims claim) {
+        final Object value = claims.get(claim.getValue());
+        return value != null ? value.toString() : null;
+    }
+
+}
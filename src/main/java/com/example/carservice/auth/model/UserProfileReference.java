@@ -0,0 +1,29 @@
+package com.example.carservice.auth.model;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Supplier;
+
+/**
+ * Resolves the {@link UserProfile} of an authenticated request only when it is asked for.
+ * <p>
+ * It is set as the details of the authentication built from an access token: full tokens resolve the profile
+ * from their own claims, compact tokens from the user profile cache. Requests that only need the user ID
+ * and type, which are always claims, never resolve it.
+ * </p>
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class UserProfileReference {
+
+    private final Supplier<UserProfile> resolver;
+
+    /**
+     * Returns the profile of the authenticated user.
+     *
+     * @return the {@link UserProfile}
+     */
+    public UserProfile get() {
+        return resolver.get();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.carservice.auth.model;
+
+import com.example.carservice.auth.model.enums.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Represents a JWT whose signature and expiration have already been verified.
+ * The parsed {@link Jws} is carried alongside the raw token so that downstream components
+ * (revocation check, authentication building, user identity) can read the header and claims
+ * without parsing and verifying the token again.
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    private String jwt;
+    private Jws<Claims> claimsJws;
+
+    /**
+     * Returns the verified JWS header of the token.
+     *
+     * @return the {@link JwsHeader}
+     */
+    public JwsHeader getHeader() {
+        return claimsJws.getHeader();
+    }
+
+    /**
+     * Returns the verified claims of the token.
+     *
+     * @return the {@link Claims} payload
+     */
+    public Claims getPayload() {
+        return claimsJws.getPayload();
+    }
+
+    /**
+     * Returns the unique token ID (jti) of the token.
+     *
+     * @return the token ID as a {@link String}
+     */
+    public String getId() {
+        return claimsJws.getPayload().getId();
+    }
+
+    /**
+     * Returns the ID of the user the token was issued to.
+     *
+     * @return the user ID, or {@code null} if the token carries none
+     */
+    public String getUserId() {
+        final Object userId = claimsJws.getPayload().get(TokenClaims.USER_ID.getValue());
+        return userId != null ? userId.toString() : null;
+    }
+
+    /**
+     * Returns the token epoch of the user when the token was issued.
+     * Tokens issued before epochs were introduced have epoch {@code 0}.
+     *
+     * @return the token epoch
+     */
+    public int getTokenEpoch() {
+        return claimsJws.getPayload().get(TokenClaims.TOKEN_EPOCH.getValue()) instanceof Number tokenEpoch
+                ? tokenEpoch.intValue()
+                : 0;
+    }
+
+}
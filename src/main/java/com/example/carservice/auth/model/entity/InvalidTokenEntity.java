@@ -1,13 +1,18 @@
 package com.example.carservice.auth.model.entity;
 
+import com.example.carservice.common.id.TimeOrderedUuidGenerator;
 import com.example.carservice.common.model.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
 
 /**
  * Entity representing a JWT token that has been invalidated (e.g., due to logout or blacklisting).
- * Stores the unique token ID (jti) to prevent reuse of previously issued tokens.
+ * Stores the unique token ID (jti) to prevent reuse of previously issued tokens, together with the
+ * token's own expiration so that rows can be purged once the token could no longer be used anyway.
  */
 @Entity
 @Getter
@@ -16,15 +21,24 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "INVALID_TOKEN")
+@Table(
+        name = "INVALID_TOKEN",
+        indexes = {
+                @Index(name = "UX_INVALID_TOKEN_TOKEN_ID", columnList = "TOKEN_ID", unique = true),
+                @Index(name = "IX_INVALID_TOKEN_EXPIRES_AT", columnList = "EXPIRES_AT")
+        }
+)
 public class InvalidTokenEntity extends BaseEntity {
 
     @Id
     @Column(name = "ID")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private String id;
 
-    @Column(name = "TOKEN_ID")
+    @Column(name = "TOKEN_ID", nullable = false)
     private String tokenId;
 
+    @Column(name = "EXPIRES_AT")
+    private LocalDateTime expiresAt;
+
 }
@@ -1,12 +1,17 @@
 package com.example.carservice.auth.model.entity;
 
 import com.example.carservice.auth.model.enums.TokenClaims;
+import com.example.carservice.auth.model.enums.TokenClaimsProfile;
 import com.example.carservice.auth.model.enums.UserStatus;
 import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.common.id.TimeOrderedUuidGenerator;
 import com.example.carservice.common.model.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,11 +28,13 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "USERS")
 public class UserEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     @Column(name = "ID")
     private String id;
 
@@ -56,6 +63,12 @@ public class UserEntity extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private UserStatus userStatus = UserStatus.ACTIVE;
 
+    /**
+     * Epoch written to every token issued to the user. Incrementing it revokes all tokens issued before.
+     */
+    @Column(name = "TOKEN_EPOCH", nullable = false)
+    private int tokenEpoch;
+
     /**
      * Builds a map of JWT claims from the user's attributes.
      * <p>
@@ -73,6 +86,31 @@ public class UserEntity extends BaseEntity {
         claims.put(TokenClaims.USER_LAST_NAME.getValue(), this.lastName);
         claims.put(TokenClaims.USER_EMAIL.getValue(), this.email);
         claims.put(TokenClaims.USER_PHONE_NUMBER.getValue(), this.phoneNumber);
+        claims.put(TokenClaims.TOKEN_EPOCH.getValue(), this.tokenEpoch);
+        return claims;
+    }
+
+    /**
+     * Builds the map of JWT claims of the given profile from the user's attributes.
+     * <p>
+     * The {@link TokenClaimsProfile#COMPACT compact} profile only carries the user ID, type and token epoch,
+     * together with the version of the profile; the {@link TokenClaimsProfile#FULL full} profile is {@link #getClaims()}.
+     * </p>
+     *
+     * @param profile the claims profile
+     * @return a map of JWT claim keys and their corresponding values
+     */
+    public Map<String, Object> getClaims(final TokenClaimsProfile profile) {
+
+        if (profile != TokenClaimsProfile.COMPACT) {
+            return this.getClaims();
+        }
+
+        final Map<String, Object> claims = new HashMap<>();
+        claims.put(TokenClaims.USER_ID.getValue(), this.id);
+        claims.put(TokenClaims.USER_TYPE.getValue(), this.userType);
+        claims.put(TokenClaims.PROFILE_VERSION.getValue(), TokenClaimsProfile.COMPACT_VERSION);
+        claims.put(TokenClaims.TOKEN_EPOCH.getValue(), this.tokenEpoch);
         return claims;
     }
 
@@ -0,0 +1,33 @@
+package com.example.carservice.auth.model.enums;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enumeration of the algorithms tokens can be signed with, each backed by the matching JJWT algorithm.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SigningAlgorithm {
+
+    /**
+     * RSASSA-PKCS1-v1_5 with SHA-256, for RSA keys of at least 2048 bits.
+     */
+    RS256(Jwts.SIG.RS256),
+
+    /**
+     * ECDSA on the P-256 curve with SHA-256: cheaper to sign than RSA, dearer to verify.
+     */
+    ES256(Jwts.SIG.ES256),
+
+    /**
+     * Edwards-curve signatures with Ed25519 keys: cheaper to sign than RSA, dearer to verify, with the smallest
+     * keys and signatures.
+     */
+    EDDSA(Jwts.SIG.EdDSA);
+
+    private final SignatureAlgorithm signatureAlgorithm;
+
+}
@@ -18,6 +18,8 @@ public enum TokenClaims {
     USER_LAST_NAME("userLastName"),
     USER_EMAIL("userEmail"),
     USER_PHONE_NUMBER("userPhoneNumber"),
+    PROFILE_VERSION("pv"),
+    TOKEN_EPOCH("te"),
     STORE_TITLE("storeTitle"),
     ISSUED_AT("iat"),
     EXPIRES_AT("exp"),
@@ -0,0 +1,25 @@
+package com.example.carservice.auth.model.enums;
+
+/**
+ * Enumeration of the sets of user claims an access token can carry.
+ */
+public enum TokenClaimsProfile {
+
+    /**
+     * User ID, type, status, names, email and phone number are all embedded in the token.
+     */
+    FULL,
+
+    /**
+     * Only user ID and type are embedded, together with the {@link TokenClaims#PROFILE_VERSION profile version}.
+     * The remaining profile fields are resolved from the user profile cache when a request needs them.
+     */
+    COMPACT;
+
+    /**
+     * Version written to the {@link TokenClaims#PROFILE_VERSION} claim of compact tokens.
+     * Full tokens carry no profile version.
+     */
+    public static final int COMPACT_VERSION = 1;
+
+}
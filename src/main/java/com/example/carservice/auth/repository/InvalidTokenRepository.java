@@ -1,8 +1,13 @@
 package com.example.carservice.auth.repository;
 
 import com.example.carservice.auth.model.entity.InvalidTokenEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +24,39 @@ public interface InvalidTokenRepository extends JpaRepository<InvalidTokenEntity
      */
     Optional<InvalidTokenEntity> findByTokenId(final String tokenId);
 
+    /**
+     * Returns the invalidated tokens whose JWT has not expired yet, including rows without a stored expiry.
+     *
+     * @param now the current time
+     * @return the list of still relevant {@link InvalidTokenEntity} rows
+     */
+    List<InvalidTokenEntity> findAllByExpiresAtAfterOrExpiresAtIsNull(final LocalDateTime now);
+
+    /**
+     * Returns the tokens invalidated at or after the given time.
+     *
+     * @param createdAt the lower bound of the invalidation time
+     * @return the list of {@link InvalidTokenEntity} rows invalidated since {@code createdAt}
+     */
+    List<InvalidTokenEntity> findAllByCreatedAtGreaterThanEqual(final LocalDateTime createdAt);
+
+    /**
+     * Returns a batch of IDs of rows whose JWT has already expired.
+     * Rows stored before the expiry column existed are considered expired once they are older than
+     * the longest token lifetime.
+     *
+     * @param now          the current time
+     * @param legacyCutoff the creation time before which rows without an expiry are considered expired
+     * @param pageable     the batch size
+     * @return the IDs of expired rows
+     */
+    @Query("""
+            SELECT invalidToken.id FROM InvalidTokenEntity invalidToken
+            WHERE invalidToken.expiresAt < :now
+               OR (invalidToken.expiresAt IS NULL AND invalidToken.createdAt < :legacyCutoff)
+            """)
+    List<String> findExpiredIds(@Param("now") final LocalDateTime now,
+                                @Param("legacyCutoff") final LocalDateTime legacyCutoff,
+                                final Pageable pageable);
+
 }
@@ -1,9 +1,17 @@
 package com.example.carservice.auth.repository;
 
 import com.example.carservice.auth.model.entity.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for user data persistence and retrieval.
@@ -21,10 +29,40 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
 
     /**
      * Retrieves a user entity by their email address.
+     * The result is kept in the query cache until the {@code USERS} table is written to.
      *
      * @param email the email of the user to retrieve
      * @return an {@link Optional} containing the {@link UserEntity} if found, or empty otherwise
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserEntity> findUserEntityByEmail(final String email);
 
+    /**
+     * Returns which of the given user IDs exist, checking a whole import chunk in one query.
+     *
+     * @param ids the user IDs to check
+     * @return the subset of the given IDs that belong to an existing user
+     */
+    @Query("select u.id from UserEntity u where u.id in :ids")
+    Set<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Returns the current token epoch of a user.
+     *
+     * @param id the user ID
+     * @return an {@link Optional} containing the token epoch, or empty if no user has the given ID
+     */
+    @Query("select u.tokenEpoch from UserEntity u where u.id = :id")
+    Optional<Integer> findTokenEpochById(@Param("id") String id);
+
+    /**
+     * Increments the token epoch of a user, which revokes every token issued to the user so far.
+     *
+     * @param id the user ID
+     * @return the number of updated users
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.tokenEpoch = u.tokenEpoch + 1 where u.id = :id")
+    int incrementTokenEpoch(@Param("id") String id);
+
 }
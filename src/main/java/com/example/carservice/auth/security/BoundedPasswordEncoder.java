@@ -0,0 +1,167 @@
+package com.example.carservice.auth.security;
+
+import com.example.carservice.auth.config.PasswordHashingProperties;
+import com.example.carservice.auth.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt {@link PasswordEncoder} that hashes on a dedicated, bounded pool of threads instead of the request threads.
+ * <p>
+ * A burst of logins can otherwise keep every core busy hashing and starve the rest of the traffic. Here at most
+ * {@code threads} passwords are hashed at the same time, at most {@code queueCapacity} more wait for a thread,
+ * and every caller waits at most {@code maxWait}; beyond that the request fails fast with a
+ * {@link PasswordHashingUnavailableException}.
+ * </p>
+ * {@link #upgradeEncoding(String)} reports hashes whose cost differs from the configured strength, in either
+ * direction, so that they are re-hashed at the next login.
+ * <p>
+ * Exposes {@code auth.password.hashing.active}, {@code auth.password.hashing.queued},
+ * {@code auth.password.hashing.wait} and {@code auth.password.hashing.rejected} metrics.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final long maxWaitNanos;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(final int strength,
+                                  final int threads,
+                                  final int queueCapacity,
+                                  final Duration maxWait,
+                                  final MeterRegistry meterRegistry) {
+
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.maxWaitNanos = maxWait.toNanos();
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> Thread.ofPlatform()
+                        .name("password-hashing-" + threadNumber.incrementAndGet())
+                        .daemon(true)
+                        .unstarted(runnable),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of passwords being hashed")
+                .register(meterRegistry);
+
+        Gauge.builder("auth.password.hashing.queued", executor, pool -> pool.getQueue().size())
+                .description("Number of password hashing requests waiting for a thread")
+                .register(meterRegistry);
+
+        this.waitTimer = Timer.builder("auth.password.hashing.wait")
+                .description("Time password hashing requests spent waiting for a thread")
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("Number of password hashing requests rejected because the queue was full or the wait timed out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates an encoder from the configured properties.
+     *
+     * @param properties    the password hashing properties
+     * @param meterRegistry the registry the metrics are registered in
+     * @return the encoder
+     */
+    public static BoundedPasswordEncoder of(final PasswordHashingProperties properties, final MeterRegistry meterRegistry) {
+        final int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(
+                properties.getStrength(), threads, properties.getQueueCapacity(), properties.getMaxWait(), meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return this.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return this.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Returns whether the encoded password was hashed with a cost other than the configured strength.
+     *
+     * @param encodedPassword the stored hash
+     * @return {@code true} if the password should be hashed again
+     */
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        final Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.lookingAt() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Stops the hashing threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(final Supplier<T> hashing) {
+
+        final long submittedAt = System.nanoTime();
+        final Future<T> result;
+
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashing.get();
+            });
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            throw new PasswordHashingUnavailableException("Password hashing queue is full.");
+        }
+
+        try {
+            return result.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingUnavailableException("Password hashing timed out.");
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password hashing was interrupted.");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.example.carservice.auth.service;
+
+/**
+ * Service interface for removing invalidated tokens that have expired and can no longer be used.
+ */
+public interface InvalidTokenPurgeService {
+
+    /**
+     * Deletes, in batches, every invalidated token whose JWT has already expired.
+     *
+     * @return the number of deleted rows
+     */
+    long purgeExpiredTokens();
+
+}
@@ -1,5 +1,7 @@
 package com.example.carservice.auth.service;
 
+import com.example.carservice.auth.model.VerifiedToken;
+
 import java.util.Set;
 
 /**
@@ -8,11 +10,11 @@ import java.util.Set;
 public interface InvalidTokenService {
 
     /**
-     * Invalidates a set of JWT token IDs.
+     * Invalidates a set of verified JWTs, storing each token ID together with the token's expiry.
      *
-     * @param tokenIds the set of token IDs to invalidate
+     * @param verifiedTokens the set of verified tokens to invalidate
      */
-    void invalidateTokens(final Set<String> tokenIds);
+    void invalidateTokens(final Set<VerifiedToken> verifiedTokens);
 
     /**
      * Checks whether a given token ID has been invalidated.
@@ -21,4 +23,11 @@ public interface InvalidTokenService {
      */
     void checkForInvalidityOfToken(final String tokenId);
 
+    /**
+     * Checks whether an already verified token has been invalidated, using its token ID (jti).
+     *
+     * @param verifiedToken the verified token to check
+     */
+    void checkForInvalidityOfToken(final VerifiedToken verifiedToken);
+
 }
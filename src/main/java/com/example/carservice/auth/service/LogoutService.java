@@ -14,4 +14,11 @@ public interface LogoutService {
      */
     void logout(final TokenInvalidateRequest tokenInvalidateRequest);
 
+    /**
+     * Revokes every access and refresh token issued to a user so far, by incrementing the user's token epoch.
+     *
+     * @param userId the ID of the user to log out of all sessions
+     */
+    void logoutAll(final String userId);
+
 }
@@ -1,6 +1,7 @@
 package com.example.carservice.auth.service;
 
 import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -38,6 +39,23 @@ public interface TokenService {
      */
     UsernamePasswordAuthenticationToken getAuthentication(final String token);
 
+    /**
+     * Builds Spring Security authentication details from an already verified JWT.
+     * The token is not parsed or verified again.
+     *
+     * @param verifiedToken the verified JWT
+     * @return an {@link UsernamePasswordAuthenticationToken} containing user credentials and authorities
+     */
+    UsernamePasswordAuthenticationToken getAuthentication(final VerifiedToken verifiedToken);
+
+    /**
+     * Verifies the signature and expiration of the provided JWT once and returns the parsed result.
+     *
+     * @param jwt the JWT to verify
+     * @return a {@link VerifiedToken} carrying the parsed header and claims
+     */
+    VerifiedToken verify(final String jwt);
+
     /**
      * Verifies and validates the integrity and expiration of the provided JWT.
      *
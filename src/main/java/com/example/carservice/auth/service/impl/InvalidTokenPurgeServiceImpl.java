@@ -0,0 +1,103 @@
+package com.example.carservice.auth.service.impl;
+
+import com.example.carservice.auth.cache.RevokedTokenIndex;
+import com.example.carservice.auth.config.InvalidTokenPurgeProperties;
+import com.example.carservice.auth.config.TokenConfigurationParameter;
+import com.example.carservice.auth.repository.InvalidTokenRepository;
+import com.example.carservice.auth.service.InvalidTokenPurgeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service implementation for removing invalidated tokens that have expired and can no longer be used.
+ * Runs on the {@code carservice.auth.invalid-token-purge.cron} schedule, deletes rows in batches of
+ * {@code carservice.auth.invalid-token-purge.batch-size} and reports the number of deleted rows and the
+ * purge duration as metrics.
+ */
+@Slf4j
+@Service
+public class InvalidTokenPurgeServiceImpl implements InvalidTokenPurgeService {
+
+    private final InvalidTokenRepository invalidTokenRepository;
+    private final RevokedTokenIndex revokedTokenIndex;
+    private final InvalidTokenPurgeProperties invalidTokenPurgeProperties;
+    private final TokenConfigurationParameter tokenConfigurationParameter;
+
+    private final Counter deletedCounter;
+    private final Timer purgeTimer;
+
+    public InvalidTokenPurgeServiceImpl(final InvalidTokenRepository invalidTokenRepository,
+                                        final RevokedTokenIndex revokedTokenIndex,
+                                        final InvalidTokenPurgeProperties invalidTokenPurgeProperties,
+                                        final TokenConfigurationParameter tokenConfigurationParameter,
+                                        final MeterRegistry meterRegistry) {
+
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.revokedTokenIndex = revokedTokenIndex;
+        this.invalidTokenPurgeProperties = invalidTokenPurgeProperties;
+        this.tokenConfigurationParameter = tokenConfigurationParameter;
+
+        this.deletedCounter = Counter.builder("invalid.token.purge.deleted")
+                .description("Number of expired invalid token rows deleted by the purge job")
+                .register(meterRegistry);
+
+        this.purgeTimer = Timer.builder("invalid.token.purge.duration")
+                .description("Duration of each invalid token purge run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deletes, in batches, every invalidated token whose JWT has already expired.
+     *
+     * @return the number of deleted rows
+     */
+    @Override
+    @Scheduled(cron = "${carservice.auth.invalid-token-purge.cron:0 */15 * * * *}")
+    public long purgeExpiredTokens() {
+
+        if (!invalidTokenPurgeProperties.isEnabled()) {
+            return 0L;
+        }
+
+        final long deletedCount = purgeTimer.record(this::deleteExpiredBatches);
+
+        deletedCounter.increment(deletedCount);
+
+        log.info("Purged {} expired invalid tokens", deletedCount);
+
+        return deletedCount;
+    }
+
+    private long deleteExpiredBatches() {
+
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime legacyCutoff = now.minusDays(tokenConfigurationParameter.getRefreshTokenExpireDay());
+        final int batchSize = invalidTokenPurgeProperties.getBatchSize();
+
+        long deletedCount = 0L;
+        List<String> expiredIds;
+
+        do {
+            expiredIds = invalidTokenRepository.findExpiredIds(now, legacyCutoff, PageRequest.of(0, batchSize));
+
+            if (!expiredIds.isEmpty()) {
+                invalidTokenRepository.deleteAllByIdInBatch(expiredIds);
+                deletedCount += expiredIds.size();
+            }
+
+        } while (expiredIds.size() == batchSize);
+
+        revokedTokenIndex.removeExpired(now);
+
+        return deletedCount;
+    }
+
+}
@@ -1,12 +1,16 @@
 package com.example.carservice.auth.service.impl;
 
+import com.example.carservice.auth.cache.RevokedTokenIndex;
 import com.example.carservice.auth.exception.TokenAlreadyInvalidatedException;
+import com.example.carservice.auth.model.VerifiedToken;
 import com.example.carservice.auth.model.entity.InvalidTokenEntity;
 import com.example.carservice.auth.repository.InvalidTokenRepository;
 import com.example.carservice.auth.service.InvalidTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -18,34 +22,44 @@ import java.util.stream.Collectors;
 public class InvalidTokenServiceImpl implements InvalidTokenService {
 
     private final InvalidTokenRepository invalidTokenRepository;
+    private final RevokedTokenIndex revokedTokenIndex;
 
     /**
-     * Invalidates a set of JWT token IDs.
+     * Invalidates a set of verified JWTs, storing each token ID together with the token's expiry.
      *
-     * @param tokenIds the set of token IDs to invalidate
+     * @param verifiedTokens the set of verified tokens to invalidate
      */
     @Override
-    public void invalidateTokens(Set<String> tokenIds) {
+    public void invalidateTokens(Set<VerifiedToken> verifiedTokens) {
 
-        final Set<InvalidTokenEntity> invalidTokenEntities = tokenIds.stream()
-                .map(tokenId -> InvalidTokenEntity.builder()
-                        .tokenId(tokenId)
+        final Set<InvalidTokenEntity> invalidTokenEntities = verifiedTokens.stream()
+                .map(verifiedToken -> InvalidTokenEntity.builder()
+                        .tokenId(verifiedToken.getId())
+                        .expiresAt(LocalDateTime.ofInstant(
+                                verifiedToken.getPayload().getExpiration().toInstant(),
+                                ZoneId.systemDefault()
+                        ))
                         .build()
                 )
                 .collect(Collectors.toSet());
 
         invalidTokenRepository.saveAll(invalidTokenEntities);
+
+        revokedTokenIndex.addAll(invalidTokenEntities);
     }
 
     /**
      * Checks whether a given token ID has been invalidated.
+     * Answered from the {@link RevokedTokenIndex} when it is ready, otherwise from the database.
      *
      * @param tokenId the token ID to check
      */
     @Override
     public void checkForInvalidityOfToken(String tokenId) {
 
-        final boolean isTokenInvalid = invalidTokenRepository.findByTokenId(tokenId).isPresent();
+        final boolean isTokenInvalid = revokedTokenIndex.isReady()
+                ? revokedTokenIndex.contains(tokenId)
+                : invalidTokenRepository.findByTokenId(tokenId).isPresent();
 
         if (isTokenInvalid) {
             throw new TokenAlreadyInvalidatedException(tokenId);
@@ -53,4 +67,14 @@ public class InvalidTokenServiceImpl implements InvalidTokenService {
 
     }
 
+    /**
+     * Checks whether an already verified token has been invalidated, using its token ID (jti).
+     *
+     * @param verifiedToken the verified token to check
+     */
+    @Override
+    public void checkForInvalidityOfToken(VerifiedToken verifiedToken) {
+        this.checkForInvalidityOfToken(verifiedToken.getId());
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.example.carservice.auth.service.impl;
 
+import com.example.carservice.auth.config.TokenClaimsProperties;
 import com.example.carservice.auth.exception.PasswordNotValidException;
 import com.example.carservice.auth.exception.UserNotFoundException;
 import com.example.carservice.auth.model.Token;
@@ -22,9 +23,14 @@ public class LoginServiceImpl implements LoginService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final TokenClaimsProperties tokenClaimsProperties;
 
     /**
      * Authenticates the user based on the login request and issues a new {@link Token}.
+     * <p>
+     * If the stored hash was made with another BCrypt cost than the configured one, the password is hashed
+     * again with the current cost and saved.
+     * </p>
      *
      * @param loginRequest the request containing login credentials
      * @return a {@link Token} if authentication is successful
@@ -43,7 +49,12 @@ public class LoginServiceImpl implements LoginService {
             throw new PasswordNotValidException();
         }
 
-        return tokenService.generateToken(userEntityFromDB.getClaims());
+        if (passwordEncoder.upgradeEncoding(userEntityFromDB.getPassword())) {
+            userEntityFromDB.setPassword(passwordEncoder.encode(loginRequest.getPassword()));
+            userRepository.save(userEntityFromDB);
+        }
+
+        return tokenService.generateToken(userEntityFromDB.getClaims(tokenClaimsProperties.getProfile()));
     }
 
 }
@@ -1,13 +1,25 @@
 package com.example.carservice.auth.service.impl;
 
+import com.example.carservice.auth.cache.TokenEpochCache;
+import com.example.carservice.auth.exception.UserNotFoundException;
+import com.example.carservice.auth.model.VerifiedToken;
 import com.example.carservice.auth.model.dto.request.TokenInvalidateRequest;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.repository.UserRepository;
 import com.example.carservice.auth.service.InvalidTokenService;
 import com.example.carservice.auth.service.LogoutService;
 import com.example.carservice.auth.service.TokenService;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.EntityCacheInvalidationBus;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Service implementation for handling user logout operations.
@@ -18,6 +30,11 @@ public class LogoutServiceImpl implements LogoutService {
 
     private final TokenService tokenService;
     private final InvalidTokenService invalidTokenService;
+    private final UserRepository userRepository;
+    private final TokenEpochCache tokenEpochCache;
+    private final EntityCacheInvalidationBus invalidationBus;
+
+    private final String instanceId = UUID.randomUUID().toString();
 
     /**
      * Invalidates the user's tokens during logout.
@@ -27,28 +44,67 @@ public class LogoutServiceImpl implements LogoutService {
     @Override
     public void logout(TokenInvalidateRequest tokenInvalidateRequest) {
 
-        tokenService.verifyAndValidate(
-                Set.of(
-                        tokenInvalidateRequest.getAccessToken(),
-                        tokenInvalidateRequest.getRefreshToken()
-                )
-        );
+        final VerifiedToken accessToken = tokenService.verify(tokenInvalidateRequest.getAccessToken());
+
+        invalidTokenService.checkForInvalidityOfToken(accessToken);
+
+        final VerifiedToken refreshToken = tokenService.verify(tokenInvalidateRequest.getRefreshToken());
+
+        invalidTokenService.checkForInvalidityOfToken(refreshToken);
 
-        final String accessTokenId = tokenService
-                .getPayload(tokenInvalidateRequest.getAccessToken())
-                .getId();
+        invalidTokenService.invalidateTokens(Set.of(accessToken, refreshToken));
 
-        invalidTokenService.checkForInvalidityOfToken(accessTokenId);
+    }
 
+    /**
+     * Revokes every token issued to a user so far by incrementing the user's token epoch.
+     * No token ID is stored: tokens carrying an older epoch are rejected by the authentication filter
+     * and by the refresh token flow.
+     * <p>
+     * The epoch is bumped with a bulk update, which Hibernate reports to no entity listener, so the user is
+     * published on the {@link EntityCacheInvalidationBus} once the transaction commits; every instance then
+     * drops its cached copy of the user and of the user's epoch.
+     * </p>
+     *
+     * @param userId the ID of the user to log out of all sessions
+     */
+    @Override
+    @Transactional
+    public void logoutAll(String userId) {
+
+        if (userRepository.incrementTokenEpoch(userId) == 0) {
+            throw new UserNotFoundException();
+        }
+
+        final int tokenEpoch = userRepository.findTokenEpochById(userId)
+                .orElseThrow(UserNotFoundException::new);
+
+        this.publishUserChange(userId);
+
+        tokenEpochCache.put(userId, tokenEpoch);
+
+    }
 
-        final String refreshTokenId = tokenService
-                .getPayload(tokenInvalidateRequest.getRefreshToken())
-                .getId();
+    private void publishUserChange(final String userId) {
 
-        invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
+        final EntityCacheInvalidation invalidation = EntityCacheInvalidation.builder()
+                .origin(instanceId)
+                .target(CacheInvalidationTarget.ENTITY)
+                .role(UserEntity.class.getName())
+                .key(userId)
+                .build();
 
-        invalidTokenService.invalidateTokens(Set.of(accessTokenId,refreshTokenId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidationBus.publish(invalidation);
+            return;
+        }
 
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidationBus.publish(invalidation);
+            }
+        });
     }
 
 }
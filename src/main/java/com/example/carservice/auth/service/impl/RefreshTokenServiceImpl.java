@@ -1,5 +1,7 @@
 package com.example.carservice.auth.service.impl;
 
+import com.example.carservice.auth.config.TokenClaimsProperties;
+import com.example.carservice.auth.exception.TokenAlreadyInvalidatedException;
 import com.example.carservice.auth.exception.UserNotFoundException;
 import com.example.carservice.auth.exception.UserStatusNotValidException;
 import com.example.carservice.auth.model.Token;
@@ -10,6 +12,7 @@ import com.example.carservice.auth.model.enums.UserStatus;
 import com.example.carservice.auth.repository.UserRepository;
 import com.example.carservice.auth.service.RefreshTokenService;
 import com.example.carservice.auth.service.TokenService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -22,6 +25,7 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final TokenClaimsProperties tokenClaimsProperties;
 
     /**
      * Generates a new access token using the provided refresh token.
@@ -34,8 +38,9 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
         tokenService.verifyAndValidate(tokenRefreshRequest.getRefreshToken());
 
-        final String adminId = tokenService
-                .getPayload(tokenRefreshRequest.getRefreshToken())
+        final Claims payload = tokenService.getPayload(tokenRefreshRequest.getRefreshToken());
+
+        final String adminId = payload
                 .get(TokenClaims.USER_ID.getValue())
                 .toString();
 
@@ -45,12 +50,30 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
         this.validateAdminStatus(userEntityFromDB);
 
+        this.validateTokenEpoch(payload, userEntityFromDB.getId());
+
         return tokenService.generateToken(
-                userEntityFromDB.getClaims(),
+                userEntityFromDB.getClaims(tokenClaimsProperties.getProfile()),
                 tokenRefreshRequest.getRefreshToken()
         );
     }
 
+    /**
+     * Rejects a refresh token issued before the user's current token epoch, that is before the user
+     * was logged out of all sessions. The epoch is read with a scalar query rather than from the cached
+     * user, so that a logout committed on another instance applies at once.
+     */
+    private void validateTokenEpoch(final Claims payload, final String userId) {
+        final int tokenEpoch = payload.get(TokenClaims.TOKEN_EPOCH.getValue()) instanceof Number epoch
+                ? epoch.intValue()
+                : 0;
+        final int currentTokenEpoch = userRepository.findTokenEpochById(userId)
+                .orElseThrow(UserNotFoundException::new);
+        if (tokenEpoch < currentTokenEpoch) {
+            throw new TokenAlreadyInvalidatedException(payload.getId());
+        }
+    }
+
     private void validateAdminStatus(final UserEntity userEntity) {
         if (!(UserStatus.ACTIVE.equals(userEntity.getUserStatus()))) {
             throw new UserStatusNotValidException("UserStatus = " + userEntity.getUserStatus());
@@ -1,7 +1,12 @@
 package com.example.carservice.auth.service.impl;
 
+import com.example.carservice.auth.cache.UserProfileCache;
 import com.example.carservice.auth.config.TokenConfigurationParameter;
 import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.TokenSigningKey;
+import com.example.carservice.auth.model.UserProfile;
+import com.example.carservice.auth.model.UserProfileReference;
+import com.example.carservice.auth.model.VerifiedToken;
 import com.example.carservice.auth.model.enums.ConfigurationParameter;
 import com.example.carservice.auth.model.enums.TokenClaims;
 import com.example.carservice.auth.model.enums.TokenType;
@@ -11,7 +16,9 @@ import com.example.carservice.auth.service.TokenService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.time.DateUtils;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,6 +30,15 @@ import java.util.*;
 
 /**
  * Service implementation for handling JWT token operations such as generation, validation, and parsing.
+ * <p>
+ * Tokens are signed with the active key of the key ring in {@link TokenConfigurationParameter}, whose ID is
+ * written to the {@code kid} header, and verified with whichever key of the ring that header names.
+ * </p>
+ * <p>
+ * Access tokens carry the claims they are given, either the full user profile or the compact profile of user ID,
+ * type and profile version. Both are accepted: the profile missing from a compact token is resolved from the
+ * {@link UserProfileCache} when the request asks for it.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
@@ -30,6 +46,7 @@ public class TokenServiceImpl implements TokenService {
 
     private final TokenConfigurationParameter tokenConfigurationParameter;
     private final InvalidTokenService invalidTokenService;
+    private final UserProfileCache userProfileCache;
 
     /**
      * Generates a new {@link Token} using the provided claims.
@@ -42,6 +59,8 @@ public class TokenServiceImpl implements TokenService {
 
         final long currentTimeMillis = System.currentTimeMillis();
 
+        final TokenSigningKey signingKey = tokenConfigurationParameter.getSigningKey();
+
         final Date tokenIssuedAt = new Date(currentTimeMillis);
 
         final Date accessTokenExpiresAt = DateUtils.addMinutes(
@@ -52,12 +71,13 @@ public class TokenServiceImpl implements TokenService {
         final String accessToken = Jwts.builder()
                 .header()
                 .type(TokenType.BEARER.getValue())
+                .keyId(signingKey.getId())
                 .and()
                 .id(UUID.randomUUID().toString())
                 .issuer(ConfigurationParameter.ISSUER.getDefaultValue())
                 .issuedAt(tokenIssuedAt)
                 .expiration(accessTokenExpiresAt)
-                .signWith(tokenConfigurationParameter.getPrivateKey())
+                .signWith(signingKey.getPrivateKey(), signingKey.getAlgorithm().getSignatureAlgorithm())
                 .claims(claims)
                 .compact();
 
@@ -69,13 +89,15 @@ public class TokenServiceImpl implements TokenService {
         final String refreshToken = Jwts.builder()
                 .header()
                 .type(TokenType.BEARER.getValue())
+                .keyId(signingKey.getId())
                 .and()
                 .id(UUID.randomUUID().toString())
                 .issuer(tokenConfigurationParameter.getIssuer())
                 .issuedAt(tokenIssuedAt)
                 .expiration(refreshTokenExpiresAt)
-                .signWith(tokenConfigurationParameter.getPrivateKey())
+                .signWith(signingKey.getPrivateKey(), signingKey.getAlgorithm().getSignatureAlgorithm())
                 .claim(TokenClaims.USER_ID.getValue(), claims.get(TokenClaims.USER_ID.getValue()))
+                .claim(TokenClaims.TOKEN_EPOCH.getValue(), claims.get(TokenClaims.TOKEN_EPOCH.getValue()))
                 .compact();
 
         return Token.builder()
@@ -101,6 +123,8 @@ public class TokenServiceImpl implements TokenService {
 
         invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
 
+        final TokenSigningKey signingKey = tokenConfigurationParameter.getSigningKey();
+
         final Date accessTokenIssuedAt = new Date(currentTimeMillis);
 
         final Date accessTokenExpiresAt = DateUtils.addMinutes(
@@ -111,12 +135,13 @@ public class TokenServiceImpl implements TokenService {
         final String accessToken = Jwts.builder()
                 .header()
                 .type(TokenType.BEARER.getValue())
+                .keyId(signingKey.getId())
                 .and()
                 .id(UUID.randomUUID().toString())
                 .issuer(tokenConfigurationParameter.getIssuer())
                 .issuedAt(accessTokenIssuedAt)
                 .expiration(accessTokenExpiresAt)
-                .signWith(tokenConfigurationParameter.getPrivateKey())
+                .signWith(signingKey.getPrivateKey(), signingKey.getAlgorithm().getSignatureAlgorithm())
                 .claims(claims)
                 .compact();
 
@@ -135,17 +160,25 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public UsernamePasswordAuthenticationToken getAuthentication(String token) {
+        return this.getAuthentication(this.verify(token));
+    }
 
-        final Jws<Claims> claimsJws = Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(token);
+    /**
+     * Builds Spring Security authentication details from an already verified JWT.
+     * The token is not parsed or verified again. The details of the authentication are a
+     * {@link UserProfileReference} that resolves the user profile on demand.
+     *
+     * @param verifiedToken the verified JWT
+     * @return an {@link UsernamePasswordAuthenticationToken} containing user credentials and authorities
+     */
+    @Override
+    public UsernamePasswordAuthenticationToken getAuthentication(VerifiedToken verifiedToken) {
 
-        final JwsHeader jwsHeader = claimsJws.getHeader();
-        final Claims payload = claimsJws.getPayload();
+        final JwsHeader jwsHeader = verifiedToken.getHeader();
+        final Claims payload = verifiedToken.getPayload();
 
         final Jwt jwt = new org.springframework.security.oauth2.jwt.Jwt(
-                token,
+                verifiedToken.getJwt(),
                 payload.getIssuedAt().toInstant(),
                 payload.getExpiration().toInstant(),
                 Map.of(
@@ -161,8 +194,42 @@ public class TokenServiceImpl implements TokenService {
         final List<SimpleGrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(userType.name()));
 
-        return UsernamePasswordAuthenticationToken
+        final UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken
                 .authenticated(jwt, null, authorities);
+        authentication.setDetails(this.getProfileReference(payload));
+
+        return authentication;
+    }
+
+    /**
+     * Returns a reference to the user profile of the given claims, read from the claims themselves
+     * for full tokens and from the {@link UserProfileCache} for compact ones.
+     *
+     * @param payload the verified claims
+     * @return the {@link UserProfileReference}
+     */
+    private UserProfileReference getProfileReference(final Claims payload) {
+
+        if (!payload.containsKey(TokenClaims.PROFILE_VERSION.getValue())) {
+            return UserProfileReference.of(() -> UserProfile.from(payload));
+        }
+
+        final String userId = payload.get(TokenClaims.USER_ID.getValue()).toString();
+        return UserProfileReference.of(() -> userProfileCache.get(userId));
+    }
+
+    /**
+     * Verifies the signature and expiration of the provided JWT once and returns the parsed result.
+     *
+     * @param jwt the JWT to verify
+     * @return a {@link VerifiedToken} carrying the parsed header and claims
+     */
+    @Override
+    public VerifiedToken verify(String jwt) {
+        return VerifiedToken.builder()
+                .jwt(jwt)
+                .claimsJws(this.getClaims(jwt))
+                .build();
     }
 
     /**
@@ -172,10 +239,7 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public void verifyAndValidate(String jwt) {
-        Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt);
+        this.parser().parseSignedClaims(jwt);
     }
 
     /**
@@ -196,10 +260,7 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public Jws<Claims> getClaims(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt);
+        return this.parser().parseSignedClaims(jwt);
     }
 
     /**
@@ -210,9 +271,7 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public Claims getPayload(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
+        return this.parser()
                 .parseSignedClaims(jwt)
                 .getPayload();
     }
@@ -225,12 +284,23 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public String getId(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
+        return this.parser()
                 .parseSignedClaims(jwt)
                 .getPayload()
                 .getId();
     }
 
+    /**
+     * Builds a parser that verifies each token with the key of the ring named by its {@code kid} header.
+     *
+     * @return the JWT parser
+     */
+    private JwtParser parser() {
+        return Jwts.parser()
+                .keyLocator(header -> tokenConfigurationParameter.getVerificationKey(
+                        header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null
+                ))
+                .build();
+    }
+
 }
@@ -12,7 +12,7 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 
 /**
- * Utility class for converting PEM-encoded RSA keys into {@link PublicKey} and {@link PrivateKey} objects.
+ * Utility class for converting PEM-encoded RSA, EC and Ed25519 keys into {@link PublicKey} and {@link PrivateKey} objects.
  * <p>
  * Uses BouncyCastle's {@link PEMParser} and {@link JcaPEMKeyConverter} to parse and convert the key data.
  * </p>
@@ -35,7 +35,7 @@ import java.security.PublicKey;
 public class KeyConverter {
 
     /**
-     * Converts a PEM-encoded RSA public key string into a {@link PublicKey} object.
+     * Converts a PEM-encoded public key string into a {@link PublicKey} object.
      *
      * @param publicPemKey the PEM-formatted public key string
      * @return the converted {@link PublicKey} instance
@@ -55,7 +55,7 @@ public class KeyConverter {
     }
 
     /**
-     * Converts a PEM-encoded RSA private key string into a {@link PrivateKey} object.
+     * Converts a PEM-encoded PKCS#8 private key string into a {@link PrivateKey} object.
      *
      * @param privatePemKey the PEM-formatted private key string
      * @return the converted {@link PrivateKey} instance
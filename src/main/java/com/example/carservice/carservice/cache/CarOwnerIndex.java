@@ -0,0 +1,132 @@
+package com.example.carservice.carservice.cache;
+
+import com.example.carservice.carservice.config.CarOwnerIndexProperties;
+import com.example.carservice.carservice.model.CarOwner;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.EntityCacheInvalidationBus;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Size-bounded in-memory index from car ID to the ID of the user owning the car, so that access checks
+ * do not load the car and its owner just to compare one ID.
+ * <p>
+ * Owners are loaded lazily, one car or a whole collection of cars per query. Because the index decides who may
+ * read or change a car, every instance drops a car as soon as any instance commits a change to it: ownership
+ * changes are {@link #invalidate(String) published} on the {@link EntityCacheInvalidationBus}, and the index
+ * also evicts the cars named by the second-level cache messages of that bus. The short time to live only
+ * covers messages lost on the bus. Unknown cars are not indexed. Hit and miss counts are published to the
+ * Micrometer registry under the {@value #CACHE_NAME} cache name.
+ * </p>
+ */
+@Component
+public class CarOwnerIndex {
+
+    static final String CACHE_NAME = "carOwnerIndex";
+
+    private static final String CAR_ENTITY_NAME = CarEntity.class.getName();
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final CarRepository carRepository;
+    private final EntityCacheInvalidationBus invalidationBus;
+    private final Cache<String, String> cache;
+
+    public CarOwnerIndex(final CarRepository carRepository,
+                         final EntityCacheInvalidationBus invalidationBus,
+                         final CarOwnerIndexProperties carOwnerIndexProperties,
+                         final MeterRegistry meterRegistry) {
+
+        this.carRepository = carRepository;
+        this.invalidationBus = invalidationBus;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(carOwnerIndexProperties.getMaximumSize())
+                .expireAfterWrite(carOwnerIndexProperties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Returns the ID of the user owning the given car, loading it when it is not indexed yet.
+     *
+     * @param carId the car ID
+     * @return the owner ID, or {@code null} if no car has the given ID
+     */
+    public String getOwnerId(final String carId) {
+        return cache.get(carId, id -> carRepository.findOwnerIdById(id).orElse(null));
+    }
+
+    /**
+     * Returns the IDs of the users owning the given cars, loading all cars not indexed yet with one query.
+     *
+     * @param carIds the car IDs
+     * @return the owner IDs by car ID; unknown cars are missing from the map
+     */
+    public Map<String, String> getOwnerIds(final Collection<String> carIds) {
+        return cache.getAll(carIds, this::loadAll);
+    }
+
+    /**
+     * Drops the owner of a car whose ownership changes on this instance now, and on every instance through the
+     * {@link EntityCacheInvalidationBus} once the current transaction commits, so that no lookup keeps or
+     * indexes the previous owner after the change.
+     *
+     * @param carId the car ID
+     */
+    public void invalidate(final String carId) {
+
+        cache.invalidate(carId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(carId);
+                }
+            });
+        } else {
+            this.publish(carId);
+        }
+    }
+
+    private void publish(final String carId) {
+        invalidationBus.publish(EntityCacheInvalidation.builder()
+                .origin(instanceId)
+                .target(CacheInvalidationTarget.ENTITY)
+                .role(CAR_ENTITY_NAME)
+                .key(carId)
+                .build());
+    }
+
+    private void onInvalidation(final EntityCacheInvalidation invalidation) {
+        if (invalidation.getTarget() == CacheInvalidationTarget.ENTITY && CAR_ENTITY_NAME.equals(invalidation.getRole())) {
+            cache.invalidate(invalidation.getKey());
+        }
+    }
+
+    private Map<String, String> loadAll(final Set<? extends String> carIds) {
+        return carRepository.findOwnersByIdIn(Set.copyOf(carIds)).stream()
+                .filter(carOwner -> carOwner.getOwnerId() != null)
+                .collect(Collectors.toMap(CarOwner::getCarId, CarOwner::getOwnerId));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.example.carservice.carservice.cache;
+
+import com.example.carservice.carservice.config.ListingCountCacheProperties;
+import com.example.carservice.common.model.enums.TotalCountMode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the total element count of offset-paged listings according to the requested {@link TotalCountMode},
+ * caching counts in memory so that repeated page requests do not each run a {@code COUNT(*)}.
+ * <p>
+ * Counts are keyed by listing name and filter criteria (see {@link #key(String, Object...)}). Exact counts live
+ * for a few seconds and are dropped when the listing is written to; estimated counts live longer and ignore
+ * writes. No count is run at all when the requested page already reveals the total, i.e. it is the last page.
+ * Hit and miss counts are published to the Micrometer registry under the {@value #EXACT_CACHE_NAME} and
+ * {@value #ESTIMATED_CACHE_NAME} cache names.
+ * </p>
+ */
+@Component
+public class ListingCountCache {
+
+    public static final String CARS = "cars";
+    public static final String SERVICES = "services";
+
+    static final String EXACT_CACHE_NAME = "listingExactCountCache";
+    static final String ESTIMATED_CACHE_NAME = "listingEstimatedCountCache";
+
+    private static final String SEPARATOR = ":";
+
+    private final boolean enabled;
+    private final Cache<String, Long> exactCache;
+    private final Cache<String, Long> estimatedCache;
+
+    public ListingCountCache(final ListingCountCacheProperties listingCountCacheProperties,
+                             final MeterRegistry meterRegistry) {
+
+        this.enabled = listingCountCacheProperties.isEnabled();
+
+        this.exactCache = Caffeine.newBuilder()
+                .maximumSize(listingCountCacheProperties.getMaximumSize())
+                .expireAfterWrite(listingCountCacheProperties.getExactTtl())
+                .recordStats()
+                .build();
+
+        this.estimatedCache = Caffeine.newBuilder()
+                .maximumSize(listingCountCacheProperties.getMaximumSize())
+                .expireAfterWrite(listingCountCacheProperties.getEstimatedTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, exactCache, EXACT_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, estimatedCache, ESTIMATED_CACHE_NAME);
+    }
+
+    /**
+     * Builds the cache key of a listing and its filter criteria.
+     *
+     * @param listing  the listing name, e.g. {@link #CARS}
+     * @param criteria the filter values that define the counted rows
+     * @return the cache key
+     */
+    public static String key(final String listing, final Object... criteria) {
+        return listing + SEPARATOR + Arrays.stream(criteria)
+                .map(criterion -> Objects.toString(criterion, ""))
+                .collect(Collectors.joining(SEPARATOR));
+    }
+
+    /**
+     * Resolves the total element count of the listing the given slice belongs to.
+     *
+     * @param mode    the requested total count mode; {@code null} means {@link TotalCountMode#EXACT}
+     * @param key     the cache key of the listing and its criteria
+     * @param slice   the requested page, fetched without a count query
+     * @param counter runs the count query
+     * @return the total element count, or {@code null} for {@link TotalCountMode#NONE}
+     */
+    public Long resolveTotal(final TotalCountMode mode,
+                             final String key,
+                             final Slice<?> slice,
+                             final LongSupplier counter) {
+
+        if (mode == TotalCountMode.NONE) {
+            return null;
+        }
+
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        }
+
+        if (!enabled) {
+            return counter.getAsLong();
+        }
+
+        if (mode == TotalCountMode.ESTIMATED) {
+            final Long exact = exactCache.getIfPresent(key);
+            return exact != null ? exact : estimatedCache.get(key, ignored -> counter.getAsLong());
+        }
+
+        final Long exact = exactCache.get(key, ignored -> counter.getAsLong());
+        estimatedCache.put(key, exact);
+        return exact;
+    }
+
+    /**
+     * Drops every exact count of the given listing, now and again once the current transaction commits,
+     * so that a count loaded concurrently from not yet committed data is not kept either.
+     *
+     * @param listing the listing name, e.g. {@link #CARS}
+     */
+    public void invalidate(final String listing) {
+
+        evictExact(listing);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictExact(listing);
+                }
+            });
+        }
+    }
+
+    private void evictExact(final String listing) {
+        final String prefix = listing + SEPARATOR;
+        exactCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.carservice.carservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the bulk car import.
+ * Bound from the {@code carservice.car-import} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.car-import")
+public class CarImportProperties {
+
+    /**
+     * Number of rows validated, inserted and committed together. Memory use of an import is bounded by one chunk,
+     * whatever the size of the body; a failure rolls back the current chunk only.
+     */
+    private int chunkSize = 1_000;
+
+}
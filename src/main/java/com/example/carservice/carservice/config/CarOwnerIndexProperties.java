@@ -0,0 +1,31 @@
+package com.example.carservice.carservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory index of car owners used by access checks.
+ * Bound from the {@code carservice.car-owner-index} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.car-owner-index")
+public class CarOwnerIndexProperties {
+
+    /**
+     * Maximum number of indexed cars before the least valuable entries are evicted.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * How long an owner is reused after it was loaded. Ownership changes reach every instance through the
+     * invalidation bus; this only bounds the staleness left by a message lost on the bus.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+}
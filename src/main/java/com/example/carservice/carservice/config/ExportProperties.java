@@ -0,0 +1,29 @@
+package com.example.carservice.carservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the streamed car and service exports.
+ * Bound from the {@code carservice.export} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.export")
+public class ExportProperties {
+
+    /**
+     * Fetch size of the export queries. The default, {@link Integer#MIN_VALUE}, makes MySQL Connector/J stream
+     * the rows one by one over the export's own connection; any other value makes it read the whole result set
+     * into memory. Positive values suit drivers that fetch in batches, such as H2.
+     * <p>
+     * Streaming needs no {@code useCursorFetch=true} on the connection URL, which would switch every statement
+     * of the application to server-side prepared statements.
+     * </p>
+     */
+    private int fetchSize = Integer.MIN_VALUE;
+
+}
@@ -0,0 +1,40 @@
+package com.example.carservice.carservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory cache of listing total counts.
+ * Bound from the {@code carservice.listing.count-cache} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.listing.count-cache")
+public class ListingCountCacheProperties {
+
+    /**
+     * Whether counts are cached at all. When disabled every exact or estimated total runs a count query.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long an exact count is reused. Exact counts are also dropped when the listing is written to.
+     */
+    private Duration exactTtl = Duration.ofSeconds(5);
+
+    /**
+     * How long an estimated count is reused. Estimated counts are not dropped on writes.
+     */
+    private Duration estimatedTtl = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of cached counts per mode.
+     */
+    private long maximumSize = 10_000;
+
+}
@@ -1,26 +1,44 @@
 package com.example.carservice.carservice.controller;
 
 import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.CarSummary;
 import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
 import com.example.carservice.carservice.model.dto.request.car.UpdateCarRequest;
+import com.example.carservice.carservice.model.dto.response.CarImportRowResponse;
+import com.example.carservice.carservice.model.dto.response.CarImportSummaryResponse;
 import com.example.carservice.carservice.model.dto.response.CarResponse;
+import com.example.carservice.carservice.model.enums.CarImportFormat;
+import com.example.carservice.carservice.model.enums.ExportFormat;
 import com.example.carservice.carservice.model.mapper.car.CarToCarResponseMapper;
 import com.example.carservice.carservice.model.mapper.car.CustomPageCarToCustomPagingCarResponseMapper;
+import com.example.carservice.carservice.service.CarImportService;
 import com.example.carservice.carservice.service.CarService;
+import com.example.carservice.carservice.service.ExportService;
+import com.example.carservice.carservice.utils.ExportResponses;
 import com.example.carservice.common.model.CustomPage;
 import com.example.carservice.common.model.dto.request.CustomPagingRequest;
 import com.example.carservice.common.model.dto.response.CustomPagingResponse;
 import com.example.carservice.common.model.dto.response.CustomResponse;
+import com.example.carservice.logging.utils.annotation.ReadOnlyEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.UUID;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
 /**
  * REST controller for managing cars.
  * Provides endpoints for creating, retrieving, updating, and soft-deleting cars.
@@ -35,6 +53,9 @@ import org.springframework.web.bind.annotation.*;
 public class CarController {
 
     private final CarService carService;
+    private final CarImportService carImportService;
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
     private final CarToCarResponseMapper carToCarResponseMapper = CarToCarResponseMapper.initialize();
 
     private final CustomPageCarToCustomPagingCarResponseMapper carPageMapper = CustomPageCarToCustomPagingCarResponseMapper.initialize();
@@ -64,6 +85,59 @@ public class CarController {
 
     }
 
+    /**
+     * Creates cars in bulk from a JSON lines or CSV body.
+     * The body is processed as it arrives and the report is streamed back as JSON lines: one
+     * {@link CarImportRowResponse} per row, written as soon as its chunk is committed, followed by a
+     * {@link CarImportSummaryResponse}.
+     *
+     * @param request  the request carrying the import body
+     * @param response the response the report is streamed to
+     * @throws IOException if the body cannot be read or the report cannot be written
+     */
+    @Operation(
+            summary = "Import Cars",
+            description = "Creates cars in bulk from a JSON lines or CSV body and streams back one result per row.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import processed, see the per-row report"),
+                    @ApiResponse(responseCode = "400", description = "CSV header misses a required column"),
+                    @ApiResponse(responseCode = "415", description = "Body is neither JSON lines nor CSV")
+            }
+    )
+    @PreAuthorize("hasAnyAuthority('USER','ADMIN')")
+    @PostMapping(value = "/import", consumes = {CarImportFormat.NDJSON_VALUE, CarImportFormat.CSV_VALUE})
+    public void importCars(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+
+        final CarImportFormat format = CarImportFormat.of(MediaType.parseMediaType(request.getContentType()));
+
+        final CarImportSummaryResponse summary = carImportService.importCars(
+                request.getInputStream(),
+                format,
+                rows -> this.writeReportLines(response, rows)
+        );
+        this.writeReportLines(response, List.of(summary));
+
+    }
+
+    /**
+     * Streams every car as a file download, straight from a database cursor.
+     *
+     * @param format   the output format
+     * @param gzip     whether to gzip-compress the file
+     * @param response the response the cars are streamed to
+     * @throws IOException if the cars cannot be written
+     */
+    @Operation(summary = "Export Cars",
+            description = "Streams all cars as a JSON lines or CSV file, optionally gzip-compressed. Admin only.")
+    @ApiResponse(responseCode = "200", description = "Cars streamed successfully")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/export")
+    public void exportCars(@RequestParam(defaultValue = "NDJSON") final ExportFormat format,
+                           @RequestParam(defaultValue = "false") final boolean gzip,
+                           final HttpServletResponse response) throws IOException {
+        exportService.exportCars(format, ExportResponses.open(response, format, "cars", gzip));
+    }
+
     /**
      * Retrieves a car by ID.
      *
@@ -100,6 +174,7 @@ public class CarController {
             description = "Retrieves a paginated list of cars assigned to a specific user (admin or self).")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved user's car list")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'USER')")
+    @ReadOnlyEndpoint
     @PostMapping("/users/{userId}")
     public CustomResponse<CustomPagingResponse<CarResponse>> getAllCarsByUser(
             @PathVariable @Valid @UUID final String userId,
@@ -121,6 +196,7 @@ public class CarController {
             description = "Retrieves a paginated list of all cars in the system.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved car list")
     @PreAuthorize("hasAuthority('ADMIN')")
+    @ReadOnlyEndpoint
     @PostMapping("/all")
     public CustomResponse<CustomPagingResponse<CarResponse>> getAllCars(
             @RequestBody @Valid final CustomPagingRequest pagingRequest) {
@@ -141,6 +217,7 @@ public class CarController {
             description = "Retrieves a paginated list of all cars in the system.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved car list")
     @PreAuthorize("hasAuthority('ADMIN')")
+    @ReadOnlyEndpoint
     @PostMapping("/allcarsByActiveStatus")
     public CustomResponse<CustomPagingResponse<CarResponse>> getAllCarsByActiveStatus(
             @RequestBody @Valid final CustomPagingRequest pagingRequest) {
@@ -151,6 +228,68 @@ public class CarController {
 
     }
 
+    /**
+     * Retrieves flat list items of all cars in the system (Admin only).
+     *
+     * @param pagingRequest pagination parameters
+     * @return paginated response of car list items
+     */
+    @Operation(summary = "Get all car summaries (admin only)",
+            description = "Retrieves a paginated list of flat car list items, without nested user and service data.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved car summary list")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @ReadOnlyEndpoint
+    @PostMapping("/all/summary")
+    public CustomResponse<CustomPagingResponse<CarSummary>> getAllCarSummaries(
+            @RequestBody @Valid final CustomPagingRequest pagingRequest) {
+
+        CustomPage<CarSummary> customPage = carService.getAllCarSummaries(pagingRequest);
+        return CustomResponse.successOf(toSummaryPagingResponse(customPage));
+
+    }
+
+    /**
+     * Retrieves flat list items of the active cars assigned to a specific user.
+     *
+     * @param userId the ID of the user
+     * @param pagingRequest the pagination parameters
+     * @return paginated response of car list items
+     */
+    @Operation(summary = "Get car summaries by user",
+            description = "Retrieves a paginated list of flat list items of a user's cars (admin or self).")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved user's car summary list")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'USER')")
+    @ReadOnlyEndpoint
+    @PostMapping("/users/{userId}/summary")
+    public CustomResponse<CustomPagingResponse<CarSummary>> getCarSummariesByUser(
+            @PathVariable @Valid @UUID final String userId,
+            @RequestBody @Valid final CustomPagingRequest pagingRequest) {
+
+        CustomPage<CarSummary> customPage = carService.getCarSummariesByUser(userId, pagingRequest);
+        return CustomResponse.successOf(toSummaryPagingResponse(customPage));
+
+    }
+
+    /**
+     * Retrieves flat list items of all active cars (Admin only).
+     *
+     * @param pagingRequest pagination parameters
+     * @return paginated response of active car list items
+     */
+    @Operation(summary = "Get active car summaries (admin only)",
+            description = "Retrieves a paginated list of flat list items of all active cars.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved car summary list")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @ReadOnlyEndpoint
+    @PostMapping("/allcarsByActiveStatus/summary")
+    public CustomResponse<CustomPagingResponse<CarSummary>> getCarSummariesByActiveStatus(
+            @RequestBody @Valid final CustomPagingRequest pagingRequest) {
+
+        CustomPage<CarSummary> customPage = carService.getCarSummariesByStatus(pagingRequest);
+        return CustomResponse.successOf(toSummaryPagingResponse(customPage));
+
+    }
+
     /**
      * Updates car information by ID.
      *
@@ -198,5 +337,26 @@ public class CarController {
         return CustomResponse.successOf("Car with ID " + carId + " is deleted");
     }
 
-}
+    private static CustomPagingResponse<CarSummary> toSummaryPagingResponse(final CustomPage<CarSummary> customPage) {
+        return CustomPagingResponse.<CarSummary>builder()
+                .of(customPage)
+                .content(customPage.getContent())
+                .build();
+    }
 
+    private void writeReportLines(final HttpServletResponse response, final List<?> lines) {
+        try {
+            // Set only once there is a line to write, so that an error raised before still renders as JSON
+            response.setContentType(CarImportFormat.NDJSON_VALUE);
+            final OutputStream outputStream = response.getOutputStream();
+            for (Object line : lines) {
+                outputStream.write(objectMapper.writeValueAsBytes(line));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -2,23 +2,30 @@ package com.example.carservice.carservice.controller;
 
 import com.example.carservice.carservice.model.ServiceDto;
 import com.example.carservice.carservice.model.dto.request.services.*;
+import com.example.carservice.carservice.model.dto.response.BulkServiceUpdateResponse;
 import com.example.carservice.carservice.model.dto.response.ServiceResponse;
+import com.example.carservice.carservice.model.enums.ExportFormat;
 import com.example.carservice.carservice.model.mapper.service.CustomPageServiceDtoToCustomPagingServiceResponseMapper;
 import com.example.carservice.carservice.model.mapper.service.ServiceDtoToServiceResponseMapper;
+import com.example.carservice.carservice.service.ExportService;
 import com.example.carservice.carservice.service.ServicesToCarService;
+import com.example.carservice.carservice.utils.ExportResponses;
 import com.example.carservice.common.model.CustomPage;
 import com.example.carservice.common.model.dto.request.CustomPagingRequest;
 import com.example.carservice.common.model.dto.response.CustomPagingResponse;
 import com.example.carservice.common.model.dto.response.CustomResponse;
+import com.example.carservice.logging.utils.annotation.ReadOnlyEndpoint;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.UUID;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -35,6 +42,8 @@ public class ServicesController {
 
     private final ServicesToCarService servicesToCarService;
 
+    private final ExportService exportService;
+
     private final ServiceDtoToServiceResponseMapper serviceDtoToServiceResponseMapper = ServiceDtoToServiceResponseMapper.initialize();
 
     private final CustomPageServiceDtoToCustomPagingServiceResponseMapper customPageServiceDtoToCustomPagingServiceResponseMapper
@@ -49,6 +58,7 @@ public class ServicesController {
     @Operation(summary = "Get All Services (Paged)", description = "Returns all service records with pagination. Admin only.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved list of all services")
     @PreAuthorize("hasAuthority('ADMIN')")
+    @ReadOnlyEndpoint
     @PostMapping("/all")
     public CustomResponse<CustomPagingResponse<ServiceResponse>> getAllServices(@RequestBody @Valid final CustomPagingRequest pagingRequest) {
         CustomPage<ServiceDto> allServicesWithPagination = servicesToCarService.getAllServices(pagingRequest);
@@ -56,6 +66,25 @@ public class ServicesController {
         return CustomResponse.successOf(pagingResponse);
     }
 
+    /**
+     * Streams every service as a file download, straight from a database cursor.
+     *
+     * @param format   the output format
+     * @param gzip     whether to gzip-compress the file
+     * @param response the response the services are streamed to
+     * @throws IOException if the services cannot be written
+     */
+    @Operation(summary = "Export Services",
+            description = "Streams all services as a JSON lines or CSV file, optionally gzip-compressed. Admin only.")
+    @ApiResponse(responseCode = "200", description = "Services streamed successfully")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/export")
+    public void exportServices(@RequestParam(defaultValue = "NDJSON") final ExportFormat format,
+                               @RequestParam(defaultValue = "false") final boolean gzip,
+                               final HttpServletResponse response) throws IOException {
+        exportService.exportServices(format, ExportResponses.open(response, format, "services", gzip));
+    }
+
     /**
      * Retrieves a paginated list of services filtered by a specific car ID.
      *
@@ -67,6 +96,7 @@ public class ServicesController {
             description = "Returns service records filtered by car ID. Admin only.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved services for the given car")
     @PreAuthorize("hasAuthority('ADMIN')")
+    @ReadOnlyEndpoint
     @PostMapping("/car/{carId}")
     public CustomResponse<CustomPagingResponse<ServiceResponse>> getServicesByCar(
             @PathVariable @Valid @UUID final String carId,
@@ -85,6 +115,7 @@ public class ServicesController {
     @Operation(summary = "Filter Services", description = "Filters services by car ID and/or status. Admin only.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered services")
     @PreAuthorize("hasAuthority('ADMIN')")
+    @ReadOnlyEndpoint
     @PostMapping("/filter")
     public CustomResponse<CustomPagingResponse<ServiceResponse>> getFilteredServices(
             @RequestBody @Valid final FilterServicePagingRequest request) {
@@ -130,6 +161,38 @@ public class ServicesController {
         return CustomResponse.successOf(assignedServiceResponse);
     }
 
+    /**
+     * Assigns many existing services to cars in one transaction.
+     *
+     * @param request the assignments, each containing car ID and service ID
+     * @return the number of requested assignments and of services updated
+     */
+    @Operation(summary = "Assign Services to Cars (Bulk)",
+            description = "Assigns many existing services to cars using set-based updates. Admin only.")
+    @ApiResponse(responseCode = "200", description = "Services successfully assigned to cars")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping("/assign/bulk")
+    public CustomResponse<BulkServiceUpdateResponse> assignServicesToCars(@RequestBody @Valid final BulkAssignServicesRequest request) {
+        BulkServiceUpdateResponse response = servicesToCarService.assignServicesToCars(request);
+        return CustomResponse.successOf(response);
+    }
+
+    /**
+     * Moves many services of cars from one status to another in one transaction.
+     *
+     * @param request the status transitions to apply
+     * @return the number of requested transitions and of services updated
+     */
+    @Operation(summary = "Update Service Statuses (Bulk)",
+            description = "Moves services of cars between statuses using set-based updates. Admin only.")
+    @ApiResponse(responseCode = "200", description = "Service statuses updated successfully")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PutMapping("/status/bulk")
+    public CustomResponse<BulkServiceUpdateResponse> updateServiceStatuses(@RequestBody @Valid final BulkUpdateServiceStatusRequest request) {
+        BulkServiceUpdateResponse response = servicesToCarService.updateServiceStatuses(request);
+        return CustomResponse.successOf(response);
+    }
+
     /**
      * Updates a service that is assigned to a specific car.
      *
@@ -0,0 +1,32 @@
+package com.example.carservice.carservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a bulk car import body cannot be read at all, e.g. a CSV body without the required header.
+ * Rows that cannot be read are reported one by one instead.
+ * Typically used to return a 400 BAD REQUEST response.
+ */
+public class InvalidCarImportException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -2750318827469510736L;
+
+    public static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    private static final String DEFAULT_MESSAGE = """
+            Car import is not valid!
+            """;
+
+    /**
+     * Constructs a new exception with the reason included in the message.
+     *
+     * @param reason why the import body cannot be read
+     */
+    public InvalidCarImportException(final String reason) {
+        super(DEFAULT_MESSAGE + " " + reason);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.carservice.carservice.model;
+
+import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A single row read from a bulk car import body, either parsed into a {@link CreateCarRequest}
+ * or carrying the reason it could not be parsed.
+ */
+@Getter
+@Builder
+public class CarImportRow {
+
+    /**
+     * The 1-based line number of the row in the request body.
+     */
+    private final long line;
+
+    private final CreateCarRequest request;
+
+    private final String error;
+
+}
@@ -0,0 +1,17 @@
+package com.example.carservice.carservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Pair of a car ID and the ID of the user owning the car, selected by a JPQL constructor expression
+ * without loading either entity.
+ */
+@Getter
+@AllArgsConstructor
+public class CarOwner {
+
+    private String carId;
+    private String ownerId;
+
+}
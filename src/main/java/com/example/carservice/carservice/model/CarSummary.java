@@ -0,0 +1,28 @@
+package com.example.carservice.carservice.model;
+
+import com.example.carservice.carservice.model.enums.CarStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Flat, read-only list item of a car, selected straight from the database by a JPQL constructor expression.
+ * Carries only the columns a car list needs: the car itself, its owner's name and the number of its services.
+ * Unlike {@link Car} it is neither built from a managed entity nor mapped again into a response object.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CarSummary {
+
+    private String id;
+    private String licensePlate;
+    private String model;
+    private String brand;
+    private CarStatus status;
+    private String userId;
+    private String ownerFirstName;
+    private String ownerLastName;
+    private Long serviceCount;
+
+}
@@ -0,0 +1,17 @@
+package com.example.carservice.carservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Pair of a service ID and the ID of the car the service is currently assigned to, selected by a JPQL
+ * constructor expression without loading either entity.
+ */
+@Getter
+@AllArgsConstructor
+public class ServiceCar {
+
+    private String serviceId;
+    private String carId;
+
+}
@@ -2,6 +2,7 @@ package com.example.carservice.carservice.model.dto.request.services;
 
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.validator.constraints.UUID;
 
 /**
  * Request object for assigning an existing service to a car.
@@ -14,9 +15,11 @@ import lombok.*;
 public class AssignServiceToCarRequest {
 
     @NotBlank
+    @UUID
     private String carId;
 
     @NotBlank
+    @UUID
     private String serviceId;
 
 }
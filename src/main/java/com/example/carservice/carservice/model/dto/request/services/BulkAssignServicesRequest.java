@@ -0,0 +1,25 @@
+package com.example.carservice.carservice.model.dto.request.services;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Request object for assigning many existing services to cars in one call.
+ * If a service is listed more than once, its last assignment wins.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkAssignServicesRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid AssignServiceToCarRequest> assignments;
+
+}
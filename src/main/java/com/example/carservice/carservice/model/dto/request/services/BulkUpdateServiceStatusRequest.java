@@ -0,0 +1,56 @@
+package com.example.carservice.carservice.model.dto.request.services;
+
+import com.example.carservice.carservice.model.enums.ServiceStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.hibernate.validator.constraints.UUID;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Request object for moving many services of cars from one {@link ServiceStatus} to another in one call.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUpdateServiceStatusRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid Transition> transitions;
+
+    /**
+     * Inner class describing one status transition.
+     * Without service IDs, every service of the car in {@code fromStatus} is moved;
+     * otherwise only the listed services of the car that are in {@code fromStatus}.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Transition {
+
+        @NotBlank
+        @UUID
+        private String carId;
+
+        @Size(max = 1000)
+        private Set<@UUID String> serviceIds;
+
+        @NotNull
+        private ServiceStatus fromStatus;
+
+        @NotNull
+        private ServiceStatus toStatus;
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.carservice.carservice.model.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO of a bulk service operation, with the number of requested items
+ * (assignments or status transitions) and the number of services actually updated.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkServiceUpdateResponse {
+
+    private int requested;
+    private int updated;
+
+}
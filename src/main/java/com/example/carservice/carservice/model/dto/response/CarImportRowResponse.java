@@ -0,0 +1,25 @@
+package com.example.carservice.carservice.model.dto.response;
+
+import com.example.carservice.carservice.model.enums.CarImportRowStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * Response DTO reporting the outcome of one row of a bulk car import.
+ * One such object is streamed back per imported row.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CarImportRowResponse {
+
+    private long line;
+    private String licensePlate;
+    private CarImportRowStatus status;
+    private String carId;
+    private String message;
+
+}
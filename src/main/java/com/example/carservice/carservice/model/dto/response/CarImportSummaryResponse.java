@@ -0,0 +1,19 @@
+package com.example.carservice.carservice.model.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO closing the report of a bulk car import with the number of processed, created and rejected rows.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarImportSummaryResponse {
+
+    private long totalRows;
+    private long createdRows;
+    private long rejectedRows;
+
+}
@@ -2,10 +2,14 @@ package com.example.carservice.carservice.model.entity;
 
 import com.example.carservice.auth.model.entity.UserEntity;
 import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.common.id.TimeOrderedUuidGenerator;
 import com.example.carservice.common.model.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,11 +29,20 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "CARS")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(
+        name = "CARS",
+        indexes = {
+                @Index(name = "IX_CARS_CREATED_AT_ID", columnList = "CREATED_AT, ID"),
+                @Index(name = "IX_CARS_STATUS_CREATED_AT_ID", columnList = "STATUS, CREATED_AT, ID"),
+                @Index(name = "IX_CARS_USER_ID_STATUS_CREATED_AT_ID", columnList = "USER_ID, STATUS, CREATED_AT, ID")
+        }
+)
 public class CarEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     @Column(name = "ID")
     private String id;
 
@@ -50,6 +63,7 @@ public class CarEntity extends BaseEntity {
     @JoinColumn(name = "USER_ID")
     private UserEntity user;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "car", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ServiceEntity> services = new ArrayList<>();
 
@@ -1,10 +1,16 @@
 package com.example.carservice.carservice.model.entity;
 
 import com.example.carservice.carservice.model.enums.ServiceStatus;
+import com.example.carservice.common.id.BinaryIdType;
+import com.example.carservice.common.id.TimeOrderedUuidGenerator;
 import com.example.carservice.common.model.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
+import org.hibernate.annotations.UuidGenerator;
 
 /**
  * JPA entity representing a service performed on a car.
@@ -21,12 +27,21 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "SERVICES")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(
+        name = "SERVICES",
+        indexes = {
+                @Index(name = "IX_SERVICES_CREATED_AT_ID", columnList = "CREATED_AT, ID"),
+                @Index(name = "IX_SERVICES_CAR_ID_CREATED_AT_ID", columnList = "CAR_ID, CREATED_AT, ID")
+        }
+)
 public class ServiceEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "ID")
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
+    @Type(BinaryIdType.class)
+    @Column(name = "ID", columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(nullable = false)
@@ -0,0 +1,34 @@
+package com.example.carservice.carservice.model.enums;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Enumeration of the body formats accepted by the bulk car import.
+ */
+public enum CarImportFormat {
+
+    /**
+     * One JSON object per line, with the fields of a car creation request.
+     */
+    NDJSON,
+
+    /**
+     * Comma-separated values with a header line naming the {@code licensePlate}, {@code model}, {@code brand}
+     * and {@code userId} columns in any order.
+     */
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    /**
+     * Resolves the format of a request body from its content type.
+     *
+     * @param contentType the content type of the request
+     * @return {@link #CSV} for {@code text/csv}, {@link #NDJSON} otherwise
+     */
+    public static CarImportFormat of(final MediaType contentType) {
+        return MediaType.parseMediaType(CSV_VALUE).isCompatibleWith(contentType) ? CSV : NDJSON;
+    }
+
+}
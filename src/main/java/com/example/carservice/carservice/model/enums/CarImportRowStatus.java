@@ -0,0 +1,43 @@
+package com.example.carservice.carservice.model.enums;
+
+/**
+ * Enumeration of the outcomes of a single row of a bulk car import.
+ */
+public enum CarImportRowStatus {
+
+    /**
+     * The car was created.
+     */
+    CREATED,
+
+    /**
+     * The row could not be parsed or misses a required field.
+     */
+    INVALID_ROW,
+
+    /**
+     * The license plate does not follow the Turkish plate format.
+     */
+    INVALID_LICENSE_PLATE,
+
+    /**
+     * The license plate already appears on an earlier row of the same chunk.
+     * Repeats in later chunks find the plate already created and are reported as {@link #LICENSE_PLATE_EXISTS}.
+     */
+    DUPLICATE_LICENSE_PLATE,
+
+    /**
+     * A car with the license plate already exists.
+     */
+    LICENSE_PLATE_EXISTS,
+
+    /**
+     * The user the car should be assigned to does not exist.
+     */
+    USER_NOT_FOUND,
+
+    /**
+     * The caller may not assign cars to the given user.
+     */
+    ACCESS_DENIED
+}
@@ -2,6 +2,7 @@ package com.example.carservice.carservice.model.mapper.car;
 
 import com.example.carservice.auth.model.mapper.UserEntityToUserMapper;
 import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.ServiceDto;
 import com.example.carservice.carservice.model.entity.CarEntity;
 import com.example.carservice.carservice.model.mapper.service.ServiceEntityToServiceDtoMapper;
 import com.example.carservice.common.model.mapper.BaseMapper;
@@ -10,6 +11,7 @@ import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -30,9 +32,26 @@ public interface CarEntityToCarMapper extends BaseMapper<CarEntity, Car> {
      */
     @Named("mapFromEntity")
     default Car mapFromEntity(CarEntity entity) {
-        UserEntityToUserMapper userMapper = UserEntityToUserMapper.initialize();
         ServiceEntityToServiceDtoMapper serviceMapper = ServiceEntityToServiceDtoMapper.initialize();
 
+        return mapFromEntity(entity, entity.getServices() != null
+                ? entity.getServices().stream()
+                .map(serviceMapper::map)
+                .collect(Collectors.toList())
+                : new ArrayList<>());
+    }
+
+    /**
+     * Maps a {@link CarEntity} to a {@link Car} with services that were loaded separately,
+     * without touching the lazy {@link CarEntity#getServices()} collection.
+     *
+     * @param entity   the car entity from the database
+     * @param services the already mapped services of the car
+     * @return a fully populated domain model representation
+     */
+    default Car mapFromEntity(CarEntity entity, List<ServiceDto> services) {
+        UserEntityToUserMapper userMapper = UserEntityToUserMapper.initialize();
+
         return Car.builder()
                 .id(entity.getId())
                 .licensePlate(entity.getLicensePlate())
@@ -41,11 +60,7 @@ public interface CarEntityToCarMapper extends BaseMapper<CarEntity, Car> {
                 .userId(entity.getUser() != null ? entity.getUser().getId() : null)
                 .status(entity.getStatus())
                 .user(entity.getUser() != null ? userMapper.map(entity.getUser()) : null)
-                .serviceList(entity.getServices() != null
-                        ? entity.getServices().stream()
-                        .map(serviceMapper::map)
-                        .collect(Collectors.toList())
-                        : new ArrayList<>())
+                .serviceList(services != null ? services : new ArrayList<>())
                 .build();
     }
 
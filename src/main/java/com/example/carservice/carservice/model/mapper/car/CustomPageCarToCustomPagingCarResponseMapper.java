@@ -35,6 +35,8 @@ public interface CustomPageCarToCustomPagingCarResponseMapper {
                 .totalPageCount(carPage.getTotalPageCount())
                 .pageNumber(carPage.getPageNumber())
                 .pageSize(carPage.getPageSize())
+                .hasNext(carPage.getHasNext())
+                .nextCursor(carPage.getNextCursor())
                 .build();
     }
 
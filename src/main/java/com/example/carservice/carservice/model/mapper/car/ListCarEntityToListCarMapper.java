@@ -1,11 +1,14 @@
 package com.example.carservice.carservice.model.mapper.car;
 
 import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.ServiceDto;
 import com.example.carservice.carservice.model.entity.CarEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +35,27 @@ public interface ListCarEntityToListCarMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Maps a list of {@link CarEntity} to a list of {@link Car} domain models, taking the services of each car
+     * from the given map instead of the lazy services collection of the entity.
+     *
+     * @param carEntities     list of JPA entities
+     * @param servicesByCarId the already mapped services, keyed by car ID
+     * @return list of domain models
+     */
+    default List<Car> toCarList(List<CarEntity> carEntities, Map<String, List<ServiceDto>> servicesByCarId) {
+        if (carEntities == null) {
+            return null;
+        }
+
+        return carEntities.stream()
+                .map(carEntity -> carEntityToCarMapper.mapFromEntity(
+                        carEntity,
+                        servicesByCarId.getOrDefault(carEntity.getId(), new ArrayList<>())
+                ))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Initializes the mapper using MapStruct's factory method.
      *
@@ -36,6 +36,8 @@ public interface CustomPageServiceDtoToCustomPagingServiceResponseMapper {
                 .totalPageCount(servicePage.getTotalPageCount())
                 .pageNumber(servicePage.getPageNumber())
                 .pageSize(servicePage.getPageSize())
+                .hasNext(servicePage.getHasNext())
+                .nextCursor(servicePage.getNextCursor())
                 .build();
     }
 
@@ -0,0 +1,48 @@
+package com.example.carservice.carservice.repository;
+
+import com.example.carservice.carservice.model.entity.CarEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC repository that writes {@link CarEntity} rows into the {@code CARS} table in batches,
+ * bypassing the persistence context. Used by the bulk car import, where one batched insert per chunk
+ * is much cheaper than one JPA save per car.
+ * <p>
+ * Rows must arrive fully populated: ID, audit columns and status are written as given.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CarJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO cars (id, license_plate, model, brand, status, user_id, created_at, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given cars using a single JDBC batch.
+     *
+     * @param carEntities the cars to insert
+     */
+    public void batchInsert(final List<CarEntity> carEntities) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, carEntities, carEntities.size(), (preparedStatement, carEntity) -> {
+            preparedStatement.setString(1, carEntity.getId());
+            preparedStatement.setString(2, carEntity.getLicensePlate());
+            preparedStatement.setString(3, carEntity.getModel());
+            preparedStatement.setString(4, carEntity.getBrand());
+            preparedStatement.setString(5, carEntity.getStatus().name());
+            preparedStatement.setString(6, carEntity.getUser().getId());
+            preparedStatement.setTimestamp(7, Timestamp.valueOf(carEntity.getCreatedAt()));
+            preparedStatement.setString(8, carEntity.getCreatedBy());
+        });
+    }
+
+}
@@ -1,17 +1,50 @@
 package com.example.carservice.carservice.repository;
 
+import com.example.carservice.carservice.model.CarOwner;
+import com.example.carservice.carservice.model.CarSummary;
 import com.example.carservice.carservice.model.entity.CarEntity;
 import com.example.carservice.carservice.model.enums.CarStatus;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link CarEntity} persistence operations.
  * Extends {@link JpaRepository} for standard CRUD and paging functionality.
+ * <p>
+ * Listing queries load the owning user in the same statement through an entity graph, so mapping a page
+ * of cars does not issue one extra select per owner.
+ * </p>
  */
 public interface CarRepository extends JpaRepository<CarEntity, String> {
 
+    /**
+     * Selects {@link CarSummary} list items, joining the owner and counting services in the same statement.
+     */
+    String CAR_SUMMARY_QUERY = """
+            select new com.example.carservice.carservice.model.CarSummary(
+                c.id, c.licensePlate, c.model, c.brand, c.status,
+                u.id, u.firstName, u.lastName,
+                (select count(s) from ServiceEntity s where s.car = c)
+            )
+            from CarEntity c
+            left join c.user u
+            """;
+
+    String CAR_SUMMARY_ORDER = " order by c.createdAt, c.id";
+
     /**
      * Checks if a car with the given license plate already exists.
      *
@@ -21,22 +54,149 @@ public interface CarRepository extends JpaRepository<CarEntity, String> {
     boolean existsByLicensePlate(String licensePlate);
 
     /**
-     * Retrieves a paginated list of cars belonging to a specific user and matching the given status.
+     * Returns which of the given license plates are already taken, checking a whole import chunk in one query.
+     *
+     * @param licensePlates the license plates to check
+     * @return the subset of the given plates that belong to an existing car
+     */
+    @Query("select c.licensePlate from CarEntity c where c.licensePlate in :licensePlates")
+    Set<String> findExistingLicensePlates(@Param("licensePlates") Collection<String> licensePlates);
+
+    /**
+     * Returns the ID of the user owning a car, without loading the car or the user.
+     *
+     * @param id the car ID
+     * @return an {@link Optional} containing the owner ID, or empty if no car has the given ID
+     */
+    @Query("select c.user.id from CarEntity c where c.id = :id")
+    Optional<String> findOwnerIdById(@Param("id") String id);
+
+    /**
+     * Returns the owners of the given cars with one query, without loading the cars or the users.
+     *
+     * @param ids the car IDs
+     * @return a {@link CarOwner} for each of the given IDs that belongs to an existing car
+     */
+    @Query("select new com.example.carservice.carservice.model.CarOwner(c.id, c.user.id) from CarEntity c where c.id in :ids")
+    List<CarOwner> findOwnersByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Retrieves a slice of all cars, without a count query.
+     *
+     * @param pageable pagination information
+     * @return a slice of {@link CarEntity} objects
+     */
+    @EntityGraph(attributePaths = "user")
+    Slice<CarEntity> findAllBy(Pageable pageable);
+
+    /**
+     * Retrieves a paginated list of cars belonging to a specific user and matching the given status,
+     * without a count query.
+     *
+     * @param userId   the ID of the user
+     * @param status   the status of the cars to filter by
+     * @param pageable pagination information
+     * @return a slice of {@link CarEntity} objects
+     */
+    @EntityGraph(attributePaths = "user")
+    Slice<CarEntity> findByUserIdAndStatus(String userId, CarStatus status, Pageable pageable);
+
+    /**
+     * Counts the cars belonging to a specific user and matching the given status.
+     *
+     * @param userId the ID of the user
+     * @param status the status of the cars to filter by
+     * @return the number of matching cars
+     */
+    long countByUserIdAndStatus(String userId, CarStatus status);
+
+    /**
+     * Retrieves a paginated list of cars filtered by status, without a count query.
+     *
+     * @param status   the status of the cars
+     * @param pageable pagination information
+     * @return a slice of {@link CarEntity} objects
+     */
+    @EntityGraph(attributePaths = "user")
+    Slice<CarEntity> findByStatus(CarStatus status, Pageable pageable);
+
+    /**
+     * Counts the cars with the given status.
+     *
+     * @param status the status of the cars
+     * @return the number of matching cars
+     */
+    long countByStatus(CarStatus status);
+
+    /**
+     * Retrieves a keyset-scrolled window of all cars, without a count query.
+     *
+     * @param position the position the window starts after
+     * @param limit    the maximum number of cars in the window
+     * @param sort     the keyset order
+     * @return a {@link Window} of {@link CarEntity} objects
+     */
+    @EntityGraph(attributePaths = "user")
+    Window<CarEntity> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Retrieves a keyset-scrolled window of cars belonging to a specific user and matching the given status,
+     * without a count query.
+     *
+     * @param userId   the ID of the user
+     * @param status   the status of the cars to filter by
+     * @param position the position the window starts after
+     * @param limit    the maximum number of cars in the window
+     * @param sort     the keyset order
+     * @return a {@link Window} of {@link CarEntity} objects
+     */
+    @EntityGraph(attributePaths = "user")
+    Window<CarEntity> findByUserIdAndStatus(String userId, CarStatus status, ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Retrieves a keyset-scrolled window of cars filtered by status, without a count query.
+     *
+     * @param status   the status of the cars
+     * @param position the position the window starts after
+     * @param limit    the maximum number of cars in the window
+     * @param sort     the keyset order
+     * @return a {@link Window} of {@link CarEntity} objects
+     */
+    @EntityGraph(attributePaths = "user")
+    Window<CarEntity> findByStatus(CarStatus status, ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Retrieves a slice of list items of all cars, without a count query and without loading entities.
+     *
+     * @param pageable pagination information
+     * @return a slice of {@link CarSummary} objects
+     */
+    @Query(CAR_SUMMARY_QUERY + CAR_SUMMARY_ORDER)
+    Slice<CarSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Retrieves a slice of list items of the cars belonging to a specific user and matching the given status,
+     * without a count query and without loading entities.
      *
      * @param userId   the ID of the user
      * @param status   the status of the cars to filter by
      * @param pageable pagination information
-     * @return a page of {@link CarEntity} objects
+     * @return a slice of {@link CarSummary} objects
      */
-    Page<CarEntity> findByUserIdAndStatus(String userId, CarStatus status, Pageable pageable);
+    @Query(CAR_SUMMARY_QUERY + " where u.id = :userId and c.status = :status" + CAR_SUMMARY_ORDER)
+    Slice<CarSummary> findSummariesByUserIdAndStatus(@Param("userId") String userId,
+                                                     @Param("status") CarStatus status,
+                                                     Pageable pageable);
 
     /**
-     * Retrieves a paginated list of cars filtered by status.
+     * Retrieves a slice of list items of the cars with the given status,
+     * without a count query and without loading entities.
      *
      * @param status   the status of the cars
      * @param pageable pagination information
-     * @return a page of {@link CarEntity} objects
+     * @return a slice of {@link CarSummary} objects
      */
-    Page<CarEntity> findByStatus(CarStatus status, Pageable pageable);
+    @Query(CAR_SUMMARY_QUERY + " where c.status = :status" + CAR_SUMMARY_ORDER)
+    Slice<CarSummary> findSummariesByStatus(@Param("status") CarStatus status, Pageable pageable);
 
 }
@@ -0,0 +1,104 @@
+package com.example.carservice.carservice.repository;
+
+import com.example.carservice.carservice.config.ExportProperties;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Repository that scrolls through whole tables for the streamed exports.
+ * <p>
+ * Rows are read as column projections through a Hibernate {@link StatelessSession} and a forward-only cursor
+ * that MySQL streams row by row (see {@link ExportProperties#getFetchSize()}), so nothing accumulates in a
+ * persistence context and memory stays flat whatever the size of the table. The session runs on the connection of the current Spring transaction, which must be
+ * open (and should be read-only, so that it is routed to a read replica when replicas are configured).
+ * </p>
+ */
+@Repository
+public class ExportRepository {
+
+    /**
+     * Columns of {@link #forEachCar(Consumer)} rows.
+     */
+    public static final List<String> CAR_COLUMNS = List.of(
+            "id", "licensePlate", "brand", "model", "status", "userId", "createdAt", "updatedAt"
+    );
+
+    /**
+     * Columns of {@link #forEachService(Consumer)} rows.
+     */
+    public static final List<String> SERVICE_COLUMNS = List.of(
+            "id", "title", "description", "status", "carId", "createdAt", "updatedAt"
+    );
+
+    private static final String CARS_QUERY = """
+            select c.id, c.licensePlate, c.brand, c.model, c.status, c.user.id, c.createdAt, c.updatedAt
+            from CarEntity c
+            """;
+
+    private static final String SERVICES_QUERY = """
+            select s.id, s.title, s.description, s.status, s.car.id, s.createdAt, s.updatedAt
+            from ServiceEntity s
+            """;
+
+    private final SessionFactory sessionFactory;
+    private final DataSource dataSource;
+    private final ExportProperties exportProperties;
+
+    public ExportRepository(final EntityManagerFactory entityManagerFactory,
+                            final DataSource dataSource,
+                            final ExportProperties exportProperties) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.dataSource = dataSource;
+        this.exportProperties = exportProperties;
+    }
+
+    /**
+     * Hands every {@link CarEntity} row, in {@link #CAR_COLUMNS} order, to the given action.
+     *
+     * @param action receives the column values of each row
+     */
+    public void forEachCar(final Consumer<Object[]> action) {
+        this.scroll(CARS_QUERY, action);
+    }
+
+    /**
+     * Hands every {@link ServiceEntity} row, in {@link #SERVICE_COLUMNS} order, to the given action.
+     *
+     * @param action receives the column values of each row
+     */
+    public void forEachService(final Consumer<Object[]> action) {
+        this.scroll(SERVICES_QUERY, action);
+    }
+
+    private void scroll(final String query, final Consumer<Object[]> action) {
+
+        final Connection connection = DataSourceUtils.getConnection(dataSource);
+
+        try (StatelessSession session = sessionFactory.withStatelessOptions().connection(connection).openStatelessSession();
+             ScrollableResults<Object[]> rows = session.createSelectionQuery(query, Object[].class)
+                     .setFetchSize(exportProperties.getFetchSize())
+                     .setReadOnly(true)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (rows.next()) {
+                action.accept(rows.get());
+            }
+
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+}
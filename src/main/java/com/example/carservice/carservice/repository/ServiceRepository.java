@@ -1,10 +1,20 @@
 package com.example.carservice.carservice.repository;
 
+import com.example.carservice.carservice.model.ServiceCar;
+import com.example.carservice.carservice.model.entity.CarEntity;
 import com.example.carservice.carservice.model.entity.ServiceEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.example.carservice.carservice.model.enums.ServiceStatus;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository interface for managing {@link ServiceEntity} persistence operations.
@@ -21,12 +31,170 @@ public interface ServiceRepository extends JpaRepository<ServiceEntity, String>,
     boolean existsByTitle(String title);
 
     /**
-     * Retrieves a paginated list of services associated with a specific car ID.
+     * Retrieves a slice of all services, without a count query.
+     *
+     * @param pageable pagination information
+     * @return a slice of {@link ServiceEntity} objects
+     */
+    Slice<ServiceEntity> findAllBy(Pageable pageable);
+
+    /**
+     * Retrieves a paginated list of services associated with a specific car ID, without a count query.
      *
      * @param carId    the ID of the car
      * @param pageable pagination information
-     * @return a page of {@link ServiceEntity} objects
+     * @return a slice of {@link ServiceEntity} objects
+     */
+    Slice<ServiceEntity> findByCarId(String carId, Pageable pageable);
+
+    /**
+     * Retrieves the services of all the given cars in a single query.
+     * Used to load the services of a whole page of cars at once.
+     *
+     * @param carIds the IDs of the cars
+     * @param sort   the order of the services
+     * @return the {@link ServiceEntity} objects of the given cars
+     */
+    List<ServiceEntity> findByCarIdIn(Collection<String> carIds, Sort sort);
+
+    /**
+     * Counts the services associated with a specific car ID.
+     *
+     * @param carId the ID of the car
+     * @return the number of matching services
+     */
+    long countByCarId(String carId);
+
+    /**
+     * Retrieves a slice of the services matching the given specification, without a count query.
+     * The page is read through an offset scroll, which fetches one extra row to tell whether another page exists.
+     *
+     * @param specification the filter to apply
+     * @param pageable      pagination information
+     * @return a slice of {@link ServiceEntity} objects
+     */
+    default Slice<ServiceEntity> findSlice(Specification<ServiceEntity> specification, Pageable pageable) {
+
+        // An offset scroll position starts right after the given offset, so the first row of the page is addressed by its predecessor
+        final ScrollPosition position = pageable.getOffset() == 0
+                ? ScrollPosition.offset()
+                : ScrollPosition.offset(pageable.getOffset() - 1);
+
+        final Window<ServiceEntity> window = findBy(specification, query -> query
+                .sortBy(pageable.getSort())
+                .limit(pageable.getPageSize())
+                .scroll(position)
+        );
+
+        return new SliceImpl<>(window.getContent(), pageable, window.hasNext());
+    }
+
+    /**
+     * Retrieves a keyset-scrolled window of all services, without a count query.
+     *
+     * @param position the position the window starts after
+     * @param limit    the maximum number of services in the window
+     * @param sort     the keyset order
+     * @return a {@link Window} of {@link ServiceEntity} objects
+     */
+    Window<ServiceEntity> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Retrieves a keyset-scrolled window of services associated with a specific car ID, without a count query.
+     *
+     * @param carId    the ID of the car
+     * @param position the position the window starts after
+     * @param limit    the maximum number of services in the window
+     * @param sort     the keyset order
+     * @return a {@link Window} of {@link ServiceEntity} objects
+     */
+    Window<ServiceEntity> findByCarId(String carId, ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Returns the car each of the given services is currently assigned to, with one query and without
+     * loading the services.
+     *
+     * @param ids the service IDs
+     * @return a {@link ServiceCar} for each of the given IDs that belongs to an existing service
+     */
+    @Query("select new com.example.carservice.carservice.model.ServiceCar(s.id, s.car.id) from ServiceEntity s where s.id in :ids")
+    List<ServiceCar> findCarsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Returns the IDs of every service assigned to one of the given cars, without loading the services.
+     *
+     * @param carIds the IDs of the cars
+     * @return the IDs of the services of those cars
+     */
+    @Query("select s.id from ServiceEntity s where s.car.id in :carIds")
+    List<String> findIdsByCarIdIn(@Param("carIds") Collection<String> carIds);
+
+    /**
+     * Assigns the given services to a car with a single UPDATE statement.
+     * Audit columns are set explicitly, since bulk statements bypass entity callbacks.
+     *
+     * @param car        the car to assign the services to
+     * @param serviceIds the IDs of the services
+     * @param updatedAt  the update timestamp
+     * @param updatedBy  the auditor performing the update
+     * @return the number of updated services
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ServiceEntity s
+            set s.car = :car, s.updatedAt = :updatedAt, s.updatedBy = :updatedBy
+            where s.id in :serviceIds
+            """)
+    int assignToCar(@Param("car") CarEntity car,
+                    @Param("serviceIds") Collection<String> serviceIds,
+                    @Param("updatedAt") LocalDateTime updatedAt,
+                    @Param("updatedBy") String updatedBy);
+
+    /**
+     * Moves every service of the given cars from one status to another with a single UPDATE statement.
+     *
+     * @param carIds     the IDs of the cars
+     * @param fromStatus the current status of the services to move
+     * @param toStatus   the new status
+     * @param updatedAt  the update timestamp
+     * @param updatedBy  the auditor performing the update
+     * @return the number of updated services
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ServiceEntity s
+            set s.status = :toStatus, s.updatedAt = :updatedAt, s.updatedBy = :updatedBy
+            where s.car.id in :carIds and s.status = :fromStatus
+            """)
+    int updateStatusByCarIds(@Param("carIds") Collection<String> carIds,
+                             @Param("fromStatus") ServiceStatus fromStatus,
+                             @Param("toStatus") ServiceStatus toStatus,
+                             @Param("updatedAt") LocalDateTime updatedAt,
+                             @Param("updatedBy") String updatedBy);
+
+    /**
+     * Moves the given services of a car from one status to another with a single UPDATE statement.
+     * Services of other cars or in another status are left untouched.
+     *
+     * @param carId      the ID of the car
+     * @param serviceIds the IDs of the services
+     * @param fromStatus the current status of the services to move
+     * @param toStatus   the new status
+     * @param updatedAt  the update timestamp
+     * @param updatedBy  the auditor performing the update
+     * @return the number of updated services
      */
-    Page<ServiceEntity> findByCarId(String carId, Pageable pageable);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ServiceEntity s
+            set s.status = :toStatus, s.updatedAt = :updatedAt, s.updatedBy = :updatedBy
+            where s.car.id = :carId and s.id in :serviceIds and s.status = :fromStatus
+            """)
+    int updateStatusByCarIdAndIds(@Param("carId") String carId,
+                                  @Param("serviceIds") Collection<String> serviceIds,
+                                  @Param("fromStatus") ServiceStatus fromStatus,
+                                  @Param("toStatus") ServiceStatus toStatus,
+                                  @Param("updatedAt") LocalDateTime updatedAt,
+                                  @Param("updatedBy") String updatedBy);
 
 }
@@ -0,0 +1,31 @@
+package com.example.carservice.carservice.service;
+
+import com.example.carservice.carservice.model.dto.response.CarImportRowResponse;
+import com.example.carservice.carservice.model.dto.response.CarImportSummaryResponse;
+import com.example.carservice.carservice.model.enums.CarImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for creating cars in bulk from a streamed request body.
+ */
+public interface CarImportService {
+
+    /**
+     * Creates one car per valid row of the given body, chunk by chunk, and hands the result of every row to
+     * the report writer once its chunk is committed.
+     *
+     * @param body         the JSON lines or CSV request body
+     * @param format       the format of the body
+     * @param reportWriter receives the row results of each processed chunk, in row order
+     * @return the totals of the import
+     * @throws IOException if the body cannot be read
+     */
+    CarImportSummaryResponse importCars(InputStream body,
+                                        CarImportFormat format,
+                                        Consumer<List<CarImportRowResponse>> reportWriter) throws IOException;
+
+}
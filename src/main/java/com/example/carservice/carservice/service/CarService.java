@@ -1,6 +1,7 @@
 package com.example.carservice.carservice.service;
 
 import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.CarSummary;
 import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
 import com.example.carservice.carservice.model.dto.request.car.UpdateCarRequest;
 import com.example.carservice.common.model.CustomPage;
@@ -52,6 +53,31 @@ public interface CarService {
      */
     CustomPage<Car> getAllCarsByStatus(CustomPagingRequest pagingRequest);
 
+    /**
+     * Retrieves a paginated list of flat list items of all cars in the system.
+     *
+     * @param pagingRequest the pagination parameters
+     * @return a paginated list of {@link CarSummary} objects
+     */
+    CustomPage<CarSummary> getAllCarSummaries(CustomPagingRequest pagingRequest);
+
+    /**
+     * Retrieves a paginated list of flat list items of the active cars assigned to a specific user.
+     *
+     * @param userId the ID of the user
+     * @param pagingRequest the pagination parameters
+     * @return a paginated list of {@link CarSummary} objects
+     */
+    CustomPage<CarSummary> getCarSummariesByUser(String userId, CustomPagingRequest pagingRequest);
+
+    /**
+     * Retrieves a paginated list of flat list items of all active cars.
+     *
+     * @param pagingRequest the pagination parameters
+     * @return a paginated list of {@link CarSummary} objects
+     */
+    CustomPage<CarSummary> getCarSummariesByStatus(CustomPagingRequest pagingRequest);
+
     /**
      * Updates the details of a car.
      *
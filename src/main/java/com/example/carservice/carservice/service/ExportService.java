@@ -0,0 +1,33 @@
+package com.example.carservice.carservice.service;
+
+import com.example.carservice.carservice.model.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for streaming whole tables of cars and services to an output stream.
+ */
+public interface ExportService {
+
+    /**
+     * Writes every car to the given stream and closes it.
+     *
+     * @param format       the output format
+     * @param outputStream the stream the rows are written to
+     * @return the number of exported cars
+     * @throws IOException if the rows cannot be written
+     */
+    long exportCars(ExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * Writes every service to the given stream and closes it.
+     *
+     * @param format       the output format
+     * @param outputStream the stream the rows are written to
+     * @return the number of exported services
+     * @throws IOException if the rows cannot be written
+     */
+    long exportServices(ExportFormat format, OutputStream outputStream) throws IOException;
+
+}
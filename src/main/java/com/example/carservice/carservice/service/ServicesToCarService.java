@@ -2,9 +2,12 @@ package com.example.carservice.carservice.service;
 
 import com.example.carservice.carservice.model.ServiceDto;
 import com.example.carservice.carservice.model.dto.request.services.AssignServiceToCarRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkAssignServicesRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkUpdateServiceStatusRequest;
 import com.example.carservice.carservice.model.dto.request.services.CreateServiceRequest;
 import com.example.carservice.carservice.model.dto.request.services.ListServiceRequest;
 import com.example.carservice.carservice.model.dto.request.services.UpdateServiceRequest;
+import com.example.carservice.carservice.model.dto.response.BulkServiceUpdateResponse;
 import com.example.carservice.common.model.CustomPage;
 import com.example.carservice.common.model.dto.request.CustomPagingRequest;
 
@@ -60,6 +63,22 @@ public interface ServicesToCarService {
      */
     ServiceDto updateServiceByCarId(String carId, String serviceId, UpdateServiceRequest request);
 
+    /**
+     * Assigns many existing services to cars in one transaction, with one UPDATE statement per car.
+     *
+     * @param request the assignments, each containing service and car IDs
+     * @return the number of requested assignments and of services actually updated
+     */
+    BulkServiceUpdateResponse assignServicesToCars(BulkAssignServicesRequest request);
+
+    /**
+     * Moves many services of cars between statuses in one transaction, using set-based UPDATE statements.
+     *
+     * @param request the status transitions to apply
+     * @return the number of requested transitions and of services actually updated
+     */
+    BulkServiceUpdateResponse updateServiceStatuses(BulkUpdateServiceStatusRequest request);
+
     /**
      * Retrieves services filtered by request parameters and paginated.
      *
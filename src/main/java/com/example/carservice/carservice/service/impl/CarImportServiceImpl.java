@@ -0,0 +1,272 @@
+package com.example.carservice.carservice.service.impl;
+
+import com.example.carservice.auth.model.UserIdentity;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.carservice.cache.ListingCountCache;
+import com.example.carservice.carservice.config.CarImportProperties;
+import com.example.carservice.carservice.model.CarImportRow;
+import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
+import com.example.carservice.carservice.model.dto.response.CarImportRowResponse;
+import com.example.carservice.carservice.model.dto.response.CarImportSummaryResponse;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.enums.CarImportFormat;
+import com.example.carservice.carservice.model.enums.CarImportRowStatus;
+import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.carservice.repository.CarJdbcRepository;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.carservice.service.CarImportService;
+import com.example.carservice.carservice.utils.CarImportReader;
+import com.example.carservice.carservice.utils.validator.TurkishLicensePlateValidator;
+import com.example.carservice.common.id.IdCodec;
+import com.example.carservice.common.id.TimeOrderedUuid;
+import com.example.carservice.common.model.entity.BaseEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation creating cars in bulk from JSON lines or CSV bodies.
+ * <p>
+ * The body is read and processed in chunks of {@code carservice.car-import.chunk-size} rows, so the size of an
+ * import is not limited by memory. Within a chunk, rows are first checked on their own (format, license plate,
+ * access, repeated plates); the remaining rows are then checked against the database with one query for all
+ * license plates and one for all users, and inserted with a single JDBC batch. Each chunk runs in its own
+ * transaction: a failure rolls back that chunk only, and rows of committed chunks stay created.
+ * </p>
+ */
+@Service
+public class CarImportServiceImpl implements CarImportService {
+
+    private static final TurkishLicensePlateValidator LICENSE_PLATE_VALIDATOR = new TurkishLicensePlateValidator();
+
+    private final CarRepository carRepository;
+    private final CarJdbcRepository carJdbcRepository;
+    private final UserRepository userRepository;
+    private final UserIdentity userIdentity;
+    private final ListingCountCache listingCountCache;
+    private final CarImportProperties carImportProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public CarImportServiceImpl(final CarRepository carRepository,
+                                final CarJdbcRepository carJdbcRepository,
+                                final UserRepository userRepository,
+                                final UserIdentity userIdentity,
+                                final ListingCountCache listingCountCache,
+                                final CarImportProperties carImportProperties,
+                                final ObjectMapper objectMapper,
+                                final PlatformTransactionManager transactionManager) {
+        this.carRepository = carRepository;
+        this.carJdbcRepository = carJdbcRepository;
+        this.userRepository = userRepository;
+        this.userIdentity = userIdentity;
+        this.listingCountCache = listingCountCache;
+        this.carImportProperties = carImportProperties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Creates one car per valid row of the given body and reports the outcome of every row.
+     *
+     * @param body         the JSON lines or CSV request body
+     * @param format       the format of the body
+     * @param reportWriter receives the row results of each processed chunk, in row order
+     * @return the totals of the import
+     * @throws IOException if the body cannot be read
+     */
+    @Override
+    public CarImportSummaryResponse importCars(final InputStream body,
+                                               final CarImportFormat format,
+                                               final Consumer<List<CarImportRowResponse>> reportWriter) throws IOException {
+
+        final ImportContext context = new ImportContext(
+                userIdentity.getUserType() == UserType.ADMIN,
+                userIdentity.getUserId(),
+                BaseEntity.currentAuditor()
+        );
+
+        long totalRows = 0;
+        long createdRows = 0;
+
+        try (CarImportReader reader = new CarImportReader(body, format, objectMapper)) {
+
+            List<CarImportRow> chunk;
+            while (!(chunk = reader.nextChunk(carImportProperties.getChunkSize())).isEmpty()) {
+
+                final List<CarImportRowResponse> results = this.importChunk(chunk, context);
+
+                totalRows += results.size();
+                createdRows += results.stream()
+                        .filter(result -> result.getStatus() == CarImportRowStatus.CREATED)
+                        .count();
+
+                reportWriter.accept(results);
+            }
+
+        } finally {
+            if (createdRows > 0) {
+                listingCountCache.invalidate(ListingCountCache.CARS);
+            }
+        }
+
+        return CarImportSummaryResponse.builder()
+                .totalRows(totalRows)
+                .createdRows(createdRows)
+                .rejectedRows(totalRows - createdRows)
+                .build();
+    }
+
+    private List<CarImportRowResponse> importChunk(final List<CarImportRow> chunk, final ImportContext context) {
+
+        final List<CarImportRowResponse> results = new ArrayList<>(chunk.size());
+        final Set<String> chunkLicensePlates = new HashSet<>();
+
+        for (CarImportRow row : chunk) {
+            final CarImportRowResponse result = this.checkRow(row, context);
+            if (result.getStatus() == null && !chunkLicensePlates.add(result.getLicensePlate())) {
+                result.setStatus(CarImportRowStatus.DUPLICATE_LICENSE_PLATE);
+                result.setMessage("License plate appears more than once in the import");
+            }
+            results.add(result);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> this.insertPending(chunk, results, context));
+        } catch (DuplicateKeyException exception) {
+            // A plate was taken by a concurrent request after the check; checking the chunk again reports it
+            results.stream()
+                    .filter(result -> result.getStatus() == CarImportRowStatus.CREATED)
+                    .forEach(result -> {
+                        result.setStatus(null);
+                        result.setCarId(null);
+                    });
+            transactionTemplate.executeWithoutResult(status -> this.insertPending(chunk, results, context));
+        }
+
+        return results;
+    }
+
+    private CarImportRowResponse checkRow(final CarImportRow row, final ImportContext context) {
+
+        final CarImportRowResponse result = CarImportRowResponse.builder()
+                .line(row.getLine())
+                .build();
+
+        if (row.getError() != null) {
+            return this.reject(result, CarImportRowStatus.INVALID_ROW, row.getError());
+        }
+
+        final CreateCarRequest request = row.getRequest();
+        result.setLicensePlate(request.getLicensePlate());
+
+        if (StringUtils.isAnyBlank(request.getLicensePlate(), request.getModel(), request.getBrand(), request.getUserId())) {
+            return this.reject(result, CarImportRowStatus.INVALID_ROW, "licensePlate, model, brand and userId are required");
+        }
+
+        if (!LICENSE_PLATE_VALIDATOR.isValid(request.getLicensePlate(), null)) {
+            return this.reject(result, CarImportRowStatus.INVALID_LICENSE_PLATE, "License plate is not a valid Turkish plate");
+        }
+
+        if (!IdCodec.isValid(request.getUserId())) {
+            return this.reject(result, CarImportRowStatus.INVALID_ROW, "userId is not a valid ID");
+        }
+
+        if (!context.admin() && !request.getUserId().equals(context.userId())) {
+            return this.reject(result, CarImportRowStatus.ACCESS_DENIED, "You are not authorized for another user.");
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks the rows that passed the row-level checks against the database and inserts the remaining ones.
+     * Rows still without a status are pending.
+     */
+    private void insertPending(final List<CarImportRow> chunk,
+                               final List<CarImportRowResponse> results,
+                               final ImportContext context) {
+
+        final Set<String> licensePlates = new HashSet<>();
+        final Set<String> userIds = new HashSet<>();
+        for (int index = 0; index < chunk.size(); index++) {
+            if (results.get(index).getStatus() == null) {
+                licensePlates.add(chunk.get(index).getRequest().getLicensePlate());
+                userIds.add(chunk.get(index).getRequest().getUserId());
+            }
+        }
+
+        if (licensePlates.isEmpty()) {
+            return;
+        }
+
+        final Set<String> existingLicensePlates = carRepository.findExistingLicensePlates(licensePlates);
+        final Set<String> existingUserIds = userRepository.findExistingIds(userIds);
+
+        final LocalDateTime now = LocalDateTime.now();
+        final List<CarEntity> cars = new ArrayList<>();
+
+        for (int index = 0; index < chunk.size(); index++) {
+
+            final CarImportRowResponse result = results.get(index);
+            if (result.getStatus() != null) {
+                continue;
+            }
+
+            final CreateCarRequest request = chunk.get(index).getRequest();
+
+            if (existingLicensePlates.contains(request.getLicensePlate())) {
+                this.reject(result, CarImportRowStatus.LICENSE_PLATE_EXISTS, "License plate already exists");
+            } else if (!existingUserIds.contains(request.getUserId())) {
+                this.reject(result, CarImportRowStatus.USER_NOT_FOUND, "User not found with id: " + request.getUserId());
+            } else {
+                final CarEntity car = CarEntity.builder()
+                        .id(TimeOrderedUuid.nextId())
+                        .licensePlate(request.getLicensePlate())
+                        .model(request.getModel())
+                        .brand(request.getBrand())
+                        .status(CarStatus.ACTIVE)
+                        .user(UserEntity.builder().id(request.getUserId()).build())
+                        .createdAt(now)
+                        .createdBy(context.auditor())
+                        .build();
+                cars.add(car);
+                result.setStatus(CarImportRowStatus.CREATED);
+                result.setCarId(car.getId());
+            }
+        }
+
+        if (!cars.isEmpty()) {
+            carJdbcRepository.batchInsert(cars);
+        }
+    }
+
+    private CarImportRowResponse reject(final CarImportRowResponse result,
+                                        final CarImportRowStatus status,
+                                        final String message) {
+        result.setStatus(status);
+        result.setMessage(message);
+        return result;
+    }
+
+    /**
+     * Caller details read once per import from the request-scoped identity.
+     */
+    private record ImportContext(boolean admin, String userId, String auditor) {
+    }
+
+}
@@ -5,10 +5,14 @@ import com.example.carservice.auth.model.UserIdentity;
 import com.example.carservice.auth.model.entity.UserEntity;
 import com.example.carservice.auth.model.enums.UserType;
 import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.carservice.cache.CarOwnerIndex;
+import com.example.carservice.carservice.cache.ListingCountCache;
 import com.example.carservice.carservice.exception.CarNotFoundException;
 import com.example.carservice.carservice.exception.CarStatusNotValidException;
 import com.example.carservice.carservice.exception.LicensePlateAlreadyExistsException;
 import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.CarSummary;
+import com.example.carservice.carservice.model.ServiceDto;
 import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
 import com.example.carservice.carservice.model.dto.request.car.UpdateCarRequest;
 import com.example.carservice.carservice.model.entity.CarEntity;
@@ -17,18 +21,26 @@ import com.example.carservice.carservice.model.mapper.car.CarEntityToCarMapper;
 import com.example.carservice.carservice.model.mapper.car.CreateCarRequestToCarEntityMapper;
 import com.example.carservice.carservice.model.mapper.car.ListCarEntityToListCarMapper;
 import com.example.carservice.carservice.model.mapper.car.UpdateCarRequestToCarEntityMapper;
+import com.example.carservice.carservice.model.mapper.service.ServiceEntityToServiceDtoMapper;
 import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.carservice.repository.ServiceRepository;
 import com.example.carservice.carservice.service.CarService;
 import com.example.carservice.carservice.utils.UserPermissionUtils;
 import com.example.carservice.common.model.CustomPage;
+import com.example.carservice.common.model.KeysetCursor;
 import com.example.carservice.common.model.dto.request.CustomPagingRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing car operations such as creation, assignment, retrieval, update, and deletion.
@@ -37,11 +49,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CarServiceImpl implements CarService {
 
+    private static final Sort SERVICE_ORDER = Sort.by("createdAt", "id");
+
     private final CarRepository carRepository;
+    private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
 
     private final UserIdentity userIdentity;
 
+    private final ListingCountCache listingCountCache;
+
+    private final CarOwnerIndex carOwnerIndex;
+
     private final CreateCarRequestToCarEntityMapper createCarRequestToCarEntityMapper = CreateCarRequestToCarEntityMapper.initialize();
     private final CarEntityToCarMapper carEntityToCarMapper = CarEntityToCarMapper.initialize();
 
@@ -49,6 +68,8 @@ public class CarServiceImpl implements CarService {
 
     private final UpdateCarRequestToCarEntityMapper updateCarRequestToCarEntityMapper = UpdateCarRequestToCarEntityMapper.initialize();
 
+    private final ServiceEntityToServiceDtoMapper serviceEntityToServiceDtoMapper = ServiceEntityToServiceDtoMapper.initialize();
+
     /**
      * Creates a new car and assigns it to the specified user.
      *
@@ -72,6 +93,8 @@ public class CarServiceImpl implements CarService {
 
         final CarEntity savedCar = carRepository.save(carEntity);
 
+        listingCountCache.invalidate(ListingCountCache.CARS);
+
         return carEntityToCarMapper.mapFromEntity(savedCar);
 
     }
@@ -86,11 +109,11 @@ public class CarServiceImpl implements CarService {
     @Transactional(readOnly = true)
     public Car getCarById(String carId) {
 
+        UserPermissionUtils.checkCarAccessPermission(userIdentity, carOwnerIndex, carId);
+
         final CarEntity carEntity = carRepository.findById(carId)
                 .orElseThrow(() -> new CarNotFoundException("Car not found with id: " + carId));
 
-        UserPermissionUtils.checkAccessPermission(userIdentity, carEntity.getUser().getId());
-
         return carEntityToCarMapper.mapFromEntity(carEntity);
 
     }
@@ -105,11 +128,25 @@ public class CarServiceImpl implements CarService {
     @Transactional(readOnly = true)
     public CustomPage<Car> getAllCars(CustomPagingRequest pagingRequest) {
 
-        final Page<CarEntity> page = carRepository.findAll(pagingRequest.toPageable());
+        if (pagingRequest.isKeyset()) {
+            final Window<CarEntity> window = carRepository.findAllBy(
+                    pagingRequest.toScrollPosition(), pagingRequest.toLimit(), KeysetCursor.SORT
+            );
+            return CustomPage.of(toCarList(window.getContent()), window);
+        }
+
+        final Slice<CarEntity> slice = carRepository.findAllBy(pagingRequest.toPageable());
 
-        final List<Car> cars = listCarEntityToListCarMapper.toCarList(page.getContent());
+        final List<Car> cars = toCarList(slice.getContent());
 
-        return CustomPage.of(cars, page);
+        final Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.CARS, "all"),
+                slice,
+                carRepository::count
+        );
+
+        return CustomPage.of(cars, slice, total);
 
     }
 
@@ -126,11 +163,25 @@ public class CarServiceImpl implements CarService {
 
         UserPermissionUtils.checkAccessPermission(userIdentity, userId);
 
-        final Page<CarEntity> page = carRepository.findByUserIdAndStatus(userId, CarStatus.ACTIVE, pagingRequest.toPageable());
+        if (pagingRequest.isKeyset()) {
+            final Window<CarEntity> window = carRepository.findByUserIdAndStatus(
+                    userId, CarStatus.ACTIVE, pagingRequest.toScrollPosition(), pagingRequest.toLimit(), KeysetCursor.SORT
+            );
+            return CustomPage.of(toCarList(window.getContent()), window);
+        }
+
+        final Slice<CarEntity> slice = carRepository.findByUserIdAndStatus(userId, CarStatus.ACTIVE, pagingRequest.toPageable());
 
-        final List<Car> cars = listCarEntityToListCarMapper.toCarList(page.getContent());
+        final List<Car> cars = toCarList(slice.getContent());
 
-        return CustomPage.of(cars, page);
+        final Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.CARS, "user", userId, CarStatus.ACTIVE),
+                slice,
+                () -> carRepository.countByUserIdAndStatus(userId, CarStatus.ACTIVE)
+        );
+
+        return CustomPage.of(cars, slice, total);
 
     }
 
@@ -144,11 +195,102 @@ public class CarServiceImpl implements CarService {
     @Transactional(readOnly = true)
     public CustomPage<Car> getAllCarsByStatus(CustomPagingRequest pagingRequest) {
 
-        final Page<CarEntity> page = carRepository.findByStatus(CarStatus.ACTIVE, pagingRequest.toPageable());
+        if (pagingRequest.isKeyset()) {
+            final Window<CarEntity> window = carRepository.findByStatus(
+                    CarStatus.ACTIVE, pagingRequest.toScrollPosition(), pagingRequest.toLimit(), KeysetCursor.SORT
+            );
+            return CustomPage.of(toCarList(window.getContent()), window);
+        }
 
-        final List<Car> cars = listCarEntityToListCarMapper.toCarList(page.getContent());
+        final Slice<CarEntity> slice = carRepository.findByStatus(CarStatus.ACTIVE, pagingRequest.toPageable());
+
+        final List<Car> cars = toCarList(slice.getContent());
+
+        final Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.CARS, "status", CarStatus.ACTIVE),
+                slice,
+                () -> carRepository.countByStatus(CarStatus.ACTIVE)
+        );
+
+        return CustomPage.of(cars, slice, total);
+    }
+
+    /**
+     * Retrieves a paginated list of flat list items of all cars in the system.
+     * Summaries are always paged by offset; the total is resolved like the one of {@link #getAllCars}.
+     *
+     * @param pagingRequest the pagination parameters
+     * @return a paginated list of {@link CarSummary} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CustomPage<CarSummary> getAllCarSummaries(CustomPagingRequest pagingRequest) {
+
+        final Slice<CarSummary> slice = carRepository.findAllSummaries(pagingRequest.toPageable());
+
+        final Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.CARS, "all"),
+                slice,
+                carRepository::count
+        );
+
+        return CustomPage.of(slice.getContent(), slice, total);
+
+    }
+
+    /**
+     * Retrieves a paginated list of flat list items of the active cars assigned to a specific user.
+     * Summaries are always paged by offset.
+     *
+     * @param userId the ID of the user
+     * @param pagingRequest the pagination parameters
+     * @return a paginated list of {@link CarSummary} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CustomPage<CarSummary> getCarSummariesByUser(String userId, CustomPagingRequest pagingRequest) {
+
+        UserPermissionUtils.checkAccessPermission(userIdentity, userId);
+
+        final Slice<CarSummary> slice = carRepository.findSummariesByUserIdAndStatus(
+                userId, CarStatus.ACTIVE, pagingRequest.toPageable()
+        );
+
+        final Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.CARS, "user", userId, CarStatus.ACTIVE),
+                slice,
+                () -> carRepository.countByUserIdAndStatus(userId, CarStatus.ACTIVE)
+        );
+
+        return CustomPage.of(slice.getContent(), slice, total);
+
+    }
+
+    /**
+     * Retrieves a paginated list of flat list items of all active cars.
+     * Summaries are always paged by offset.
+     *
+     * @param pagingRequest the pagination parameters
+     * @return a paginated list of {@link CarSummary} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CustomPage<CarSummary> getCarSummariesByStatus(CustomPagingRequest pagingRequest) {
+
+        final Slice<CarSummary> slice = carRepository.findSummariesByStatus(CarStatus.ACTIVE, pagingRequest.toPageable());
+
+        final Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.CARS, "status", CarStatus.ACTIVE),
+                slice,
+                () -> carRepository.countByStatus(CarStatus.ACTIVE)
+        );
+
+        return CustomPage.of(slice.getContent(), slice, total);
 
-        return CustomPage.of(cars, page);
     }
 
     /**
@@ -181,7 +323,9 @@ public class CarServiceImpl implements CarService {
 
         UserEntity targetUser = carEntity.getUser();
 
-        if (!targetUser.getId().equals(request.getUserId())) {
+        final boolean ownerChanged = !targetUser.getId().equals(request.getUserId());
+
+        if (ownerChanged) {
             targetUser = userRepository.findById(request.getUserId())
                     .orElseThrow(() -> new UserNotFoundException("User not found with id: " + request.getUserId()));
         }
@@ -190,6 +334,12 @@ public class CarServiceImpl implements CarService {
 
         CarEntity updatedCar = carRepository.save(carEntity);
 
+        listingCountCache.invalidate(ListingCountCache.CARS);
+
+        if (ownerChanged) {
+            carOwnerIndex.invalidate(carId);
+        }
+
         return carEntityToCarMapper.mapFromEntity(updatedCar);
 
     }
@@ -202,17 +352,44 @@ public class CarServiceImpl implements CarService {
     @Override
     @Transactional
     public void deleteCar(String carId) {
+
+        UserPermissionUtils.checkCarAccessPermission(userIdentity, carOwnerIndex, carId);
+
         CarEntity carEntity = carRepository.findById(carId)
                 .orElseThrow(() -> new CarNotFoundException("Car not found with id: " + carId));
 
-        UserPermissionUtils.checkAccessPermission(userIdentity, carEntity.getUser().getId());
-
         if (carEntity.getStatus() == CarStatus.DELETED) {
             return; // Already soft-deleted, optionally throw exception or just ignore
         }
 
         carEntity.setStatus(CarStatus.DELETED);
         carRepository.save(carEntity);
+
+        listingCountCache.invalidate(ListingCountCache.CARS);
+    }
+
+    /**
+     * Maps a page of cars whose owners were loaded with the page, fetching the services of every car
+     * on the page in one additional query instead of one query per car.
+     */
+    private List<Car> toCarList(List<CarEntity> carEntities) {
+
+        if (carEntities.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final List<String> carIds = carEntities.stream()
+                .map(CarEntity::getId)
+                .toList();
+
+        final Map<String, List<ServiceDto>> servicesByCarId = serviceRepository.findByCarIdIn(carIds, SERVICE_ORDER)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        service -> service.getCar().getId(),
+                        Collectors.mapping(serviceEntityToServiceDtoMapper::map, Collectors.toList())
+                ));
+
+        return listCarEntityToListCarMapper.toCarList(carEntities, servicesByCarId);
     }
 
 }
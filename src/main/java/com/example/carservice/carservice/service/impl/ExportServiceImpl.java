@@ -0,0 +1,86 @@
+package com.example.carservice.carservice.service.impl;
+
+import com.example.carservice.carservice.model.enums.ExportFormat;
+import com.example.carservice.carservice.repository.ExportRepository;
+import com.example.carservice.carservice.service.ExportService;
+import com.example.carservice.carservice.utils.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation streaming cars and services straight from a database cursor to an output stream.
+ * <p>
+ * Each export runs in a single read-only transaction and writes every row as soon as it is read,
+ * so neither the database rows nor the output are buffered beyond the JDBC fetch size and the writer buffer.
+ * </p>
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExportServiceImpl(final ExportRepository exportRepository,
+                             final ObjectMapper objectMapper,
+                             final PlatformTransactionManager transactionManager) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Writes every car to the given stream and closes it.
+     *
+     * @param format       the output format
+     * @param outputStream the stream the rows are written to
+     * @return the number of exported cars
+     * @throws IOException if the rows cannot be written
+     */
+    @Override
+    public long exportCars(final ExportFormat format, final OutputStream outputStream) throws IOException {
+        return this.export(format, outputStream, ExportRepository.CAR_COLUMNS, exportRepository::forEachCar);
+    }
+
+    /**
+     * Writes every service to the given stream and closes it.
+     *
+     * @param format       the output format
+     * @param outputStream the stream the rows are written to
+     * @return the number of exported services
+     * @throws IOException if the rows cannot be written
+     */
+    @Override
+    public long exportServices(final ExportFormat format, final OutputStream outputStream) throws IOException {
+        return this.export(format, outputStream, ExportRepository.SERVICE_COLUMNS, exportRepository::forEachService);
+    }
+
+    private long export(final ExportFormat format,
+                        final OutputStream outputStream,
+                        final List<String> columns,
+                        final Consumer<Consumer<Object[]>> source) throws IOException {
+
+        final long[] rows = {0};
+
+        try (ExportWriter writer = ExportWriter.of(format, columns, outputStream, objectMapper)) {
+            transactionTemplate.executeWithoutResult(status -> source.accept(values -> {
+                writer.write(values);
+                rows[0]++;
+            }));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        return rows[0];
+    }
+
+}
@@ -1,17 +1,22 @@
 package com.example.carservice.carservice.service.impl;
 
 import com.example.carservice.auth.model.UserIdentity;
-import com.example.carservice.carservice.exception.CarNotFoundException;
+import com.example.carservice.carservice.cache.CarOwnerIndex;
+import com.example.carservice.carservice.cache.ListingCountCache;
 import com.example.carservice.carservice.exception.ServiceCarMismatchException;
 import com.example.carservice.carservice.exception.ServiceNotFoundException;
 import com.example.carservice.carservice.exception.ServiceTitleAlreadyExistsException;
+import com.example.carservice.carservice.model.ServiceCar;
 import com.example.carservice.carservice.model.ServiceDto;
 import com.example.carservice.carservice.model.dto.request.services.AssignServiceToCarRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkAssignServicesRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkUpdateServiceStatusRequest;
 import com.example.carservice.carservice.model.dto.request.services.CreateServiceRequest;
 import com.example.carservice.carservice.model.dto.request.services.ListServiceRequest;
 import com.example.carservice.carservice.model.dto.request.services.UpdateServiceRequest;
-import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.dto.response.BulkServiceUpdateResponse;
 import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.carservice.model.enums.ServiceStatus;
 import com.example.carservice.carservice.model.mapper.service.CreateServiceRequestToServiceEntityMapper;
 import com.example.carservice.carservice.model.mapper.service.ServiceEntityToServiceDtoMapper;
 import com.example.carservice.carservice.model.mapper.service.UpdateServiceRequestToServiceEntityMapper;
@@ -19,14 +24,26 @@ import com.example.carservice.carservice.repository.CarRepository;
 import com.example.carservice.carservice.repository.ServiceRepository;
 import com.example.carservice.carservice.service.ServicesToCarService;
 import com.example.carservice.carservice.utils.UserPermissionUtils;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.EntityCacheInvalidationBus;
+import com.example.carservice.common.cache.EntityCacheInvalidationListener;
 import com.example.carservice.common.model.CustomPage;
+import com.example.carservice.common.model.KeysetCursor;
 import com.example.carservice.common.model.dto.request.CustomPagingRequest;
+import com.example.carservice.common.model.entity.BaseEntity;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing operations related to car services (maintenance, repair, etc.).
@@ -40,6 +57,11 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
     private final ServiceRepository serviceRepository;
     private final CarRepository carRepository;
     private final UserIdentity userIdentity;
+    private final ListingCountCache listingCountCache;
+    private final CarOwnerIndex carOwnerIndex;
+    private final EntityCacheInvalidationBus invalidationBus;
+
+    private final String instanceId = UUID.randomUUID().toString();
 
     private final CreateServiceRequestToServiceEntityMapper createServiceRequestToServiceEntityMapper = CreateServiceRequestToServiceEntityMapper.initialize();
     private final ServiceEntityToServiceDtoMapper serviceEntityToServiceDtoMapper = ServiceEntityToServiceDtoMapper.initialize();
@@ -55,14 +77,24 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
     @Override
     @Transactional(readOnly = true)
     public CustomPage<ServiceDto> getAllServices(CustomPagingRequest pagingRequest) {
-        Page<ServiceEntity> page = serviceRepository.findAll(pagingRequest.toPageable());
 
-        List<ServiceDto> services = page.getContent()
-                .stream()
-                .map(serviceEntityToServiceDtoMapper::map)
-                .toList();
+        if (pagingRequest.isKeyset()) {
+            Window<ServiceEntity> window = serviceRepository.findAllBy(
+                    pagingRequest.toScrollPosition(), pagingRequest.toLimit(), KeysetCursor.SORT
+            );
+            return CustomPage.of(toServiceDtoList(window.getContent()), window);
+        }
+
+        Slice<ServiceEntity> slice = serviceRepository.findAllBy(pagingRequest.toPageable());
 
-        return CustomPage.of(services, page);
+        Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.SERVICES, "all"),
+                slice,
+                serviceRepository::count
+        );
+
+        return CustomPage.of(toServiceDtoList(slice.getContent()), slice, total);
     }
 
     /**
@@ -75,19 +107,26 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
     @Override
     @Transactional(readOnly = true)
     public CustomPage<ServiceDto> getServicesByCarId(String carId, CustomPagingRequest pagingRequest) {
-        CarEntity car = carRepository.findById(carId)
-                .orElseThrow(() -> new CarNotFoundException(carId));
 
-        UserPermissionUtils.checkAccessPermission(userIdentity, car.getUser().getId());
+        UserPermissionUtils.checkCarAccessPermission(userIdentity, carOwnerIndex, carId);
 
-        Page<ServiceEntity> page = serviceRepository.findByCarId(carId, pagingRequest.toPageable());
+        if (pagingRequest.isKeyset()) {
+            Window<ServiceEntity> window = serviceRepository.findByCarId(
+                    carId, pagingRequest.toScrollPosition(), pagingRequest.toLimit(), KeysetCursor.SORT
+            );
+            return CustomPage.of(toServiceDtoList(window.getContent()), window);
+        }
 
-        List<ServiceDto> services = page.getContent()
-                .stream()
-                .map(serviceEntityToServiceDtoMapper::map)
-                .toList();
+        Slice<ServiceEntity> slice = serviceRepository.findByCarId(carId, pagingRequest.toPageable());
 
-        return CustomPage.of(services, page);
+        Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                ListingCountCache.key(ListingCountCache.SERVICES, "car", carId),
+                slice,
+                () -> serviceRepository.countByCarId(carId)
+        );
+
+        return CustomPage.of(toServiceDtoList(slice.getContent()), slice, total);
 
     }
 
@@ -106,6 +145,7 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
 
         ServiceEntity service = createServiceRequestToServiceEntityMapper.map(request);
         ServiceEntity savedService = serviceRepository.save(service);
+        listingCountCache.invalidate(ListingCountCache.SERVICES);
         return serviceEntityToServiceDtoMapper.map(savedService);
     }
 
@@ -119,18 +159,17 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
     @Transactional
     public ServiceDto assignServiceToCar(AssignServiceToCarRequest request) {
 
-        CarEntity car = carRepository.findById(request.getCarId())
-                .orElseThrow(() -> new CarNotFoundException(request.getCarId()));
-
-        UserPermissionUtils.checkAccessPermission(userIdentity, car.getUser().getId());
+        UserPermissionUtils.checkCarAccessPermission(userIdentity, carOwnerIndex, request.getCarId());
 
         ServiceEntity service = serviceRepository.findById(request.getServiceId())
                 .orElseThrow(() -> new ServiceNotFoundException(request.getServiceId()));
 
-        service.setCar(car);
+        service.setCar(carRepository.getReferenceById(request.getCarId()));
 
         ServiceEntity savedSServiceEntity = serviceRepository.save(service);
 
+        listingCountCache.invalidate(ListingCountCache.SERVICES);
+
         return serviceEntityToServiceDtoMapper.map(savedSServiceEntity);
 
     }
@@ -147,10 +186,7 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
     @Transactional
     public ServiceDto updateServiceByCarId(String carId, String serviceId, UpdateServiceRequest request) {
 
-        CarEntity car = carRepository.findById(carId)
-                .orElseThrow(() -> new CarNotFoundException(carId));
-
-        UserPermissionUtils.checkAccessPermission(userIdentity, car.getUser().getId());
+        UserPermissionUtils.checkCarAccessPermission(userIdentity, carOwnerIndex, carId);
 
         ServiceEntity service = serviceRepository.findById(serviceId)
                 .orElseThrow(() -> new ServiceNotFoundException(serviceId));
@@ -163,10 +199,160 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
 
         ServiceEntity updatedService = serviceRepository.save(service);
 
+        listingCountCache.invalidate(ListingCountCache.SERVICES);
+
         return serviceEntityToServiceDtoMapper.map(updatedService);
 
     }
 
+    /**
+     * Assigns many existing services to cars in one transaction.
+     * The owners of all cars are read with at most one query and checked for access; the services are then assigned
+     * with one UPDATE statement per car. Unknown service IDs are skipped and show up as a lower updated count.
+     * <p>
+     * Bulk updates are reported to no entity listener, so the current car of every service is read first, and the
+     * services and the services collections of their previous and new cars are published on the
+     * {@link EntityCacheInvalidationBus} once the transaction commits.
+     * </p>
+     *
+     * @param request the assignments, each containing service and car IDs
+     * @return the number of requested assignments and of services actually updated
+     */
+    @Override
+    @Transactional
+    public BulkServiceUpdateResponse assignServicesToCars(BulkAssignServicesRequest request) {
+
+        // The last assignment of a service wins
+        final Map<String, String> carIdsByServiceId = new LinkedHashMap<>();
+        request.getAssignments().forEach(assignment ->
+                carIdsByServiceId.put(assignment.getServiceId(), assignment.getCarId()));
+
+        final Map<String, List<String>> serviceIdsByCarId = carIdsByServiceId.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getValue,
+                        LinkedHashMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+                ));
+
+        UserPermissionUtils.checkCarAccessPermissions(userIdentity, carOwnerIndex, serviceIdsByCarId.keySet());
+
+        final List<ServiceCar> previousCars = serviceRepository.findCarsByIdIn(carIdsByServiceId.keySet());
+
+        final LocalDateTime now = LocalDateTime.now();
+        final String auditor = BaseEntity.currentAuditor();
+
+        int updated = 0;
+        for (Map.Entry<String, List<String>> entry : serviceIdsByCarId.entrySet()) {
+            updated += serviceRepository.assignToCar(
+                    carRepository.getReferenceById(entry.getKey()), entry.getValue(), now, auditor
+            );
+        }
+
+        if (updated > 0) {
+            listingCountCache.invalidate(ListingCountCache.SERVICES);
+
+            final Set<String> carIds = new HashSet<>(serviceIdsByCarId.keySet());
+            previousCars.stream()
+                    .map(ServiceCar::getCarId)
+                    .filter(Objects::nonNull)
+                    .forEach(carIds::add);
+
+            this.publishServiceChanges(previousCars.stream().map(ServiceCar::getServiceId).toList(), carIds);
+        }
+
+        return BulkServiceUpdateResponse.builder()
+                .requested(request.getAssignments().size())
+                .updated(updated)
+                .build();
+
+    }
+
+    /**
+     * Moves many services of cars between statuses in one transaction.
+     * The owners of all cars are read with at most one query and checked for access. Transitions covering every service of a car
+     * are merged into one UPDATE statement per status pair; transitions listing services run one UPDATE each.
+     * Only services currently in the transition's {@code fromStatus} are moved.
+     * <p>
+     * The services of car-wide transitions are read first, since the UPDATE statements report only a count; every
+     * service that may have moved and the services collections of the cars are published on the
+     * {@link EntityCacheInvalidationBus} once the transaction commits.
+     * </p>
+     *
+     * @param request the status transitions to apply
+     * @return the number of requested transitions and of services actually updated
+     */
+    @Override
+    @Transactional
+    public BulkServiceUpdateResponse updateServiceStatuses(BulkUpdateServiceStatusRequest request) {
+
+        final List<BulkUpdateServiceStatusRequest.Transition> transitions = request.getTransitions();
+
+        UserPermissionUtils.checkCarAccessPermissions(userIdentity, carOwnerIndex, transitions.stream()
+                .map(BulkUpdateServiceStatusRequest.Transition::getCarId)
+                .collect(Collectors.toSet()));
+
+        final LocalDateTime now = LocalDateTime.now();
+        final String auditor = BaseEntity.currentAuditor();
+
+        final Map<StatusChange, Set<String>> carIdsByStatusChange = new LinkedHashMap<>();
+        final Set<String> listedServiceIds = new HashSet<>();
+
+        int updated = 0;
+        for (BulkUpdateServiceStatusRequest.Transition transition : transitions) {
+
+            if (transition.getServiceIds() == null || transition.getServiceIds().isEmpty()) {
+                carIdsByStatusChange
+                        .computeIfAbsent(new StatusChange(transition.getFromStatus(), transition.getToStatus()), key -> new HashSet<>())
+                        .add(transition.getCarId());
+                continue;
+            }
+
+            listedServiceIds.addAll(transition.getServiceIds());
+            updated += serviceRepository.updateStatusByCarIdAndIds(
+                    transition.getCarId(),
+                    transition.getServiceIds(),
+                    transition.getFromStatus(),
+                    transition.getToStatus(),
+                    now,
+                    auditor
+            );
+        }
+
+        final Set<String> carWideCarIds = carIdsByStatusChange.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        final List<String> carWideServiceIds = carWideCarIds.isEmpty()
+                ? List.of()
+                : serviceRepository.findIdsByCarIdIn(carWideCarIds);
+
+        for (Map.Entry<StatusChange, Set<String>> entry : carIdsByStatusChange.entrySet()) {
+            updated += serviceRepository.updateStatusByCarIds(
+                    entry.getValue(),
+                    entry.getKey().fromStatus(),
+                    entry.getKey().toStatus(),
+                    now,
+                    auditor
+            );
+        }
+
+        if (updated > 0) {
+            listingCountCache.invalidate(ListingCountCache.SERVICES);
+
+            final Set<String> serviceIds = new HashSet<>(listedServiceIds);
+            serviceIds.addAll(carWideServiceIds);
+
+            this.publishServiceChanges(serviceIds, transitions.stream()
+                    .map(BulkUpdateServiceStatusRequest.Transition::getCarId)
+                    .collect(Collectors.toSet()));
+        }
+
+        return BulkServiceUpdateResponse.builder()
+                .requested(transitions.size())
+                .updated(updated)
+                .build();
+
+    }
+
     /**
      * Retrieves services filtered by request parameters and paginated.
      *
@@ -177,14 +363,79 @@ public class ServicesToCarServiceImpl implements ServicesToCarService {
     @Override
     @Transactional(readOnly = true)
     public CustomPage<ServiceDto> getServices(ListServiceRequest request, CustomPagingRequest pagingRequest) {
-        Page<ServiceEntity> page = serviceRepository.findAll(request.toSpecification(), pagingRequest.toPageable());
 
-        List<ServiceDto> services = page.getContent()
-                .stream()
+        if (pagingRequest.isKeyset()) {
+            Window<ServiceEntity> window = serviceRepository.findBy(request.toSpecification(), query -> query
+                    .sortBy(KeysetCursor.SORT)
+                    .limit(pagingRequest.toLimit().max())
+                    .scroll(pagingRequest.toScrollPosition())
+            );
+            return CustomPage.of(toServiceDtoList(window.getContent()), window);
+        }
+
+        Specification<ServiceEntity> specification = request.toSpecification();
+
+        Slice<ServiceEntity> slice = serviceRepository.findSlice(specification, pagingRequest.toPageable());
+
+        Long total = listingCountCache.resolveTotal(
+                pagingRequest.toTotalCountMode(),
+                filterCountKey(request.getFilter()),
+                slice,
+                () -> serviceRepository.count(specification)
+        );
+
+        return CustomPage.of(toServiceDtoList(slice.getContent()), slice, total);
+    }
+
+    private static String filterCountKey(ListServiceRequest.Filter filter) {
+        if (filter == null) {
+            return ListingCountCache.key(ListingCountCache.SERVICES, "filter");
+        }
+        return ListingCountCache.key(
+                ListingCountCache.SERVICES,
+                "filter",
+                filter.getCarId().orElse(null),
+                filter.getStatus().orElse(null)
+        );
+    }
+
+    private void publishServiceChanges(final Collection<String> serviceIds, final Collection<String> carIds) {
+
+        final List<EntityCacheInvalidation> invalidations = new ArrayList<>();
+        serviceIds.forEach(serviceId -> invalidations.add(invalidation(
+                CacheInvalidationTarget.ENTITY, ServiceEntity.class.getName(), serviceId)));
+        carIds.forEach(carId -> invalidations.add(invalidation(
+                CacheInvalidationTarget.COLLECTION, EntityCacheInvalidationListener.SERVICES_COLLECTION_ROLE, carId)));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidations.forEach(invalidationBus::publish);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidations.forEach(invalidationBus::publish);
+            }
+        });
+    }
+
+    private EntityCacheInvalidation invalidation(final CacheInvalidationTarget target, final String role, final String key) {
+        return EntityCacheInvalidation.builder()
+                .origin(instanceId)
+                .target(target)
+                .role(role)
+                .key(key)
+                .build();
+    }
+
+    private List<ServiceDto> toServiceDtoList(List<ServiceEntity> serviceEntities) {
+        return serviceEntities.stream()
                 .map(serviceEntityToServiceDtoMapper::map)
                 .toList();
+    }
 
-        return CustomPage.of(services, page);
+    private record StatusChange(ServiceStatus fromStatus, ServiceStatus toStatus) {
     }
 
 }
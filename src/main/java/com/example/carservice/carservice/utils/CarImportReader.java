@@ -0,0 +1,170 @@
+package com.example.carservice.carservice.utils;
+
+import com.example.carservice.carservice.exception.InvalidCarImportException;
+import com.example.carservice.carservice.model.CarImportRow;
+import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
+import com.example.carservice.carservice.model.enums.CarImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the rows of a bulk car import body chunk by chunk, so that only one chunk is held in memory at a time.
+ * <p>
+ * JSON lines bodies carry one {@link CreateCarRequest} object per line. CSV bodies start with a header line
+ * naming the {@code licensePlate}, {@code model}, {@code brand} and {@code userId} columns in any order;
+ * values may be wrapped in double quotes but must not contain commas. Blank lines are skipped. A line that
+ * cannot be parsed becomes a row carrying the error instead of failing the import.
+ * </p>
+ */
+public class CarImportReader implements Closeable {
+
+    private static final String LICENSE_PLATE = "licensePlate";
+    private static final String MODEL = "model";
+    private static final String BRAND = "brand";
+    private static final String USER_ID = "userId";
+    private static final List<String> CSV_COLUMNS = List.of(LICENSE_PLATE, MODEL, BRAND, USER_ID);
+
+    private final BufferedReader reader;
+    private final CarImportFormat format;
+    private final ObjectReader jsonReader;
+    private final Map<String, Integer> csvColumns = new HashMap<>();
+
+    private long line;
+
+    /**
+     * Opens a reader over the given body. For CSV bodies the header line is read and checked right away.
+     *
+     * @param body         the request body
+     * @param format       the format of the body
+     * @param objectMapper the mapper used for JSON lines
+     * @throws IOException                if the body cannot be read
+     * @throws InvalidCarImportException if a CSV header misses a required column
+     */
+    public CarImportReader(final InputStream body,
+                           final CarImportFormat format,
+                           final ObjectMapper objectMapper) throws IOException {
+
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(CreateCarRequest.class);
+
+        if (format == CarImportFormat.CSV) {
+            this.readCsvHeader();
+        }
+    }
+
+    /**
+     * Reads up to the given number of rows.
+     *
+     * @param size the maximum number of rows to read
+     * @return the rows read, empty once the body is exhausted
+     * @throws IOException if the body cannot be read
+     */
+    public List<CarImportRow> nextChunk(final int size) throws IOException {
+
+        final List<CarImportRow> rows = new ArrayList<>(size);
+
+        String text;
+        while (rows.size() < size && (text = this.nextLine()) != null) {
+            if (!text.isBlank()) {
+                rows.add(format == CarImportFormat.CSV ? this.parseCsv(text) : this.parseJson(text));
+            }
+        }
+
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLine() throws IOException {
+        final String text = reader.readLine();
+        if (text != null) {
+            line++;
+        }
+        return text;
+    }
+
+    private void readCsvHeader() throws IOException {
+
+        String header = this.nextLine();
+        while (header != null && header.isBlank()) {
+            header = this.nextLine();
+        }
+
+        if (header == null) {
+            return;
+        }
+
+        final String[] names = split(header);
+        for (int index = 0; index < names.length; index++) {
+            csvColumns.put(names[index], index);
+        }
+
+        final List<String> missing = CSV_COLUMNS.stream()
+                .filter(column -> !csvColumns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidCarImportException("Missing CSV columns: " + missing);
+        }
+    }
+
+    private CarImportRow parseCsv(final String text) {
+
+        final String[] values = split(text);
+        if (values.length < csvColumns.size()) {
+            return this.invalid("Expected " + csvColumns.size() + " columns but found " + values.length);
+        }
+
+        return CarImportRow.builder()
+                .line(line)
+                .request(CreateCarRequest.builder()
+                        .licensePlate(StringUtils.trimToNull(values[csvColumns.get(LICENSE_PLATE)]))
+                        .model(StringUtils.trimToNull(values[csvColumns.get(MODEL)]))
+                        .brand(StringUtils.trimToNull(values[csvColumns.get(BRAND)]))
+                        .userId(StringUtils.trimToNull(values[csvColumns.get(USER_ID)]))
+                        .build())
+                .build();
+    }
+
+    private CarImportRow parseJson(final String text) {
+        try {
+            final CreateCarRequest request = jsonReader.readValue(text);
+            request.setLicensePlate(StringUtils.trimToNull(request.getLicensePlate()));
+            request.setModel(StringUtils.trimToNull(request.getModel()));
+            request.setBrand(StringUtils.trimToNull(request.getBrand()));
+            request.setUserId(StringUtils.trimToNull(request.getUserId()));
+            return CarImportRow.builder().line(line).request(request).build();
+        } catch (JsonProcessingException exception) {
+            return this.invalid("Line is not a valid JSON object");
+        }
+    }
+
+    private CarImportRow invalid(final String error) {
+        return CarImportRow.builder().line(line).error(error).build();
+    }
+
+    private static String[] split(final String text) {
+        final String[] values = text.split(",", -1);
+        for (int index = 0; index < values.length; index++) {
+            values[index] = StringUtils.strip(values[index].trim(), "\"");
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.example.carservice.carservice.utils;
+
+import com.example.carservice.carservice.model.enums.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Utility class preparing HTTP responses of the streamed exports as file downloads.
+ */
+@UtilityClass
+public class ExportResponses {
+
+    private static final String GZIP_MEDIA_TYPE = "application/gzip";
+
+    /**
+     * Sets the content type and file name of an export response and opens its body.
+     * A gzip export is served as a {@code .gz} file of the chosen format.
+     *
+     * @param response the response the export is written to
+     * @param format   the output format
+     * @param name     the base name of the downloaded file
+     * @param gzip     whether the body is gzip-compressed
+     * @return the stream to write the export to; closing it completes the body
+     * @throws IOException if the response body cannot be opened
+     */
+    public OutputStream open(final HttpServletResponse response,
+                             final ExportFormat format,
+                             final String name,
+                             final boolean gzip) throws IOException {
+
+        final String fileName = name + "." + format.getExtension() + (gzip ? ".gz" : "");
+
+        response.setContentType(gzip ? GZIP_MEDIA_TYPE : format.getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+
+        final OutputStream outputStream = response.getOutputStream();
+        return gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+    }
+
+}
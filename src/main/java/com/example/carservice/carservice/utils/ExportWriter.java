@@ -0,0 +1,140 @@
+package com.example.carservice.carservice.utils;
+
+import com.example.carservice.carservice.model.enums.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes the rows of a streamed export one by one, so that no more than a buffer of output is held in memory.
+ * <p>
+ * Every row is an array of column values in the order of the column names given at creation. Values are written
+ * as strings ({@code null} stays {@code null} in JSON and becomes an empty CSV field). CSV fields containing a
+ * comma, a double quote or a line break are quoted. Closing the writer closes the underlying stream.
+ * </p>
+ */
+public abstract class ExportWriter implements Closeable {
+
+    protected final List<String> columns;
+
+    private ExportWriter(final List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Creates a writer for the given format.
+     *
+     * @param format       the output format
+     * @param columns      the column names, used as CSV header and JSON field names
+     * @param outputStream the stream the rows are written to
+     * @param objectMapper the mapper providing the JSON generator
+     * @return the writer
+     * @throws IOException if the header cannot be written
+     */
+    public static ExportWriter of(final ExportFormat format,
+                                  final List<String> columns,
+                                  final OutputStream outputStream,
+                                  final ObjectMapper objectMapper) throws IOException {
+        return format == ExportFormat.CSV
+                ? new CsvExportWriter(columns, outputStream)
+                : new JsonLinesExportWriter(columns, outputStream, objectMapper);
+    }
+
+    /**
+     * Writes one row.
+     *
+     * @param values the column values, in column order
+     * @throws UncheckedIOException if the row cannot be written
+     */
+    public abstract void write(Object[] values);
+
+    private static String format(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Enum<?> constant ? constant.name() : value.toString();
+    }
+
+    private static final class JsonLinesExportWriter extends ExportWriter {
+
+        private final JsonGenerator generator;
+
+        private JsonLinesExportWriter(final List<String> columns,
+                                      final OutputStream outputStream,
+                                      final ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            this.generator = objectMapper.getFactory().createGenerator(outputStream);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(final Object[] values) {
+            try {
+                generator.writeStartObject();
+                for (int index = 0; index < columns.size(); index++) {
+                    generator.writeStringField(columns.get(index), format(values[index]));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+
+    }
+
+    private static final class CsvExportWriter extends ExportWriter {
+
+        private final Writer writer;
+
+        private CsvExportWriter(final List<String> columns, final OutputStream outputStream) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            this.writeLine(columns.toArray());
+        }
+
+        @Override
+        public void write(final Object[] values) {
+            try {
+                this.writeLine(values);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private void writeLine(final Object[] values) throws IOException {
+            for (int index = 0; index < columns.size(); index++) {
+                if (index > 0) {
+                    writer.write(',');
+                }
+                final String value = format(values[index]);
+                if (value != null) {
+                    writer.write(escape(value));
+                }
+            }
+            writer.write('\n');
+        }
+
+        private static String escape(final String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+    }
+
+}
@@ -2,9 +2,14 @@ package com.example.carservice.carservice.utils;
 
 import com.example.carservice.auth.model.UserIdentity;
 import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.carservice.cache.CarOwnerIndex;
+import com.example.carservice.carservice.exception.CarNotFoundException;
 import lombok.experimental.UtilityClass;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Utility class for validating user-level access permissions.
  * Used to ensure that a user (typically of type USER) cannot access or modify data belonging to another user.
@@ -33,5 +38,65 @@ public class UserPermissionUtils {
         }
     }
 
+    /**
+     * Validates whether the current user is authorized to access every resource associated with the given
+     * target user IDs, as when one request touches many cars. Throws an {@link AccessDeniedException} if any
+     * of them belongs to another user.
+     *
+     * @param userIdentity  the identity of the currently authenticated user
+     * @param targetUserIds the user IDs of the resources being accessed
+     */
+    public void checkAccessPermission(UserIdentity userIdentity, Collection<String> targetUserIds) {
+        if (userIdentity.getUserType() == UserType.ADMIN) {
+            return; // Admins have full access
+        }
+
+        final String currentUserId = userIdentity.getUserId();
+
+        if (!targetUserIds.stream().allMatch(currentUserId::equals)) {
+            throw new AccessDeniedException("You are not authorized for another user.");
+        }
+    }
+
+    /**
+     * Validates whether the current user is authorized to access the given car, reading its owner from the
+     * {@link CarOwnerIndex} instead of loading the car.
+     *
+     * @param userIdentity  the identity of the currently authenticated user
+     * @param carOwnerIndex the index of car owners
+     * @param carId         the ID of the car being accessed
+     * @throws CarNotFoundException if no car has the given ID
+     */
+    public void checkCarAccessPermission(UserIdentity userIdentity, CarOwnerIndex carOwnerIndex, String carId) {
+        final String ownerId = carOwnerIndex.getOwnerId(carId);
+
+        if (ownerId == null) {
+            throw new CarNotFoundException(carId);
+        }
+
+        checkAccessPermission(userIdentity, ownerId);
+    }
+
+    /**
+     * Validates whether the current user is authorized to access every one of the given cars, reading the
+     * owners not yet indexed in the {@link CarOwnerIndex} with one query.
+     *
+     * @param userIdentity  the identity of the currently authenticated user
+     * @param carOwnerIndex the index of car owners
+     * @param carIds        the IDs of the cars being accessed
+     * @throws CarNotFoundException if any of the cars does not exist
+     */
+    public void checkCarAccessPermissions(UserIdentity userIdentity, CarOwnerIndex carOwnerIndex, Collection<String> carIds) {
+        final Map<String, String> ownerIds = carOwnerIndex.getOwnerIds(carIds);
+
+        for (String carId : carIds) {
+            if (!ownerIds.containsKey(carId)) {
+                throw new CarNotFoundException(carId);
+            }
+        }
+
+        checkAccessPermission(userIdentity, ownerIds.values());
+    }
+
 }
 
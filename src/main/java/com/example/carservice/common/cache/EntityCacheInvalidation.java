@@ -0,0 +1,31 @@
+package com.example.carservice.common.cache;
+
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Message telling every instance to drop one second-level cache entry that another instance has written.
+ */
+@Getter
+@Builder
+public class EntityCacheInvalidation {
+
+    /**
+     * The ID of the instance that committed the write; that instance has already updated its own cache.
+     */
+    private final String origin;
+
+    private final CacheInvalidationTarget target;
+
+    /**
+     * The entity name for {@link CacheInvalidationTarget#ENTITY}, the collection role for {@link CacheInvalidationTarget#COLLECTION}.
+     */
+    private final String role;
+
+    /**
+     * The entity ID for {@link CacheInvalidationTarget#ENTITY}, the owning entity ID for {@link CacheInvalidationTarget#COLLECTION}.
+     */
+    private final String key;
+
+}
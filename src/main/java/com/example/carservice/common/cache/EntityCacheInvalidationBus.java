@@ -0,0 +1,30 @@
+package com.example.carservice.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Publish/subscribe channel that carries {@link EntityCacheInvalidation} messages between application instances.
+ * <p>
+ * Every instance publishes the entries it has written after the transaction commits and evicts the entries
+ * published by the others. A deployment with more than one instance plugs in a broker-backed implementation,
+ * such as a Redis channel or a Kafka topic every instance subscribes to; {@link LocalEntityCacheInvalidationBus}
+ * is the in-process stand-in.
+ * </p>
+ */
+public interface EntityCacheInvalidationBus {
+
+    /**
+     * Delivers the given message to every subscriber, including the publishing instance.
+     *
+     * @param invalidation the entry to drop
+     */
+    void publish(EntityCacheInvalidation invalidation);
+
+    /**
+     * Registers a subscriber for the messages of every instance.
+     *
+     * @param subscriber receives each published message
+     */
+    void subscribe(Consumer<EntityCacheInvalidation> subscriber);
+
+}
@@ -0,0 +1,160 @@
+package com.example.carservice.common.cache;
+
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps the Hibernate second-level cache consistent with writes that Hibernate does not track by itself,
+ * and with writes committed by other application instances.
+ * <p>
+ * Hibernate updates the cached entities this instance writes, but not the inverse {@code CarEntity.services}
+ * collection when a service moves between cars, and never the caches of other instances. After every committed
+ * insert, update or delete of a cached entity this listener therefore:
+ * </p>
+ * <ul>
+ *     <li>evicts the services collection of the previous and the new car of a changed service, and</li>
+ *     <li>publishes the written entity and collections on the {@link EntityCacheInvalidationBus}.</li>
+ * </ul>
+ * <p>
+ * Messages published by other instances evict the named entries and the cached query results of this instance,
+ * because its query cache cannot see the other instances' table timestamps. A message lost on the bus is
+ * bounded by the region time to live.
+ * </p>
+ */
+@Component
+public class EntityCacheInvalidationListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    public static final String SERVICES_COLLECTION_ROLE = CarEntity.class.getName() + ".services";
+
+    private static final String CAR_PROPERTY = "car";
+
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityCacheInvalidationBus invalidationBus;
+
+    public EntityCacheInvalidationListener(final EntityManagerFactory entityManagerFactory,
+                                           final EntityCacheInvalidationBus invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.invalidationBus = invalidationBus;
+    }
+
+    /**
+     * Registers this listener with Hibernate and subscribes to the invalidation bus,
+     * unless the second-level cache is switched off.
+     */
+    @PostConstruct
+    public void register() {
+
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+
+        final EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public void onPostInsert(final PostInsertEvent event) {
+        publish(CacheInvalidationTarget.ENTITY, event.getPersister().getEntityName(), event.getId());
+        evictServicesOf(event.getPersister(), event.getState());
+    }
+
+    @Override
+    public void onPostUpdate(final PostUpdateEvent event) {
+        publish(CacheInvalidationTarget.ENTITY, event.getPersister().getEntityName(), event.getId());
+        evictServicesOf(event.getPersister(), event.getOldState());
+        evictServicesOf(event.getPersister(), event.getState());
+    }
+
+    @Override
+    public void onPostDelete(final PostDeleteEvent event) {
+        publish(CacheInvalidationTarget.ENTITY, event.getPersister().getEntityName(), event.getId());
+        evictServicesOf(event.getPersister(), event.getDeletedState());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(final PostInsertEvent event) {
+        // Nothing was written, so nothing is stale
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(final PostUpdateEvent event) {
+        // Nothing was written, so nothing is stale
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(final PostDeleteEvent event) {
+        // Nothing was written, so nothing is stale
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(final EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void evictServicesOf(final EntityPersister persister, final Object[] state) {
+
+        if (state == null || !ServiceEntity.class.getName().equals(persister.getEntityName())) {
+            return;
+        }
+
+        final Object car = state[persister.getEntityMetamodel().getPropertyIndex(CAR_PROPERTY)];
+        if (car instanceof CarEntity carEntity && carEntity.getId() != null) {
+            sessionFactory.getCache().evictCollectionData(SERVICES_COLLECTION_ROLE, carEntity.getId());
+            publish(CacheInvalidationTarget.COLLECTION, SERVICES_COLLECTION_ROLE, carEntity.getId());
+        }
+    }
+
+    private void publish(final CacheInvalidationTarget target, final String role, final Object key) {
+        invalidationBus.publish(EntityCacheInvalidation.builder()
+                .origin(instanceId)
+                .target(target)
+                .role(role)
+                .key(Objects.toString(key))
+                .build());
+    }
+
+    private void onInvalidation(final EntityCacheInvalidation invalidation) {
+
+        if (instanceId.equals(invalidation.getOrigin())) {
+            return;
+        }
+
+        final Cache cache = sessionFactory.getCache();
+
+        switch (invalidation.getTarget()) {
+            case ENTITY -> {
+                cache.evictEntityData(invalidation.getRole(), invalidation.getKey());
+                cache.evictDefaultQueryRegion();
+            }
+            case COLLECTION -> cache.evictCollectionData(invalidation.getRole(), invalidation.getKey());
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.example.carservice.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process implementation of the {@link EntityCacheInvalidationBus} interface.
+ * Delivers each message synchronously to the subscribers of this instance only, which is all a single
+ * instance needs; replace it with a broker-backed bean when running more than one instance.
+ */
+@Slf4j
+@Component
+public class LocalEntityCacheInvalidationBus implements EntityCacheInvalidationBus {
+
+    private final List<Consumer<EntityCacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final EntityCacheInvalidation invalidation) {
+        for (Consumer<EntityCacheInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException exception) {
+                log.warn("Second-level cache invalidation could not be applied: {} {}",
+                        invalidation.getRole(), invalidation.getKey(), exception);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<EntityCacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.example.carservice.common.config;
+
+import com.example.carservice.common.datasource.ConnectionBulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class named {@link ConnectionBulkheadConfig} that puts a {@link ConnectionBulkheadDataSource}
+ * in front of every Hikari pool bean: the application datasource, or the primary pool when read replicas are
+ * enabled. Replica pools keep failing fast on their own short connection timeout and fall back to the primary.
+ * Active only when {@code carservice.persistence.connection-bulkhead.enabled} is {@code true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "carservice.persistence.connection-bulkhead", name = "enabled", havingValue = "true")
+public class ConnectionBulkheadConfig {
+
+    /**
+     * Wraps Hikari pool beans once they are initialized. Declared static so that it is registered before
+     * any datasource is created.
+     *
+     * @param connectionBulkheadProperties the bulkhead settings
+     * @param meterRegistry                the registry bulkhead metrics are published to
+     * @return the post-processor wrapping the pools
+     */
+    @Bean
+    public static BeanPostProcessor connectionBulkheadPostProcessor(final ObjectProvider<ConnectionBulkheadProperties> connectionBulkheadProperties,
+                                                                    final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+
+                final ConnectionBulkheadProperties properties = connectionBulkheadProperties.getObject();
+                final int maxConcurrent = properties.getMaxConcurrent() > 0
+                        ? properties.getMaxConcurrent()
+                        : pool.getMaximumPoolSize();
+
+                return new ConnectionBulkheadDataSource(
+                        pool,
+                        pool.getPoolName() != null ? pool.getPoolName() : beanName,
+                        maxConcurrent,
+                        properties.getMaxWaiting(),
+                        properties.getAcquireTimeout(),
+                        meterRegistry.getObject()
+                );
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.carservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the bulkhead placed in front of the application connection pools.
+ * Bound from the {@code carservice.persistence.connection-bulkhead} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.persistence.connection-bulkhead")
+public class ConnectionBulkheadProperties {
+
+    /**
+     * Whether connection requests go through the bulkhead. Follows {@code spring.threads.virtual.enabled}
+     * by default, since virtual threads remove the cap that the servlet thread pool puts on concurrent requests.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of connections checked out at the same time; {@code 0} uses the maximum size of each pool.
+     */
+    private int maxConcurrent = 0;
+
+    /**
+     * Maximum number of callers waiting for a connection. Further callers are rejected right away instead of
+     * piling up behind the pool.
+     */
+    private int maxWaiting = 1_000;
+
+    /**
+     * How long a caller waits for a connection before it is rejected.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+}
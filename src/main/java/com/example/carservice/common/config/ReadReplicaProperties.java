@@ -0,0 +1,70 @@
+package com.example.carservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for routing read-only transactions to read replicas.
+ * Bound from the {@code carservice.persistence.read-replicas} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.persistence.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are sent to the replicas below instead of the primary datasource.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How often replicas marked as down are probed again.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long a health check waits for a replica to answer before keeping it marked as down.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Connection settings of a single read replica, each backed by its own connection pool.
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+
+        /**
+         * Name of the replica, used as its pool name and as the {@code pool} tag of its metrics.
+         */
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Maximum number of connections held open to this replica.
+         */
+        private int maximumPoolSize = 10;
+
+        /**
+         * How long a read waits for a connection to this replica before it is sent elsewhere.
+         * Kept short so that an unreachable replica costs little before the fallback kicks in.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.example.carservice.common.config;
+
+import com.example.carservice.common.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration class named {@link ReadReplicaRoutingConfig} that replaces the single application datasource
+ * with one that sends {@code @Transactional(readOnly = true)} work to read replicas.
+ * <p>
+ * The primary pool is still built from {@code spring.datasource} and {@code spring.datasource.hikari}; every
+ * replica listed under {@code carservice.persistence.read-replicas.replicas} gets its own Hikari pool whose
+ * {@code hikaricp.*} metrics are tagged with the replica name. Active only when
+ * {@code carservice.persistence.read-replicas.enabled} is {@code true}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "carservice.persistence.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaRoutingConfig {
+
+    /**
+     * Creates the pool of the primary database, which takes every write and every read outside a read-only
+     * transaction.
+     *
+     * @param dataSourceProperties the {@code spring.datasource} settings
+     * @return the primary connection pool
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (StringUtils.hasText(dataSourceProperties.getName())) {
+            dataSource.setPoolName(dataSourceProperties.getName());
+        }
+        return dataSource;
+    }
+
+    /**
+     * Creates the routing datasource over the primary pool and one pool per configured replica.
+     *
+     * @param primaryDataSource     the primary connection pool, possibly behind a connection bulkhead
+     * @param readReplicaProperties the replica settings
+     * @param meterRegistry         the registry pool and routing metrics are published to
+     * @return the routing datasource
+     */
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                                                 final ReadReplicaProperties readReplicaProperties,
+                                                                 final MeterRegistry meterRegistry) {
+
+        final Map<String, DataSource> replicaDataSources = new LinkedHashMap<>();
+        readReplicaProperties.getReplicas().forEach(replica ->
+                replicaDataSources.put(replica.getName(), replicaDataSource(replica, meterRegistry)));
+
+        return new ReadWriteRoutingDataSource(
+                primaryDataSource,
+                replicaDataSources,
+                readReplicaProperties.getHealthCheckTimeout(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * Exposes the routing datasource to JPA and JDBC behind a lazy proxy, so that the physical connection is
+     * only fetched once the read-only flag of the transaction is known.
+     *
+     * @param readWriteRoutingDataSource the routing datasource
+     * @return the application datasource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private static HikariDataSource replicaDataSource(final ReadReplicaProperties.Replica replica,
+                                                      final MeterRegistry meterRegistry) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(replica.getName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // A replica that is down at startup must not keep the application from starting
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+}
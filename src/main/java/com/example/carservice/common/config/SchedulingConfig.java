@@ -0,0 +1,14 @@
+package com.example.carservice.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class named {@link SchedulingConfig} that enables Spring's scheduled task execution
+ * for background jobs such as refreshing in-memory indexes and purging expired data.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,121 @@
+package com.example.carservice.common.config;
+
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.common.cache.EntityCacheInvalidationListener;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Configuration class named {@link SecondLevelCacheConfig} that backs the Hibernate second-level cache with
+ * bounded, expiring Caffeine caches exposed through JCache.
+ * <p>
+ * Every region is created up front with its own size limit and time to live, and Hibernate is told to fail
+ * rather than silently create an unbounded cache for a region that is not listed here. Hit, miss and eviction
+ * counts of every region are published to the Micrometer registry. Entries are kept consistent on this
+ * instance by Hibernate itself and across instances by
+ * {@link EntityCacheInvalidationListener}.
+ * </p>
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            UserEntity.class.getName(),
+            CarEntity.class.getName(),
+            ServiceEntity.class.getName(),
+            EntityCacheInvalidationListener.SERVICES_COLLECTION_ROLE
+    );
+
+    private static final long TIMESTAMPS_MAXIMUM_SIZE = 1_000;
+
+    /**
+     * Creates the JCache manager holding one bounded Caffeine cache per second-level cache region.
+     * Each application context gets its own manager, so regions are never shared between contexts.
+     *
+     * @param secondLevelCacheProperties the size and time-to-live settings
+     * @param meterRegistry              the registry the region statistics are published to
+     * @return the cache manager used by Hibernate
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(final SecondLevelCacheProperties secondLevelCacheProperties,
+                                                final MeterRegistry meterRegistry) {
+
+        final CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(
+                        URI.create("carservice-second-level-cache-" + UUID.randomUUID()),
+                        SecondLevelCacheConfig.class.getClassLoader()
+                );
+
+        ENTITY_REGIONS.forEach(region -> cacheManager.createCache(region, regionConfiguration(
+                secondLevelCacheProperties.getEntityMaximumSize(),
+                secondLevelCacheProperties.getEntityTtl()
+        )));
+
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, regionConfiguration(
+                secondLevelCacheProperties.getQueryMaximumSize(),
+                secondLevelCacheProperties.getQueryTtl()
+        ));
+
+        // Holds one last-write timestamp per table; it must never expire before the query results it guards.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(TIMESTAMPS_MAXIMUM_SIZE, null));
+
+        cacheManager.getCacheNames().forEach(region ->
+                JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region)));
+
+        return cacheManager;
+    }
+
+    /**
+     * Switches the second-level and query caches on and hands Hibernate the pre-built cache manager.
+     *
+     * @param secondLevelCacheProperties the second-level cache settings
+     * @param secondLevelCacheManager    the cache manager holding every region
+     * @return the customizer applied to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final SecondLevelCacheProperties secondLevelCacheProperties,
+                                                                   final CacheManager secondLevelCacheManager) {
+        return properties -> {
+            final boolean enabled = secondLevelCacheProperties.isEnabled();
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(final long maximumSize,
+                                                                             final Duration timeToLive) {
+        final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (timeToLive != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.example.carservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the Hibernate second-level cache of users, cars and services.
+ * Bound from the {@code carservice.persistence.second-level-cache} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.persistence.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Whether entities, collections and cacheable queries are kept in the second-level cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long an entity or collection entry is kept after it was loaded or written.
+     * Also bounds how long a peer may serve an entry whose invalidation message it missed.
+     */
+    private Duration entityTtl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of entries per entity and collection region.
+     */
+    private long entityMaximumSize = 10_000;
+
+    /**
+     * How long the result of a cacheable query is kept.
+     */
+    private Duration queryTtl = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of cached query results.
+     */
+    private long queryMaximumSize = 1_000;
+
+}
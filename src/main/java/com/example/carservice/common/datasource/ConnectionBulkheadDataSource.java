@@ -0,0 +1,166 @@
+package com.example.carservice.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Datasource that limits how many connections of the wrapped pool are checked out at the same time.
+ * <p>
+ * With virtual threads every request gets its own thread, so thousands of requests can ask the pool for a
+ * connection at once. Callers first take a permit of a fair semaphore sized to the pool: at most
+ * {@code maxWaiting} callers queue for one, each for at most {@code acquireTimeout}, and everyone else fails
+ * fast with a {@link SQLTransientConnectionException} instead of piling up inside the pool. The permit is
+ * returned when the connection is closed.
+ * </p>
+ * Exposes {@code datasource.bulkhead.active}, {@code datasource.bulkhead.waiting} and
+ * {@code datasource.bulkhead.rejected} metrics tagged by pool.
+ */
+public class ConnectionBulkheadDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+    private final Counter rejectedCounter;
+
+    public ConnectionBulkheadDataSource(final DataSource targetDataSource,
+                                        final String poolName,
+                                        final int maxConcurrent,
+                                        final int maxWaiting,
+                                        final Duration acquireTimeout,
+                                        final MeterRegistry meterRegistry) {
+
+        super(targetDataSource);
+
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+
+        Gauge.builder("datasource.bulkhead.active", this, bulkhead -> bulkhead.getActiveConnections())
+                .description("Number of connections checked out through the bulkhead")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+
+        Gauge.builder("datasource.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("Number of callers waiting for a connection permit")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder("datasource.bulkhead.rejected")
+                .description("Number of connection requests rejected because too many callers were waiting or the wait timed out")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        this.acquire();
+        try {
+            return this.guard(super.getConnection());
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        this.acquire();
+        try {
+            return this.guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the number of connections currently checked out through this datasource.
+     *
+     * @return the number of permits in use
+     */
+    public int getActiveConnections() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Closes the wrapped pool, if it can be closed.
+     *
+     * @throws Exception if the pool fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        if (this.obtainTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        if (permits.getQueueLength() >= maxWaiting) {
+            rejectedCounter.increment();
+            throw new SQLTransientConnectionException("Connection bulkhead is full: " + maxWaiting + " callers already waiting");
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejectedCounter.increment();
+                throw new SQLTransientConnectionException(
+                        "Connection bulkhead timed out after " + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", exception);
+        }
+    }
+
+    /**
+     * Wraps the given connection so that closing it returns its permit exactly once.
+     */
+    private Connection guard(final Connection connection) {
+
+        final AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> connection;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Bulkhead connection [" + connection + "]";
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException exception) {
+                            throw exception.getTargetException();
+                        } finally {
+                            if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                }
+        );
+    }
+
+}
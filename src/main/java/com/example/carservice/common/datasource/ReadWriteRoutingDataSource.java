@@ -0,0 +1,206 @@
+package com.example.carservice.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routing datasource that sends read-only transactions to the read replicas and everything else to the primary.
+ * <p>
+ * Replicas are picked round robin among the ones currently marked as up. A replica that fails to hand out a
+ * connection is marked as down and the read is retried on the next replica, and finally on the primary, so a
+ * replica outage never fails a read. Replicas marked as down are probed every
+ * {@code carservice.persistence.read-replicas.health-check-interval} and take reads again once they answer.
+ * </p>
+ * <p>
+ * The read-only flag of a transaction is only known once the transaction has begun, so this datasource must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers fetching
+ * the physical connection to the first statement.
+ * </p>
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final Pool primary;
+    private final List<Pool> replicas;
+    private final Map<String, Pool> pools = new HashMap<>();
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(final DataSource primaryDataSource,
+                                      final Map<String, DataSource> replicaDataSources,
+                                      final Duration healthCheckTimeout,
+                                      final MeterRegistry meterRegistry) {
+
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.primary = new Pool(PRIMARY, primaryDataSource, meterRegistry);
+        this.replicas = replicaDataSources.entrySet().stream()
+                .map(replica -> new Pool(replica.getKey(), replica.getValue(), meterRegistry))
+                .toList();
+
+        pools.put(PRIMARY, primary);
+        replicas.forEach(replica -> pools.put(replica.name, replica));
+
+        replicas.forEach(replica -> Gauge.builder("datasource.replica.up", replica, pool -> pool.up ? 1 : 0)
+                .description("Whether the read replica currently takes read-only transactions")
+                .tag("pool", replica.name)
+                .register(meterRegistry));
+
+        final Map<Object, Object> targetDataSources = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> targetDataSources.put(name, pool.dataSource));
+        this.setTargetDataSources(targetDataSources);
+        this.setDefaultTargetDataSource(primaryDataSource);
+        this.setLenientFallback(false);
+        this.initialize();
+    }
+
+    /**
+     * Returns the name of the pool the current connection request goes to: a replica that is up for read-only
+     * transactions, the primary otherwise.
+     *
+     * @return the pool name
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        final int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            final Pool replica = replicas.get((start + offset) % replicas.size());
+            if (replica.up) {
+                return replica.name;
+            }
+        }
+
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return this.connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return this.connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Probes every replica marked as down and marks the ones that answer as up again.
+     */
+    @Scheduled(
+            fixedDelayString = "${carservice.persistence.read-replicas.health-check-interval:5s}",
+            initialDelayString = "${carservice.persistence.read-replicas.health-check-interval:5s}"
+    )
+    public void checkReplicas() {
+        replicas.stream()
+                .filter(replica -> !replica.up)
+                .forEach(this::probe);
+    }
+
+    /**
+     * Returns whether the given replica currently takes read-only transactions.
+     *
+     * @param name the replica name
+     * @return {@code true} if the replica is known and marked as up
+     */
+    public boolean isUp(final String name) {
+        final Pool pool = pools.get(name);
+        return pool != null && pool.up;
+    }
+
+    /**
+     * Closes the replica pools. The primary datasource is owned by the caller and left open.
+     */
+    @Override
+    public void close() {
+        replicas.forEach(replica -> {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception exception) {
+                    log.warn("Read replica pool {} could not be closed", replica.name, exception);
+                }
+            }
+        });
+    }
+
+    private Connection connect(final ConnectionOpener opener) throws SQLException {
+
+        final Pool pool = pools.get((String) this.determineCurrentLookupKey());
+
+        try {
+            final Connection connection = opener.open(pool.dataSource);
+            pool.connections.increment();
+            return connection;
+        } catch (SQLException exception) {
+            if (pool == primary) {
+                throw exception;
+            }
+            pool.up = false;
+            pool.fallbacks.increment();
+            log.warn("Read replica {} is marked as down, its reads go to the next replica or the primary",
+                    pool.name, exception);
+            return this.connect(opener);
+        }
+    }
+
+    private void probe(final Pool replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (connection.isValid((int) Math.max(healthCheckTimeout.toSeconds(), 1))) {
+                replica.up = true;
+                log.info("Read replica {} is marked as up again", replica.name);
+            }
+        } catch (SQLException exception) {
+            log.debug("Read replica {} is still down: {}", replica.name, exception.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Pool {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter connections;
+        private final Counter fallbacks;
+        private volatile boolean up = true;
+
+        private Pool(final String name, final DataSource dataSource, final MeterRegistry meterRegistry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.connections = Counter.builder("datasource.routing.connections")
+                    .description("Number of connections handed out per pool by the read/write routing datasource")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            this.fallbacks = Counter.builder("datasource.routing.fallbacks")
+                    .description("Number of reads sent elsewhere because the pool failed to hand out a connection")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+
+    }
+
+}
@@ -154,6 +154,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles authentication requests rejected because password hashing is saturated.
+     *
+     * @param ex the thrown {@link PasswordHashingUnavailableException}
+     * @return a {@link ResponseEntity} with {@code 503 Service Unavailable} and a {@link CustomError}
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    protected ResponseEntity<CustomError> handlePasswordHashingUnavailableException(final PasswordHashingUnavailableException ex) {
+        CustomError error = CustomError.builder()
+                .httpStatus(PasswordHashingUnavailableException.STATUS)
+                .header(CustomError.Header.PROCESS_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return new ResponseEntity<>(error, PasswordHashingUnavailableException.STATUS);
+    }
+
     /**
      * Handles reuse of an already invalidated JWT token.
      *
@@ -348,4 +366,40 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, ServiceTitleAlreadyExistsException.STATUS);
     }
 
+    /**
+     * Handles paging cursors that cannot be decoded.
+     *
+     * @param ex the thrown {@link InvalidCursorException}
+     * @return a {@link ResponseEntity} with {@code 400 Bad Request} and a {@link CustomError}
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<CustomError> handleInvalidCursorException(final InvalidCursorException ex) {
+        CustomError error = CustomError.builder()
+                .httpStatus(InvalidCursorException.STATUS)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return new ResponseEntity<>(error, InvalidCursorException.STATUS);
+    }
+
+    /**
+     * Handles bulk car import bodies that cannot be read at all.
+     *
+     * @param ex the thrown {@link InvalidCarImportException}
+     * @return a {@link ResponseEntity} with {@code 400 Bad Request} and a {@link CustomError}
+     */
+    @ExceptionHandler(InvalidCarImportException.class)
+    protected ResponseEntity<CustomError> handleInvalidCarImportException(final InvalidCarImportException ex) {
+        CustomError error = CustomError.builder()
+                .httpStatus(InvalidCarImportException.STATUS)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return new ResponseEntity<>(error, InvalidCarImportException.STATUS);
+    }
+
 }
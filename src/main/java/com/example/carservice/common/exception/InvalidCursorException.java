@@ -0,0 +1,31 @@
+package com.example.carservice.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a paging cursor cannot be decoded.
+ * Typically used to return a 400 BAD REQUEST response.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 4317420635866240963L;
+
+    public static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    private static final String DEFAULT_MESSAGE = """
+            Paging cursor is not valid!
+            """;
+
+    /**
+     * Constructs a new exception with the invalid cursor included in the message.
+     *
+     * @param cursor the cursor that could not be decoded
+     */
+    public InvalidCursorException(final String cursor) {
+        super(DEFAULT_MESSAGE + " Cursor: " + cursor);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.example.carservice.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * Hibernate type that keeps a {@code String} ID attribute in canonical text form while storing it in a
+ * {@code BINARY(16)} column, converting with {@link IdCodec}.
+ * <p>
+ * Entities, repositories and DTOs keep working with text IDs; only the column shrinks from 36 characters to
+ * 16 bytes, which also shrinks every secondary index that carries the primary key.
+ * Used through {@code @Type(BinaryIdType.class)}.
+ * </p>
+ */
+public class BinaryIdType implements UserType<String> {
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(final String x, final String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(final String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(final ResultSet resultSet, final int position,
+                              final SharedSessionContractImplementor session, final Object owner) throws SQLException {
+        final byte[] bytes = resultSet.getBytes(position);
+        return bytes != null ? IdCodec.decode(bytes) : null;
+    }
+
+    @Override
+    public void nullSafeSet(final PreparedStatement preparedStatement, final String value, final int index,
+                            final SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            preparedStatement.setNull(index, Types.BINARY);
+        } else {
+            preparedStatement.setBytes(index, IdCodec.encode(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(final String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(final String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(final Serializable cached, final Object owner) {
+        return (String) cached;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.example.carservice.common.id;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class converting identifiers between the canonical text form used by the API and the 16-byte form
+ * stored in {@code BINARY(16)} columns.
+ * <p>
+ * The byte form keeps the order of the text form, so sorting and keyset paging by ID behave the same on
+ * both column types.
+ * </p>
+ */
+@UtilityClass
+public class IdCodec {
+
+    public static final int BINARY_LENGTH = 16;
+
+    private static final Pattern CANONICAL = Pattern.compile(
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
+    );
+
+    /**
+     * Checks whether the given text is an identifier in canonical form.
+     *
+     * @param id the text to check
+     * @return {@code true} if the text can be encoded
+     */
+    public static boolean isValid(final String id) {
+        return id != null && CANONICAL.matcher(id).matches();
+    }
+
+    /**
+     * Encodes an identifier into its 16-byte form.
+     *
+     * @param id the identifier in canonical text form
+     * @return the 16 bytes, most significant first
+     * @throws IllegalArgumentException if the identifier is not in canonical form
+     */
+    public static byte[] encode(final String id) {
+
+        if (!isValid(id)) {
+            throw new IllegalArgumentException("Invalid identifier: " + id);
+        }
+
+        final UUID uuid = UUID.fromString(id);
+        return ByteBuffer.allocate(BINARY_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Decodes the 16-byte form of an identifier.
+     *
+     * @param bytes the 16 bytes, most significant first
+     * @return the identifier in lower-case canonical text form
+     * @throws IllegalArgumentException if the value is not 16 bytes long
+     */
+    public static String decode(final byte[] bytes) {
+
+        if (bytes == null || bytes.length != BINARY_LENGTH) {
+            throw new IllegalArgumentException("Invalid binary identifier length");
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+}
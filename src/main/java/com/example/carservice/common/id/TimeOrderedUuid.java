@@ -0,0 +1,60 @@
+package com.example.carservice.common.id;
+
+import lombok.experimental.UtilityClass;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility class for creating time-ordered UUIDs following the version 7 layout of RFC 9562.
+ * <p>
+ * The first 48 bits hold the creation time in Unix milliseconds and the next 12 bits a counter, so values
+ * created later always compare greater, also within the same millisecond and across threads. New rows
+ * therefore land at the end of a primary key index instead of splitting pages at random positions.
+ * The remaining 62 bits are random, keeping identifiers hard to guess.
+ * </p>
+ */
+@UtilityClass
+public class TimeOrderedUuid {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Unix milliseconds of the last identifier, shifted left by {@link #COUNTER_BITS}, plus its counter.
+     */
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    /**
+     * Creates a new identifier that is greater than every identifier created before by this JVM.
+     *
+     * @return the identifier
+     */
+    public static UUID next() {
+
+        final long now = System.currentTimeMillis() << COUNTER_BITS;
+        // Same millisecond: increment the counter, which carries into the timestamp once exhausted
+        final long timestamp = LAST_TIMESTAMP.updateAndGet(last -> Math.max(last + 1, now));
+
+        final long mostSignificantBits = (timestamp >>> COUNTER_BITS) << 16 | VERSION | (timestamp & COUNTER_MASK);
+        final long leastSignificantBits = RANDOM.nextLong() & RANDOM_MASK | VARIANT;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Creates a new identifier in its canonical text form.
+     *
+     * @return the identifier, e.g. {@code 0192f3a4-5b6c-7d8e-9f01-23456789abcd}
+     */
+    public static String nextId() {
+        return next().toString();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.carservice.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Hibernate UUID algorithm that assigns time-ordered identifiers from {@link TimeOrderedUuid}.
+ * Used through {@code @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)} on entity IDs.
+ */
+public class TimeOrderedUuidGenerator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(final SharedSessionContractImplementor session) {
+        return TimeOrderedUuid.next();
+    }
+
+}
@@ -3,7 +3,10 @@ package com.example.carservice.common.model;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -26,6 +29,10 @@ public class CustomPage<T> {
 
     private Integer totalPageCount;
 
+    private Boolean hasNext;
+
+    private String nextCursor;
+
     /**
      * Converts a Spring {@link Page} into a {@link CustomPage}, preserving pagination metadata.
      *
@@ -42,6 +49,59 @@ public class CustomPage<T> {
                 .pageSize(page.getSize())
                 .totalPageCount(page.getTotalPages())
                 .totalElementCount(page.getTotalElements())
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    /**
+     * Converts a Spring {@link Slice}, fetched without a count query, into a {@link CustomPage}.
+     * Totals are only set when a total element count is given.
+     *
+     * @param domainModels the content to be returned
+     * @param slice the source Spring slice
+     * @param totalElementCount the total element count, or {@code null} if it is not reported
+     * @param <C> the type of the response content
+     * @param <X> the type of the original slice content
+     * @return a {@link CustomPage} instance
+     */
+    public static <C, X> CustomPage<C> of(final List<C> domainModels, final Slice<X> slice, final Long totalElementCount) {
+
+        final Integer totalPageCount = totalElementCount != null && slice.getSize() > 0
+                ? Math.toIntExact((totalElementCount + slice.getSize() - 1) / slice.getSize())
+                : null;
+
+        return CustomPage.<C>builder()
+                .content(domainModels)
+                .pageNumber(slice.getNumber() + 1)
+                .pageSize(slice.getSize())
+                .totalPageCount(totalPageCount)
+                .totalElementCount(totalElementCount)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * Converts a keyset-scrolled Spring {@link Window} into a {@link CustomPage}.
+     * Page number and totals are not known in keyset mode and are left empty; the cursor of the
+     * following page is set when there is one.
+     *
+     * @param domainModels the content to be returned
+     * @param window the source Spring window
+     * @param <C> the type of the response content
+     * @param <X> the type of the original window content
+     * @return a {@link CustomPage} instance
+     */
+    public static <C, X> CustomPage<C> of(final List<C> domainModels, final Window<X> window) {
+
+        final String nextCursor = window.hasNext() && !window.isEmpty()
+                ? KeysetCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+
+        return CustomPage.<C>builder()
+                .content(domainModels)
+                .pageSize(window.size())
+                .hasNext(window.hasNext())
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -1,5 +1,7 @@
 package com.example.carservice.common.model;
 
+import com.example.carservice.common.model.enums.PagingMode;
+import com.example.carservice.common.model.enums.TotalCountMode;
 import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,6 +10,12 @@ import lombok.experimental.SuperBuilder;
 
 /**
  * Represents paging parameters for paginated API requests.
+ * <p>
+ * In {@link PagingMode#OFFSET} mode, the default, pages are addressed by {@code pageNumber}. In
+ * {@link PagingMode#KEYSET} mode {@code pageNumber} is ignored and the next page is addressed by the
+ * {@code cursor} returned with the previous one; no cursor addresses the first page.
+ * In offset mode {@code totalCountMode} selects whether the total is exact (the default), estimated or omitted.
+ * </p>
  */
 @Getter
 @Setter
@@ -21,6 +29,12 @@ public class CustomPaging {
     @Min(value = 1, message = "Page size must be bigger than 0")
     private Integer pageSize;
 
+    private PagingMode mode;
+
+    private String cursor;
+
+    private TotalCountMode totalCountMode;
+
     /**
      * Returns a zero-based page index compatible with Spring Data.
      *
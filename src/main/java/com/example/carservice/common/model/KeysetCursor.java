@@ -0,0 +1,80 @@
+package com.example.carservice.common.model;
+
+import com.example.carservice.common.exception.InvalidCursorException;
+import com.example.carservice.common.id.IdCodec;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class for encoding keyset positions as opaque paging cursors and decoding them back.
+ * <p>
+ * Listings paged by keyset are ordered by {@code createdAt} and then {@code id}; a cursor carries the values
+ * of both properties of the last row of a page, so the next page starts right after that row.
+ * </p>
+ */
+@UtilityClass
+public class KeysetCursor {
+
+    /**
+     * Sort order of every keyset-paged listing. The {@code id} tiebreaker makes the order total.
+     */
+    public static final Sort SORT = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Decodes a cursor into the position after which the next page starts.
+     * A missing cursor addresses the first page.
+     *
+     * @param cursor the cursor returned with the previous page, or {@code null}
+     * @return the corresponding {@link KeysetScrollPosition}
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static KeysetScrollPosition decode(final String cursor) {
+
+        if (StringUtils.isBlank(cursor)) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = StringUtils.split(decoded, SEPARATOR, 2);
+
+            if (parts.length != 2 || !IdCodec.isValid(parts[1])) {
+                throw new InvalidCursorException(cursor);
+            }
+
+            final Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(CREATED_AT, LocalDateTime.parse(parts[0]));
+            keys.put(ID, parts[1]);
+            return ScrollPosition.forward(keys);
+
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /**
+     * Encodes the given position as an opaque cursor.
+     *
+     * @param position the position of the last row of a page
+     * @return the cursor addressing the following page
+     */
+    public static String encode(final KeysetScrollPosition position) {
+        final String raw = position.getKeys().get(CREATED_AT) + SEPARATOR + position.getKeys().get(ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -1,16 +1,23 @@
 package com.example.carservice.common.model.dto.request;
 
 import com.example.carservice.common.model.CustomPaging;
+import com.example.carservice.common.model.KeysetCursor;
+import com.example.carservice.common.model.enums.PagingMode;
+import com.example.carservice.common.model.enums.TotalCountMode;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 /**
  * Represents a custom paging request that wraps pagination information
- * and converts it to a Spring Data {@link Pageable} object.
+ * and converts it to a Spring Data {@link Pageable} object, or, in keyset mode,
+ * to a scroll position and limit.
  */
 @Getter
 @Setter
@@ -32,4 +39,41 @@ public class CustomPagingRequest {
         );
     }
 
+    /**
+     * Returns whether the request pages by keyset rather than by offset.
+     *
+     * @return {@code true} if {@link PagingMode#KEYSET} is requested
+     */
+    @JsonIgnore
+    public boolean isKeyset() {
+        return pagination.getMode() == PagingMode.KEYSET;
+    }
+
+    /**
+     * Returns the requested total count mode of an offset request.
+     *
+     * @return the requested {@link TotalCountMode}, {@link TotalCountMode#EXACT} if none is given
+     */
+    public TotalCountMode toTotalCountMode() {
+        return pagination.getTotalCountMode() != null ? pagination.getTotalCountMode() : TotalCountMode.EXACT;
+    }
+
+    /**
+     * Converts the cursor of a keyset request into the position the requested page starts after.
+     *
+     * @return the decoded {@link KeysetScrollPosition}
+     */
+    public KeysetScrollPosition toScrollPosition() {
+        return KeysetCursor.decode(pagination.getCursor());
+    }
+
+    /**
+     * Converts the page size of a keyset request into a Spring Data {@link Limit}.
+     *
+     * @return the limit of rows of the requested page
+     */
+    public Limit toLimit() {
+        return Limit.of(Math.toIntExact(pagination.getPageSize()));
+    }
+
 }
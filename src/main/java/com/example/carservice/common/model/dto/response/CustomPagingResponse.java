@@ -25,6 +25,10 @@ public class CustomPagingResponse<T> {
 
     private Integer totalPageCount;
 
+    private Boolean hasNext;
+
+    private String nextCursor;
+
     /**
      * Builder class for {@link CustomPagingResponse}.
      *
@@ -44,7 +48,9 @@ public class CustomPagingResponse<T> {
                     .pageNumber(customPage.getPageNumber())
                     .pageSize(customPage.getPageSize())
                     .totalElementCount(customPage.getTotalElementCount())
-                    .totalPageCount(customPage.getTotalPageCount());
+                    .totalPageCount(customPage.getTotalPageCount())
+                    .hasNext(customPage.getHasNext())
+                    .nextCursor(customPage.getNextCursor());
         }
 
     }
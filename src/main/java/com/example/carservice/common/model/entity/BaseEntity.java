@@ -48,12 +48,7 @@ public class BaseEntity {
      */
     @PrePersist
     public void prePersist() {
-        this.createdBy = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
-                .map(Authentication::getPrincipal)
-                .filter(user -> !"anonymousUser".equals(user))
-                .map(Jwt.class::cast)
-                .map(jwt -> jwt.getClaim(TokenClaims.USER_EMAIL.getValue()).toString())
-                .orElse("anonymousUser");
+        this.createdBy = currentAuditor();
         this.createdAt = LocalDateTime.now();
     }
 
@@ -64,13 +59,30 @@ public class BaseEntity {
      */
     @PreUpdate
     public void preUpdate() {
-        this.updatedBy = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
-                .map(Authentication::getPrincipal)
-                .filter(user -> !"anonymousUser".equals(user))
-                .map(Jwt.class::cast)
-                .map(jwt -> jwt.getClaim(TokenClaims.USER_EMAIL.getValue()).toString())
-                .orElse("anonymousUser");
+        this.updatedBy = currentAuditor();
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Returns the email of the currently authenticated user, or "anonymousUser" if the request is anonymous.
+     * Also used by writers that insert rows without going through JPA callbacks.
+     * <p>
+     * Compact access tokens carry no email claim; the user ID claim is used for them instead, so that entity
+     * callbacks never look the user up in the middle of a flush.
+     * </p>
+     *
+     * @return the value stored in {@code createdBy} and {@code updatedBy}
+     */
+    public static String currentAuditor() {
+
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            return "anonymousUser";
+        }
+
+        return Optional.ofNullable(jwt.getClaimAsString(TokenClaims.USER_EMAIL.getValue()))
+                .orElseGet(() -> jwt.getClaimAsString(TokenClaims.USER_ID.getValue()));
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.example.carservice.common.model.enums;
+
+/**
+ * Enumeration of the kinds of second-level cache entries an invalidation message can drop.
+ */
+public enum CacheInvalidationTarget {
+
+    /**
+     * A single cached entity, identified by its entity name and ID.
+     */
+    ENTITY,
+
+    /**
+     * The cached element IDs of a collection, identified by its role and the ID of the owning entity.
+     */
+    COLLECTION
+}
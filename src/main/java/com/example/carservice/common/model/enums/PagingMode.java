@@ -0,0 +1,18 @@
+package com.example.carservice.common.model.enums;
+
+/**
+ * Enumeration of the ways a paginated listing is navigated.
+ */
+public enum PagingMode {
+
+    /**
+     * Pages are addressed by number, using {@code LIMIT/OFFSET} and a total count query.
+     */
+    OFFSET,
+
+    /**
+     * Pages are addressed by an opaque cursor that seeks past the last row of the previous page,
+     * ordered by creation time and ID, without a count query.
+     */
+    KEYSET
+}
@@ -0,0 +1,22 @@
+package com.example.carservice.common.model.enums;
+
+/**
+ * Enumeration of how the total number of elements of an offset-paged listing is reported.
+ */
+public enum TotalCountMode {
+
+    /**
+     * The exact total is reported. It may be served from a short-lived cache that is cleared on writes.
+     */
+    EXACT,
+
+    /**
+     * An approximate total is reported. It may be served from a longer-lived cache that is not cleared on writes.
+     */
+    ESTIMATED,
+
+    /**
+     * No total is reported and no count query is run; {@code hasNext} tells whether another page exists.
+     */
+    NONE
+}
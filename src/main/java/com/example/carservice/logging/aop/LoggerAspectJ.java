@@ -2,10 +2,13 @@ package com.example.carservice.logging.aop;
 
 import com.example.carservice.auth.exception.*;
 import com.example.carservice.carservice.exception.*;
+import com.example.carservice.common.exception.InvalidCursorException;
+import com.example.carservice.logging.config.AuditLogProperties;
 import com.example.carservice.logging.entity.LogEntity;
+import com.example.carservice.logging.model.CapturedBody;
 import com.example.carservice.logging.service.LogService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.carservice.logging.utils.ResponseBodyCapturer;
+import com.example.carservice.logging.utils.annotation.ReadOnlyEndpoint;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +18,8 @@ import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -31,6 +36,8 @@ import java.util.Optional;
  * Captures metadata such as request endpoint, method, user, status, and error messages,
  * and logs it into the database using {@link LogService}.
  * This aspect applies to all classes annotated with {@code @RestController}.
+ * Response bodies are captured through {@link ResponseBodyCapturer} according to the configured capture mode,
+ * and successful calls to read-only endpoints can be skipped altogether.
  *
  * @see LogEntity
  * @see LogService
@@ -42,6 +49,8 @@ import java.util.Optional;
 public class LoggerAspectJ {
 
     private final LogService logService;
+    private final ResponseBodyCapturer responseBodyCapturer;
+    private final AuditLogProperties auditLogProperties;
 
     /**
      * Pointcut expression targeting all classes annotated with {@code @RestController}.
@@ -76,7 +85,6 @@ public class LoggerAspectJ {
                     .errorType(ex.getClass().getName())
                     .status(HttpStatus.valueOf(getHttpStatusFromException(ex)))
                     .operation(joinPoint.getSignature().getName())
-                    .response(ex.getMessage())
                     .build();
 
             // Get the username from SecurityContextHolder and set it in logEntity
@@ -99,7 +107,8 @@ public class LoggerAspectJ {
 
     /**
      * Advice that logs successful executions of controller methods.
-     * Builds and stores a {@link LogEntity} after the method returns.
+     * Builds and stores a {@link LogEntity} after the method returns, unless the endpoint is read-only
+     * and read-only endpoints are configured to be skipped.
      *
      * @param joinPoint the join point representing the executed controller method
      * @param result    the result returned from the method
@@ -117,7 +126,9 @@ public class LoggerAspectJ {
             final HttpServletRequest request = requestAttributes.get().getRequest();
             final HttpServletResponse response = requestAttributes.get().getResponse();
 
-            String responseObject = "";
+            if (auditLogProperties.isSkipReadOnlyEndpoints() && isReadOnly(joinPoint, request)) {
+                return;
+            }
 
             LogEntity logEntity = LogEntity.builder()
                     .endpoint(request.getRequestURL().toString())
@@ -125,15 +136,13 @@ public class LoggerAspectJ {
                     .operation(joinPoint.getSignature().getName())
                     .build();
 
-            if (result instanceof JsonNode) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                responseObject = objectMapper.writeValueAsString(result);
-            } else {
-                responseObject = result.toString();
+            final CapturedBody capturedBody = responseBodyCapturer.capture(result);
+            if (capturedBody != null) {
+                logEntity.setResponse(capturedBody.getContent());
+                logEntity.setResponseEncoding(capturedBody.getEncoding());
+                logEntity.setResponseTruncated(capturedBody.isTruncated());
             }
 
-            logEntity.setResponse(responseObject);
-            logEntity.setMessage(responseObject);
             Optional.ofNullable(response).ifPresent(
                     httpServletResponse -> logEntity.setStatus(
                             HttpStatus.valueOf(httpServletResponse.getStatus()
@@ -151,6 +160,24 @@ public class LoggerAspectJ {
         }
     }
 
+    /**
+     * Determines whether the invoked endpoint only reads data, i.e. it is a {@code GET} or {@code HEAD}
+     * request or the controller method is annotated with {@link ReadOnlyEndpoint}.
+     *
+     * @param joinPoint the join point representing the executed controller method
+     * @param request   the current request
+     * @return {@code true} if the endpoint is read-only
+     */
+    private boolean isReadOnly(JoinPoint joinPoint, HttpServletRequest request) {
+
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+
+        return joinPoint.getSignature() instanceof MethodSignature methodSignature
+                && methodSignature.getMethod().isAnnotationPresent(ReadOnlyEndpoint.class);
+    }
+
     /**
      * Resolves the appropriate {@link HttpStatus} for a given exception type.
      *
@@ -165,12 +192,15 @@ public class LoggerAspectJ {
             case "UserAlreadyExistException" -> UserAlreadyExistException.STATUS.name();
             case "UserNotFoundException" -> UserNotFoundException.STATUS.name();
             case "UserStatusNotValidException" -> UserStatusNotValidException.STATUS.name();
+            case "PasswordHashingUnavailableException" -> PasswordHashingUnavailableException.STATUS.name();
             case "CarNotFoundException" -> CarNotFoundException.STATUS.name();
             case "CarStatusNotValidException" -> CarStatusNotValidException.STATUS.name();
             case "LicensePlateAlreadyExistsException" -> LicensePlateAlreadyExistsException.STATUS.name();
             case "ServiceCarMismatchException" -> ServiceCarMismatchException.STATUS.name();
             case "ServiceNotFoundException" -> ServiceNotFoundException.STATUS.name();
             case "ServiceTitleAlreadyExistsException" -> ServiceTitleAlreadyExistsException.STATUS.name();
+            case "InvalidCursorException" -> InvalidCursorException.STATUS.name();
+            case "InvalidCarImportException" -> InvalidCarImportException.STATUS.name();
             default -> HttpStatus.INTERNAL_SERVER_ERROR.name();
         };
     }
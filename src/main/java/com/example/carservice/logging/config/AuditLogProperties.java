@@ -0,0 +1,178 @@
+package com.example.carservice.logging.config;
+
+import com.example.carservice.logging.model.enums.AuditBodyCaptureMode;
+import com.example.carservice.logging.model.enums.AuditLogMode;
+import com.example.carservice.logging.model.enums.AuditOverflowPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for request audit logging.
+ * Bound from the {@code carservice.logging.audit} prefix.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "carservice.logging.audit")
+public class AuditLogProperties {
+
+    /**
+     * How audit log entries are persisted.
+     */
+    private AuditLogMode mode = AuditLogMode.SYNC;
+
+    /**
+     * Whether successful calls to read-only endpoints ({@code GET} mappings and methods annotated with
+     * {@code @ReadOnlyEndpoint}) are left out of the audit log.
+     */
+    private boolean skipReadOnlyEndpoints = false;
+
+    private Body body = new Body();
+
+    private Async async = new Async();
+
+    private Segment segment = new Segment();
+
+    /**
+     * Settings of how response bodies are captured.
+     */
+    @Getter
+    @Setter
+    public static class Body {
+
+        /**
+         * How much of the response body is stored.
+         */
+        private AuditBodyCaptureMode captureMode = AuditBodyCaptureMode.TRUNCATED;
+
+        /**
+         * Maximum size of the body stored under {@link AuditBodyCaptureMode#TRUNCATED}.
+         */
+        private DataSize maxSize = DataSize.ofKilobytes(2);
+
+        /**
+         * Share of requests, between 0 and 1, whose whole body is stored under {@link AuditBodyCaptureMode#FULL}.
+         */
+        private double fullSampleRate = 0.01;
+
+        /**
+         * Whether stored bodies are compressed.
+         */
+        private boolean compress = true;
+
+        /**
+         * Minimum body size from which compression is applied; smaller bodies do not shrink enough to pay off.
+         */
+        private DataSize compressionThreshold = DataSize.ofBytes(512);
+
+    }
+
+    /**
+     * Settings of the {@link AuditLogMode#ASYNC} mode.
+     */
+    @Getter
+    @Setter
+    public static class Async {
+
+        /**
+         * Maximum number of entries waiting in memory.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * Maximum number of rows written in a single JDBC batch.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Maximum time an entry waits in the queue before a partial batch is flushed.
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * What happens to an entry when the queue is full.
+         */
+        private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.DROP;
+
+        /**
+         * How long a request thread waits for free space under {@link AuditOverflowPolicy#BLOCK}.
+         */
+        private Duration blockTimeout = Duration.ofMillis(50);
+
+        /**
+         * Directory of the spill files used by {@link AuditOverflowPolicy#SPILL}.
+         */
+        private Path spillDirectory = Path.of("audit", "spill");
+
+        /**
+         * Size after which a spill file is closed and a new one is started.
+         */
+        private DataSize spillSegmentSize = DataSize.ofMegabytes(16);
+
+        /**
+         * Number of consecutive failed loads after which a spill file is moved to the quarantine directory.
+         * Failures caused by the database being unavailable are not counted.
+         */
+        private int maxLoadAttempts = 5;
+
+        /**
+         * Whether the background writer runs on a virtual thread instead of a dedicated platform thread.
+         * Follows {@code spring.threads.virtual.enabled} by default.
+         */
+        private boolean virtualThread = false;
+
+    }
+
+    /**
+     * Settings of the {@link AuditLogMode#SEGMENT} mode.
+     */
+    @Getter
+    @Setter
+    public static class Segment {
+
+        /**
+         * Directory of the segment files.
+         */
+        private Path directory = Path.of("audit", "segments");
+
+        /**
+         * Size after which a segment is closed and becomes eligible for loading.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+        /**
+         * Maximum time records stay in the open segment before it is closed regardless of its size.
+         */
+        private Duration maxSegmentAge = Duration.ofSeconds(30);
+
+        /**
+         * Delay between two runs of the background loader.
+         */
+        private Duration loadInterval = Duration.ofSeconds(10);
+
+        /**
+         * Maximum number of rows written in a single JDBC batch while loading a segment.
+         */
+        private int batchSize = 1000;
+
+        /**
+         * Number of consecutive failed loads after which a segment is moved to the quarantine directory.
+         * Failures caused by the database being unavailable are not counted.
+         */
+        private int maxLoadAttempts = 5;
+
+        /**
+         * Whether every append is flushed to the storage device, trading request latency for
+         * durability across host crashes.
+         */
+        private boolean forceOnAppend = false;
+
+    }
+
+}
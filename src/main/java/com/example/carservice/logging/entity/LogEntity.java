@@ -1,9 +1,14 @@
 package com.example.carservice.logging.entity;
 
+import com.example.carservice.common.id.BinaryIdType;
+import com.example.carservice.common.id.TimeOrderedUuidGenerator;
 import com.example.carservice.common.model.entity.BaseEntity;
+import com.example.carservice.logging.model.enums.AuditBodyEncoding;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Type;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
@@ -24,8 +29,9 @@ import java.time.LocalDateTime;
 public class LogEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "ID")
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
+    @Type(BinaryIdType.class)
+    @Column(name = "ID", columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(columnDefinition = "TEXT")
@@ -45,6 +51,11 @@ public class LogEntity extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String response;
 
+    @Enumerated(EnumType.STRING)
+    private AuditBodyEncoding responseEncoding;
+
+    private Boolean responseTruncated;
+
     private String operation;
 
     private LocalDateTime time;
@@ -0,0 +1,19 @@
+package com.example.carservice.logging.model;
+
+import com.example.carservice.logging.model.enums.AuditBodyEncoding;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Represents the part of a response body that is kept in an audit log entry,
+ * together with how it is encoded and whether it was cut at the configured size.
+ */
+@Getter
+@Builder
+public class CapturedBody {
+
+    private String content;
+    private AuditBodyEncoding encoding;
+    private boolean truncated;
+
+}
@@ -0,0 +1,28 @@
+package com.example.carservice.logging.model.enums;
+
+/**
+ * Enumeration of how much of a response body is kept in an audit log entry.
+ */
+public enum AuditBodyCaptureMode {
+
+    /**
+     * The body is not serialized and not stored.
+     */
+    NONE,
+
+    /**
+     * At most the configured number of bytes of the serialized body is stored.
+     */
+    TRUNCATED,
+
+    /**
+     * Only the SHA-256 digest of the serialized body is stored.
+     */
+    HASH,
+
+    /**
+     * The whole serialized body is stored for a sampled share of requests and the digest for the rest.
+     */
+    FULL
+
+}
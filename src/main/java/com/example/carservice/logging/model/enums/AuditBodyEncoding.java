@@ -0,0 +1,23 @@
+package com.example.carservice.logging.model.enums;
+
+/**
+ * Enumeration of the encodings of the response body stored in an audit log entry.
+ */
+public enum AuditBodyEncoding {
+
+    /**
+     * The body is stored as plain UTF-8 text.
+     */
+    PLAIN,
+
+    /**
+     * The body is GZIP-compressed and stored as Base64 text.
+     */
+    GZIP_BASE64,
+
+    /**
+     * Only the hex-encoded SHA-256 digest of the body is stored.
+     */
+    SHA256
+
+}
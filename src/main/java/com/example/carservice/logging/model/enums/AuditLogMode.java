@@ -0,0 +1,23 @@
+package com.example.carservice.logging.model.enums;
+
+/**
+ * Enumeration of the ways audit log entries are persisted.
+ */
+public enum AuditLogMode {
+
+    /**
+     * Each entry is saved through JPA on the request thread.
+     */
+    SYNC,
+
+    /**
+     * Entries are queued in memory and written in JDBC batches by a background writer.
+     */
+    ASYNC,
+
+    /**
+     * Entries are appended to local segment files and bulk-loaded into the database by a background loader.
+     */
+    SEGMENT
+
+}
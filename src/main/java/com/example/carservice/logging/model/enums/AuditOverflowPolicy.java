@@ -0,0 +1,23 @@
+package com.example.carservice.logging.model.enums;
+
+/**
+ * Enumeration of what happens to an audit log entry when the in-memory audit queue is full.
+ */
+public enum AuditOverflowPolicy {
+
+    /**
+     * The entry is discarded and counted as dropped.
+     */
+    DROP,
+
+    /**
+     * The request thread waits up to the configured block timeout for free space, then drops the entry.
+     */
+    BLOCK,
+
+    /**
+     * The entry is appended to a local spill file and loaded into the database once the queue drains.
+     */
+    SPILL
+
+}
@@ -0,0 +1,74 @@
+package com.example.carservice.logging.repository;
+
+import com.example.carservice.common.id.IdCodec;
+import com.example.carservice.common.id.TimeOrderedUuid;
+import com.example.carservice.logging.entity.LogEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC repository that writes {@link LogEntity} rows into the {@code LOGS} table in batches,
+ * bypassing the persistence context. Used by the background audit writers where
+ * one multi-row insert per batch is much cheaper than one JPA save per entry.
+ * Inserts are idempotent: a row whose ID already exists is left as it is, so that a batch
+ * loaded again after a partial failure does not fail on duplicate keys.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO logs (id, message, endpoint, method, status, user_info, error_type, response,
+                              response_encoding, response_truncated,
+                              operation, time, created_at, created_by, updated_at, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given log entries using a single JDBC batch.
+     * Entries without an ID are assigned a new one before insertion; entries whose ID is already
+     * stored are skipped.
+     *
+     * @param logEntities the log entries to insert
+     */
+    public void batchInsert(final List<LogEntity> logEntities) {
+
+        logEntities.stream()
+                .filter(logEntity -> logEntity.getId() == null)
+                .forEach(logEntity -> logEntity.setId(TimeOrderedUuid.nextId()));
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, logEntities, logEntities.size(), (preparedStatement, logEntity) -> {
+            preparedStatement.setBytes(1, IdCodec.encode(logEntity.getId()));
+            preparedStatement.setString(2, logEntity.getMessage());
+            preparedStatement.setString(3, logEntity.getEndpoint());
+            preparedStatement.setString(4, logEntity.getMethod());
+            preparedStatement.setString(5, Optional.ofNullable(logEntity.getStatus()).map(Enum::name).orElse(null));
+            preparedStatement.setString(6, logEntity.getUserInfo());
+            preparedStatement.setString(7, logEntity.getErrorType());
+            preparedStatement.setString(8, logEntity.getResponse());
+            preparedStatement.setString(9, Optional.ofNullable(logEntity.getResponseEncoding()).map(Enum::name).orElse(null));
+            preparedStatement.setObject(10, logEntity.getResponseTruncated(), Types.BOOLEAN);
+            preparedStatement.setString(11, logEntity.getOperation());
+            preparedStatement.setTimestamp(12, toTimestamp(logEntity.getTime()));
+            preparedStatement.setTimestamp(13, toTimestamp(logEntity.getCreatedAt()));
+            preparedStatement.setString(14, logEntity.getCreatedBy());
+            preparedStatement.setTimestamp(15, toTimestamp(logEntity.getUpdatedAt()));
+            preparedStatement.setString(16, logEntity.getUpdatedBy());
+        });
+    }
+
+    private static Timestamp toTimestamp(final LocalDateTime localDateTime) {
+        return localDateTime != null ? Timestamp.valueOf(localDateTime) : null;
+    }
+
+}
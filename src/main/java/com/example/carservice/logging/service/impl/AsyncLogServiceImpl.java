@@ -0,0 +1,285 @@
+package com.example.carservice.logging.service.impl;
+
+import com.example.carservice.common.id.TimeOrderedUuid;
+import com.example.carservice.logging.config.AuditLogProperties;
+import com.example.carservice.logging.entity.LogEntity;
+import com.example.carservice.logging.model.enums.AuditOverflowPolicy;
+import com.example.carservice.logging.repository.LogJdbcRepository;
+import com.example.carservice.logging.service.LogService;
+import com.example.carservice.logging.storage.AuditLogSegmentLoader;
+import com.example.carservice.logging.storage.AuditLogSegmentStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous implementation of the {@link LogService} interface.
+ * <p>
+ * Request threads only enqueue the entry into a bounded in-memory queue. A single background writer
+ * drains the queue and inserts the entries with JDBC batches, flushing when a batch is full or when the
+ * oldest queued entry has waited for the configured flush interval. When the queue is full the configured
+ * {@link AuditOverflowPolicy} decides whether the entry is dropped, the caller waits briefly, or the entry
+ * is spilled to a local file that is loaded into the database once the queue has drained.
+ * </p>
+ * Exposes {@code audit.log.queue.depth}, {@code audit.log.dropped}, {@code audit.log.spilled},
+ * {@code audit.log.written}, {@code audit.log.segment.quarantined} and {@code audit.log.flush} metrics.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "carservice.logging.audit", name = "mode", havingValue = "async")
+public class AsyncLogServiceImpl implements LogService {
+
+    private final LogJdbcRepository logJdbcRepository;
+    private final AuditLogProperties.Async asyncProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogSegmentLoader segmentLoader;
+
+    private final BlockingQueue<LogEntity> queue;
+
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter writtenCounter;
+    private final Timer flushTimer;
+
+    private AuditLogSegmentStore spillStore;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public AsyncLogServiceImpl(final LogJdbcRepository logJdbcRepository,
+                               final AuditLogProperties auditLogProperties,
+                               final ObjectMapper objectMapper,
+                               final PlatformTransactionManager transactionManager,
+                               final MeterRegistry meterRegistry) {
+
+        this.logJdbcRepository = logJdbcRepository;
+        this.asyncProperties = auditLogProperties.getAsync();
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.segmentLoader = new AuditLogSegmentLoader(
+                logJdbcRepository,
+                transactionTemplate,
+                asyncProperties.getBatchSize(),
+                asyncProperties.getMaxLoadAttempts(),
+                Counter.builder("audit.log.segment.quarantined")
+                        .description("Number of segments moved to the quarantine directory after failing to load")
+                        .register(meterRegistry)
+        );
+        this.queue = new ArrayBlockingQueue<>(asyncProperties.getQueueCapacity());
+
+        Gauge.builder("audit.log.queue.depth", queue, BlockingQueue::size)
+                .description("Number of audit log entries waiting to be written")
+                .register(meterRegistry);
+
+        this.droppedCounter = Counter.builder("audit.log.dropped")
+                .description("Number of audit log entries discarded because the queue was full or the write failed")
+                .register(meterRegistry);
+
+        this.spilledCounter = Counter.builder("audit.log.spilled")
+                .description("Number of audit log entries written to the local spill file")
+                .register(meterRegistry);
+
+        this.writtenCounter = Counter.builder("audit.log.written")
+                .description("Number of audit log entries inserted into the database")
+                .register(meterRegistry);
+
+        this.flushTimer = Timer.builder("audit.log.flush")
+                .description("Duration of each batch insert of audit log entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens the spill store if needed and starts the background writer.
+     *
+     * @throws IOException if the spill directory cannot be prepared
+     */
+    @PostConstruct
+    public void start() throws IOException {
+
+        if (asyncProperties.getOverflowPolicy() == AuditOverflowPolicy.SPILL) {
+            spillStore = new AuditLogSegmentStore(
+                    asyncProperties.getSpillDirectory(),
+                    asyncProperties.getSpillSegmentSize().toBytes(),
+                    objectMapper
+            );
+        }
+
+        running = true;
+        final Thread.Builder writerThreadBuilder = asyncProperties.isVirtualThread()
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon(true);
+        writerThread = writerThreadBuilder
+                .name("audit-log-writer")
+                .start(this::writeLoop);
+    }
+
+    /**
+     * Stops the background writer after it has flushed every queued entry.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer
+     * @throws IOException          if the spill store cannot be closed
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+
+        running = false;
+
+        if (writerThread != null) {
+            writerThread.join(asyncProperties.getFlushInterval().toMillis() * 5);
+        }
+
+        if (spillStore != null) {
+            spillStore.close();
+        }
+    }
+
+    /**
+     * Stamps the given {@link LogEntity} and hands it to the background writer.
+     * Auditing fields are filled on the calling thread, where the security context is available,
+     * and the ID is assigned up front so that a spilled entry keeps it until it is loaded.
+     *
+     * @param logEntity the log to persist
+     */
+    @Override
+    public void saveLogToDatabase(final LogEntity logEntity) {
+
+        logEntity.setId(TimeOrderedUuid.nextId());
+        logEntity.setTime(LocalDateTime.now());
+        logEntity.prePersist();
+
+        if (!queue.offer(logEntity)) {
+            handleOverflow(logEntity);
+        }
+    }
+
+    private void handleOverflow(final LogEntity logEntity) {
+
+        switch (asyncProperties.getOverflowPolicy()) {
+            case DROP -> droppedCounter.increment();
+            case BLOCK -> {
+                try {
+                    final long timeout = asyncProperties.getBlockTimeout().toMillis();
+                    if (!queue.offer(logEntity, timeout, TimeUnit.MILLISECONDS)) {
+                        droppedCounter.increment();
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    droppedCounter.increment();
+                }
+            }
+            case SPILL -> spill(List.of(logEntity));
+        }
+    }
+
+    private void writeLoop() {
+
+        final int batchSize = asyncProperties.getBatchSize();
+        final long flushIntervalNanos = asyncProperties.getFlushInterval().toNanos();
+
+        while (running || !queue.isEmpty()) {
+
+            try {
+                final LogEntity first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+
+                if (first == null) {
+                    loadSpilledEntries();
+                    continue;
+                }
+
+                final List<LogEntity> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+
+                final long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    final long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    final LogEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException exception) {
+                log.error("Audit log writer failed", exception);
+            }
+        }
+
+        final List<LogEntity> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    private void write(final List<LogEntity> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> logJdbcRepository.batchInsert(batch)
+            ));
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException exception) {
+            log.error("Audit log batch of {} entries could not be written", batch.size(), exception);
+            if (spillStore != null) {
+                spill(batch);
+            } else {
+                droppedCounter.increment(batch.size());
+            }
+        }
+    }
+
+    private void spill(final List<LogEntity> logEntities) {
+        try {
+            for (LogEntity logEntity : logEntities) {
+                spillStore.append(logEntity);
+            }
+            spilledCounter.increment(logEntities.size());
+        } catch (IOException exception) {
+            log.error("Audit log entries could not be spilled", exception);
+            droppedCounter.increment(logEntities.size());
+        }
+    }
+
+    private void loadSpilledEntries() {
+
+        if (spillStore == null || !queue.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (spillStore.hasOpenRecords()) {
+                spillStore.roll();
+            }
+
+            segmentLoader.loadClosedSegments(spillStore, writtenCounter::increment);
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Spilled audit log entries could not be loaded yet", exception);
+        }
+    }
+
+}
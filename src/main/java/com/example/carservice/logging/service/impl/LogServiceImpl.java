@@ -4,16 +4,19 @@ import com.example.carservice.logging.entity.LogEntity;
 import com.example.carservice.logging.repository.LogRepository;
 import com.example.carservice.logging.service.LogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
 /**
  * Implementation of the {@link LogService} interface.
- * Handles persistence of log entries to the database.
+ * Handles persistence of log entries to the database, synchronously on the calling thread.
+ * Active when {@code carservice.logging.audit.mode} is {@code sync} or not set.
  */
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "carservice.logging.audit", name = "mode", havingValue = "sync", matchIfMissing = true)
 public class LogServiceImpl implements LogService {
 
     private final LogRepository logRepository;
@@ -0,0 +1,146 @@
+package com.example.carservice.logging.service.impl;
+
+import com.example.carservice.common.id.TimeOrderedUuid;
+import com.example.carservice.logging.config.AuditLogProperties;
+import com.example.carservice.logging.entity.LogEntity;
+import com.example.carservice.logging.repository.LogJdbcRepository;
+import com.example.carservice.logging.service.LogService;
+import com.example.carservice.logging.storage.AuditLogSegmentLoader;
+import com.example.carservice.logging.storage.AuditLogSegmentStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Segment-file implementation of the {@link LogService} interface.
+ * <p>
+ * Request threads only append the entry to the open local segment through an {@link AuditLogSegmentStore},
+ * a single sequential write that does not depend on the database. Segments are closed by size or age and
+ * a scheduled loader bulk-inserts the closed ones into the {@code LOGS} table, so entries written while the
+ * database is slow or unavailable stay on disk until a later run succeeds.
+ * </p>
+ * Exposes {@code audit.log.segment.appended}, {@code audit.log.segment.failed}, {@code audit.log.written},
+ * {@code audit.log.segment.quarantined} and {@code audit.log.segment.load} metrics.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "carservice.logging.audit", name = "mode", havingValue = "segment")
+public class SegmentLogServiceImpl implements LogService {
+
+    private final AuditLogProperties.Segment segmentProperties;
+    private final AuditLogSegmentStore segmentStore;
+    private final AuditLogSegmentLoader segmentLoader;
+
+    private final Counter appendedCounter;
+    private final Counter failedCounter;
+    private final Counter writtenCounter;
+    private final Timer loadTimer;
+
+    public SegmentLogServiceImpl(final LogJdbcRepository logJdbcRepository,
+                                 final AuditLogProperties auditLogProperties,
+                                 final ObjectMapper objectMapper,
+                                 final PlatformTransactionManager transactionManager,
+                                 final MeterRegistry meterRegistry) throws IOException {
+
+        this.segmentProperties = auditLogProperties.getSegment();
+        this.segmentStore = new AuditLogSegmentStore(
+                segmentProperties.getDirectory(),
+                segmentProperties.getSegmentSize().toBytes(),
+                objectMapper,
+                segmentProperties.isForceOnAppend()
+        );
+        this.segmentLoader = new AuditLogSegmentLoader(
+                logJdbcRepository,
+                new TransactionTemplate(transactionManager),
+                segmentProperties.getBatchSize(),
+                segmentProperties.getMaxLoadAttempts(),
+                Counter.builder("audit.log.segment.quarantined")
+                        .description("Number of segments moved to the quarantine directory after failing to load")
+                        .register(meterRegistry)
+        );
+
+        this.appendedCounter = Counter.builder("audit.log.segment.appended")
+                .description("Number of audit log entries appended to the local segment files")
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("audit.log.segment.failed")
+                .description("Number of audit log entries that could not be appended to the local segment files")
+                .register(meterRegistry);
+
+        this.writtenCounter = Counter.builder("audit.log.written")
+                .description("Number of audit log entries inserted into the database")
+                .register(meterRegistry);
+
+        this.loadTimer = Timer.builder("audit.log.segment.load")
+                .description("Duration of each run of the segment loader")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stamps the given {@link LogEntity} and appends it to the open segment.
+     * Auditing fields are filled on the calling thread, where the security context is available,
+     * and the ID is assigned up front so that it is kept when the entry is loaded.
+     *
+     * @param logEntity the log to persist
+     */
+    @Override
+    public void saveLogToDatabase(final LogEntity logEntity) {
+
+        logEntity.setId(TimeOrderedUuid.nextId());
+        logEntity.setTime(LocalDateTime.now());
+        logEntity.prePersist();
+
+        try {
+            segmentStore.append(logEntity);
+            appendedCounter.increment();
+        } catch (IOException exception) {
+            failedCounter.increment();
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Closes the open segment once it is older than the configured maximum age and bulk-loads every
+     * closed segment into the database. A segment that fails to load is kept and retried on the next run,
+     * until it is quarantined after the configured number of attempts.
+     */
+    @Scheduled(
+            fixedDelayString = "${carservice.logging.audit.segment.load-interval:10s}",
+            initialDelayString = "${carservice.logging.audit.segment.load-interval:10s}"
+    )
+    public void loadClosedSegments() {
+        loadTimer.record(() -> {
+            try {
+                segmentStore.rollIfOlderThan(segmentProperties.getMaxSegmentAge());
+                segmentLoader.loadClosedSegments(segmentStore, writtenCounter::increment);
+            } catch (IOException | RuntimeException exception) {
+                log.warn("Audit log segments could not be loaded yet", exception);
+            }
+        });
+    }
+
+    /**
+     * Closes the open segment and makes a last attempt to load every closed segment.
+     * Segments that still cannot be loaded are picked up after the next start.
+     *
+     * @throws IOException if the open segment cannot be closed
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        segmentStore.close();
+        loadClosedSegments();
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.example.carservice.logging.storage;
+
+import com.example.carservice.logging.repository.LogJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Bulk-loads the closed segments of an {@link AuditLogSegmentStore} into the {@code LOGS} table.
+ * <p>
+ * Each segment is inserted with JDBC batches inside a single transaction and deleted once that transaction
+ * has committed. Records keep the ID assigned when they were written and rows already present are skipped,
+ * so a segment left in place by a crash or a failed delete after the commit can be loaded again safely.
+ * </p>
+ * A segment that fails for any reason other than the database being unavailable is retried on the following
+ * runs; once it has failed {@code maxLoadAttempts} times in a row it is moved to the quarantine directory of
+ * the store and counted, so that it no longer blocks the segments written after it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AuditLogSegmentLoader {
+
+    private final LogJdbcRepository logJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxLoadAttempts;
+    private final Counter quarantinedCounter;
+
+    private final Map<Path, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Loads and deletes every closed segment of the given store, oldest first.
+     * Stops at the first segment that cannot be loaded, unless that segment is quarantined.
+     *
+     * @param store          the store whose closed segments are loaded
+     * @param loadedConsumer receives the number of records of each segment once it has been committed
+     * @throws IOException if a segment cannot be listed, deleted or quarantined
+     */
+    public void loadClosedSegments(final AuditLogSegmentStore store,
+                                   final LongConsumer loadedConsumer) throws IOException {
+
+        for (Path segment : store.closedSegments()) {
+
+            final long loaded;
+            try {
+                loaded = loadSegment(store, segment);
+            } catch (RuntimeException exception) {
+                if (isDatabaseUnavailable(exception) || failedAttempts.merge(segment, 1, Integer::sum) < maxLoadAttempts) {
+                    throw exception;
+                }
+                failedAttempts.remove(segment);
+                store.quarantine(segment);
+                quarantinedCounter.increment();
+                log.error("Audit log segment {} failed to load {} times and was quarantined",
+                        segment.getFileName(), maxLoadAttempts, exception);
+                continue;
+            }
+
+            failedAttempts.remove(segment);
+            store.delete(segment);
+            loadedConsumer.accept(loaded);
+        }
+    }
+
+    private long loadSegment(final AuditLogSegmentStore store, final Path segment) {
+
+        final Long loaded = transactionTemplate.execute(status -> {
+            final long[] count = {0L};
+            try {
+                store.forEachBatch(segment, batchSize, batch -> {
+                    logJdbcRepository.batchInsert(batch);
+                    count[0] += batch.size();
+                });
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            return count[0];
+        });
+
+        return loaded != null ? loaded : 0L;
+    }
+
+    /**
+     * Returns whether the failure says nothing about the segment itself, as when no connection can be obtained;
+     * such failures never count towards quarantining a segment.
+     */
+    private static boolean isDatabaseUnavailable(final RuntimeException exception) {
+        return exception instanceof DataAccessResourceFailureException
+                || exception instanceof TransientDataAccessException
+                || exception instanceof RecoverableDataAccessException
+                || exception instanceof CannotCreateTransactionException;
+    }
+
+}
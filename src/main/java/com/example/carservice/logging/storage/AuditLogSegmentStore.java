@@ -0,0 +1,265 @@
+package com.example.carservice.logging.storage;
+
+import com.example.carservice.logging.entity.LogEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, size-rolled store of {@link LogEntity} records on the local disk.
+ * <p>
+ * Records are written as one JSON document per line to the currently open segment through a
+ * {@link FileChannel}, so appending costs a single sequential write. Once a segment reaches the configured
+ * size it is closed and becomes visible to {@link #closedSegments()}; closed segments can then be read back
+ * in batches and deleted after they have been loaded elsewhere, or set aside in the {@value #QUARANTINE_DIRECTORY}
+ * subdirectory when they cannot be loaded. Segments left open by a crash are treated as closed on startup,
+ * and a torn last line is skipped when reading.
+ * </p>
+ * Appends are handed to the operating system only; they survive a crash of the application but not of the host
+ * unless {@code forceOnAppend} is set, in which case every append is flushed to the device.
+ */
+@Slf4j
+public class AuditLogSegmentStore {
+
+    static final String QUARANTINE_DIRECTORY = "quarantine";
+
+    private static final String OPEN_SUFFIX = ".open";
+    private static final String CLOSED_SUFFIX = ".segment";
+    private static final byte NEW_LINE = '\n';
+
+    private final Path directory;
+    private final long maxSegmentSize;
+    private final ObjectMapper objectMapper;
+    private final boolean forceOnAppend;
+
+    private FileChannel currentChannel;
+    private Path currentSegment;
+    private long currentSize;
+    private long currentOpenedAt;
+    private long sequence;
+
+    public AuditLogSegmentStore(final Path directory,
+                                final long maxSegmentSize,
+                                final ObjectMapper objectMapper) throws IOException {
+        this(directory, maxSegmentSize, objectMapper, false);
+    }
+
+    public AuditLogSegmentStore(final Path directory,
+                                final long maxSegmentSize,
+                                final ObjectMapper objectMapper,
+                                final boolean forceOnAppend) throws IOException {
+
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+        this.objectMapper = objectMapper;
+        this.forceOnAppend = forceOnAppend;
+
+        Files.createDirectories(directory);
+
+        try (Stream<Path> openSegments = Files.list(directory)) {
+            for (Path openSegment : openSegments.filter(path -> path.toString().endsWith(OPEN_SUFFIX)).toList()) {
+                Files.move(openSegment, closedPathOf(openSegment), StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+
+    /**
+     * Appends a record to the current segment, rolling to a new segment once the size limit is reached.
+     *
+     * @param logEntity the record to append
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void append(final LogEntity logEntity) throws IOException {
+
+        final byte[] json = objectMapper.writeValueAsBytes(logEntity);
+        final ByteBuffer buffer = ByteBuffer.allocate(json.length + 1)
+                .put(json)
+                .put(NEW_LINE)
+                .flip();
+
+        if (currentChannel == null) {
+            openNewSegment();
+        }
+
+        while (buffer.hasRemaining()) {
+            currentSize += currentChannel.write(buffer);
+        }
+
+        if (forceOnAppend) {
+            currentChannel.force(false);
+        }
+
+        if (currentSize >= maxSegmentSize) {
+            roll();
+        }
+    }
+
+    /**
+     * Closes the current segment, if any, making it available to {@link #closedSegments()}.
+     *
+     * @throws IOException if the segment cannot be closed
+     */
+    public synchronized void roll() throws IOException {
+
+        if (currentChannel == null) {
+            return;
+        }
+
+        currentChannel.force(false);
+        currentChannel.close();
+        Files.move(currentSegment, closedPathOf(currentSegment), StandardCopyOption.ATOMIC_MOVE);
+
+        currentChannel = null;
+        currentSegment = null;
+        currentSize = 0L;
+    }
+
+    /**
+     * Closes the current segment if it holds records and was opened at least {@code maxAge} ago,
+     * so that records written under low traffic do not wait for the size limit indefinitely.
+     *
+     * @param maxAge the maximum age of the open segment
+     * @throws IOException if the segment cannot be closed
+     */
+    public synchronized void rollIfOlderThan(final Duration maxAge) throws IOException {
+        if (hasOpenRecords() && System.nanoTime() - currentOpenedAt >= maxAge.toNanos()) {
+            roll();
+        }
+    }
+
+    /**
+     * Returns whether records have been appended to the current segment since it was opened.
+     *
+     * @return {@code true} if the open segment holds records
+     */
+    public synchronized boolean hasOpenRecords() {
+        return currentChannel != null && currentSize > 0L;
+    }
+
+    /**
+     * Lists the closed segments in the order they were written.
+     *
+     * @return the closed segment files, oldest first
+     * @throws IOException if the directory cannot be listed
+     */
+    public List<Path> closedSegments() throws IOException {
+        try (Stream<Path> segments = Files.list(directory)) {
+            return segments
+                    .filter(path -> path.toString().endsWith(CLOSED_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Reads a closed segment and hands its records to the consumer in batches.
+     * Lines that cannot be parsed, such as a line torn by a crash, are skipped.
+     *
+     * @param segment   the closed segment to read
+     * @param batchSize the maximum number of records per batch
+     * @param consumer  the consumer of each batch
+     * @throws IOException if the segment cannot be read
+     */
+    public void forEachBatch(final Path segment,
+                             final int batchSize,
+                             final Consumer<List<LogEntity>> consumer) throws IOException {
+
+        List<LogEntity> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    batch.add(objectMapper.readValue(line, LogEntity.class));
+                } catch (JsonProcessingException exception) {
+                    log.warn("Skipping unreadable audit record in {}", segment.getFileName());
+                    continue;
+                }
+
+                if (batch.size() == batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
+    /**
+     * Deletes a closed segment after its records have been loaded.
+     *
+     * @param segment the closed segment to delete
+     * @throws IOException if the segment cannot be deleted
+     */
+    public void delete(final Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    /**
+     * Moves a closed segment that cannot be loaded to the quarantine subdirectory, where it is kept for
+     * inspection and no longer listed by {@link #closedSegments()}.
+     *
+     * @param segment the closed segment to set aside
+     * @throws IOException if the segment cannot be moved
+     */
+    public void quarantine(final Path segment) throws IOException {
+        final Path quarantineDirectory = Files.createDirectories(directory.resolve(QUARANTINE_DIRECTORY));
+        Files.move(segment, quarantineDirectory.resolve(segment.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Closes the current segment so that it is picked up on the next load.
+     *
+     * @throws IOException if the segment cannot be closed
+     */
+    public void close() throws IOException {
+        roll();
+    }
+
+    private void openNewSegment() throws IOException {
+
+        final String name = String.format("audit-%020d-%06d%s", System.currentTimeMillis(), sequence++, OPEN_SUFFIX);
+
+        currentSegment = directory.resolve(name);
+        currentChannel = FileChannel.open(
+                currentSegment,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+        );
+        currentSize = 0L;
+        currentOpenedAt = System.nanoTime();
+    }
+
+    private static Path closedPathOf(final Path openSegment) {
+        final String fileName = openSegment.getFileName().toString();
+        return openSegment.resolveSibling(
+                fileName.substring(0, fileName.length() - OPEN_SUFFIX.length()) + CLOSED_SUFFIX
+        );
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.example.carservice.logging.utils;
+
+import com.example.carservice.logging.config.AuditLogProperties;
+import com.example.carservice.logging.model.CapturedBody;
+import com.example.carservice.logging.model.enums.AuditBodyEncoding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Turns a controller result into the {@link CapturedBody} stored in an audit log entry,
+ * according to the configured {@link com.example.carservice.logging.model.enums.AuditBodyCaptureMode}.
+ * <p>
+ * The result is serialized with the application {@link ObjectMapper}, i.e. as the client received it,
+ * straight into a size-bounded or digesting stream, so that no full copy of a large body is built
+ * unless the whole body is actually kept.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCapturer {
+
+    private final ObjectMapper objectMapper;
+    private final AuditLogProperties auditLogProperties;
+
+    /**
+     * Captures the given controller result.
+     *
+     * @param result the value returned by the controller method
+     * @return the captured body, or {@code null} if nothing is to be stored
+     * @throws IOException if the result cannot be serialized
+     */
+    public CapturedBody capture(final Object result) throws IOException {
+
+        if (result == null) {
+            return null;
+        }
+
+        final AuditLogProperties.Body bodyProperties = auditLogProperties.getBody();
+
+        return switch (bodyProperties.getCaptureMode()) {
+            case NONE -> null;
+            case TRUNCATED -> truncated(result, Math.toIntExact(bodyProperties.getMaxSize().toBytes()));
+            case HASH -> hashed(result);
+            case FULL -> ThreadLocalRandom.current().nextDouble() < bodyProperties.getFullSampleRate()
+                    ? full(result)
+                    : hashed(result);
+        };
+    }
+
+    private CapturedBody truncated(final Object result, final int maxSize) throws IOException {
+
+        final BoundedOutputStream outputStream = new BoundedOutputStream(maxSize);
+
+        try {
+            write(result, outputStream);
+        } catch (IOException | RuntimeException exception) {
+            if (!outputStream.isLimitReached()) {
+                throw exception;
+            }
+        }
+
+        return encode(outputStream.toByteArray(), outputStream.isLimitReached());
+    }
+
+    private CapturedBody full(final Object result) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        write(result, outputStream);
+        return encode(outputStream.toByteArray(), false);
+    }
+
+    private CapturedBody hashed(final Object result) throws IOException {
+
+        final DigestOutputStream outputStream = new DigestOutputStream(OutputStream.nullOutputStream(), sha256());
+        write(result, outputStream);
+
+        return CapturedBody.builder()
+                .content(HexFormat.of().formatHex(outputStream.getMessageDigest().digest()))
+                .encoding(AuditBodyEncoding.SHA256)
+                .truncated(false)
+                .build();
+    }
+
+    private CapturedBody encode(final byte[] body, final boolean truncated) throws IOException {
+
+        final AuditLogProperties.Body bodyProperties = auditLogProperties.getBody();
+
+        if (bodyProperties.isCompress() && body.length >= bodyProperties.getCompressionThreshold().toBytes()) {
+
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+                gzipOutputStream.write(body);
+            }
+
+            return CapturedBody.builder()
+                    .content(Base64.getEncoder().encodeToString(compressed.toByteArray()))
+                    .encoding(AuditBodyEncoding.GZIP_BASE64)
+                    .truncated(truncated)
+                    .build();
+        }
+
+        return CapturedBody.builder()
+                .content(new String(body, StandardCharsets.UTF_8))
+                .encoding(AuditBodyEncoding.PLAIN)
+                .truncated(truncated)
+                .build();
+    }
+
+    private void write(final Object result, final OutputStream outputStream) throws IOException {
+        if (result instanceof String text) {
+            outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+        } else {
+            objectMapper.writeValue(outputStream, result);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    /**
+     * Output stream that keeps at most {@code limit} bytes and aborts the write once more are offered,
+     * so that serializing a large body stops as soon as the kept prefix is complete.
+     */
+    private static final class BoundedOutputStream extends ByteArrayOutputStream {
+
+        private final int limit;
+        private boolean limitReached;
+
+        private BoundedOutputStream(final int limit) {
+            super(Math.min(limit, 8192));
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(final int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(final byte[] bytes, final int offset, final int length) {
+
+            final int remaining = limit - count;
+
+            if (length > remaining) {
+                super.write(bytes, offset, Math.max(remaining, 0));
+                limitReached = true;
+                throw new LimitReachedException();
+            }
+
+            super.write(bytes, offset, length);
+        }
+
+        private boolean isLimitReached() {
+            return limitReached;
+        }
+
+    }
+
+    private static final class LimitReachedException extends RuntimeException {
+
+        private LimitReachedException() {
+            super("Audit body limit reached", null, false, false);
+        }
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.carservice.logging.utils.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a controller method that only reads data even though it is not mapped to {@code GET},
+ * such as paged listings that take their paging request as a body.
+ * <p>
+ * Successful calls to read-only endpoints are not audited when
+ * {@code carservice.logging.audit.skip-read-only-endpoints} is enabled.
+ * </p>
+ */
+@Documented
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadOnlyEndpoint {
+}
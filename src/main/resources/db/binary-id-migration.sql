@@ -0,0 +1,35 @@
+-- Moves logs.id and services.id from 36-character UUID text to BINARY(16) (MySQL 8).
+--
+-- New installations do not need this script: Hibernate creates both columns as BINARY(16).
+-- Existing installations run it once, with the application stopped, before starting the version that maps
+-- these IDs with BinaryIdType. `ddl-auto: update` never changes the type of an existing column.
+--
+-- Existing IDs keep their value; UUID_TO_BIN without the swap flag stores the bytes in the same order as
+-- IdCodec, so the API keeps returning the same text IDs and keyset cursors stay valid.
+-- Every ALTER below rebuilds the table; on large tables run it in a maintenance window or through an online
+-- schema change tool.
+--
+-- Table and column names are lowercase because the default Spring Boot naming strategy creates them that way,
+-- and MySQL compares table names case-sensitively on Linux.
+
+-- logs
+ALTER TABLE logs ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE logs SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE logs DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE logs RENAME COLUMN id_bin TO id;
+ALTER TABLE logs MODIFY id BINARY(16) NOT NULL, ADD PRIMARY KEY (id);
+
+-- services
+-- Dropping the text ID removes it from the composite indexes, which are rebuilt on the binary ID afterwards;
+-- IX_SERVICES_CAR_ID_CREATED_AT_ID keeps serving the car_id foreign key in between.
+ALTER TABLE services ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE services SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE services DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE services RENAME COLUMN id_bin TO id;
+ALTER TABLE services
+    MODIFY id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (id),
+    DROP INDEX IX_SERVICES_CREATED_AT_ID,
+    ADD INDEX IX_SERVICES_CREATED_AT_ID (created_at, id),
+    DROP INDEX IX_SERVICES_CAR_ID_CREATED_AT_ID,
+    ADD INDEX IX_SERVICES_CAR_ID_CREATED_AT_ID (car_id, created_at, id);
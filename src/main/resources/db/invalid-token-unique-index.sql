@@ -0,0 +1,24 @@
+-- Makes invalid_token.token_id unique (MySQL 8).
+--
+-- New installations do not need this script: Hibernate creates UX_INVALID_TOKEN_TOKEN_ID with the table.
+-- Existing installations run it once, with the application stopped, before starting the version that declares
+-- the index. Earlier versions never prevented the same token ID from being stored twice, and with duplicates in
+-- place `ddl-auto: update` cannot create the unique index: the failure is only logged and the index stays missing.
+--
+-- Duplicate rows record the same revoked token, so keeping any one of them per token ID loses nothing; the row
+-- with the lowest ID is kept. Rows without a token ID revoke nothing and are removed.
+--
+-- Names are written in lowercase, as Hibernate creates them under the default Spring Boot naming strategy;
+-- MySQL on Linux would not find INVALID_TOKEN.
+
+DELETE FROM invalid_token WHERE token_id IS NULL;
+
+DELETE duplicate
+FROM invalid_token duplicate
+         JOIN invalid_token kept
+              ON kept.token_id = duplicate.token_id
+                  AND kept.id < duplicate.id;
+
+ALTER TABLE invalid_token
+    MODIFY token_id VARCHAR(255) NOT NULL,
+    ADD UNIQUE INDEX UX_INVALID_TOKEN_TOKEN_ID (token_id);
@@ -0,0 +1,135 @@
+package com.example.carservice;
+
+import com.example.carservice.base.AbstractTestContainerConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the upgrade scripts under {@code db/} against the MySQL image used by the other container tests,
+ * starting from the schema that earlier versions of the application created.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MigrationScriptTest extends AbstractTestContainerConfiguration {
+
+    private static final String LOG_ID = "0191f2a4-7c3e-7b8a-9d41-2f6c8e0a1b3c";
+    private static final String SERVICE_ID = "0191f2a4-7c3e-7b8a-9d41-2f6c8e0a1b3d";
+    private static final String CAR_ID = "5b1f0c2e-8a4d-4e6f-9b3a-1c2d3e4f5a6b";
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS services, cars, logs, invalid_token");
+    }
+
+    @Test
+    void givenTextIds_whenBinaryIdMigrationRuns_thenIdsAreBinaryAndKeepTheirValue() {
+
+        // Given
+        jdbcTemplate.execute("CREATE TABLE cars (id VARCHAR(255) NOT NULL, PRIMARY KEY (id))");
+        jdbcTemplate.execute("""
+                CREATE TABLE logs (
+                    id VARCHAR(255) NOT NULL,
+                    operation VARCHAR(255),
+                    PRIMARY KEY (id))
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE services (
+                    id VARCHAR(255) NOT NULL,
+                    title VARCHAR(255) NOT NULL,
+                    created_at DATETIME(6),
+                    car_id VARCHAR(255),
+                    PRIMARY KEY (id),
+                    INDEX IX_SERVICES_CREATED_AT_ID (created_at, id),
+                    INDEX IX_SERVICES_CAR_ID_CREATED_AT_ID (car_id, created_at, id),
+                    CONSTRAINT FK_SERVICES_CAR_ID FOREIGN KEY (car_id) REFERENCES cars (id))
+                """);
+        jdbcTemplate.update("INSERT INTO cars (id) VALUES (?)", CAR_ID);
+        jdbcTemplate.update("INSERT INTO logs (id, operation) VALUES (?, 'operation')", LOG_ID);
+        jdbcTemplate.update("INSERT INTO services (id, title, created_at, car_id) VALUES (?, 'Oil', NOW(6), ?)",
+                SERVICE_ID, CAR_ID);
+
+        // When
+        runScript("db/binary-id-migration.sql");
+
+        // Then
+        assertEquals("binary", columnType("logs", "id"));
+        assertEquals("binary", columnType("services", "id"));
+        assertEquals(LOG_ID, jdbcTemplate.queryForObject("SELECT BIN_TO_UUID(id) FROM logs", String.class));
+        assertEquals(SERVICE_ID, jdbcTemplate.queryForObject("SELECT BIN_TO_UUID(id) FROM services", String.class));
+        assertEquals(CAR_ID, jdbcTemplate.queryForObject("SELECT car_id FROM services", String.class));
+        assertEquals(List.of("created_at", "id"), indexColumns("services", "IX_SERVICES_CREATED_AT_ID"));
+        assertEquals(List.of("car_id", "created_at", "id"), indexColumns("services", "IX_SERVICES_CAR_ID_CREATED_AT_ID"));
+
+    }
+
+    @Test
+    void givenDuplicateAndMissingTokenIds_whenUniqueIndexMigrationRuns_thenOneRowPerTokenIdIsKeptAndIndexed() {
+
+        // Given
+        jdbcTemplate.execute("""
+                CREATE TABLE invalid_token (
+                    id VARCHAR(255) NOT NULL,
+                    token_id VARCHAR(255),
+                    PRIMARY KEY (id))
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO invalid_token (id, token_id)
+                VALUES ('a', 'first'), ('b', 'first'), ('c', 'second'), ('d', NULL)
+                """);
+
+        // When
+        runScript("db/invalid-token-unique-index.sql");
+
+        // Then
+        final List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, token_id FROM invalid_token ORDER BY id");
+        assertEquals(List.of(
+                Map.of("id", "a", "token_id", "first"),
+                Map.of("id", "c", "token_id", "second")), rows);
+        assertEquals(List.of("token_id"), indexColumns("invalid_token", "UX_INVALID_TOKEN_TOKEN_ID"));
+        assertEquals("NO", jdbcTemplate.queryForObject("""
+                SELECT IS_NULLABLE FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'invalid_token' AND COLUMN_NAME = 'token_id'
+                """, String.class));
+        assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(
+                "INSERT INTO invalid_token (id, token_id) VALUES ('e', 'first')"));
+
+    }
+
+    private void runScript(final String path) {
+        new ResourceDatabasePopulator(new ClassPathResource(path)).execute(dataSource);
+    }
+
+    private String columnType(final String table, final String column) {
+        return jdbcTemplate.queryForObject("""
+                SELECT DATA_TYPE FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+                """, String.class, table, column);
+    }
+
+    private List<String> indexColumns(final String table, final String index) {
+        return jdbcTemplate.queryForList("""
+                SELECT COLUMN_NAME FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?
+                ORDER BY SEQ_IN_INDEX
+                """, String.class, table, index);
+    }
+
+}
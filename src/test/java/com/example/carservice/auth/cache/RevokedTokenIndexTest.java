@@ -0,0 +1,155 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.RevokedTokenIndexProperties;
+import com.example.carservice.auth.model.entity.InvalidTokenEntity;
+import com.example.carservice.auth.repository.InvalidTokenRepository;
+import com.example.carservice.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RevokedTokenIndexTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private InvalidTokenRepository invalidTokenRepository;
+
+    private RevokedTokenIndexProperties revokedTokenIndexProperties;
+
+    private RevokedTokenIndex revokedTokenIndex;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenIndexProperties = new RevokedTokenIndexProperties();
+        revokedTokenIndex = new RevokedTokenIndex(invalidTokenRepository, revokedTokenIndexProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenStoredTokenIds_whenLoad_thenIndexIsReadyAndContainsThem() {
+
+        // Given
+        List<InvalidTokenEntity> storedTokens = List.of(
+                invalidToken("token-id-1", LocalDateTime.now().plusMinutes(30)),
+                invalidToken("token-id-2", null)
+        );
+
+        // When
+        when(invalidTokenRepository.findAllByExpiresAtAfterOrExpiresAtIsNull(any(LocalDateTime.class)))
+                .thenReturn(storedTokens);
+
+        // Then
+        revokedTokenIndex.load();
+
+        assertTrue(revokedTokenIndex.isReady());
+        assertTrue(revokedTokenIndex.contains("token-id-1"));
+        assertTrue(revokedTokenIndex.contains("token-id-2"));
+        assertFalse(revokedTokenIndex.contains("token-id-3"));
+
+        // Verify
+        verify(invalidTokenRepository, times(1)).findAllByExpiresAtAfterOrExpiresAtIsNull(any(LocalDateTime.class));
+
+    }
+
+    @Test
+    void givenLoadedIndex_whenRefresh_thenPullTokenIdsRevokedByOtherReplicas() {
+
+        // Given
+        when(invalidTokenRepository.findAllByExpiresAtAfterOrExpiresAtIsNull(any(LocalDateTime.class)))
+                .thenReturn(List.of(invalidToken("token-id-1", LocalDateTime.now().plusMinutes(30))));
+        revokedTokenIndex.load();
+
+        // When
+        when(invalidTokenRepository.findAllByCreatedAtGreaterThanEqual(any(LocalDateTime.class)))
+                .thenReturn(List.of(invalidToken("token-id-from-other-replica", LocalDateTime.now().plusMinutes(30))));
+
+        // Then
+        revokedTokenIndex.refresh();
+
+        assertTrue(revokedTokenIndex.contains("token-id-1"));
+        assertTrue(revokedTokenIndex.contains("token-id-from-other-replica"));
+
+        // Verify
+        verify(invalidTokenRepository, times(1)).findAllByCreatedAtGreaterThanEqual(any(LocalDateTime.class));
+
+    }
+
+    @Test
+    void givenDatabaseFailure_whenLoad_thenIndexIsNotReady() {
+
+        // When
+        when(invalidTokenRepository.findAllByExpiresAtAfterOrExpiresAtIsNull(any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("Database down"));
+
+        // Then
+        revokedTokenIndex.load();
+
+        assertFalse(revokedTokenIndex.isReady());
+
+    }
+
+    @Test
+    void givenDisabledIndex_whenLoadAndRefresh_thenDatabaseIsNotQueried() {
+
+        // Given
+        revokedTokenIndexProperties.setEnabled(false);
+
+        // When
+        revokedTokenIndex.load();
+        revokedTokenIndex.refresh();
+
+        // Then
+        assertFalse(revokedTokenIndex.isReady());
+
+        // Verify
+        verifyNoInteractions(invalidTokenRepository);
+
+    }
+
+    @Test
+    void givenNewlyRevokedTokenIds_whenAddAll_thenIndexContainsThem() {
+
+        // When
+        revokedTokenIndex.addAll(Set.of(invalidToken("token-id-1", LocalDateTime.now().plusMinutes(30))));
+
+        // Then
+        assertTrue(revokedTokenIndex.contains("token-id-1"));
+
+    }
+
+    @Test
+    void givenExpiredAndActiveTokens_whenRemoveExpired_thenOnlyActiveTokensRemain() {
+
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenIndex.addAll(List.of(
+                invalidToken("expired-token-id", now.minusMinutes(1)),
+                invalidToken("active-token-id", now.plusMinutes(30)),
+                invalidToken("legacy-token-id", null)
+        ));
+
+        // When
+        revokedTokenIndex.removeExpired(now);
+
+        // Then
+        assertFalse(revokedTokenIndex.contains("expired-token-id"));
+        assertTrue(revokedTokenIndex.contains("active-token-id"));
+        assertTrue(revokedTokenIndex.contains("legacy-token-id"));
+
+    }
+
+    private static InvalidTokenEntity invalidToken(final String tokenId, final LocalDateTime expiresAt) {
+        return InvalidTokenEntity.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.TokenEpochCacheProperties;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.LocalEntityCacheInvalidationBus;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TokenEpochCacheTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final LocalEntityCacheInvalidationBus invalidationBus = new LocalEntityCacheInvalidationBus();
+
+    private TokenEpochCache tokenEpochCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenEpochCache = new TokenEpochCache(userRepository, invalidationBus, new TokenEpochCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenUserEpoch_whenIsRevoked_thenOnlyOlderTokensAreRevokedAndEpochIsReadOnce() {
+
+        // Given
+        when(userRepository.findTokenEpochById("user-id")).thenReturn(Optional.of(2));
+
+        // Then
+        assertTrue(tokenEpochCache.isRevoked("user-id", 1));
+        assertFalse(tokenEpochCache.isRevoked("user-id", 2));
+        assertFalse(tokenEpochCache.isRevoked("user-id", 3));
+
+        // Verify
+        verify(userRepository, times(1)).findTokenEpochById("user-id");
+
+    }
+
+    @Test
+    void givenEpochBumpedOnThisInstance_whenPut_thenOlderTokensAreRevokedWithoutReadingTheDatabase() {
+
+        // When
+        tokenEpochCache.put("user-id", 1);
+
+        // Then
+        assertTrue(tokenEpochCache.isRevoked("user-id", 0));
+        assertFalse(tokenEpochCache.isRevoked("user-id", 1));
+
+        // Verify
+        verifyNoInteractions(userRepository);
+
+    }
+
+    @Test
+    void givenEpochBumpedOnAnotherInstance_whenUserInvalidationIsReceived_thenEpochIsReadAgain() {
+
+        // Given
+        when(userRepository.findTokenEpochById("user-id"))
+                .thenReturn(Optional.of(0))
+                .thenReturn(Optional.of(1));
+
+        assertFalse(tokenEpochCache.isRevoked("user-id", 0));
+
+        // When
+        invalidationBus.publish(EntityCacheInvalidation.builder()
+                .origin("other-instance")
+                .target(CacheInvalidationTarget.ENTITY)
+                .role(UserEntity.class.getName())
+                .key("user-id")
+                .build());
+
+        // Then
+        assertTrue(tokenEpochCache.isRevoked("user-id", 0));
+
+        // Verify
+        verify(userRepository, times(2)).findTokenEpochById("user-id");
+
+    }
+
+    @Test
+    void givenUnknownUser_whenIsRevoked_thenEpochZeroIsAssumed() {
+
+        // Given
+        when(userRepository.findTokenEpochById("unknown")).thenReturn(Optional.empty());
+
+        // Then
+        assertFalse(tokenEpochCache.isRevoked("unknown", 0));
+
+    }
+
+}
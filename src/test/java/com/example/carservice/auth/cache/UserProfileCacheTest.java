@@ -0,0 +1,70 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.UserProfileCacheProperties;
+import com.example.carservice.auth.exception.UserNotFoundException;
+import com.example.carservice.auth.model.UserProfile;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.builder.UserEntityBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserProfileCacheTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userProfileCache = new UserProfileCache(userRepository, new UserProfileCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void givenUser_whenGetTwice_thenProfileIsLoadedOnceAndServedFromCache() {
+
+        // Given
+        UserEntity userEntity = new UserEntityBuilder().withValidFields().build();
+        when(userRepository.findById(userEntity.getId())).thenReturn(Optional.of(userEntity));
+
+        // When
+        UserProfile first = userProfileCache.get(userEntity.getId());
+        UserProfile second = userProfileCache.get(userEntity.getId());
+
+        // Then
+        assertSame(first, second);
+        assertEquals(userEntity.getEmail(), first.getEmail());
+        assertEquals(userEntity.getFirstName(), first.getFirstName());
+        assertEquals(userEntity.getPhoneNumber(), first.getPhoneNumber());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+
+        // Verify
+        verify(userRepository, times(1)).findById(userEntity.getId());
+
+    }
+
+    @Test
+    void givenUnknownUser_whenGet_thenThrowUserNotFoundException() {
+
+        // Given
+        when(userRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        // Then
+        assertThrows(UserNotFoundException.class, () -> userProfileCache.get("unknown"));
+
+    }
+
+}
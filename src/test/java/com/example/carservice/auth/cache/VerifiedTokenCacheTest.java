@@ -0,0 +1,105 @@
+package com.example.carservice.auth.cache;
+
+import com.example.carservice.auth.config.VerifiedTokenCacheProperties;
+import com.example.carservice.auth.model.VerifiedToken;
+import com.example.carservice.base.AbstractBaseServiceTest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private Jws<Claims> claimsJws;
+
+    @Mock
+    private Claims claims;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(claimsJws.getPayload()).thenReturn(claims);
+        when(claims.getId()).thenReturn("token-id");
+    }
+
+    @Test
+    void givenCachedToken_whenGet_thenReturnCachedAuthenticationAndRecordHit() {
+
+        // Given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(properties(true), meterRegistry);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken("user", null);
+        VerifiedToken verifiedToken = verifiedToken("jwt", new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        VerifiedTokenCache.CachedAuthentication beforePut = verifiedTokenCache.get("jwt");
+        verifiedTokenCache.put(verifiedToken, authentication);
+        VerifiedTokenCache.CachedAuthentication afterPut = verifiedTokenCache.get("jwt");
+
+        // Then
+        assertNull(beforePut);
+        assertNotNull(afterPut);
+        assertSame(authentication, afterPut.getAuthentication());
+        assertEquals("token-id", afterPut.getTokenId());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+
+    }
+
+    @Test
+    void givenExpiredToken_whenGet_thenReturnNull() {
+
+        // Given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(properties(true), meterRegistry);
+        VerifiedToken verifiedToken = verifiedToken("expired-jwt", new Date(System.currentTimeMillis() - 1_000));
+
+        // When
+        verifiedTokenCache.put(verifiedToken, new UsernamePasswordAuthenticationToken("user", null));
+
+        // Then
+        assertNull(verifiedTokenCache.get("expired-jwt"));
+
+    }
+
+    @Test
+    void givenDisabledCache_whenPutAndGet_thenAlwaysMiss() {
+
+        // Given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(properties(false), meterRegistry);
+        VerifiedToken verifiedToken = verifiedToken("jwt", new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        verifiedTokenCache.put(verifiedToken, new UsernamePasswordAuthenticationToken("user", null));
+
+        // Then
+        assertNull(verifiedTokenCache.get("jwt"));
+
+    }
+
+    private VerifiedToken verifiedToken(final String jwt, final Date expiration) {
+        when(claims.getExpiration()).thenReturn(expiration);
+        return VerifiedToken.builder()
+                .jwt(jwt)
+                .claimsJws(claimsJws)
+                .build();
+    }
+
+    private static VerifiedTokenCacheProperties properties(final boolean enabled) {
+        VerifiedTokenCacheProperties properties = new VerifiedTokenCacheProperties();
+        properties.setEnabled(enabled);
+        properties.setMaximumSize(100);
+        return properties;
+    }
+
+}
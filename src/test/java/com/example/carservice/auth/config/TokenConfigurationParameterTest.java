@@ -0,0 +1,145 @@
+package com.example.carservice.auth.config;
+
+import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.enums.SigningAlgorithm;
+import com.example.carservice.auth.model.enums.TokenClaims;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.service.impl.TokenServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.security.InvalidKeyException;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenConfigurationParameterTest {
+
+    private static final Map<String, Object> CLAIMS = Map.of(
+            TokenClaims.USER_ID.getValue(), "user-id",
+            TokenClaims.USER_TYPE.getValue(), UserType.USER.name()
+    );
+
+    @Test
+    void givenNoConfiguredKeys_whenGenerateToken_thenBuiltInRsaKeySignsUnderDefaultKeyId() {
+
+        // Given
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter();
+        final TokenServiceImpl tokenService = new TokenServiceImpl(tokenConfigurationParameter, null, null);
+
+        // When
+        final Jws<Claims> claims = tokenService.getClaims(tokenService.generateToken(CLAIMS).getAccessToken());
+
+        // Then
+        assertEquals(TokenConfigurationParameter.DEFAULT_KEY_ID, claims.getHeader().getKeyId());
+        assertEquals("RS256", claims.getHeader().getAlgorithm());
+        assertEquals(tokenConfigurationParameter.getPublicKey(), tokenConfigurationParameter.getVerificationKey(null));
+
+    }
+
+    @Test
+    void givenRotatedToEcKey_whenVerifyTokens_thenNewAndPreviousKeysAreBothAccepted() throws GeneralSecurityException {
+
+        // Given
+        final KeyPair previousKeyPair = generate("RSA", 2048);
+        final KeyPair activeKeyPair = generateEc();
+
+        final TokenServiceImpl previousTokenService = new TokenServiceImpl(new TokenConfigurationParameter(
+                keyRing("2024-rsa", key("2024-rsa", SigningAlgorithm.RS256, previousKeyPair, true))), null, null);
+        final String previousToken = previousTokenService.generateToken(CLAIMS).getAccessToken();
+
+        final TokenServiceImpl tokenService = new TokenServiceImpl(new TokenConfigurationParameter(keyRing(
+                "2025-ec",
+                key("2024-rsa", SigningAlgorithm.RS256, previousKeyPair, false),
+                key("2025-ec", SigningAlgorithm.ES256, activeKeyPair, true))), null, null);
+
+        // When
+        final Token token = tokenService.generateToken(CLAIMS);
+
+        // Then
+        final Jws<Claims> claims = tokenService.getClaims(token.getAccessToken());
+        assertEquals("2025-ec", claims.getHeader().getKeyId());
+        assertEquals("ES256", claims.getHeader().getAlgorithm());
+        assertEquals("user-id", claims.getPayload().get(TokenClaims.USER_ID.getValue()));
+
+        assertEquals("2024-rsa", tokenService.getClaims(previousToken).getHeader().getKeyId());
+        assertThrows(InvalidKeyException.class, () -> previousTokenService.verifyAndValidate(token.getAccessToken()));
+
+    }
+
+    @Test
+    void givenEdDsaKey_whenGenerateAndVerifyToken_thenTokenIsSignedWithEdDsa() throws GeneralSecurityException {
+
+        // Given
+        final TokenServiceImpl tokenService = new TokenServiceImpl(new TokenConfigurationParameter(
+                keyRing(null, key("ed", SigningAlgorithm.EDDSA, generate("Ed25519", 0), true))), null, null);
+
+        // When
+        final Token token = tokenService.generateToken(CLAIMS);
+
+        // Then
+        assertEquals("EdDSA", tokenService.verify(token.getAccessToken()).getHeader().getAlgorithm());
+        assertDoesNotThrow(() -> tokenService.verifyAndValidate(token.getRefreshToken()));
+
+    }
+
+    @Test
+    void givenActiveKeyWithoutPrivateKey_whenCreateKeyRing_thenFailsAtStartup() throws GeneralSecurityException {
+
+        // Given
+        final TokenKeyRingProperties properties = keyRing("verify-only",
+                key("verify-only", SigningAlgorithm.RS256, generate("RSA", 2048), false));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> new TokenConfigurationParameter(properties));
+
+    }
+
+    private static TokenKeyRingProperties keyRing(final String activeKeyId, final TokenKeyRingProperties.Key... keys) {
+        final TokenKeyRingProperties properties = new TokenKeyRingProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+
+    private static TokenKeyRingProperties.Key key(final String id,
+                                                  final SigningAlgorithm algorithm,
+                                                  final KeyPair keyPair,
+                                                  final boolean withPrivateKey) {
+        final TokenKeyRingProperties.Key key = new TokenKeyRingProperties.Key();
+        key.setId(id);
+        key.setAlgorithm(algorithm);
+        key.setPublicKey(pem("PUBLIC KEY", keyPair.getPublic()));
+        key.setPrivateKey(withPrivateKey ? pem("PRIVATE KEY", keyPair.getPrivate()) : null);
+        return key;
+    }
+
+    private static KeyPair generate(final String algorithm, final int size) throws GeneralSecurityException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+        if (size > 0) {
+            generator.initialize(size);
+        }
+        return generator.generateKeyPair();
+    }
+
+    private static KeyPair generateEc() throws GeneralSecurityException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(final String type, final Key key) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(key.getEncoded())
+                + "\n-----END " + type + "-----\n";
+    }
+
+}
@@ -18,6 +18,7 @@ import com.example.carservice.base.AbstractRestControllerTest;
 import com.example.carservice.builder.RegisterRequestBuilder;
 import com.example.carservice.common.model.dto.response.CustomResponse;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -310,4 +311,43 @@ class AuthControllerTest extends AbstractRestControllerTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenUserAccessToken_WhenLogoutAll_ThenLogoutAllSessionsOfUser() throws Exception {
+
+        // When
+        doNothing().when(logoutService).logoutAll(anyString());
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/authentication/user/logout-all")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(CustomResponse.SUCCESS)));
+
+        // Verify
+        verify(logoutService, times(1)).logoutAll(anyString());
+
+    }
+
+    @Test
+    void givenAdminAccessTokenAndUserId_WhenLogoutAllForUser_ThenLogoutAllSessionsOfGivenUser() throws Exception {
+
+        // Given
+        final String userId = UUID.randomUUID().toString();
+
+        // When
+        doNothing().when(logoutService).logoutAll(userId);
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/authentication/user/" + userId + "/logout-all")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(CustomResponse.SUCCESS)));
+
+        // Verify
+        verify(logoutService, times(1)).logoutAll(userId);
+
+    }
+
+}
@@ -2,9 +2,18 @@ package com.example.carservice.auth.filter;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.carservice.auth.cache.TokenEpochCache;
+import com.example.carservice.auth.cache.VerifiedTokenCache;
+import com.example.carservice.auth.exception.TokenAlreadyInvalidatedException;
+import com.example.carservice.auth.model.VerifiedToken;
+import com.example.carservice.auth.model.enums.TokenClaims;
 import com.example.carservice.auth.service.InvalidTokenService;
 import com.example.carservice.auth.service.TokenService;
 import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.builder.TokenBuilder;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -31,6 +40,12 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
     @Mock
     private InvalidTokenService invalidTokenService;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenEpochCache tokenEpochCache;
+
     @BeforeEach
     void setup() {
         SecurityContextHolder.clearContext();
@@ -46,15 +61,15 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
 
         // Given
         String validJwt = "valid-jwt-token";
-        String tokenId = "valid-token-id";
+        VerifiedToken verifiedToken = verifiedToken(validJwt, TokenBuilder.getValidClaims("user-id", "User"));
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
         FilterChain filterChain = mock(FilterChain.class);
 
         // When
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + validJwt);
-        when(tokenService.getId(validJwt)).thenReturn(tokenId);
-        when(tokenService.getAuthentication(validJwt)).thenReturn(new UsernamePasswordAuthenticationToken("user", null));
+        when(tokenService.verify(validJwt)).thenReturn(verifiedToken);
+        when(tokenService.getAuthentication(verifiedToken)).thenReturn(new UsernamePasswordAuthenticationToken("user", null));
 
         // Then
         customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -63,13 +78,86 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
         assertEquals("user", SecurityContextHolder.getContext().getAuthentication().getName());
 
         // Verify
-        verify(tokenService).verifyAndValidate(validJwt);
+        verify(tokenService, times(1)).verify(validJwt);
+        verify(invalidTokenService).checkForInvalidityOfToken(verifiedToken);
+        verify(tokenEpochCache).isRevoked("user-id", 0);
+        verify(tokenService).getAuthentication(verifiedToken);
+        verify(tokenService, never()).verifyAndValidate(anyString());
+        verify(tokenService, never()).getId(anyString());
+        verify(verifiedTokenCache).put(eq(verifiedToken), any(UsernamePasswordAuthenticationToken.class));
+        verify(filterChain).doFilter(request, response);
+
+    }
+
+    @Test
+    void shouldAuthenticateFromCacheAndStillCheckRevocation() throws Exception {
+
+        // Given
+        String cachedJwt = "cached-jwt-token";
+        String tokenId = "cached-token-id";
+        UsernamePasswordAuthenticationToken cachedAuthentication = new UsernamePasswordAuthenticationToken("user", null);
+        VerifiedTokenCache.CachedAuthentication cachedEntry = VerifiedTokenCache.CachedAuthentication.builder()
+                .tokenId(tokenId)
+                .userId("user-id")
+                .tokenEpoch(2)
+                .authentication(cachedAuthentication)
+                .build();
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+
+        // When
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + cachedJwt);
+        when(verifiedTokenCache.get(cachedJwt)).thenReturn(cachedEntry);
+
+        // Then
+        customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertSame(cachedAuthentication, SecurityContextHolder.getContext().getAuthentication());
+
+        // Verify
         verify(invalidTokenService).checkForInvalidityOfToken(tokenId);
-        verify(tokenService).getAuthentication(validJwt);
+        verify(tokenEpochCache).isRevoked("user-id", 2);
+        verify(tokenService, never()).verify(anyString());
+        verify(tokenService, never()).getAuthentication(any(VerifiedToken.class));
+        verify(verifiedTokenCache, never()).put(any(), any());
         verify(filterChain).doFilter(request, response);
 
     }
 
+    @Test
+    void shouldRejectTokenIssuedBeforeCurrentTokenEpoch() throws Exception {
+
+        // Given
+        String revokedJwt = "revoked-jwt-token";
+        Claims claims = Jwts.claims()
+                .add(TokenClaims.USER_ID.getValue(), "user-id")
+                .add(TokenClaims.TOKEN_EPOCH.getValue(), 1)
+                .build();
+        VerifiedToken verifiedToken = verifiedToken(revokedJwt, claims);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+
+        // When
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + revokedJwt);
+        when(tokenService.verify(revokedJwt)).thenReturn(verifiedToken);
+        when(tokenEpochCache.isRevoked("user-id", 1)).thenReturn(true);
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class,
+                () -> customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        // Verify
+        verify(invalidTokenService).checkForInvalidityOfToken(verifiedToken);
+        verify(tokenService, never()).getAuthentication(any(VerifiedToken.class));
+        verify(verifiedTokenCache, never()).put(any(), any());
+        verify(filterChain, never()).doFilter(request, response);
+
+    }
+
     @Test
     void shouldNotAuthenticateWithoutBearerToken() throws Exception {
 
@@ -87,11 +175,21 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
         assertNull(SecurityContextHolder.getContext().getAuthentication());
 
         // Verify
-        verify(tokenService, never()).verifyAndValidate(anyString());
-        verify(invalidTokenService, never()).checkForInvalidityOfToken(any());
-        verify(tokenService, never()).getAuthentication(any());
+        verify(tokenService, never()).verify(anyString());
+        verify(invalidTokenService, never()).checkForInvalidityOfToken(any(VerifiedToken.class));
+        verify(tokenService, never()).getAuthentication(any(VerifiedToken.class));
         verify(filterChain).doFilter(request, response);
 
     }
 
-}
\ No newline at end of file
+    @SuppressWarnings("unchecked")
+    private static VerifiedToken verifiedToken(final String jwt, final Claims claims) {
+        final Jws<Claims> claimsJws = mock(Jws.class);
+        when(claimsJws.getPayload()).thenReturn(claims);
+        return VerifiedToken.builder()
+                .jwt(jwt)
+                .claimsJws(claimsJws)
+                .build();
+    }
+
+}
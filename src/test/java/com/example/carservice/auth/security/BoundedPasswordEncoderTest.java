@@ -0,0 +1,100 @@
+package com.example.carservice.auth.security;
+
+import com.example.carservice.auth.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private static final int SLOW_STRENGTH = 13;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenConfiguredStrength_whenEncodeAndMatch_thenHashUsesStrengthAndOnlyOtherCostsNeedUpgrade() {
+
+        // Given
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, 2, 10, Duration.ofSeconds(5), meterRegistry);
+             BoundedPasswordEncoder weakerEncoder = new BoundedPasswordEncoder(4, 1, 10, Duration.ofSeconds(5), new SimpleMeterRegistry());
+             BoundedPasswordEncoder strongerEncoder = new BoundedPasswordEncoder(6, 1, 10, Duration.ofSeconds(5), new SimpleMeterRegistry())) {
+
+            // When
+            final String hash = encoder.encode("password123");
+
+            // Then
+            assertTrue(hash.startsWith("$2a$05$"));
+            assertTrue(encoder.matches("password123", hash));
+            assertFalse(encoder.matches("wrongPassword", hash));
+
+            assertFalse(encoder.upgradeEncoding(hash));
+            assertTrue(encoder.upgradeEncoding(weakerEncoder.encode("password123")));
+            assertTrue(encoder.upgradeEncoding(strongerEncoder.encode("password123")));
+            assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+            assertFalse(encoder.upgradeEncoding(null));
+
+        }
+
+    }
+
+    @Test
+    void givenThreadBusyAndQueueFull_whenEncode_thenRejectedRightAway() throws InterruptedException {
+
+        // Given
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(SLOW_STRENGTH, 1, 1, Duration.ofSeconds(30), meterRegistry);
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            callers.submit(() -> encoder.encode("first"));
+            awaitGauge("auth.password.hashing.active", 1);
+            callers.submit(() -> encoder.encode("second"));
+            awaitGauge("auth.password.hashing.queued", 1);
+
+            // When
+            final PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                    () -> encoder.encode("third"));
+
+            // Then
+            assertTrue(exception.getMessage().endsWith("Password hashing queue is full."));
+            assertEquals(1, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+
+            callers.shutdownNow();
+        }
+
+    }
+
+    @Test
+    void givenMaxWaitShorterThanHashing_whenMatches_thenRejectedAfterWait() {
+
+        // Given
+        try (BoundedPasswordEncoder slowEncoder = new BoundedPasswordEncoder(SLOW_STRENGTH, 1, 1, Duration.ofSeconds(30), new SimpleMeterRegistry());
+             BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(SLOW_STRENGTH, 1, 1, Duration.ofMillis(10), meterRegistry)) {
+
+            final String hash = slowEncoder.encode("password123");
+
+            // When
+            final PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                    () -> encoder.matches("password123", hash));
+
+            // Then
+            assertTrue(exception.getMessage().endsWith("Password hashing timed out."));
+            assertEquals(1, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+
+        }
+
+    }
+
+    private void awaitGauge(final String name, final double expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (meterRegistry.get(name).gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, name + " never reached " + expected);
+            Thread.sleep(5);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.example.carservice.auth.service.impl;
+
+import com.example.carservice.auth.cache.RevokedTokenIndex;
+import com.example.carservice.auth.config.InvalidTokenPurgeProperties;
+import com.example.carservice.auth.config.TokenConfigurationParameter;
+import com.example.carservice.auth.repository.InvalidTokenRepository;
+import com.example.carservice.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InvalidTokenPurgeServiceImplTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private InvalidTokenRepository invalidTokenRepository;
+
+    @Mock
+    private RevokedTokenIndex revokedTokenIndex;
+
+    @Mock
+    private TokenConfigurationParameter tokenConfigurationParameter;
+
+    private InvalidTokenPurgeProperties invalidTokenPurgeProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private InvalidTokenPurgeServiceImpl invalidTokenPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        invalidTokenPurgeProperties = new InvalidTokenPurgeProperties();
+        invalidTokenPurgeProperties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        invalidTokenPurgeService = new InvalidTokenPurgeServiceImpl(
+                invalidTokenRepository,
+                revokedTokenIndex,
+                invalidTokenPurgeProperties,
+                tokenConfigurationParameter,
+                meterRegistry
+        );
+        when(tokenConfigurationParameter.getRefreshTokenExpireDay()).thenReturn(1);
+    }
+
+    @Test
+    void givenExpiredTokensInSeveralBatches_whenPurge_thenDeleteEveryBatchAndRecordMetrics() {
+
+        // When
+        when(invalidTokenRepository.findExpiredIds(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of("id-1", "id-2"))
+                .thenReturn(List.of("id-3"));
+
+        // Then
+        long deletedCount = invalidTokenPurgeService.purgeExpiredTokens();
+
+        assertEquals(3L, deletedCount);
+        assertEquals(3.0, meterRegistry.get("invalid.token.purge.deleted").counter().count());
+        assertEquals(1L, meterRegistry.get("invalid.token.purge.duration").timer().count());
+
+        // Verify
+        verify(invalidTokenRepository, times(2))
+                .findExpiredIds(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
+        verify(invalidTokenRepository).deleteAllByIdInBatch(List.of("id-1", "id-2"));
+        verify(invalidTokenRepository).deleteAllByIdInBatch(List.of("id-3"));
+        verify(revokedTokenIndex).removeExpired(any(LocalDateTime.class));
+
+    }
+
+    @Test
+    void givenNoExpiredTokens_whenPurge_thenDeleteNothing() {
+
+        // When
+        when(invalidTokenRepository.findExpiredIds(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // Then
+        long deletedCount = invalidTokenPurgeService.purgeExpiredTokens();
+
+        assertEquals(0L, deletedCount);
+
+        // Verify
+        verify(invalidTokenRepository, never()).deleteAllByIdInBatch(any());
+
+    }
+
+    @Test
+    void givenDisabledPurge_whenPurge_thenRepositoryIsNotQueried() {
+
+        // Given
+        invalidTokenPurgeProperties.setEnabled(false);
+
+        // When
+        long deletedCount = invalidTokenPurgeService.purgeExpiredTokens();
+
+        // Then
+        assertEquals(0L, deletedCount);
+
+        // Verify
+        verifyNoInteractions(invalidTokenRepository);
+
+    }
+
+}
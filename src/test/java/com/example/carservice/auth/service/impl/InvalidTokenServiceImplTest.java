@@ -2,17 +2,24 @@ package com.example.carservice.auth.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.carservice.auth.cache.RevokedTokenIndex;
 import com.example.carservice.auth.exception.TokenAlreadyInvalidatedException;
+import com.example.carservice.auth.model.VerifiedToken;
 import com.example.carservice.auth.model.entity.InvalidTokenEntity;
 import com.example.carservice.auth.repository.InvalidTokenRepository;
 import com.example.carservice.base.AbstractBaseServiceTest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.Collections;
+import java.util.Date;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,20 +33,38 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenRepository invalidTokenRepository;
 
+    @Mock
+    private RevokedTokenIndex revokedTokenIndex;
+
     @Test
+    @SuppressWarnings("unchecked")
     void invalidateTokens_ShouldSaveAllInvalidTokens() {
 
         // Given
-        Set<String> tokenIds = Set.of("token-id-1", "token-id-2");
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        Set<VerifiedToken> verifiedTokens = Set.of(
+                verifiedToken("token-id-1", expiration),
+                verifiedToken("token-id-2", expiration)
+        );
 
         // When
         when(invalidTokenRepository.saveAll(any(Set.class))).thenReturn(Collections.emptyList());
 
         // Then
-        invalidTokenService.invalidateTokens(tokenIds);
+        invalidTokenService.invalidateTokens(verifiedTokens);
 
         // Verify
-        verify(invalidTokenRepository, times(1)).saveAll(any(Set.class));
+        ArgumentCaptor<Set<InvalidTokenEntity>> savedCaptor = ArgumentCaptor.forClass(Set.class);
+        verify(invalidTokenRepository, times(1)).saveAll(savedCaptor.capture());
+        verify(revokedTokenIndex, times(1)).addAll(anySet());
+
+        Set<InvalidTokenEntity> savedEntities = savedCaptor.getValue();
+        assertEquals(2, savedEntities.size());
+        assertTrue(savedEntities.stream().allMatch(entity -> entity.getExpiresAt() != null));
+        assertEquals(
+                Set.of("token-id-1", "token-id-2"),
+                savedEntities.stream().map(InvalidTokenEntity::getTokenId).collect(Collectors.toSet())
+        );
 
     }
 
@@ -79,4 +104,84 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @SuppressWarnings("unchecked")
+    void checkForInvalidityOfToken_ShouldUseTokenIdOfVerifiedToken() {
+
+        // Given
+        String tokenId = "test-token-id";
+        Jws<Claims> claimsJws = mock(Jws.class);
+        Claims claims = mock(Claims.class);
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+                .jwt("jwt")
+                .claimsJws(claimsJws)
+                .build();
+
+        // When
+        when(claimsJws.getPayload()).thenReturn(claims);
+        when(claims.getId()).thenReturn(tokenId);
+        when(invalidTokenRepository.findByTokenId(tokenId)).thenReturn(Optional.of(new InvalidTokenEntity()));
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class, () -> {
+            invalidTokenService.checkForInvalidityOfToken(verifiedToken);
+        });
+
+        // Verify
+        verify(invalidTokenRepository, times(1)).findByTokenId(tokenId);
+
+    }
+
+    @Test
+    void checkForInvalidityOfToken_ShouldThrowExceptionFromIndexWithoutDatabaseLookup() {
+
+        // Given
+        String tokenId = "revoked-token-id";
+
+        // When
+        when(revokedTokenIndex.isReady()).thenReturn(true);
+        when(revokedTokenIndex.contains(tokenId)).thenReturn(true);
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class, () -> {
+            invalidTokenService.checkForInvalidityOfToken(tokenId);
+        });
+
+        // Verify
+        verify(invalidTokenRepository, never()).findByTokenId(anyString());
+
+    }
+
+    @Test
+    void checkForInvalidityOfToken_ShouldSkipDatabaseLookupWhenIndexAnswersNegative() {
+
+        // Given
+        String tokenId = "valid-token-id";
+
+        // When
+        when(revokedTokenIndex.isReady()).thenReturn(true);
+        when(revokedTokenIndex.contains(tokenId)).thenReturn(false);
+
+        // Then
+        invalidTokenService.checkForInvalidityOfToken(tokenId);
+
+        // Verify
+        verify(revokedTokenIndex, times(1)).contains(tokenId);
+        verify(invalidTokenRepository, never()).findByTokenId(anyString());
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VerifiedToken verifiedToken(final String tokenId, final Date expiration) {
+        Jws<Claims> claimsJws = mock(Jws.class);
+        Claims claims = mock(Claims.class);
+        when(claimsJws.getPayload()).thenReturn(claims);
+        when(claims.getId()).thenReturn(tokenId);
+        when(claims.getExpiration()).thenReturn(expiration);
+        return VerifiedToken.builder()
+                .jwt(tokenId)
+                .claimsJws(claimsJws)
+                .build();
+    }
+
+}
@@ -2,11 +2,13 @@ package com.example.carservice.auth.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.carservice.auth.config.TokenClaimsProperties;
 import com.example.carservice.auth.exception.PasswordNotValidException;
 import com.example.carservice.auth.exception.UserNotFoundException;
 import com.example.carservice.auth.model.Token;
 import com.example.carservice.auth.model.dto.request.LoginRequest;
 import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.TokenClaimsProfile;
 import com.example.carservice.auth.repository.UserRepository;
 import com.example.carservice.auth.service.TokenService;
 import com.example.carservice.base.AbstractBaseServiceTest;
@@ -14,6 +16,7 @@ import com.example.carservice.builder.UserEntityBuilder;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -35,6 +38,9 @@ class LoginServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Spy
+    private TokenClaimsProperties tokenClaimsProperties = new TokenClaimsProperties();
+
     @Test
     void login_ValidCredentials_ReturnsToken() {
 
@@ -59,7 +65,7 @@ class LoginServiceImplTest extends AbstractBaseServiceTest {
         when(passwordEncoder.matches(loginRequest.getPassword(), adminEntity.getPassword()))
                 .thenReturn(true);
 
-        when(tokenService.generateToken(adminEntity.getClaims())).thenReturn(expectedToken);
+        when(tokenService.generateToken(adminEntity.getClaims(TokenClaimsProfile.FULL))).thenReturn(expectedToken);
 
         Token actualToken = loginService.login(loginRequest);
 
@@ -71,7 +77,7 @@ class LoginServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(userRepository).findUserEntityByEmail(loginRequest.getEmail());
         verify(passwordEncoder).matches(loginRequest.getPassword(), adminEntity.getPassword());
-        verify(tokenService).generateToken(adminEntity.getClaims());
+        verify(tokenService).generateToken(adminEntity.getClaims(TokenClaimsProfile.FULL));
 
     }
 
@@ -134,4 +140,43 @@ class LoginServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void login_StoredHashWithOtherCost_RehashesPassword() {
+
+        // Given
+        final LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@example.com")
+                .password("password123")
+                .build();
+
+        final UserEntity userEntity = new UserEntityBuilder().withValidFields().build();
+        final String storedHash = userEntity.getPassword();
+
+        final Token expectedToken = Token.builder()
+                .accessToken("mockAccessToken")
+                .accessTokenExpiresAt(123456789L)
+                .refreshToken("mockRefreshToken")
+                .build();
+
+        // When
+        when(userRepository.findUserEntityByEmail(loginRequest.getEmail()))
+                .thenReturn(Optional.of(userEntity));
+
+        when(passwordEncoder.matches(loginRequest.getPassword(), storedHash)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(storedHash)).thenReturn(true);
+        when(passwordEncoder.encode(loginRequest.getPassword())).thenReturn("rehashedPassword");
+        when(tokenService.generateToken(userEntity.getClaims(TokenClaimsProfile.FULL))).thenReturn(expectedToken);
+
+        Token actualToken = loginService.login(loginRequest);
+
+        // Then
+        assertEquals(expectedToken.getAccessToken(), actualToken.getAccessToken());
+        assertEquals("rehashedPassword", userEntity.getPassword());
+
+        // Verify
+        verify(passwordEncoder).encode(loginRequest.getPassword());
+        verify(userRepository).save(userEntity);
+
+    }
+
+}
@@ -2,18 +2,28 @@ package com.example.carservice.auth.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.carservice.auth.cache.TokenEpochCache;
+import com.example.carservice.auth.exception.UserNotFoundException;
+import com.example.carservice.auth.model.VerifiedToken;
 import com.example.carservice.auth.model.dto.request.TokenInvalidateRequest;
 import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.repository.UserRepository;
 import com.example.carservice.auth.service.InvalidTokenService;
 import com.example.carservice.auth.service.TokenService;
 import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.EntityCacheInvalidationBus;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
 import com.example.carservice.builder.AdminEntityBuilder;
 import com.example.carservice.builder.TokenBuilder;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +40,15 @@ class LogoutServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenService invalidTokenService;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenEpochCache tokenEpochCache;
+
+    @Mock
+    private EntityCacheInvalidationBus invalidationBus;
+
     @Test
     void givenAccessTokenAndRefreshToken_whenLogoutForAdmin_thenReturnLogout() {
 
@@ -58,23 +77,83 @@ class LogoutServiceImplTest extends AbstractBaseServiceTest {
                 .refreshToken(refreshToken)
                 .build();
 
+        final VerifiedToken verifiedAccessToken = verifiedToken(accessToken, mockAccessTokenClaims);
+        final VerifiedToken verifiedRefreshToken = verifiedToken(refreshToken, mockRefreshTokenClaims);
+
         // When
-        doNothing().when(tokenService).verifyAndValidate(Set.of(accessToken, refreshToken));
-        when(tokenService.getPayload(accessToken)).thenReturn(mockAccessTokenClaims);
-        doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockAccessTokenId);
-        when(tokenService.getPayload(refreshToken)).thenReturn(mockRefreshTokenClaims);
-        doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockRefreshTokenId);
-        doNothing().when(invalidTokenService).invalidateTokens(Set.of(mockAccessTokenId, mockRefreshTokenId));
+        when(tokenService.verify(accessToken)).thenReturn(verifiedAccessToken);
+        doNothing().when(invalidTokenService).checkForInvalidityOfToken(verifiedAccessToken);
+        when(tokenService.verify(refreshToken)).thenReturn(verifiedRefreshToken);
+        doNothing().when(invalidTokenService).checkForInvalidityOfToken(verifiedRefreshToken);
+        doNothing().when(invalidTokenService).invalidateTokens(Set.of(verifiedAccessToken, verifiedRefreshToken));
 
         // Then
         logoutService.logout(tokenInvalidateRequest);
 
+        assertEquals(mockAccessTokenId, verifiedAccessToken.getId());
+        assertEquals(mockRefreshTokenId, verifiedRefreshToken.getId());
+
         // Verify
-        verify(tokenService).verifyAndValidate(Set.of(accessToken, refreshToken));
-        verify(tokenService, times(2)).getPayload(anyString());
-        verify(invalidTokenService, times(2)).checkForInvalidityOfToken(anyString());
-        verify(invalidTokenService).invalidateTokens(anySet());
+        verify(tokenService, times(2)).verify(anyString());
+        verify(invalidTokenService, times(2)).checkForInvalidityOfToken(any(VerifiedToken.class));
+        verify(invalidTokenService).invalidateTokens(Set.of(verifiedAccessToken, verifiedRefreshToken));
+
+    }
 
+    @Test
+    void givenUserId_whenLogoutAll_thenTokenEpochIsIncrementedAndCached() {
+
+        // Given
+        final String userId = "user-id";
+
+        // When
+        when(userRepository.incrementTokenEpoch(userId)).thenReturn(1);
+        when(userRepository.findTokenEpochById(userId)).thenReturn(Optional.of(3));
+
+        // Then
+        logoutService.logoutAll(userId);
+
+        // Verify
+        final ArgumentCaptor<EntityCacheInvalidation> invalidation = ArgumentCaptor.forClass(EntityCacheInvalidation.class);
+
+        verify(userRepository).incrementTokenEpoch(userId);
+        verify(tokenEpochCache).put(userId, 3);
+        verify(invalidationBus).publish(invalidation.capture());
+        verifyNoInteractions(invalidTokenService);
+
+        assertEquals(CacheInvalidationTarget.ENTITY, invalidation.getValue().getTarget());
+        assertEquals(UserEntity.class.getName(), invalidation.getValue().getRole());
+        assertEquals(userId, invalidation.getValue().getKey());
+
+    }
+
+    @Test
+    void givenUnknownUserId_whenLogoutAll_thenThrowUserNotFoundException() {
+
+        // Given
+        final String userId = "unknown-user-id";
+
+        // When
+        when(userRepository.incrementTokenEpoch(userId)).thenReturn(0);
+
+        // Then
+        assertThrows(UserNotFoundException.class, () -> logoutService.logoutAll(userId));
+
+        // Verify
+        verify(userRepository, never()).findTokenEpochById(userId);
+        verifyNoInteractions(tokenEpochCache);
+        verifyNoInteractions(invalidationBus);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VerifiedToken verifiedToken(final String jwt, final Claims claims) {
+        final Jws<Claims> claimsJws = mock(Jws.class);
+        when(claimsJws.getPayload()).thenReturn(claims);
+        return VerifiedToken.builder()
+                .jwt(jwt)
+                .claimsJws(claimsJws)
+                .build();
     }
 
-}
\ No newline at end of file
+}
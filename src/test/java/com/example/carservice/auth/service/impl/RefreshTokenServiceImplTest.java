@@ -2,11 +2,14 @@ package com.example.carservice.auth.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.carservice.auth.config.TokenClaimsProperties;
+import com.example.carservice.auth.exception.TokenAlreadyInvalidatedException;
 import com.example.carservice.auth.exception.UserNotFoundException;
 import com.example.carservice.auth.exception.UserStatusNotValidException;
 import com.example.carservice.auth.model.Token;
 import com.example.carservice.auth.model.dto.request.TokenRefreshRequest;
 import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.TokenClaimsProfile;
 import com.example.carservice.auth.model.enums.UserStatus;
 import com.example.carservice.auth.repository.UserRepository;
 import com.example.carservice.auth.service.TokenService;
@@ -17,6 +20,7 @@ import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.util.Optional;
 
@@ -35,6 +39,9 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Spy
+    private TokenClaimsProperties tokenClaimsProperties = new TokenClaimsProperties();
+
     @Test
     void refreshToken_ValidRefreshToken_ReturnsToken() {
 
@@ -60,7 +67,8 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
         when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
         when(userRepository.findById(anyString())).thenReturn(Optional.of(mockAdminUserEntity));
-        when(tokenService.generateToken(mockAdminUserEntity.getClaims(), refreshTokenString)).thenReturn(expectedToken);
+        when(userRepository.findTokenEpochById(mockAdminUserEntity.getId())).thenReturn(Optional.of(0));
+        when(tokenService.generateToken(mockAdminUserEntity.getClaims(TokenClaimsProfile.FULL), refreshTokenString)).thenReturn(expectedToken);
 
         // When
         Token actualToken = refreshTokenService.refreshToken(tokenRefreshRequest);
@@ -75,7 +83,7 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         verify(tokenService).verifyAndValidate(refreshTokenString);
         verify(tokenService).getPayload(refreshTokenString);
         verify(userRepository).findById(anyString());
-        verify(tokenService).generateToken(mockAdminUserEntity.getClaims(), refreshTokenString);
+        verify(tokenService).generateToken(mockAdminUserEntity.getClaims(TokenClaimsProfile.FULL), refreshTokenString);
 
     }
 
@@ -163,4 +171,32 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void refreshToken_IssuedBeforeTokenEpoch_ThrowsTokenAlreadyInvalidatedException() {
+
+        // Given
+        String refreshTokenString = "validRefreshToken";
+        TokenRefreshRequest tokenRefreshRequest = TokenRefreshRequest.builder()
+                .refreshToken(refreshTokenString)
+                .build();
+
+        UserEntity loggedOutAdmin = new AdminEntityBuilder().withValidFields().build();
+
+        Claims mockClaims = TokenBuilder.getValidClaims(loggedOutAdmin.getId(), loggedOutAdmin.getFirstName());
+
+        // When
+        doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
+        when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
+        when(userRepository.findById(loggedOutAdmin.getId())).thenReturn(Optional.of(loggedOutAdmin));
+        when(userRepository.findTokenEpochById(loggedOutAdmin.getId())).thenReturn(Optional.of(1));
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class,
+                () -> refreshTokenService.refreshToken(tokenRefreshRequest));
+
+        // Verify
+        verify(tokenService, never()).generateToken(anyMap(), anyString());
+
+    }
+
+}
@@ -2,16 +2,29 @@ package com.example.carservice.auth.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.carservice.auth.cache.UserProfileCache;
 import com.example.carservice.auth.config.TokenConfigurationParameter;
 import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.TokenSigningKey;
+import com.example.carservice.auth.model.UserProfile;
+import com.example.carservice.auth.model.UserProfileReference;
+import com.example.carservice.auth.model.VerifiedToken;
+import com.example.carservice.auth.model.enums.SigningAlgorithm;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.TokenClaims;
+import com.example.carservice.auth.model.enums.TokenClaimsProfile;
+import com.example.carservice.auth.model.enums.UserType;
 import com.example.carservice.auth.service.InvalidTokenService;
 import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.builder.UserEntityBuilder;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.security.*;
 
@@ -30,6 +43,9 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenService invalidTokenService;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
     @Test
     void testGenerateTokenWithoutRefreshToken() throws Exception {
 
@@ -45,7 +61,7 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
 
         when(tokenConfigurationParameter.getAccessTokenExpireMinute()).thenReturn(60);
         when(tokenConfigurationParameter.getRefreshTokenExpireDay()).thenReturn(7);
-        when(tokenConfigurationParameter.getPrivateKey()).thenReturn(privateKey);
+        when(tokenConfigurationParameter.getSigningKey()).thenReturn(signingKey(keyPair));
         when(tokenConfigurationParameter.getIssuer()).thenReturn("issuer");
 
         // When
@@ -58,7 +74,7 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(tokenConfigurationParameter).getAccessTokenExpireMinute();
         verify(tokenConfigurationParameter).getRefreshTokenExpireDay();
-        verify(tokenConfigurationParameter, times(2)).getPrivateKey();
+        verify(tokenConfigurationParameter).getSigningKey();
 
     }
 
@@ -83,8 +99,8 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
         claims.put("USER_ID", "12345");
 
         // Mock the TokenConfigurationParameter to return the keys
-        when(tokenConfigurationParameter.getPrivateKey()).thenReturn(privateKey);
-        when(tokenConfigurationParameter.getPublicKey()).thenReturn(publicKey);
+        when(tokenConfigurationParameter.getSigningKey()).thenReturn(signingKey(keyPair));
+        when(tokenConfigurationParameter.getVerificationKey(null)).thenReturn(publicKey);
         when(tokenConfigurationParameter.getAccessTokenExpireMinute()).thenReturn(60);
         when(tokenConfigurationParameter.getIssuer()).thenReturn("issuer");
         doNothing().when(invalidTokenService).checkForInvalidityOfToken(anyString());
@@ -125,7 +141,7 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
                 .compact();
 
         // When
-        when(tokenConfigurationParameter.getPublicKey()).thenReturn(publicKey);
+        when(tokenConfigurationParameter.getVerificationKey(null)).thenReturn(publicKey);
 
         // Then
         Jws<Claims> claims = tokenService.getClaims(jwt);
@@ -135,7 +151,7 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
         assertEquals("subject", claims.getBody().getSubject(), "Subject should match");
 
         // Verify
-        verify(tokenConfigurationParameter).getPublicKey();
+        verify(tokenConfigurationParameter).getVerificationKey(null);
 
     }
 
@@ -159,7 +175,7 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
                 .compact();
 
         // When
-        when(tokenConfigurationParameter.getPublicKey()).thenReturn(publicKey);
+        when(tokenConfigurationParameter.getVerificationKey(null)).thenReturn(publicKey);
 
         // Then
         Claims payload = tokenService.getPayload(jwt);
@@ -170,7 +186,7 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
         assertEquals("subject", payload.getSubject(), "Subject should match");
 
         // Verify
-        verify(tokenConfigurationParameter).getPublicKey();
+        verify(tokenConfigurationParameter).getVerificationKey(null);
 
     }
 
@@ -203,14 +219,169 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
         Set<String> jwts = Set.of(jwt1, jwt2);
 
         // When
-        when(tokenConfigurationParameter.getPublicKey()).thenReturn(publicKey);
+        when(tokenConfigurationParameter.getVerificationKey(null)).thenReturn(publicKey);
 
         // Then
         assertDoesNotThrow(() -> tokenService.verifyAndValidate(jwts), "All tokens should be valid");
 
         // Verify
-        verify(tokenConfigurationParameter, times(2)).getPublicKey();
+        verify(tokenConfigurationParameter, times(2)).getVerificationKey(null);
+
+    }
+
+    @Test
+    void testVerifyParsesTokenOnce() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        PublicKey publicKey = keyPair.getPublic();
+        PrivateKey privateKey = keyPair.getPrivate();
+
+        String tokenId = UUID.randomUUID().toString();
+
+        String jwt = Jwts.builder()
+                .header()
+                .type("Bearer")
+                .and()
+                .id(tokenId)
+                .issuer("issuer")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000))
+                .claim(TokenClaims.USER_ID.getValue(), "user-id")
+                .claim(TokenClaims.USER_TYPE.getValue(), UserType.USER.name())
+                .signWith(privateKey)
+                .compact();
+
+        // When
+        when(tokenConfigurationParameter.getVerificationKey(null)).thenReturn(publicKey);
+
+        // Then
+        VerifiedToken verifiedToken = tokenService.verify(jwt);
+        UsernamePasswordAuthenticationToken authentication = tokenService.getAuthentication(verifiedToken);
+
+        assertEquals(jwt, verifiedToken.getJwt());
+        assertEquals(tokenId, verifiedToken.getId());
+        assertEquals("issuer", verifiedToken.getPayload().getIssuer());
+
+        Jwt principal = (Jwt) authentication.getPrincipal();
+        assertEquals(jwt, principal.getTokenValue());
+        assertEquals("user-id", principal.getClaim(TokenClaims.USER_ID.getValue()));
+        assertEquals("Bearer", principal.getHeaders().get(TokenClaims.TYP.getValue()));
+        assertTrue(authentication.getAuthorities().stream()
+                .anyMatch(authority -> UserType.USER.name().equals(authority.getAuthority())));
+
+        // Verify
+        verify(tokenConfigurationParameter, times(1)).getVerificationKey(null);
+
+    }
+
+    @Test
+    void testGeneratedTokenCarriesKeyIdOfSigningKey() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("USER_ID", "12345");
+
+        when(tokenConfigurationParameter.getAccessTokenExpireMinute()).thenReturn(60);
+        when(tokenConfigurationParameter.getRefreshTokenExpireDay()).thenReturn(7);
+        when(tokenConfigurationParameter.getSigningKey()).thenReturn(signingKey(keyPair));
+        when(tokenConfigurationParameter.getVerificationKey("test-key")).thenReturn(keyPair.getPublic());
+
+        // When
+        Token token = tokenService.generateToken(claims);
+        Jws<Claims> claimsJws = tokenService.getClaims(token.getAccessToken());
+
+        // Then
+        assertEquals("test-key", claimsJws.getHeader().getKeyId());
+        assertEquals("RS256", claimsJws.getHeader().getAlgorithm());
+
+        // Verify
+        verify(tokenConfigurationParameter).getVerificationKey("test-key");
+
+    }
+
+    @Test
+    void givenCompactToken_whenGetAuthentication_thenProfileIsResolvedFromCacheOnDemand() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        UserEntity userEntity = new UserEntityBuilder().withValidFields().build();
+        UserProfile cachedProfile = UserProfile.from(userEntity);
+
+        when(tokenConfigurationParameter.getSigningKey()).thenReturn(signingKey(keyPair));
+        when(tokenConfigurationParameter.getVerificationKey("test-key"))
+                .thenReturn(keyPair.getPublic());
+        when(tokenConfigurationParameter.getAccessTokenExpireMinute()).thenReturn(60);
+        when(tokenConfigurationParameter.getRefreshTokenExpireDay()).thenReturn(7);
+        when(userProfileCache.get(userEntity.getId())).thenReturn(cachedProfile);
+
+        String accessToken = tokenService.generateToken(userEntity.getClaims(TokenClaimsProfile.COMPACT)).getAccessToken();
+
+        // When
+        UsernamePasswordAuthenticationToken authentication = tokenService.getAuthentication(tokenService.verify(accessToken));
+
+        // Then
+        Jwt principal = (Jwt) authentication.getPrincipal();
+        assertNull(principal.getClaim(TokenClaims.USER_EMAIL.getValue()));
+        assertEquals(TokenClaimsProfile.COMPACT_VERSION, ((Number) principal.getClaim(TokenClaims.PROFILE_VERSION.getValue())).intValue());
+        verifyNoInteractions(userProfileCache);
+
+        UserProfileReference profileReference = (UserProfileReference) authentication.getDetails();
+        assertSame(cachedProfile, profileReference.get());
+
+        // Verify
+        verify(userProfileCache).get(userEntity.getId());
+
+    }
+
+    @Test
+    void givenFullToken_whenGetAuthentication_thenProfileIsReadFromClaims() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        UserEntity userEntity = new UserEntityBuilder().withValidFields().build();
+
+        when(tokenConfigurationParameter.getSigningKey()).thenReturn(signingKey(keyPair));
+        when(tokenConfigurationParameter.getVerificationKey("test-key"))
+                .thenReturn(keyPair.getPublic());
+        when(tokenConfigurationParameter.getAccessTokenExpireMinute()).thenReturn(60);
+        when(tokenConfigurationParameter.getRefreshTokenExpireDay()).thenReturn(7);
+
+        String accessToken = tokenService.generateToken(userEntity.getClaims(TokenClaimsProfile.FULL)).getAccessToken();
+
+        // When
+        UsernamePasswordAuthenticationToken authentication = tokenService.getAuthentication(tokenService.verify(accessToken));
+
+        // Then
+        UserProfile profile = ((UserProfileReference) authentication.getDetails()).get();
+        assertEquals(userEntity.getEmail(), profile.getEmail());
+        assertEquals(userEntity.getUserType(), profile.getUserType());
+        assertEquals(userEntity.getUserStatus(), profile.getUserStatus());
+
+        // Verify
+        verifyNoInteractions(userProfileCache);
+
+    }
 
+    private static TokenSigningKey signingKey(final KeyPair keyPair) {
+        return TokenSigningKey.builder()
+                .id("test-key")
+                .algorithm(SigningAlgorithm.RS256)
+                .publicKey(keyPair.getPublic())
+                .privateKey(keyPair.getPrivate())
+                .build();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.auth.config.TokenConfigurationParameter;
+import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.enums.ConfigurationParameter;
+import com.example.carservice.auth.model.enums.TokenClaims;
+import com.example.carservice.auth.model.enums.UserStatus;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.service.impl.TokenServiceImpl;
+import com.example.carservice.auth.utils.KeyConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the authentication hot paths run on login and on every authenticated request:
+ * issuing a token pair, verifying an access token, building the Spring authentication from it,
+ * and parsing the PEM public key.
+ * <p>
+ * Tokens carry the full claim set issued at login, so their size matches production tokens.
+ * </p>
+ *
+ * Run {@link #main(String[])} on the test classpath, or all benchmarks with {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthHotPathBenchmark {
+
+    private TokenServiceImpl tokenService;
+    private Map<String, Object> claims;
+    private String accessToken;
+    private String publicPemKey;
+
+    @Setup
+    public void setUp() {
+
+        tokenService = new TokenServiceImpl(new TokenConfigurationParameter(), null, null);
+
+        claims = Map.of(
+                TokenClaims.USER_ID.getValue(), UUID.randomUUID().toString(),
+                TokenClaims.USER_TYPE.getValue(), UserType.USER.name(),
+                TokenClaims.USER_STATUS.getValue(), UserStatus.ACTIVE.name(),
+                TokenClaims.USER_FIRST_NAME.getValue(), "Benchmark",
+                TokenClaims.USER_LAST_NAME.getValue(), "User",
+                TokenClaims.USER_EMAIL.getValue(), "benchmark@carservice.com",
+                TokenClaims.USER_PHONE_NUMBER.getValue(), "5551234567"
+        );
+
+        accessToken = tokenService.generateToken(claims).getAccessToken();
+        publicPemKey = ConfigurationParameter.AUTH_PUBLIC_KEY.getDefaultValue();
+    }
+
+    @Benchmark
+    public Token generateToken() {
+        return tokenService.generateToken(claims);
+    }
+
+    @Benchmark
+    public String verifyAndValidate() {
+        tokenService.verifyAndValidate(accessToken);
+        return accessToken;
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken getAuthentication() {
+        return tokenService.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public PublicKey convertPublicKey() {
+        return KeyConverter.convertPublicKey(publicPemKey);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(AuthHotPathBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
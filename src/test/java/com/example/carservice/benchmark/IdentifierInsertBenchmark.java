@@ -0,0 +1,157 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.common.id.IdCodec;
+import com.example.carservice.common.id.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the insert throughput of the {@code LOGS} and {@code SERVICES} tables with
+ * random UUID text keys (before), time-ordered UUID text keys, and time-ordered keys stored as
+ * {@code BINARY(16)} (after).
+ * <p>
+ * Each trial pre-fills the table so that the primary key index no longer fits in a few pages, then measures
+ * batched inserts on top of it. The default database is in-memory H2; pass
+ * {@code -p jdbcUrl=jdbc:mysql://localhost:3306/benchmark?rewriteBatchedStatements=true -p username=... -p password=...}
+ * to measure the InnoDB page splits the change is aimed at.
+ * </p>
+ *
+ * Run {@link #main(String[])} on the test classpath (or {@code org.openjdk.jmh.Main IdentifierInsertBenchmark}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdentifierInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int PREFILL_ROWS = 200_000;
+
+    public enum KeyLayout {
+        RANDOM_VARCHAR,
+        TIME_ORDERED_VARCHAR,
+        TIME_ORDERED_BINARY
+    }
+
+    @Param({"LOGS", "SERVICES"})
+    public String table;
+
+    @Param({"RANDOM_VARCHAR", "TIME_ORDERED_VARCHAR", "TIME_ORDERED_BINARY"})
+    public KeyLayout layout;
+
+    @Param("jdbc:h2:mem:identifier-benchmark;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    @Param("sa")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    private Connection connection;
+    private String insertSql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        connection.setAutoCommit(false);
+
+        final String idType = layout == KeyLayout.TIME_ORDERED_BINARY ? "BINARY(16)" : "VARCHAR(36)";
+        final String benchmarkTable = "BENCHMARK_" + table;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + benchmarkTable);
+            if ("LOGS".equals(table)) {
+                statement.execute("CREATE TABLE " + benchmarkTable + " (ID " + idType + " NOT NULL PRIMARY KEY, "
+                        + "MESSAGE VARCHAR(2000), ENDPOINT VARCHAR(255), METHOD VARCHAR(255), STATUS VARCHAR(64), "
+                        + "CREATED_AT TIMESTAMP)");
+                insertSql = "INSERT INTO " + benchmarkTable
+                        + " (ID, MESSAGE, ENDPOINT, METHOD, STATUS, CREATED_AT) VALUES (?, ?, ?, ?, ?, ?)";
+            } else {
+                statement.execute("CREATE TABLE " + benchmarkTable + " (ID " + idType + " NOT NULL PRIMARY KEY, "
+                        + "TITLE VARCHAR(255) NOT NULL, DESCRIPTION VARCHAR(1000), STATUS VARCHAR(64) NOT NULL, "
+                        + "CAR_ID VARCHAR(36), CREATED_AT TIMESTAMP)");
+                statement.execute("CREATE INDEX IX_" + benchmarkTable + "_CREATED_AT_ID ON " + benchmarkTable + " (CREATED_AT, ID)");
+                statement.execute("CREATE INDEX IX_" + benchmarkTable + "_CAR_ID_CREATED_AT_ID ON " + benchmarkTable + " (CAR_ID, CREATED_AT, ID)");
+                insertSql = "INSERT INTO " + benchmarkTable
+                        + " (ID, TITLE, DESCRIPTION, STATUS, CAR_ID, CREATED_AT) VALUES (?, ?, ?, ?, ?, ?)";
+            }
+        }
+        connection.commit();
+
+        for (int inserted = 0; inserted < PREFILL_ROWS; inserted += BATCH_SIZE) {
+            this.insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS BENCHMARK_" + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insert() throws SQLException {
+        this.insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
+            for (int row = 0; row < BATCH_SIZE; row++) {
+                this.bindId(preparedStatement);
+                if ("LOGS".equals(table)) {
+                    preparedStatement.setString(2, "GET /api/v1/cars completed");
+                    preparedStatement.setString(3, "/api/v1/cars");
+                    preparedStatement.setString(4, "getAllCars");
+                    preparedStatement.setString(5, "OK");
+                } else {
+                    preparedStatement.setString(2, "Oil change");
+                    preparedStatement.setString(3, "Engine oil and filter replaced");
+                    preparedStatement.setString(4, "CREATED");
+                    preparedStatement.setString(5, UUID.randomUUID().toString());
+                }
+                preparedStatement.setTimestamp(6, now);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void bindId(final PreparedStatement preparedStatement) throws SQLException {
+        switch (layout) {
+            case RANDOM_VARCHAR -> preparedStatement.setString(1, UUID.randomUUID().toString());
+            case TIME_ORDERED_VARCHAR -> preparedStatement.setString(1, TimeOrderedUuid.nextId());
+            case TIME_ORDERED_BINARY -> preparedStatement.setBytes(1, IdCodec.encode(TimeOrderedUuid.nextId()));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(IdentifierInsertBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
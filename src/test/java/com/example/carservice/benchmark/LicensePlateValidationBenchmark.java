@@ -0,0 +1,67 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.carservice.utils.validator.TurkishLicensePlateValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of {@link TurkishLicensePlateValidator#isValid}, run on every car creation, update and import row.
+ * <p>
+ * Plates are drawn from a fixed set of 1,024 inputs covering every valid layout, spaced and lower-case spellings,
+ * and the usual invalid inputs (bad province code, too many digits, stray characters), so that the branch and
+ * regex backtracking mix is close to real traffic.
+ * </p>
+ *
+ * Run {@link #main(String[])} on the test classpath, or all benchmarks with {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LicensePlateValidationBenchmark {
+
+    private static final int PLATES = 1_024;
+
+    private static final String[] TEMPLATES = {
+            "%02dA%04d", "%02d A %05d", "%02dAB%03d", "%02d ab %04d", "%02dABC%02d", "%02d ABC %03d",
+            "%02dA%06d", "%02d1B%03d", "%02dAB-%03d", "%02d  XYZ  %02d"
+    };
+
+    private final TurkishLicensePlateValidator validator = new TurkishLicensePlateValidator();
+
+    private String[] plates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        plates = new String[PLATES];
+        for (int index = 0; index < PLATES; index++) {
+            final int province = random.nextInt(90);
+            final int number = random.nextInt(10_000);
+            plates[index] = String.format(TEMPLATES[index % TEMPLATES.length], province, number);
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        final String plate = plates[next++ & (PLATES - 1)];
+        return validator.isValid(plate, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(LicensePlateValidationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.ServiceDto;
+import com.example.carservice.carservice.model.dto.response.CarResponse;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.carservice.model.enums.ServiceStatus;
+import com.example.carservice.carservice.model.mapper.car.CarEntityToCarMapper;
+import com.example.carservice.carservice.model.mapper.car.CustomPageCarToCustomPagingCarResponseMapper;
+import com.example.carservice.carservice.model.mapper.service.ServiceEntityToServiceDtoMapper;
+import com.example.carservice.common.model.CustomPage;
+import com.example.carservice.common.model.dto.response.CustomPagingResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the MapStruct mappers on the car listing path: entity to domain model
+ * ({@link CarEntityToCarMapper}, {@link ServiceEntityToServiceDtoMapper}) and domain page to API page
+ * ({@link CustomPageCarToCustomPagingCarResponseMapper}).
+ * <p>
+ * Sizes follow the listing endpoints: pages of {@code pageSize} cars, each with {@code servicesPerCar} services
+ * and a loaded owner, with every text and audit field filled.
+ * </p>
+ *
+ * Run {@link #main(String[])} on the test classpath, or all benchmarks with {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    @Param({"0", "5"})
+    public int servicesPerCar;
+
+    private final CarEntityToCarMapper carEntityToCarMapper = CarEntityToCarMapper.initialize();
+    private final ServiceEntityToServiceDtoMapper serviceEntityToServiceDtoMapper = ServiceEntityToServiceDtoMapper.initialize();
+    private final CustomPageCarToCustomPagingCarResponseMapper customPageCarToCustomPagingCarResponseMapper =
+            CustomPageCarToCustomPagingCarResponseMapper.initialize();
+
+    private List<CarEntity> carEntities;
+    private List<ServiceEntity> serviceEntities;
+    private CustomPage<Car> carPage;
+
+    @Setup
+    public void setUp() {
+
+        final LocalDateTime now = LocalDateTime.now();
+        final UserEntity owner = UserEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .email("owner@carservice.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1iMfnsMd3oS1QbX5s5q5p1W")
+                .firstName("Fleet")
+                .lastName("Owner")
+                .phoneNumber("5551234567")
+                .userType(UserType.USER)
+                .createdAt(now)
+                .createdBy("admin@carservice.com")
+                .build();
+
+        carEntities = new ArrayList<>(pageSize);
+        serviceEntities = new ArrayList<>();
+
+        for (int car = 0; car < pageSize; car++) {
+            final CarEntity carEntity = CarEntity.builder()
+                    .id(UUID.randomUUID().toString())
+                    .licensePlate(String.format("34 AB %04d", car))
+                    .brand("Toyota")
+                    .model("Corolla 1.6 Vision Plus")
+                    .status(CarStatus.ACTIVE)
+                    .user(owner)
+                    .createdAt(now)
+                    .createdBy("owner@carservice.com")
+                    .build();
+
+            final List<ServiceEntity> services = new ArrayList<>(servicesPerCar);
+            for (int service = 0; service < servicesPerCar; service++) {
+                services.add(ServiceEntity.builder()
+                        .id(UUID.randomUUID().toString())
+                        .title("Periodic maintenance " + service)
+                        .description("Engine oil, oil filter, air filter and cabin filter replaced; brakes inspected.")
+                        .status(ServiceStatus.DONE)
+                        .car(carEntity)
+                        .createdAt(now)
+                        .createdBy("workshop@carservice.com")
+                        .build());
+            }
+            carEntity.setServices(services);
+            serviceEntities.addAll(services);
+            carEntities.add(carEntity);
+        }
+
+        final List<Car> cars = carEntities.stream()
+                .map(carEntityToCarMapper::mapFromEntity)
+                .toList();
+        carPage = CustomPage.of(cars, new PageImpl<>(carEntities, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public List<Car> carEntityToCar() {
+        return carEntities.stream()
+                .map(carEntityToCarMapper::mapFromEntity)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ServiceDto> serviceEntityToServiceDto() {
+        return serviceEntityToServiceDtoMapper.map(serviceEntities);
+    }
+
+    @Benchmark
+    public CustomPagingResponse<CarResponse> carPageToPagingResponse() {
+        return customPageCarToCustomPagingCarResponseMapper.toPagingResponse(carPage);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.auth.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of login password checks per second at each BCrypt cost, through the bounded hashing executor.
+ * <p>
+ * Sixteen callers, like a burst of concurrent logins, check a password against a hash of the given cost.
+ * Hashing runs on {@code hashingThreads} threads ({@code 0} for half of the processors, as configured by default),
+ * so the score is the login throughput the executor sustains while the remaining cores stay free for other traffic.
+ * The queue is large enough for every caller, so no check is rejected.
+ * </p>
+ *
+ * Run {@link #main(String[])} on the test classpath, or all benchmarks with {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Str0ngPassw0rd!";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    @Param("0")
+    public int hashingThreads;
+
+    private BoundedPasswordEncoder encoder;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        final int threads = hashingThreads > 0
+                ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        encoder = new BoundedPasswordEncoder(strength, threads, 64, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        storedHash = encoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoder.close();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, storedHash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(PasswordHashingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.common.datasource.ConnectionBulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * JMH benchmark comparing request handling on a platform thread pool sized like Tomcat's default (200 threads),
+ * on one virtual thread per request, and on virtual threads behind the connection bulkhead.
+ * <p>
+ * Each invocation fires a burst of concurrent requests. A request spends {@code requestIoMillis} blocked outside
+ * the database (as on HTTP or the audit queue), then borrows a connection from a 10-connection Hikari pool, runs a
+ * query and keeps the connection for {@code queryMillis} (as a MySQL round trip would). Throughput is reported in
+ * bursts per second (times {@code requests} for requests per second); sample time gives the latency distribution
+ * of whole bursts, that is of the slowest request of each burst. Failed requests (pool or bulkhead timeouts)
+ * are counted in {@code failed}.
+ * </p>
+ * The default database is in-memory H2; pass {@code -p jdbcUrl=... -p username=... -p password=...} to measure
+ * against MySQL.
+ *
+ * Run {@link #main(String[])} on the test classpath (or {@code org.openjdk.jmh.Main RequestExecutionModeBenchmark}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestExecutionModeBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final int PLATFORM_THREADS = 200;
+
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL,
+        VIRTUAL_BULKHEAD
+    }
+
+    @Param({"PLATFORM", "VIRTUAL", "VIRTUAL_BULKHEAD"})
+    public ExecutionMode mode;
+
+    @Param({"200", "2000"})
+    public int requests;
+
+    @Param("2")
+    public int requestIoMillis;
+
+    @Param("5")
+    public int queryMillis;
+
+    @Param("jdbc:h2:mem:execution-mode-benchmark;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    @Param("sa")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    private HikariDataSource pool;
+    private DataSource dataSource;
+    private ExecutorService executor;
+
+    /**
+     * Requests that failed in the current iteration.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Failures {
+
+        public long failed;
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(jdbcUrl);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(POOL_SIZE);
+        pool.setConnectionTimeout(30_000);
+
+        dataSource = mode == ExecutionMode.VIRTUAL_BULKHEAD
+                ? new ConnectionBulkheadDataSource(pool, "benchmark", POOL_SIZE, requests, Duration.ofSeconds(30), new SimpleMeterRegistry())
+                : pool;
+
+        executor = mode == ExecutionMode.PLATFORM
+                ? Executors.newFixedThreadPool(PLATFORM_THREADS)
+                : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        pool.close();
+    }
+
+    @Benchmark
+    public long burst(final Failures failures) throws InterruptedException {
+
+        final List<Future<Long>> responses = new ArrayList<>(requests);
+        for (int request = 0; request < requests; request++) {
+            responses.add(executor.submit(this::handleRequest));
+        }
+
+        long checksum = 0;
+        for (Future<Long> response : responses) {
+            try {
+                checksum += response.get();
+            } catch (ExecutionException exception) {
+                failures.failed++;
+            }
+        }
+        return checksum;
+    }
+
+    private long handleRequest() throws InterruptedException, SQLException {
+
+        Thread.sleep(requestIoMillis);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            Thread.sleep(queryMillis);
+            return resultSet.getLong(1);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(RequestExecutionModeBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.auth.config.TokenConfigurationParameter;
+import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.TokenClaimsProfile;
+import com.example.carservice.auth.model.enums.UserStatus;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.service.impl.TokenServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing access tokens of the full and the compact claims profile on the path every
+ * authenticated request takes without a verified token cache hit: verifying the token and building the
+ * Spring authentication from it.
+ * <p>
+ * The size of the {@code Authorization} header sent with each request is printed when each trial starts.
+ * The compact profile resolves the rest of the user profile only on demand, which this benchmark does not do.
+ * </p>
+ *
+ * Run {@link #main(String[])} on the test classpath, or all benchmarks with {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenClaimsProfileBenchmark {
+
+    @Param({"FULL", "COMPACT"})
+    public TokenClaimsProfile profile;
+
+    private TokenServiceImpl tokenService;
+    private UserEntity userEntity;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+
+        tokenService = new TokenServiceImpl(new TokenConfigurationParameter(), null, null);
+
+        userEntity = UserEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .email("benchmark.user@carservice.com")
+                .firstName("Benchmark")
+                .lastName("User")
+                .phoneNumber("5551234567")
+                .userType(UserType.USER)
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+
+        accessToken = tokenService.generateToken(userEntity.getClaims(profile)).getAccessToken();
+
+        final String header = HttpHeaders.AUTHORIZATION + ": Bearer " + accessToken;
+        System.out.printf("%n%s access token: %d bytes, Authorization header: %d bytes%n",
+                profile, accessToken.length(), header.getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken getAuthentication() {
+        return tokenService.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Token generateToken() {
+        return tokenService.generateToken(userEntity.getClaims(profile));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(TokenClaimsProfileBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
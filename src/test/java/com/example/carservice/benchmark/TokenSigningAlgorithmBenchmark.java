@@ -0,0 +1,121 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.auth.config.TokenConfigurationParameter;
+import com.example.carservice.auth.config.TokenKeyRingProperties;
+import com.example.carservice.auth.model.Token;
+import com.example.carservice.auth.model.VerifiedToken;
+import com.example.carservice.auth.model.enums.SigningAlgorithm;
+import com.example.carservice.auth.model.enums.TokenClaims;
+import com.example.carservice.auth.model.enums.UserStatus;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.service.impl.TokenServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the cost of signing (login: an access and a refresh token) and verifying (every
+ * authenticated request) tokens with each {@link SigningAlgorithm}.
+ * <p>
+ * {@code RS256} uses the built-in 2048-bit RSA key, as deployed today; {@code ES256} (P-256) and {@code EDDSA}
+ * (Ed25519) use key pairs generated at setup and loaded through the key ring like configured keys.
+ * </p>
+ *
+ * Run {@link #main(String[])} on the test classpath, or all benchmarks with {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenSigningAlgorithmBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    public SigningAlgorithm algorithm;
+
+    private TokenServiceImpl tokenService;
+    private Map<String, Object> claims;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+
+        final TokenConfigurationParameter tokenConfigurationParameter = algorithm == SigningAlgorithm.RS256
+                ? new TokenConfigurationParameter()
+                : new TokenConfigurationParameter(keyRing(algorithm));
+
+        tokenService = new TokenServiceImpl(tokenConfigurationParameter, null, null);
+
+        claims = Map.of(
+                TokenClaims.USER_ID.getValue(), UUID.randomUUID().toString(),
+                TokenClaims.USER_TYPE.getValue(), UserType.USER.name(),
+                TokenClaims.USER_STATUS.getValue(), UserStatus.ACTIVE.name(),
+                TokenClaims.USER_FIRST_NAME.getValue(), "Benchmark",
+                TokenClaims.USER_LAST_NAME.getValue(), "User",
+                TokenClaims.USER_EMAIL.getValue(), "benchmark@carservice.com",
+                TokenClaims.USER_PHONE_NUMBER.getValue(), "5551234567"
+        );
+
+        accessToken = tokenService.generateToken(claims).getAccessToken();
+    }
+
+    @Benchmark
+    public Token sign() {
+        return tokenService.generateToken(claims);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return tokenService.verify(accessToken);
+    }
+
+    private static TokenKeyRingProperties keyRing(final SigningAlgorithm algorithm) throws GeneralSecurityException {
+
+        final KeyPairGenerator generator;
+        if (algorithm == SigningAlgorithm.ES256) {
+            generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        } else {
+            generator = KeyPairGenerator.getInstance("Ed25519");
+        }
+        final KeyPair keyPair = generator.generateKeyPair();
+
+        final TokenKeyRingProperties.Key key = new TokenKeyRingProperties.Key();
+        key.setId(algorithm.name().toLowerCase());
+        key.setAlgorithm(algorithm);
+        key.setPublicKey(pem("PUBLIC KEY", keyPair.getPublic()));
+        key.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate()));
+
+        final TokenKeyRingProperties properties = new TokenKeyRingProperties();
+        properties.setKeys(List.of(key));
+        return properties;
+    }
+
+    private static String pem(final String type, final Key key) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(key.getEncoded())
+                + "\n-----END " + type + "-----\n";
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(TokenSigningAlgorithmBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.carservice.benchmark;
+
+import com.example.carservice.auth.config.TokenConfigurationParameter;
+import com.example.carservice.auth.model.VerifiedToken;
+import com.example.carservice.auth.model.enums.TokenClaims;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.service.impl.TokenServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the per-request cost of authenticating a bearer token
+ * the legacy way (verify, read the id and build the authentication, each parsing the token again)
+ * with the single-parse path based on {@link VerifiedToken}.
+ *
+ * Run {@link #main(String[])} on the test classpath (or {@code org.openjdk.jmh.Main TokenVerificationBenchmark}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private TokenServiceImpl tokenService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+
+        tokenService = new TokenServiceImpl(new TokenConfigurationParameter(), null, null);
+
+        final Map<String, Object> claims = Map.of(
+                TokenClaims.USER_ID.getValue(), UUID.randomUUID().toString(),
+                TokenClaims.USER_TYPE.getValue(), UserType.USER.name(),
+                TokenClaims.USER_EMAIL.getValue(), "benchmark@carservice.com"
+        );
+
+        accessToken = tokenService.generateToken(claims).getAccessToken();
+    }
+
+    @Benchmark
+    public void parsePerCall(final Blackhole blackhole) {
+        tokenService.verifyAndValidate(accessToken);
+        blackhole.consume(tokenService.getId(accessToken));
+        blackhole.consume(tokenService.getAuthentication(accessToken));
+    }
+
+    @Benchmark
+    public void parseOnce(final Blackhole blackhole) {
+        final VerifiedToken verifiedToken = tokenService.verify(accessToken);
+        blackhole.consume(verifiedToken.getId());
+        blackhole.consume(tokenService.getAuthentication(verifiedToken));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(TokenVerificationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.example.carservice.carservice.cache;
+
+import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.carservice.config.CarOwnerIndexProperties;
+import com.example.carservice.carservice.model.CarOwner;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.LocalEntityCacheInvalidationBus;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CarOwnerIndexTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    private final LocalEntityCacheInvalidationBus invalidationBus = new LocalEntityCacheInvalidationBus();
+
+    private CarOwnerIndex carOwnerIndex;
+
+    @BeforeEach
+    void setUp() {
+        carOwnerIndex = new CarOwnerIndex(carRepository, invalidationBus, new CarOwnerIndexProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenIndexedCar_whenGetOwnerId_thenOwnerIsReadOnce() {
+
+        // Given
+        when(carRepository.findOwnerIdById("car-id")).thenReturn(Optional.of("owner-id"));
+
+        // Then
+        assertEquals("owner-id", carOwnerIndex.getOwnerId("car-id"));
+        assertEquals("owner-id", carOwnerIndex.getOwnerId("car-id"));
+
+        // Verify
+        verify(carRepository, times(1)).findOwnerIdById("car-id");
+
+    }
+
+    @Test
+    void givenUnknownCar_whenGetOwnerId_thenNullIsReturnedAndNotIndexed() {
+
+        // Given
+        when(carRepository.findOwnerIdById("unknown")).thenReturn(Optional.empty());
+
+        // Then
+        assertNull(carOwnerIndex.getOwnerId("unknown"));
+        assertNull(carOwnerIndex.getOwnerId("unknown"));
+
+        // Verify
+        verify(carRepository, times(2)).findOwnerIdById("unknown");
+
+    }
+
+    @Test
+    void givenPartlyIndexedCars_whenGetOwnerIds_thenOnlyMissingCarsAreReadInOneQuery() {
+
+        // Given
+        when(carRepository.findOwnerIdById("first")).thenReturn(Optional.of("first-owner"));
+        when(carRepository.findOwnersByIdIn(Set.of("second", "unknown")))
+                .thenReturn(List.of(new CarOwner("second", "second-owner")));
+
+        carOwnerIndex.getOwnerId("first");
+
+        // When
+        final Map<String, String> ownerIds = carOwnerIndex.getOwnerIds(Set.of("first", "second", "unknown"));
+
+        // Then
+        assertEquals(Map.of("first", "first-owner", "second", "second-owner"), ownerIds);
+
+        // Verify
+        verify(carRepository).findOwnersByIdIn(Set.of("second", "unknown"));
+
+    }
+
+    @Test
+    void givenOwnerChanged_whenInvalidate_thenNewOwnerIsRead() {
+
+        // Given
+        when(carRepository.findOwnerIdById("car-id"))
+                .thenReturn(Optional.of("old-owner"))
+                .thenReturn(Optional.of("new-owner"));
+
+        carOwnerIndex.getOwnerId("car-id");
+
+        // When
+        carOwnerIndex.invalidate("car-id");
+
+        // Then
+        assertEquals("new-owner", carOwnerIndex.getOwnerId("car-id"));
+
+        // Verify
+        verify(carRepository, times(2)).findOwnerIdById("car-id");
+
+    }
+
+    @Test
+    void givenOwnerChanged_whenInvalidate_thenChangeIsPublishedToEveryInstance() {
+
+        // Given
+        final List<EntityCacheInvalidation> published = new ArrayList<>();
+        invalidationBus.subscribe(published::add);
+
+        // When
+        carOwnerIndex.invalidate("car-id");
+
+        // Then
+        assertEquals(1, published.size());
+        assertEquals(CacheInvalidationTarget.ENTITY, published.get(0).getTarget());
+        assertEquals(CarEntity.class.getName(), published.get(0).getRole());
+        assertEquals("car-id", published.get(0).getKey());
+
+    }
+
+    @Test
+    void givenCarChangedOnAnotherInstance_whenInvalidationIsReceived_thenOnlyThatCarIsReadAgain() {
+
+        // Given
+        when(carRepository.findOwnerIdById("car-id"))
+                .thenReturn(Optional.of("old-owner"))
+                .thenReturn(Optional.of("new-owner"));
+
+        carOwnerIndex.getOwnerId("car-id");
+
+        // When
+        invalidationBus.publish(invalidation(ServiceEntity.class.getName(), "car-id"));
+
+        // Then
+        assertEquals("old-owner", carOwnerIndex.getOwnerId("car-id"));
+
+        // When
+        invalidationBus.publish(invalidation(CarEntity.class.getName(), "car-id"));
+
+        // Then
+        assertEquals("new-owner", carOwnerIndex.getOwnerId("car-id"));
+
+        // Verify
+        verify(carRepository, times(2)).findOwnerIdById("car-id");
+
+    }
+
+    private static EntityCacheInvalidation invalidation(final String role, final String key) {
+        return EntityCacheInvalidation.builder()
+                .origin("other-instance")
+                .target(CacheInvalidationTarget.ENTITY)
+                .role(role)
+                .key(key)
+                .build();
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.example.carservice.carservice.cache;
+
+import com.example.carservice.carservice.config.ListingCountCacheProperties;
+import com.example.carservice.common.model.enums.TotalCountMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListingCountCacheTest {
+
+    private static final String KEY = ListingCountCache.key(ListingCountCache.CARS, "status", "ACTIVE");
+
+    private ListingCountCacheProperties listingCountCacheProperties;
+
+    private ListingCountCache listingCountCache;
+
+    private AtomicLong countQueries;
+
+    @BeforeEach
+    void setUp() {
+        listingCountCacheProperties = new ListingCountCacheProperties();
+        listingCountCache = new ListingCountCache(listingCountCacheProperties, new SimpleMeterRegistry());
+        countQueries = new AtomicLong();
+    }
+
+    @Test
+    void givenNoneMode_whenResolveTotal_thenNoCountIsRun() {
+
+        // When
+        Long total = listingCountCache.resolveTotal(TotalCountMode.NONE, KEY, firstPageWithNext(), this::count);
+
+        // Then
+        assertNull(total);
+        assertEquals(0, countQueries.get());
+
+    }
+
+    @Test
+    void givenExactMode_whenResolveTotalTwice_thenCountIsRunOnce() {
+
+        // When
+        Long first = listingCountCache.resolveTotal(TotalCountMode.EXACT, KEY, firstPageWithNext(), this::count);
+        Long second = listingCountCache.resolveTotal(TotalCountMode.EXACT, KEY, firstPageWithNext(), this::count);
+
+        // Then
+        assertEquals(42L, first);
+        assertEquals(42L, second);
+        assertEquals(1, countQueries.get());
+
+    }
+
+    @Test
+    void givenCachedCounts_whenInvalidate_thenOnlyExactCountIsRunAgain() {
+
+        // Given
+        listingCountCache.resolveTotal(TotalCountMode.EXACT, KEY, firstPageWithNext(), this::count);
+
+        // When
+        listingCountCache.invalidate(ListingCountCache.CARS);
+
+        // Then
+        listingCountCache.resolveTotal(TotalCountMode.ESTIMATED, KEY, firstPageWithNext(), this::count);
+        assertEquals(1, countQueries.get());
+
+        listingCountCache.resolveTotal(TotalCountMode.EXACT, KEY, firstPageWithNext(), this::count);
+        assertEquals(2, countQueries.get());
+
+    }
+
+    @Test
+    void givenLastPage_whenResolveTotal_thenTotalIsDerivedWithoutCount() {
+
+        // Given
+        Slice<String> lastPage = new SliceImpl<>(List.of("car-21", "car-22"), PageRequest.of(2, 10), false);
+
+        // When
+        Long total = listingCountCache.resolveTotal(TotalCountMode.EXACT, KEY, lastPage, this::count);
+
+        // Then
+        assertEquals(22L, total);
+        assertEquals(0, countQueries.get());
+
+    }
+
+    @Test
+    void givenDisabledCache_whenResolveTotalTwice_thenCountIsRunEachTime() {
+
+        // Given
+        listingCountCacheProperties.setEnabled(false);
+        listingCountCache = new ListingCountCache(listingCountCacheProperties, new SimpleMeterRegistry());
+
+        // When
+        listingCountCache.resolveTotal(TotalCountMode.EXACT, KEY, firstPageWithNext(), this::count);
+        listingCountCache.resolveTotal(TotalCountMode.EXACT, KEY, firstPageWithNext(), this::count);
+
+        // Then
+        assertEquals(2, countQueries.get());
+
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return 42L;
+    }
+
+    private static Slice<String> firstPageWithNext() {
+        return new SliceImpl<>(List.of("car-1"), PageRequest.of(0, 1), true);
+    }
+
+}
@@ -4,6 +4,7 @@ import com.example.carservice.auth.model.User;
 import com.example.carservice.base.AbstractRestControllerTest;
 import com.example.carservice.builder.UserIdentityBuilder;
 import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.CarSummary;
 import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
 import com.example.carservice.carservice.model.dto.request.car.UpdateCarRequest;
 import com.example.carservice.carservice.model.dto.response.CarResponse;
@@ -423,6 +424,58 @@ class CarControllerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void testGetAllCarSummaries_AsAdmin_ReturnsPagedCarSummaries() throws Exception {
+
+        // Given
+        final CustomPagingRequest pagingRequest = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageNumber(1)
+                        .pageSize(10)
+                        .build())
+                .build();
+
+        final List<CarSummary> carSummaries = List.of(
+                CarSummary.builder()
+                        .id(UUID.randomUUID().toString())
+                        .licensePlate("06 ADMIN 001")
+                        .brand("Tesla")
+                        .model("Model S")
+                        .status(CarStatus.ACTIVE)
+                        .userId(UUID.randomUUID().toString())
+                        .ownerFirstName("John")
+                        .ownerLastName("Doe")
+                        .serviceCount(2L)
+                        .build()
+        );
+
+        final PageRequest pageRequest = PageRequest.of(0, 10);
+        final Page<CarSummary> summaryPage = new PageImpl<>(carSummaries, pageRequest, carSummaries.size());
+
+        final CustomPage<CarSummary> customPage = CustomPage.of(carSummaries, summaryPage);
+
+        // When
+        when(carService.getAllCarSummaries(any(CustomPagingRequest.class))).thenReturn(customPage);
+
+        // Then
+        mockMvc.perform(post("/api/v1/cars/all/summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(pagingRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.content.length()").value(1))
+                .andExpect(jsonPath("$.response.content[0].licensePlate").value("06 ADMIN 001"))
+                .andExpect(jsonPath("$.response.content[0].ownerFirstName").value("John"))
+                .andExpect(jsonPath("$.response.content[0].serviceCount").value(2))
+                .andExpect(jsonPath("$.response.content[0].serviceList").doesNotExist())
+                .andExpect(jsonPath("$.response.totalElementCount").value(1));
+
+        // Verify
+        verify(carService).getAllCarSummaries(any(CustomPagingRequest.class));
+
+    }
+
     @Test
     void testGetAllCarsByActiveStatus_AsAdmin_ReturnsPagedActiveCars() throws Exception {
 
@@ -0,0 +1,225 @@
+package com.example.carservice.carservice.service.impl;
+
+import com.example.carservice.auth.model.UserIdentity;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.carservice.cache.ListingCountCache;
+import com.example.carservice.carservice.config.CarImportProperties;
+import com.example.carservice.carservice.config.ListingCountCacheProperties;
+import com.example.carservice.carservice.exception.InvalidCarImportException;
+import com.example.carservice.carservice.model.dto.response.CarImportRowResponse;
+import com.example.carservice.carservice.model.dto.response.CarImportSummaryResponse;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.enums.CarImportFormat;
+import com.example.carservice.carservice.model.enums.CarImportRowStatus;
+import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.carservice.repository.CarJdbcRepository;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs bulk car imports against an in-memory database, covering row checks, set-based uniqueness checks,
+ * batched inserts and chunking.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class CarImportServiceImplTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserIdentity userIdentity;
+
+    private CarImportProperties carImportProperties;
+
+    private CarImportServiceImpl carImportService;
+
+    private UserEntity owner;
+
+    @BeforeEach
+    void setUp() {
+
+        userIdentity = mock(UserIdentity.class);
+        carImportProperties = new CarImportProperties();
+
+        carImportService = new CarImportServiceImpl(
+                carRepository,
+                new CarJdbcRepository(new JdbcTemplate(dataSource)),
+                userRepository,
+                userIdentity,
+                new ListingCountCache(new ListingCountCacheProperties(), new SimpleMeterRegistry()),
+                carImportProperties,
+                new ObjectMapper(),
+                transactionManager
+        );
+
+        owner = entityManager.persist(UserEntity.builder()
+                .email("fleet@carservice.com")
+                .password("password")
+                .firstName("Fleet")
+                .lastName("Owner")
+                .phoneNumber("5550000001")
+                .userType(UserType.USER)
+                .build());
+
+        entityManager.persist(CarEntity.builder()
+                .licensePlate("34AB123")
+                .brand("Toyota")
+                .model("Corolla")
+                .status(CarStatus.ACTIVE)
+                .user(owner)
+                .build());
+        entityManager.flush();
+
+        when(userIdentity.getUserType()).thenReturn(UserType.ADMIN);
+        when(userIdentity.getUserId()).thenReturn(UUID.randomUUID().toString());
+    }
+
+    @Test
+    void givenJsonLinesWithValidAndInvalidRows_whenImportCars_thenValidRowsAreCreatedAndEveryRowIsReported() throws IOException {
+
+        // Given
+        final String unknownUserId = UUID.randomUUID().toString();
+        final String body = String.join("\n",
+                json("06ABC123", "Clio", "Renault", owner.getId()),
+                json("06 XYZ 1", "Clio", "Renault", owner.getId()),
+                "{not json",
+                "",
+                json("06ABC123", "Megane", "Renault", owner.getId()),
+                json("34AB123", "Corolla", "Toyota", owner.getId()),
+                json("35ABC12", "Golf", "Volkswagen", unknownUserId),
+                "{\"licensePlate\":\"35AB1234\",\"model\":\"Golf\"}"
+        );
+        final List<CarImportRowResponse> report = new ArrayList<>();
+
+        // When
+        CarImportSummaryResponse summary = carImportService.importCars(stream(body), CarImportFormat.NDJSON, report::addAll);
+
+        // Then
+        assertEquals(7, summary.getTotalRows());
+        assertEquals(1, summary.getCreatedRows());
+        assertEquals(6, summary.getRejectedRows());
+
+        assertEquals(
+                List.of(
+                        CarImportRowStatus.CREATED,
+                        CarImportRowStatus.INVALID_LICENSE_PLATE,
+                        CarImportRowStatus.INVALID_ROW,
+                        CarImportRowStatus.DUPLICATE_LICENSE_PLATE,
+                        CarImportRowStatus.LICENSE_PLATE_EXISTS,
+                        CarImportRowStatus.USER_NOT_FOUND,
+                        CarImportRowStatus.INVALID_ROW
+                ),
+                report.stream().map(CarImportRowResponse::getStatus).toList()
+        );
+        assertEquals(List.of(1L, 2L, 3L, 5L, 6L, 7L, 8L), report.stream().map(CarImportRowResponse::getLine).toList());
+
+        CarEntity created = carRepository.findById(report.get(0).getCarId()).orElseThrow();
+        assertEquals("06ABC123", created.getLicensePlate());
+        assertEquals(owner.getId(), created.getUser().getId());
+        assertEquals(CarStatus.ACTIVE, created.getStatus());
+        assertNotNull(created.getCreatedAt());
+
+    }
+
+    @Test
+    void givenCsvLargerThanOneChunk_whenImportCars_thenEachChunkIsReportedOnItsOwn() throws IOException {
+
+        // Given
+        carImportProperties.setChunkSize(2);
+        final String body = String.join("\n",
+                "userId,brand,model,licensePlate",
+                owner.getId() + ",Fiat,Egea,\"01 A 1234\"",
+                owner.getId() + ",Fiat,Egea,01 B 1234",
+                owner.getId() + ",Fiat,Egea,01 C 1234",
+                owner.getId() + ",Fiat,Egea,01 A 1234",
+                owner.getId() + ",Fiat"
+        );
+        final List<List<CarImportRowResponse>> chunks = new ArrayList<>();
+
+        // When
+        CarImportSummaryResponse summary = carImportService.importCars(stream(body), CarImportFormat.CSV, chunks::add);
+
+        // Then
+        assertEquals(3, chunks.size());
+        assertEquals(5, summary.getTotalRows());
+        assertEquals(3, summary.getCreatedRows());
+        assertEquals(CarImportRowStatus.LICENSE_PLATE_EXISTS, chunks.get(1).get(1).getStatus());
+        assertEquals(CarImportRowStatus.INVALID_ROW, chunks.get(2).get(0).getStatus());
+        assertEquals(4, carRepository.findExistingLicensePlates(
+                List.of("34AB123", "01 A 1234", "01 B 1234", "01 C 1234")).size());
+
+    }
+
+    @Test
+    void givenCsvWithoutUserIdColumn_whenImportCars_thenInvalidCarImportExceptionIsThrown() {
+
+        // Given
+        final String body = "licensePlate,model,brand\n01 A 1234,Egea,Fiat";
+
+        // Then
+        assertThrows(InvalidCarImportException.class,
+                () -> carImportService.importCars(stream(body), CarImportFormat.CSV, rows -> { }));
+
+    }
+
+    @Test
+    void givenUserImportingForAnotherUser_whenImportCars_thenRowIsDenied() throws IOException {
+
+        // Given
+        when(userIdentity.getUserType()).thenReturn(UserType.USER);
+        when(userIdentity.getUserId()).thenReturn(UUID.randomUUID().toString());
+        final List<CarImportRowResponse> report = new ArrayList<>();
+
+        // When
+        CarImportSummaryResponse summary = carImportService.importCars(
+                stream(json("07ABC123", "Clio", "Renault", owner.getId())), CarImportFormat.NDJSON, report::addAll);
+
+        // Then
+        assertEquals(0, summary.getCreatedRows());
+        assertEquals(CarImportRowStatus.ACCESS_DENIED, report.get(0).getStatus());
+
+    }
+
+    private static String json(final String licensePlate, final String model, final String brand, final String userId) {
+        return "{\"licensePlate\":\"" + licensePlate + "\",\"model\":\"" + model
+                + "\",\"brand\":\"" + brand + "\",\"userId\":\"" + userId + "\"}";
+    }
+
+    private static ByteArrayInputStream stream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
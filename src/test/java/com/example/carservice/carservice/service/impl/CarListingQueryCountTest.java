@@ -0,0 +1,232 @@
+package com.example.carservice.carservice.service.impl;
+
+import com.example.carservice.auth.model.UserIdentity;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.carservice.cache.CarOwnerIndex;
+import com.example.carservice.carservice.cache.ListingCountCache;
+import com.example.carservice.carservice.config.CarOwnerIndexProperties;
+import com.example.carservice.carservice.config.ListingCountCacheProperties;
+import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.CarSummary;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.carservice.model.mapper.car.ListCarEntityToListCarMapper;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.carservice.repository.ServiceRepository;
+import com.example.carservice.common.cache.LocalEntityCacheInvalidationBus;
+import com.example.carservice.common.model.CustomPage;
+import com.example.carservice.common.model.CustomPaging;
+import com.example.carservice.common.model.dto.request.CustomPagingRequest;
+import com.example.carservice.common.model.enums.PagingMode;
+import com.example.carservice.common.model.enums.TotalCountMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Asserts the number of SQL statements needed to list a page of cars with their owners and services,
+ * using Hibernate statistics against an in-memory database.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CarListingQueryCountTest {
+
+    private static final int OWNERS = 3;
+    private static final int CARS_PER_OWNER = 10;
+    private static final int SERVICES_PER_CAR = 2;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+
+    private CarServiceImpl carService;
+
+    @BeforeEach
+    void setUp() {
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        carService = new CarServiceImpl(
+                carRepository,
+                serviceRepository,
+                userRepository,
+                mock(UserIdentity.class),
+                new ListingCountCache(new ListingCountCacheProperties(), new SimpleMeterRegistry()),
+                new CarOwnerIndex(carRepository, new LocalEntityCacheInvalidationBus(),
+                        new CarOwnerIndexProperties(), new SimpleMeterRegistry())
+        );
+
+        for (int owner = 0; owner < OWNERS; owner++) {
+            UserEntity user = entityManager.persist(UserEntity.builder()
+                    .email("owner" + owner + "@carservice.com")
+                    .password("password")
+                    .firstName("Owner")
+                    .lastName(String.valueOf(owner))
+                    .phoneNumber("55500000" + owner)
+                    .userType(UserType.USER)
+                    .build());
+
+            for (int car = 0; car < CARS_PER_OWNER; car++) {
+                CarEntity carEntity = entityManager.persist(CarEntity.builder()
+                        .licensePlate("34 QC " + owner + car)
+                        .brand("Toyota")
+                        .model("Corolla")
+                        .status(CarStatus.ACTIVE)
+                        .user(user)
+                        .build());
+
+                for (int service = 0; service < SERVICES_PER_CAR; service++) {
+                    entityManager.persist(ServiceEntity.builder()
+                            .title("Service " + owner + car + service)
+                            .car(carEntity)
+                            .build());
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void givenOffsetPages_whenGetAllCars_thenEachPageTakesTwoStatements() {
+
+        for (int pageNumber = 1; pageNumber <= OWNERS * CARS_PER_OWNER / PAGE_SIZE; pageNumber++) {
+
+            // Given
+            CustomPagingRequest pagingRequest = pagingRequest(pageNumber, PagingMode.OFFSET, null);
+            entityManager.clear();
+            statistics.clear();
+
+            // When
+            CustomPage<Car> page = carService.getAllCars(pagingRequest);
+
+            // Then
+            assertFullyMapped(page);
+            assertEquals(2, statistics.getPrepareStatementCount(), "page " + pageNumber);
+        }
+
+    }
+
+    @Test
+    void givenKeysetPages_whenGetAllCarsByStatus_thenEachPageTakesTwoStatements() {
+
+        // Given
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            CustomPagingRequest pagingRequest = pagingRequest(null, PagingMode.KEYSET, cursor);
+            entityManager.clear();
+            statistics.clear();
+
+            // When
+            CustomPage<Car> page = carService.getAllCarsByStatus(pagingRequest);
+
+            // Then
+            assertFullyMapped(page);
+            assertEquals(2, statistics.getPrepareStatementCount(), "page " + (pages + 1));
+
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(OWNERS * CARS_PER_OWNER / PAGE_SIZE, pages);
+
+    }
+
+    @Test
+    void givenEntityCollectionMapping_whenListPage_thenOwnersAreFetchedWithThePageButServicesAreNot() {
+
+        // Given
+        statistics.clear();
+
+        // When
+        List<Car> cars = ListCarEntityToListCarMapper.initialize()
+                .toCarList(carRepository.findAllBy(PageRequest.of(0, PAGE_SIZE)).getContent());
+
+        // Then
+        assertEquals(PAGE_SIZE, cars.size());
+        assertEquals(1 + PAGE_SIZE, statistics.getPrepareStatementCount());
+
+    }
+
+    @Test
+    void givenOffsetPages_whenGetAllCarSummaries_thenEachPageTakesOneStatementAndLoadsNoEntities() {
+
+        for (int pageNumber = 1; pageNumber <= OWNERS * CARS_PER_OWNER / PAGE_SIZE; pageNumber++) {
+
+            // Given
+            CustomPagingRequest pagingRequest = pagingRequest(pageNumber, PagingMode.OFFSET, null);
+            entityManager.clear();
+            statistics.clear();
+
+            // When
+            CustomPage<CarSummary> page = carService.getAllCarSummaries(pagingRequest);
+
+            // Then
+            assertEquals(PAGE_SIZE, page.getContent().size());
+            page.getContent().forEach(car -> {
+                assertNotNull(car.getUserId());
+                assertEquals("Owner", car.getOwnerFirstName());
+                assertEquals(SERVICES_PER_CAR, car.getServiceCount());
+            });
+            assertEquals(1, statistics.getPrepareStatementCount(), "page " + pageNumber);
+            assertEquals(0, statistics.getEntityLoadCount(), "page " + pageNumber);
+        }
+
+    }
+
+    private static CustomPagingRequest pagingRequest(Integer pageNumber, PagingMode mode, String cursor) {
+        return CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageNumber(pageNumber)
+                        .pageSize(PAGE_SIZE)
+                        .mode(mode)
+                        .cursor(cursor)
+                        .totalCountMode(TotalCountMode.NONE)
+                        .build())
+                .build();
+    }
+
+    private static void assertFullyMapped(CustomPage<Car> page) {
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        page.getContent().forEach(car -> {
+            assertNotNull(car.getUser());
+            assertEquals(car.getUserId(), car.getUser().getId());
+            assertEquals(SERVICES_PER_CAR, car.getServiceList().size());
+        });
+    }
+
+}
@@ -6,10 +6,13 @@ import com.example.carservice.auth.model.entity.UserEntity;
 import com.example.carservice.auth.model.enums.UserType;
 import com.example.carservice.auth.repository.UserRepository;
 import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.carservice.cache.CarOwnerIndex;
+import com.example.carservice.carservice.cache.ListingCountCache;
 import com.example.carservice.carservice.exception.CarNotFoundException;
 import com.example.carservice.carservice.exception.CarStatusNotValidException;
 import com.example.carservice.carservice.exception.LicensePlateAlreadyExistsException;
 import com.example.carservice.carservice.model.Car;
+import com.example.carservice.carservice.model.CarSummary;
 import com.example.carservice.carservice.model.dto.request.car.CreateCarRequest;
 import com.example.carservice.carservice.model.dto.request.car.UpdateCarRequest;
 import com.example.carservice.carservice.model.entity.CarEntity;
@@ -18,18 +21,22 @@ import com.example.carservice.carservice.model.mapper.car.CarEntityToCarMapper;
 import com.example.carservice.carservice.model.mapper.car.CreateCarRequestToCarEntityMapper;
 import com.example.carservice.carservice.model.mapper.car.ListCarEntityToListCarMapper;
 import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.carservice.repository.ServiceRepository;
 import com.example.carservice.common.model.CustomPage;
 import com.example.carservice.common.model.CustomPaging;
+import com.example.carservice.common.model.KeysetCursor;
+import com.example.carservice.common.model.enums.PagingMode;
+import com.example.carservice.common.model.enums.TotalCountMode;
 import com.example.carservice.common.model.dto.request.CustomPagingRequest;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,12 +52,21 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private CarRepository carRepository;
 
+    @Mock
+    private ServiceRepository serviceRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private UserIdentity userIdentity;
 
+    @Mock
+    private ListingCountCache listingCountCache;
+
+    @Mock
+    private CarOwnerIndex carOwnerIndex;
+
     private final CreateCarRequestToCarEntityMapper createCarRequestToCarEntityMapper = CreateCarRequestToCarEntityMapper.initialize();
 
     private final CarEntityToCarMapper carEntityToCarMapper = CarEntityToCarMapper.initialize();
@@ -105,6 +121,7 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         verify(userRepository).findById(request.getUserId());
         verify(carRepository).existsByLicensePlate("34 AB 123");
         verify(carRepository).save(any(CarEntity.class));
+        verify(listingCountCache).invalidate(ListingCountCache.CARS);
 
     }
 
@@ -213,6 +230,7 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(carRepository.findById(carId)).thenReturn(Optional.of(carEntity));
         when(userIdentity.getUserId()).thenReturn(userId);
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
@@ -224,6 +242,7 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(carId, result.getId());
 
         // Verify
+        verify(carOwnerIndex).getOwnerId(carId);
         verify(carRepository).findById(carId);
         verify(userIdentity).getUserId();
         verify(userIdentity).getUserType();
@@ -246,6 +265,7 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(carRepository.findById(carId)).thenReturn(Optional.of(carEntity));
         when(userIdentity.getUserType()).thenReturn(UserType.ADMIN);
 
@@ -270,16 +290,8 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         final String otherUserId = UUID.randomUUID().toString();
         final String carId = UUID.randomUUID().toString();
 
-        final CarEntity carEntity = CarEntity.builder()
-                .id(carId)
-                .licensePlate("33 TT 002")
-                .brand("BMW")
-                .model("320i")
-                .user(UserEntity.builder().id(ownerId).build())
-                .build();
-
         // When
-        when(carRepository.findById(carId)).thenReturn(Optional.of(carEntity));
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(ownerId);
         when(userIdentity.getUserId()).thenReturn(otherUserId);
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
 
@@ -287,7 +299,8 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         assertThrows(AccessDeniedException.class, () -> carService.getCarById(carId));
 
         // Verify
-        verify(carRepository).findById(carId);
+        verify(carOwnerIndex).getOwnerId(carId);
+        verifyNoInteractions(carRepository);
         verify(userIdentity).getUserType();
         verify(userIdentity).getUserId();
 
@@ -300,13 +313,14 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         final String carId = UUID.randomUUID().toString();
 
         // When
-        when(carRepository.findById(carId)).thenReturn(Optional.empty());
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(null);
 
         // Then
         assertThrows(CarNotFoundException.class, () -> carService.getCarById(carId));
 
         // Verify
-        verify(carRepository).findById(carId);
+        verify(carOwnerIndex).getOwnerId(carId);
+        verifyNoInteractions(carRepository);
         verifyNoInteractions(userIdentity);
 
     }
@@ -339,7 +353,7 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
 
         final CustomPage<Car> expected = CustomPage.of(cars, page);
 
-        when(carRepository.findAll(any(Pageable.class))).thenReturn(page);
+        when(carRepository.findAllBy(any(Pageable.class))).thenReturn(page);
 
         // When
         final CustomPage<Car> result = carService.getAllCars(pagingRequest);
@@ -350,7 +364,7 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expected.getContent().get(0).getBrand(), result.getContent().get(0).getBrand());
 
         // Verify
-        verify(carRepository).findAll(any(Pageable.class));
+        verify(carRepository).findAllBy(any(Pageable.class));
 
     }
 
@@ -438,6 +452,147 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
+    @Test
+    void givenSlicePagingRequest_whenGetAllCarsByStatus_thenReturnTotalResolvedByCountCache() {
+
+        // Given
+        final CustomPagingRequest pagingRequest = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageNumber(1)
+                        .pageSize(1)
+                        .totalCountMode(TotalCountMode.ESTIMATED)
+                        .build())
+                .build();
+
+        final CarEntity carEntity = CarEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .brand("Tesla")
+                .status(CarStatus.ACTIVE)
+                .user(UserEntity.builder().id(UUID.randomUUID().toString()).build())
+                .build();
+
+        final Slice<CarEntity> slice = new SliceImpl<>(List.of(carEntity), PageRequest.of(0, 1), true);
+
+        when(carRepository.findByStatus(eq(CarStatus.ACTIVE), any(Pageable.class))).thenReturn(slice);
+        when(listingCountCache.resolveTotal(
+                eq(TotalCountMode.ESTIMATED),
+                eq(ListingCountCache.key(ListingCountCache.CARS, "status", CarStatus.ACTIVE)),
+                eq(slice),
+                any()
+        )).thenReturn(3L);
+
+        // When
+        final CustomPage<Car> result = carService.getAllCarsByStatus(pagingRequest);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertEquals(3L, result.getTotalElementCount());
+        assertEquals(3, result.getTotalPageCount());
+        assertTrue(result.getHasNext());
+
+        // Verify
+        verify(carRepository, never()).countByStatus(any());
+
+    }
+
+    @Test
+    void givenPagingRequest_whenGetAllCarSummaries_thenReturnProjectedPageWithoutEntities() {
+
+        // Given
+        final CustomPagingRequest pagingRequest = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageNumber(1)
+                        .pageSize(10)
+                        .totalCountMode(TotalCountMode.NONE)
+                        .build())
+                .build();
+
+        final CarSummary carSummary = CarSummary.builder()
+                .id(UUID.randomUUID().toString())
+                .licensePlate("34 AB 123")
+                .brand("Toyota")
+                .model("Corolla")
+                .status(CarStatus.ACTIVE)
+                .userId(UUID.randomUUID().toString())
+                .ownerFirstName("John")
+                .ownerLastName("Doe")
+                .serviceCount(3L)
+                .build();
+
+        final Slice<CarSummary> slice = new SliceImpl<>(List.of(carSummary), PageRequest.of(0, 10), false);
+
+        when(carRepository.findAllSummaries(any(Pageable.class))).thenReturn(slice);
+
+        // When
+        final CustomPage<CarSummary> result = carService.getAllCarSummaries(pagingRequest);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertSame(carSummary, result.getContent().get(0));
+        assertFalse(result.getHasNext());
+
+        // Verify
+        verify(carRepository).findAllSummaries(any(Pageable.class));
+        verify(carRepository, never()).findAllBy(any(Pageable.class));
+        verifyNoInteractions(serviceRepository);
+
+    }
+
+    @Test
+    void givenKeysetPagingRequest_whenGetAllCarsByStatus_thenSeekWithoutCountAndReturnNextCursor() {
+
+        // Given
+        final String carId = UUID.randomUUID().toString();
+        final LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30);
+
+        final KeysetScrollPosition previousPosition = ScrollPosition.forward(
+                Map.of("createdAt", createdAt.minusDays(1), "id", UUID.randomUUID().toString())
+        );
+
+        final CustomPagingRequest pagingRequest = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageSize(1)
+                        .mode(PagingMode.KEYSET)
+                        .cursor(KeysetCursor.encode(previousPosition))
+                        .build())
+                .build();
+
+        final CarEntity carEntity = CarEntity.builder()
+                .id(carId)
+                .licensePlate("33 TT 002")
+                .brand("Tesla")
+                .model("Model 3")
+                .status(CarStatus.ACTIVE)
+                .createdAt(createdAt)
+                .user(UserEntity.builder().id(UUID.randomUUID().toString()).build())
+                .build();
+
+        final Window<CarEntity> window = Window.from(
+                List.of(carEntity),
+                index -> ScrollPosition.forward(Map.of("createdAt", createdAt, "id", carId)),
+                true
+        );
+
+        when(carRepository.findByStatus(eq(CarStatus.ACTIVE), eq(previousPosition), eq(Limit.of(1)), eq(KeysetCursor.SORT)))
+                .thenReturn(window);
+
+        // When
+        final CustomPage<Car> result = carService.getAllCarsByStatus(pagingRequest);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getTotalElementCount());
+        assertNotNull(result.getNextCursor());
+        assertEquals(
+                Map.of("createdAt", createdAt, "id", carId),
+                KeysetCursor.decode(result.getNextCursor()).getKeys()
+        );
+
+        // Verify
+        verify(carRepository, never()).findByStatus(any(CarStatus.class), any(Pageable.class));
+
+    }
+
     @Test
     void givenValidUpdateCarRequest_whenUserIsOwnerOrAdmin_thenUpdateCarSuccessfully() {
 
@@ -484,6 +639,50 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         verify(carRepository).findById(carId);
         verify(carRepository).existsByLicensePlate(updateRequest.getLicensePlate());
         verify(carRepository).save(any(CarEntity.class));
+        verify(carOwnerIndex, never()).invalidate(any());
+
+    }
+
+    @Test
+    void givenUpdateCarRequestWithDifferentUser_whenUserExists_thenCarOwnerIndexIsInvalidated() {
+
+        // Given
+        final String carId = UUID.randomUUID().toString();
+        final String oldUserId = UUID.randomUUID().toString();
+        final String newUserId = UUID.randomUUID().toString();
+
+        final UpdateCarRequest updateRequest = UpdateCarRequest.builder()
+                .licensePlate("35 NW 321")
+                .brand("Skoda")
+                .model("Octavia")
+                .status(CarStatus.ACTIVE)
+                .userId(newUserId)
+                .build();
+
+        final CarEntity carEntity = CarEntity.builder()
+                .id(carId)
+                .licensePlate("35 OL 321")
+                .status(CarStatus.ACTIVE)
+                .user(UserEntity.builder().id(oldUserId).build())
+                .build();
+
+        // When
+        when(carRepository.findById(carId)).thenReturn(Optional.of(carEntity));
+        when(userIdentity.getUserType()).thenReturn(UserType.ADMIN);
+        when(carRepository.existsByLicensePlate(updateRequest.getLicensePlate())).thenReturn(false);
+        when(userRepository.findById(newUserId)).thenReturn(Optional.of(UserEntity.builder().id(newUserId).build()));
+        when(carRepository.save(any(CarEntity.class))).thenReturn(carEntity);
+
+        // Then
+        final Car result = carService.updateCar(carId, updateRequest);
+
+        assertEquals(newUserId, carEntity.getUser().getId());
+        assertNotNull(result);
+
+        // Verify
+        verify(userRepository).findById(newUserId);
+        verify(carRepository).save(carEntity);
+        verify(carOwnerIndex).invalidate(carId);
 
     }
 
@@ -617,6 +816,8 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
                 .user(UserEntity.builder().id(userId).build())
                 .build();
 
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(carRepository.findById(carId)).thenReturn(Optional.of(carEntity));
         when(userIdentity.getUserId()).thenReturn(userId);
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
@@ -649,6 +850,7 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
                 .user(UserEntity.builder().id(userId).build())
                 .build();
 
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(carRepository.findById(carId)).thenReturn(Optional.of(carEntity));
         when(userIdentity.getUserType()).thenReturn(UserType.ADMIN);
 
@@ -680,6 +882,8 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
                 .user(UserEntity.builder().id(userId).build())
                 .build();
 
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(carRepository.findById(carId)).thenReturn(Optional.of(carEntity));
         when(userIdentity.getUserId()).thenReturn(userId);
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
@@ -704,14 +908,14 @@ class CarServiceImplTest extends AbstractBaseServiceTest {
         // Given
         final String carId = UUID.randomUUID().toString();
 
-        when(carRepository.findById(carId)).thenReturn(Optional.empty());
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(null);
 
         // Then
         assertThrows(CarNotFoundException.class, () -> carService.deleteCar(carId));
 
         // Verify
-        verify(carRepository).findById(carId);
-        verifyNoMoreInteractions(carRepository);
+        verify(carOwnerIndex).getOwnerId(carId);
+        verifyNoInteractions(carRepository);
         verifyNoInteractions(userIdentity);
 
     }
@@ -0,0 +1,171 @@
+package com.example.carservice.carservice.service.impl;
+
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.carservice.config.ExportProperties;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.carservice.model.enums.ExportFormat;
+import com.example.carservice.carservice.model.enums.ServiceStatus;
+import com.example.carservice.carservice.repository.ExportRepository;
+import com.example.carservice.carservice.utils.ExportResponses;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streams cars and services from an in-memory database through the export service and checks the written files.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "carservice.export.fetch-size=10"
+})
+@Import({ExportRepository.class, ExportProperties.class})
+class ExportServiceImplTest {
+
+    private static final int CARS = 25;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExportRepository exportRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExportServiceImpl exportService;
+
+    private CarEntity firstCar;
+
+    @BeforeEach
+    void setUp() {
+
+        exportService = new ExportServiceImpl(exportRepository, objectMapper, transactionManager);
+
+        final UserEntity owner = entityManager.persist(UserEntity.builder()
+                .email("export@carservice.com")
+                .password("password")
+                .firstName("Export")
+                .lastName("Owner")
+                .phoneNumber("5550000003")
+                .userType(UserType.USER)
+                .build());
+
+        for (int car = 0; car < CARS; car++) {
+            CarEntity carEntity = entityManager.persist(CarEntity.builder()
+                    .licensePlate("34 EX " + (100 + car))
+                    .brand("Renault")
+                    .model("Clio")
+                    .status(CarStatus.ACTIVE)
+                    .user(owner)
+                    .build());
+            if (car == 0) {
+                firstCar = carEntity;
+            }
+        }
+
+        entityManager.persist(ServiceEntity.builder()
+                .title("Brake check")
+                .description("Front pads, \"urgent\", then discs")
+                .status(ServiceStatus.PENDING)
+                .car(firstCar)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void givenCars_whenExportCarsAsJsonLines_thenEveryCarIsWrittenOnItsOwnLine() throws IOException {
+
+        // Given
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        final long rows = exportService.exportCars(ExportFormat.NDJSON, outputStream);
+
+        // Then
+        final List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(CARS, rows);
+        assertEquals(CARS, lines.size());
+
+        final JsonNode car = lines.stream()
+                .map(this::readTree)
+                .filter(node -> node.get("id").asText().equals(firstCar.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("34 EX 100", car.get("licensePlate").asText());
+        assertEquals("ACTIVE", car.get("status").asText());
+        assertEquals(firstCar.getUser().getId(), car.get("userId").asText());
+        assertTrue(car.get("updatedAt").isNull());
+
+    }
+
+    @Test
+    void givenServiceWithCommasAndQuotes_whenExportServicesAsCsv_thenFieldIsQuoted() throws IOException {
+
+        // Given
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        final long rows = exportService.exportServices(ExportFormat.CSV, outputStream);
+
+        // Then
+        final List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(1, rows);
+        assertEquals(String.join(",", ExportRepository.SERVICE_COLUMNS), lines.get(0));
+        assertTrue(lines.get(1).contains(",Brake check,\"Front pads, \"\"urgent\"\", then discs\",PENDING," + firstCar.getId() + ","));
+        assertTrue(lines.get(1).endsWith(","));
+
+    }
+
+    @Test
+    void givenGzipRequested_whenExportCars_thenResponseIsAGzipFileDownload() throws IOException {
+
+        // Given
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        exportService.exportCars(ExportFormat.CSV, ExportResponses.open(response, ExportFormat.CSV, "cars", true));
+
+        // Then
+        assertEquals("application/gzip", response.getContentType());
+        assertEquals("attachment; filename=\"cars.csv.gz\"", response.getHeader("Content-Disposition"));
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            final List<String> lines = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            assertEquals(CARS + 1, lines.size());
+            assertEquals(String.join(",", ExportRepository.CAR_COLUMNS), lines.get(0));
+        }
+
+    }
+
+    private JsonNode readTree(final String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+}
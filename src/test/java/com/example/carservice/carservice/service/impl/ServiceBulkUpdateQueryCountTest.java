@@ -0,0 +1,240 @@
+package com.example.carservice.carservice.service.impl;
+
+import com.example.carservice.auth.model.UserIdentity;
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.carservice.cache.CarOwnerIndex;
+import com.example.carservice.carservice.cache.ListingCountCache;
+import com.example.carservice.carservice.config.CarOwnerIndexProperties;
+import com.example.carservice.carservice.config.ListingCountCacheProperties;
+import com.example.carservice.carservice.model.dto.request.services.AssignServiceToCarRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkAssignServicesRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkUpdateServiceStatusRequest;
+import com.example.carservice.carservice.model.dto.response.BulkServiceUpdateResponse;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.carservice.model.enums.ServiceStatus;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.carservice.repository.ServiceRepository;
+import com.example.carservice.common.cache.LocalEntityCacheInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Asserts that bulk service assignments and status transitions run as set-based UPDATE statements,
+ * using Hibernate statistics against an in-memory database. Besides the owner lookup, each bulk call reads
+ * the IDs it publishes for cache invalidation with one extra query.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ServiceBulkUpdateQueryCountTest {
+
+    private static final int CARS = 3;
+    private static final int SERVICES_PER_CAR = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    private Statistics statistics;
+
+    private ServicesToCarServiceImpl servicesToCarService;
+
+    private final List<CarEntity> cars = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        final UserIdentity userIdentity = mock(UserIdentity.class);
+        when(userIdentity.getUserType()).thenReturn(UserType.ADMIN);
+
+        final LocalEntityCacheInvalidationBus invalidationBus = new LocalEntityCacheInvalidationBus();
+
+        servicesToCarService = new ServicesToCarServiceImpl(
+                serviceRepository,
+                carRepository,
+                userIdentity,
+                new ListingCountCache(new ListingCountCacheProperties(), new SimpleMeterRegistry()),
+                new CarOwnerIndex(carRepository, invalidationBus, new CarOwnerIndexProperties(), new SimpleMeterRegistry()),
+                invalidationBus
+        );
+
+        final UserEntity owner = entityManager.persist(UserEntity.builder()
+                .email("workshop@carservice.com")
+                .password("password")
+                .firstName("Workshop")
+                .lastName("Owner")
+                .phoneNumber("5550000002")
+                .userType(UserType.USER)
+                .build());
+
+        for (int car = 0; car < CARS; car++) {
+            CarEntity carEntity = entityManager.persist(CarEntity.builder()
+                    .licensePlate("34 BU " + car + "00")
+                    .brand("Ford")
+                    .model("Transit")
+                    .status(CarStatus.ACTIVE)
+                    .user(owner)
+                    .build());
+            cars.add(carEntity);
+
+            for (int service = 0; service < SERVICES_PER_CAR; service++) {
+                entityManager.persist(ServiceEntity.builder()
+                        .title("Service " + car + service)
+                        .status(ServiceStatus.PENDING)
+                        .car(carEntity)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void givenPendingServicesOfManyCars_whenUpdateServiceStatuses_thenOneUpdateMovesThemAll() {
+
+        // Given
+        final BulkUpdateServiceStatusRequest request = BulkUpdateServiceStatusRequest.builder()
+                .transitions(cars.stream()
+                        .map(car -> BulkUpdateServiceStatusRequest.Transition.builder()
+                                .carId(car.getId())
+                                .fromStatus(ServiceStatus.PENDING)
+                                .toStatus(ServiceStatus.IN_PROGRESS)
+                                .build())
+                        .toList())
+                .build();
+
+        // When
+        final BulkServiceUpdateResponse response = servicesToCarService.updateServiceStatuses(request);
+
+        // Then
+        assertEquals(CARS, response.getRequested());
+        assertEquals(CARS * SERVICES_PER_CAR, response.getUpdated());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(CARS * SERVICES_PER_CAR, serviceRepository.count(
+                (root, query, builder) -> builder.equal(root.get("status"), ServiceStatus.IN_PROGRESS)));
+
+    }
+
+    @Test
+    void givenOwnersAlreadyIndexed_whenUpdateServiceStatuses_thenOnlyTheServiceIdsAndTheUpdateAreIssued() {
+
+        // Given
+        final BulkUpdateServiceStatusRequest request = BulkUpdateServiceStatusRequest.builder()
+                .transitions(cars.stream()
+                        .map(car -> BulkUpdateServiceStatusRequest.Transition.builder()
+                                .carId(car.getId())
+                                .fromStatus(ServiceStatus.PENDING)
+                                .toStatus(ServiceStatus.IN_PROGRESS)
+                                .build())
+                        .toList())
+                .build();
+
+        servicesToCarService.updateServiceStatuses(request);
+        statistics.clear();
+
+        // When
+        final BulkServiceUpdateResponse response = servicesToCarService.updateServiceStatuses(request);
+
+        // Then
+        assertEquals(0, response.getUpdated());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+    }
+
+    @Test
+    void givenListedServicesInDifferentStatuses_whenUpdateServiceStatuses_thenOnlyMatchingServicesMove() {
+
+        // Given
+        final CarEntity car = cars.get(0);
+        final List<ServiceEntity> services = serviceRepository.findByCarIdIn(List.of(car.getId()),
+                Sort.by("createdAt"));
+        final String otherCarServiceId = serviceRepository.findByCarIdIn(List.of(cars.get(1).getId()),
+                Sort.by("createdAt")).get(0).getId();
+        statistics.clear();
+
+        final BulkUpdateServiceStatusRequest request = BulkUpdateServiceStatusRequest.builder()
+                .transitions(List.of(BulkUpdateServiceStatusRequest.Transition.builder()
+                        .carId(car.getId())
+                        .serviceIds(Set.of(services.get(0).getId(), services.get(1).getId(), otherCarServiceId))
+                        .fromStatus(ServiceStatus.PENDING)
+                        .toStatus(ServiceStatus.DONE)
+                        .build()))
+                .build();
+
+        // When
+        final BulkServiceUpdateResponse response = servicesToCarService.updateServiceStatuses(request);
+
+        // Then
+        assertEquals(2, response.getUpdated());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        final ServiceEntity updated = serviceRepository.findById(services.get(0).getId()).orElseThrow();
+        assertEquals(ServiceStatus.DONE, updated.getStatus());
+        assertNotNull(updated.getUpdatedAt());
+        assertEquals(ServiceStatus.PENDING, serviceRepository.findById(otherCarServiceId).orElseThrow().getStatus());
+
+    }
+
+    @Test
+    void givenServicesOfOneCar_whenAssignServicesToCars_thenOneUpdateReassignsThem() {
+
+        // Given
+        final CarEntity target = cars.get(2);
+        final List<String> serviceIds = serviceRepository.findByCarIdIn(List.of(cars.get(0).getId()),
+                        Sort.by("createdAt")).stream()
+                .map(ServiceEntity::getId)
+                .toList();
+        statistics.clear();
+
+        final List<AssignServiceToCarRequest> assignments = new ArrayList<>(serviceIds.stream()
+                .map(serviceId -> new AssignServiceToCarRequest(target.getId(), serviceId))
+                .toList());
+        assignments.add(new AssignServiceToCarRequest(target.getId(), UUID.randomUUID().toString()));
+
+        // When
+        final BulkServiceUpdateResponse response = servicesToCarService.assignServicesToCars(
+                BulkAssignServicesRequest.builder().assignments(assignments).build());
+
+        // Then
+        assertEquals(SERVICES_PER_CAR + 1, response.getRequested());
+        assertEquals(SERVICES_PER_CAR, response.getUpdated());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(2L * SERVICES_PER_CAR, serviceRepository.countByCarId(target.getId()));
+        assertEquals(0L, serviceRepository.countByCarId(cars.get(0).getId()));
+
+    }
+
+}
@@ -4,15 +4,21 @@ import com.example.carservice.auth.model.UserIdentity;
 import com.example.carservice.auth.model.entity.UserEntity;
 import com.example.carservice.auth.model.enums.UserType;
 import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.carservice.cache.CarOwnerIndex;
+import com.example.carservice.carservice.cache.ListingCountCache;
 import com.example.carservice.carservice.exception.CarNotFoundException;
 import com.example.carservice.carservice.exception.ServiceCarMismatchException;
 import com.example.carservice.carservice.exception.ServiceNotFoundException;
 import com.example.carservice.carservice.exception.ServiceTitleAlreadyExistsException;
+import com.example.carservice.carservice.model.ServiceCar;
 import com.example.carservice.carservice.model.ServiceDto;
 import com.example.carservice.carservice.model.dto.request.services.AssignServiceToCarRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkAssignServicesRequest;
+import com.example.carservice.carservice.model.dto.request.services.BulkUpdateServiceStatusRequest;
 import com.example.carservice.carservice.model.dto.request.services.CreateServiceRequest;
 import com.example.carservice.carservice.model.dto.request.services.ListServiceRequest;
 import com.example.carservice.carservice.model.dto.request.services.UpdateServiceRequest;
+import com.example.carservice.carservice.model.dto.response.BulkServiceUpdateResponse;
 import com.example.carservice.carservice.model.entity.CarEntity;
 import com.example.carservice.carservice.model.entity.ServiceEntity;
 import com.example.carservice.carservice.model.enums.ServiceStatus;
@@ -21,23 +27,36 @@ import com.example.carservice.carservice.model.mapper.service.ServiceEntityToSer
 import com.example.carservice.carservice.model.mapper.service.UpdateServiceRequestToServiceEntityMapper;
 import com.example.carservice.carservice.repository.CarRepository;
 import com.example.carservice.carservice.repository.ServiceRepository;
+import com.example.carservice.common.cache.EntityCacheInvalidation;
+import com.example.carservice.common.cache.EntityCacheInvalidationBus;
+import com.example.carservice.common.cache.EntityCacheInvalidationListener;
 import com.example.carservice.common.model.CustomPage;
 import com.example.carservice.common.model.CustomPaging;
+import com.example.carservice.common.model.KeysetCursor;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import com.example.carservice.common.model.enums.PagingMode;
 import com.example.carservice.common.model.dto.request.CustomPagingRequest;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
@@ -54,6 +73,15 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private UserIdentity userIdentity;
 
+    @Mock
+    private ListingCountCache listingCountCache;
+
+    @Mock
+    private CarOwnerIndex carOwnerIndex;
+
+    @Mock
+    private EntityCacheInvalidationBus invalidationBus;
+
     private final CreateServiceRequestToServiceEntityMapper createServiceRequestToServiceEntityMapper = CreateServiceRequestToServiceEntityMapper.initialize();
     private final ServiceEntityToServiceDtoMapper serviceEntityToServiceDtoMapper = ServiceEntityToServiceDtoMapper.initialize();
     private final UpdateServiceRequestToServiceEntityMapper updateServiceRequestToServiceEntityMapper = UpdateServiceRequestToServiceEntityMapper.initialize();
@@ -85,6 +113,7 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(serviceRepository).save(any(ServiceEntity.class));
+        verify(listingCountCache).invalidate(ListingCountCache.SERVICES);
 
     }
 
@@ -132,7 +161,7 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(serviceRepository.findAll(any(Pageable.class))).thenReturn(page);
+        when(serviceRepository.findAllBy(any(Pageable.class))).thenReturn(page);
 
         // Then
         CustomPage<ServiceDto> result = servicesToCarService.getAllServices(pagingRequest);
@@ -145,7 +174,7 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(service.getStatus(), actual.getStatus());
 
         // Verify
-        verify(serviceRepository).findAll(any(Pageable.class));
+        verify(serviceRepository).findAllBy(any(Pageable.class));
 
     }
 
@@ -179,7 +208,7 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(carRepository.findById(carId)).thenReturn(Optional.of(car));
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(userIdentity.getUserId()).thenReturn(userId);
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
         when(serviceRepository.findByCarId(eq(carId), any(Pageable.class))).thenReturn(page);
@@ -195,7 +224,8 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(service.getStatus(), actual.getStatus());
 
         // Verify
-        verify(carRepository).findById(carId);
+        verify(carOwnerIndex).getOwnerId(carId);
+        verifyNoInteractions(carRepository);
         verify(serviceRepository).findByCarId(eq(carId), any(Pageable.class));
 
     }
@@ -214,14 +244,14 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(carRepository.findById(invalidCarId)).thenReturn(Optional.empty());
+        when(carOwnerIndex.getOwnerId(invalidCarId)).thenReturn(null);
 
         // Then
         assertThrows(CarNotFoundException.class, () -> servicesToCarService.getServicesByCarId(invalidCarId, pagingRequest));
 
         // Verify
-        verify(carRepository).findById(invalidCarId);
-        verifyNoMoreInteractions(carRepository);
+        verify(carOwnerIndex).getOwnerId(invalidCarId);
+        verifyNoInteractions(carRepository);
         verifyNoInteractions(serviceRepository);
 
     }
@@ -254,7 +284,8 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         final ServiceDto expected = serviceEntityToServiceDtoMapper.map(service);
 
         // When
-        when(carRepository.findById(carId)).thenReturn(Optional.of(car));
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
+        when(carRepository.getReferenceById(carId)).thenReturn(car);
         when(serviceRepository.findById(serviceId)).thenReturn(Optional.of(service));
         when(userIdentity.getUserId()).thenReturn(userId);
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
@@ -269,8 +300,12 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expected.getDescription(), result.getDescription());
         assertEquals(expected.getStatus(), result.getStatus());
 
+        assertSame(car, service.getCar());
+
         // Verify
-        verify(carRepository).findById(carId);
+        verify(carOwnerIndex).getOwnerId(carId);
+        verify(carRepository).getReferenceById(carId);
+        verify(carRepository, never()).findById(carId);
         verify(serviceRepository).findById(serviceId);
         verify(serviceRepository).save(service);
 
@@ -289,14 +324,14 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(carRepository.findById(invalidCarId)).thenReturn(Optional.empty());
+        when(carOwnerIndex.getOwnerId(invalidCarId)).thenReturn(null);
 
         // Then
         assertThrows(CarNotFoundException.class, () -> servicesToCarService.assignServiceToCar(request));
 
         // Verify
-        verify(carRepository).findById(invalidCarId);
-        verifyNoMoreInteractions(carRepository);
+        verify(carOwnerIndex).getOwnerId(invalidCarId);
+        verifyNoInteractions(carRepository);
         verifyNoInteractions(serviceRepository);
 
     }
@@ -309,18 +344,13 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         final String userId = "user";
         final String missingServiceId = "missing-id";
 
-        final CarEntity car = CarEntity.builder()
-                .id(carId)
-                .user(UserEntity.builder().id(userId).build())
-                .build();
-
         final AssignServiceToCarRequest request = AssignServiceToCarRequest.builder()
                 .carId(carId)
                 .serviceId(missingServiceId)
                 .build();
 
         // When
-        when(carRepository.findById(carId)).thenReturn(Optional.of(car));
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(serviceRepository.findById(missingServiceId)).thenReturn(Optional.empty());
         when(userIdentity.getUserId()).thenReturn(userId);
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
@@ -329,12 +359,12 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         assertThrows(ServiceNotFoundException.class, () -> servicesToCarService.assignServiceToCar(request));
 
         // Verify
-        verify(carRepository).findById(carId);
+        verify(carOwnerIndex).getOwnerId(carId);
         verify(serviceRepository).findById(missingServiceId);
         verify(userIdentity).getUserId();
         verify(userIdentity).getUserType();
 
-        verifyNoMoreInteractions(carRepository);
+        verifyNoInteractions(carRepository);
         verifyNoMoreInteractions(serviceRepository);
 
     }
@@ -371,7 +401,7 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         final ServiceDto expected = serviceEntityToServiceDtoMapper.map(service);
 
         // When
-        when(carRepository.findById(carId)).thenReturn(Optional.of(car));
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(userId);
         when(serviceRepository.findById(serviceId)).thenReturn(Optional.of(service));
         when(serviceRepository.save(any(ServiceEntity.class))).thenReturn(service);
         when(userIdentity.getUserId()).thenReturn(userId);
@@ -387,7 +417,8 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expected.getStatus(), result.getStatus());
 
         // Verify
-        verify(carRepository).findById(carId);
+        verify(carOwnerIndex).getOwnerId(carId);
+        verifyNoInteractions(carRepository);
         verify(serviceRepository).findById(serviceId);
         verify(serviceRepository).save(service);
 
@@ -413,7 +444,7 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
                 .title("x").status(ServiceStatus.IN_PROGRESS).build();
 
         // When
-        when(carRepository.findById(carId)).thenReturn(Optional.of(car));
+        when(carOwnerIndex.getOwnerId(carId)).thenReturn(car.getUser().getId());
         when(serviceRepository.findById(serviceId)).thenReturn(Optional.of(service));
         when(userIdentity.getUserId()).thenReturn(car.getUser().getId());
         when(userIdentity.getUserType()).thenReturn(UserType.USER);
@@ -422,12 +453,12 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         assertThrows(ServiceCarMismatchException.class, () -> servicesToCarService.updateServiceByCarId(carId, serviceId, req));
 
         // Verify
-        verify(carRepository).findById(carId);
+        verify(carOwnerIndex).getOwnerId(carId);
         verify(serviceRepository).findById(serviceId);
         verify(userIdentity).getUserId();
         verify(userIdentity).getUserType();
 
-        verifyNoMoreInteractions(carRepository);
+        verifyNoInteractions(carRepository);
         verifyNoMoreInteractions(serviceRepository);
 
     }
@@ -464,7 +495,7 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(serviceRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+        when(serviceRepository.findSlice(any(Specification.class), any(Pageable.class))).thenReturn(page);
 
         // Then
         CustomPage<ServiceDto> result = servicesToCarService.getServices(request, pagingRequest);
@@ -477,9 +508,238 @@ class ServicesToCarServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(service.getStatus(), actual.getStatus());
 
         // Verify
-        verify(serviceRepository).findAll(any(Specification.class), any(Pageable.class));
+        verify(serviceRepository).findSlice(any(Specification.class), any(Pageable.class));
+
+    }
+
+    @Test
+    void givenKeysetPagingRequestOnLastPage_whenGetAllServices_thenReturnServicesWithoutNextCursor() {
+
+        // Given
+        final ServiceEntity service = ServiceEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .title("Brake Check")
+                .status(ServiceStatus.CREATED)
+                .car(CarEntity.builder().id(UUID.randomUUID().toString()).build())
+                .build();
+
+        final CustomPagingRequest pagingRequest = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageSize(10)
+                        .mode(PagingMode.KEYSET)
+                        .build())
+                .build();
+
+        final Window<ServiceEntity> window = Window.from(List.of(service), index -> ScrollPosition.keyset(), false);
+
+        // When
+        when(serviceRepository.findAllBy(ScrollPosition.keyset(), Limit.of(10), KeysetCursor.SORT)).thenReturn(window);
+
+        // Then
+        CustomPage<ServiceDto> result = servicesToCarService.getAllServices(pagingRequest);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals("Brake Check", result.getContent().get(0).getTitle());
+        assertNull(result.getNextCursor());
+        assertNull(result.getTotalPageCount());
+
+        // Verify
+        verify(serviceRepository, never()).findAllBy(any(Pageable.class));
+
+    }
+
+    @Test
+    void givenAssignmentsForTwoCars_whenAssignServicesToCars_thenOneUpdatePerCarIsIssued() {
+
+        // Given
+        final CarEntity firstCar = carOf(UUID.randomUUID().toString());
+        final CarEntity secondCar = carOf(UUID.randomUUID().toString());
+        final String firstServiceId = UUID.randomUUID().toString();
+        final String secondServiceId = UUID.randomUUID().toString();
+        final String thirdServiceId = UUID.randomUUID().toString();
+        final String previousCarId = UUID.randomUUID().toString();
+
+        final BulkAssignServicesRequest request = BulkAssignServicesRequest.builder()
+                .assignments(List.of(
+                        new AssignServiceToCarRequest(firstCar.getId(), firstServiceId),
+                        new AssignServiceToCarRequest(secondCar.getId(), secondServiceId),
+                        new AssignServiceToCarRequest(firstCar.getId(), thirdServiceId)
+                ))
+                .build();
+
+        // When
+        when(userIdentity.getUserType()).thenReturn(UserType.ADMIN);
+        when(carOwnerIndex.getOwnerIds(Set.of(firstCar.getId(), secondCar.getId()))).thenReturn(ownerIds(firstCar, secondCar));
+        when(carRepository.getReferenceById(firstCar.getId())).thenReturn(firstCar);
+        when(carRepository.getReferenceById(secondCar.getId())).thenReturn(secondCar);
+        when(serviceRepository.findCarsByIdIn(Set.of(firstServiceId, secondServiceId, thirdServiceId)))
+                .thenReturn(List.of(new ServiceCar(firstServiceId, previousCarId), new ServiceCar(thirdServiceId, null)));
+        when(serviceRepository.assignToCar(eq(firstCar), eq(List.of(firstServiceId, thirdServiceId)), any(LocalDateTime.class), anyString()))
+                .thenReturn(2);
+        when(serviceRepository.assignToCar(eq(secondCar), eq(List.of(secondServiceId)), any(LocalDateTime.class), anyString()))
+                .thenReturn(0);
+
+        final BulkServiceUpdateResponse response = servicesToCarService.assignServicesToCars(request);
+
+        // Then
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getUpdated());
+
+        // Verify
+        verify(carOwnerIndex).getOwnerIds(Set.of(firstCar.getId(), secondCar.getId()));
+        verify(carRepository, never()).findAllById(any());
+        verify(serviceRepository, times(2)).assignToCar(any(CarEntity.class), any(), any(LocalDateTime.class), anyString());
+        verify(listingCountCache).invalidate(ListingCountCache.SERVICES);
+        assertEquals(Set.of(
+                        serviceEntry(firstServiceId),
+                        serviceEntry(thirdServiceId),
+                        servicesCollectionEntry(firstCar.getId()),
+                        servicesCollectionEntry(secondCar.getId()),
+                        servicesCollectionEntry(previousCarId)),
+                publishedInvalidations());
 
     }
 
+    @Test
+    void givenCarWideAndListedTransitions_whenUpdateServiceStatuses_thenCarWideTransitionsShareOneUpdate() {
+
+        // Given
+        final CarEntity firstCar = carOf(UUID.randomUUID().toString());
+        final CarEntity secondCar = carOf(UUID.randomUUID().toString());
+        final Set<String> serviceIds = Set.of(UUID.randomUUID().toString());
+        final String carWideServiceId = UUID.randomUUID().toString();
+
+        final BulkUpdateServiceStatusRequest request = BulkUpdateServiceStatusRequest.builder()
+                .transitions(List.of(
+                        transition(firstCar.getId(), null, ServiceStatus.PENDING, ServiceStatus.IN_PROGRESS),
+                        transition(secondCar.getId(), null, ServiceStatus.PENDING, ServiceStatus.IN_PROGRESS),
+                        transition(secondCar.getId(), serviceIds, ServiceStatus.IN_PROGRESS, ServiceStatus.DONE)
+                ))
+                .build();
+
+        // When
+        when(userIdentity.getUserType()).thenReturn(UserType.ADMIN);
+        when(carOwnerIndex.getOwnerIds(Set.of(firstCar.getId(), secondCar.getId()))).thenReturn(ownerIds(firstCar, secondCar));
+        when(serviceRepository.findIdsByCarIdIn(Set.of(firstCar.getId(), secondCar.getId())))
+                .thenReturn(List.of(carWideServiceId));
+        when(serviceRepository.updateStatusByCarIds(eq(Set.of(firstCar.getId(), secondCar.getId())),
+                eq(ServiceStatus.PENDING), eq(ServiceStatus.IN_PROGRESS), any(LocalDateTime.class), anyString()))
+                .thenReturn(5);
+        when(serviceRepository.updateStatusByCarIdAndIds(eq(secondCar.getId()), eq(serviceIds),
+                eq(ServiceStatus.IN_PROGRESS), eq(ServiceStatus.DONE), any(LocalDateTime.class), anyString()))
+                .thenReturn(1);
+
+        final BulkServiceUpdateResponse response = servicesToCarService.updateServiceStatuses(request);
+
+        // Then
+        assertEquals(3, response.getRequested());
+        assertEquals(6, response.getUpdated());
+
+        // Verify
+        verify(serviceRepository).updateStatusByCarIds(any(), any(), any(), any(LocalDateTime.class), anyString());
+        verify(serviceRepository).updateStatusByCarIdAndIds(anyString(), any(), any(), any(), any(LocalDateTime.class), anyString());
+        verify(listingCountCache).invalidate(ListingCountCache.SERVICES);
+        assertEquals(Set.of(
+                        serviceEntry(serviceIds.iterator().next()),
+                        serviceEntry(carWideServiceId),
+                        servicesCollectionEntry(firstCar.getId()),
+                        servicesCollectionEntry(secondCar.getId())),
+                publishedInvalidations());
+
+    }
+
+    @Test
+    void givenUnknownCar_whenUpdateServiceStatuses_thenThrowCarNotFoundException() {
+
+        // Given
+        final String carId = UUID.randomUUID().toString();
+
+        final BulkUpdateServiceStatusRequest request = BulkUpdateServiceStatusRequest.builder()
+                .transitions(List.of(transition(carId, null, ServiceStatus.PENDING, ServiceStatus.IN_PROGRESS)))
+                .build();
+
+        // When
+        when(carOwnerIndex.getOwnerIds(Set.of(carId))).thenReturn(Map.of());
+
+        // Then
+        assertThrows(CarNotFoundException.class, () -> servicesToCarService.updateServiceStatuses(request));
+
+        // Verify
+        verify(serviceRepository, never()).updateStatusByCarIds(any(), any(), any(), any(), any());
+        verify(listingCountCache, never()).invalidate(anyString());
+
+    }
+
+    @Test
+    void givenCarOfAnotherUser_whenUpdateServiceStatuses_thenThrowAccessDeniedException() {
+
+        // Given
+        final String userId = UUID.randomUUID().toString();
+        final CarEntity ownCar = CarEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .user(UserEntity.builder().id(userId).build())
+                .build();
+        final CarEntity otherCar = carOf(UUID.randomUUID().toString());
+
+        final BulkUpdateServiceStatusRequest request = BulkUpdateServiceStatusRequest.builder()
+                .transitions(List.of(
+                        transition(ownCar.getId(), null, ServiceStatus.PENDING, ServiceStatus.IN_PROGRESS),
+                        transition(otherCar.getId(), null, ServiceStatus.PENDING, ServiceStatus.IN_PROGRESS)
+                ))
+                .build();
+
+        // When
+        when(userIdentity.getUserType()).thenReturn(UserType.USER);
+        when(userIdentity.getUserId()).thenReturn(userId);
+        when(carOwnerIndex.getOwnerIds(Set.of(ownCar.getId(), otherCar.getId()))).thenReturn(ownerIds(ownCar, otherCar));
+
+        // Then
+        assertThrows(AccessDeniedException.class, () -> servicesToCarService.updateServiceStatuses(request));
+
+        // Verify
+        verify(userIdentity).getUserId();
+        verifyNoInteractions(serviceRepository);
+        verify(listingCountCache, never()).invalidate(anyString());
+
+    }
+
+    private static Map<String, String> ownerIds(final CarEntity... cars) {
+        return Arrays.stream(cars).collect(Collectors.toMap(CarEntity::getId, car -> car.getUser().getId()));
+    }
+
+    private static CarEntity carOf(final String carId) {
+        return CarEntity.builder()
+                .id(carId)
+                .user(UserEntity.builder().id(UUID.randomUUID().toString()).build())
+                .build();
+    }
+
+    private static BulkUpdateServiceStatusRequest.Transition transition(final String carId,
+                                                                        final Set<String> serviceIds,
+                                                                        final ServiceStatus fromStatus,
+                                                                        final ServiceStatus toStatus) {
+        return BulkUpdateServiceStatusRequest.Transition.builder()
+                .carId(carId)
+                .serviceIds(serviceIds)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .build();
+    }
+
+    private static String serviceEntry(final String serviceId) {
+        return CacheInvalidationTarget.ENTITY + " " + ServiceEntity.class.getName() + " " + serviceId;
+    }
+
+    private static String servicesCollectionEntry(final String carId) {
+        return CacheInvalidationTarget.COLLECTION + " " + EntityCacheInvalidationListener.SERVICES_COLLECTION_ROLE + " " + carId;
+    }
+
+    private Set<String> publishedInvalidations() {
+        final ArgumentCaptor<EntityCacheInvalidation> captor = ArgumentCaptor.forClass(EntityCacheInvalidation.class);
+        verify(invalidationBus, atLeastOnce()).publish(captor.capture());
+        return captor.getAllValues().stream()
+                .map(invalidation -> invalidation.getTarget() + " " + invalidation.getRole() + " " + invalidation.getKey())
+                .collect(Collectors.toSet());
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,225 @@
+package com.example.carservice.common.cache;
+
+import com.example.carservice.auth.model.entity.UserEntity;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.auth.repository.UserRepository;
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.model.entity.ServiceEntity;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.carservice.repository.ServiceRepository;
+import com.example.carservice.common.config.SecondLevelCacheConfig;
+import com.example.carservice.common.config.SecondLevelCacheProperties;
+import com.example.carservice.common.model.enums.CacheInvalidationTarget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the second-level cache against an in-memory database, with every step in its own transaction
+ * so that entries are only shared through the cache.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+        SecondLevelCacheConfig.class,
+        SecondLevelCacheProperties.class,
+        LocalEntityCacheInvalidationBus.class,
+        EntityCacheInvalidationListener.class,
+        SecondLevelCacheTest.MeterRegistryConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EntityCacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private EntityCacheInvalidationListener invalidationListener;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(UserEntity.builder()
+                .email("cached@carservice.com")
+                .password("password")
+                .firstName("Cached")
+                .lastName("User")
+                .phoneNumber("5550000000")
+                .userType(UserType.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceRepository.deleteAll();
+        carRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void givenCachedCar_whenFindByIdInNewTransaction_thenCarAndOwnerComeFromCache() {
+
+        // Given
+        String carId = saveCar("34 L2 001").getId();
+        transactionTemplate.executeWithoutResult(status -> carRepository.findById(carId).orElseThrow().getUser().getEmail());
+        statistics.clear();
+
+        // When
+        String email = transactionTemplate.execute(status ->
+                carRepository.findById(carId).orElseThrow().getUser().getEmail());
+
+        // Then
+        assertEquals(user.getEmail(), email);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+
+    }
+
+    @Test
+    void givenCachedEmailQuery_whenRepeated_thenResultComesFromQueryCache() {
+
+        // Given
+        userRepository.findUserEntityByEmail(user.getEmail());
+        statistics.clear();
+
+        // When
+        boolean found = userRepository.findUserEntityByEmail(user.getEmail()).isPresent();
+
+        // Then
+        assertTrue(found);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+    }
+
+    @Test
+    void givenCachedServiceCollections_whenServiceMovesToAnotherCar_thenBothCollectionsAreReloaded() {
+
+        // Given
+        String fromCarId = saveCar("34 L2 002").getId();
+        String toCarId = saveCar("34 L2 003").getId();
+        String serviceId = transactionTemplate.execute(status -> serviceRepository.save(ServiceEntity.builder()
+                .title("Oil change")
+                .car(carRepository.getReferenceById(fromCarId))
+                .build()).getId());
+
+        assertEquals(1, countServices(fromCarId));
+        assertEquals(0, countServices(toCarId));
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            ServiceEntity service = serviceRepository.findById(serviceId).orElseThrow();
+            service.setCar(carRepository.getReferenceById(toCarId));
+        });
+
+        // Then
+        assertEquals(0, countServices(fromCarId));
+        assertEquals(1, countServices(toCarId));
+
+    }
+
+    @Test
+    void givenCachedCar_whenInvalidationArrivesFromAnotherInstance_thenCarIsEvicted() {
+
+        // Given
+        String carId = saveCar("34 L2 004").getId();
+        transactionTemplate.executeWithoutResult(status -> carRepository.findById(carId));
+        assertTrue(entityManagerFactory.getCache().contains(CarEntity.class, carId));
+
+        // When
+        invalidationBus.publish(invalidation("another-instance", carId));
+
+        // Then
+        assertFalse(entityManagerFactory.getCache().contains(CarEntity.class, carId));
+
+    }
+
+    @Test
+    void givenCachedCar_whenOwnInvalidationComesBack_thenCarStaysCached() {
+
+        // Given
+        String carId = saveCar("34 L2 005").getId();
+        transactionTemplate.executeWithoutResult(status -> carRepository.findById(carId));
+
+        // When
+        invalidationBus.publish(invalidation(invalidationListener.getInstanceId(), carId));
+
+        // Then
+        assertTrue(entityManagerFactory.getCache().contains(CarEntity.class, carId));
+
+    }
+
+    private CarEntity saveCar(String licensePlate) {
+        return carRepository.save(CarEntity.builder()
+                .licensePlate(licensePlate)
+                .brand("Renault")
+                .model("Clio")
+                .user(user)
+                .build());
+    }
+
+    private int countServices(String carId) {
+        return transactionTemplate.execute(status -> carRepository.findById(carId).orElseThrow().getServices().size());
+    }
+
+    private static EntityCacheInvalidation invalidation(String origin, String carId) {
+        return EntityCacheInvalidation.builder()
+                .origin(origin)
+                .target(CacheInvalidationTarget.ENTITY)
+                .role(CarEntity.class.getName())
+                .key(carId)
+                .build();
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.example.carservice.common.config;
+
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.repository.CarRepository;
+import com.example.carservice.common.datasource.ConnectionBulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the primary Hikari pool is put behind the connection bulkhead when read replicas are enabled,
+ * and that JPA transactions still run through it and return every permit.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "carservice.persistence.read-replicas.enabled=true",
+        "carservice.persistence.connection-bulkhead.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        ConnectionBulkheadConfig.class,
+        ConnectionBulkheadProperties.class,
+        ReadReplicaRoutingConfig.class,
+        ReadReplicaProperties.class,
+        ConnectionBulkheadConfigTest.MeterRegistryConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConnectionBulkheadConfigTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        carRepository.deleteAll();
+    }
+
+    @Test
+    void givenBulkheadEnabled_whenTransactionsRun_thenPrimaryPoolIsGuardedAndPermitsAreReturned() throws SQLException {
+
+        // Given
+        final ConnectionBulkheadDataSource bulkhead = assertInstanceOf(ConnectionBulkheadDataSource.class, primaryDataSource);
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> carRepository.save(CarEntity.builder()
+                .licensePlate("34 BH 001")
+                .brand("Renault")
+                .model("Clio")
+                .build()));
+
+        // Then
+        assertEquals(1, carRepository.count());
+        assertEquals(0, bulkhead.getActiveConnections());
+        assertEquals(4, bulkhead.unwrap(HikariDataSource.class).getMaximumPoolSize());
+        assertNotNull(meterRegistry.find("datasource.bulkhead.rejected").counter());
+
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
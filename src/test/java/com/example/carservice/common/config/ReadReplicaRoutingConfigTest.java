@@ -0,0 +1,108 @@
+package com.example.carservice.common.config;
+
+import com.example.carservice.carservice.model.entity.CarEntity;
+import com.example.carservice.carservice.repository.CarRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that JPA transactions are routed by their read-only flag once the routing datasource replaces
+ * the application datasource. The replica points at the primary database, as an up-to-date replica would.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "carservice.persistence.read-replicas.enabled=true",
+        "carservice.persistence.read-replicas.replicas[0].name=replica-1",
+        "carservice.persistence.read-replicas.replicas[0].url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+        "carservice.persistence.read-replicas.replicas[0].username=sa",
+        "carservice.persistence.read-replicas.replicas[0].password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        ReadReplicaRoutingConfig.class,
+        ReadReplicaProperties.class,
+        ReadReplicaRoutingConfigTest.MeterRegistryConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaRoutingConfigTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate readWriteTransaction;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        carRepository.deleteAll();
+    }
+
+    @Test
+    void givenReadWriteAndReadOnlyTransactions_whenRun_thenWritesGoToPrimaryAndReadsToReplica() {
+
+        // Given
+        double primaryBefore = connections("primary");
+        double replicaBefore = connections("replica-1");
+
+        // When
+        readWriteTransaction.executeWithoutResult(status -> carRepository.save(CarEntity.builder()
+                .licensePlate("34 RR 001")
+                .brand("Renault")
+                .model("Clio")
+                .build()));
+        long count = readOnlyTransaction.execute(status -> carRepository.count());
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(1, connections("primary") - primaryBefore);
+        assertEquals(1, connections("replica-1") - replicaBefore);
+
+    }
+
+    private double connections(final String pool) {
+        return meterRegistry.get("datasource.routing.connections").tag("pool", pool).counter().count();
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
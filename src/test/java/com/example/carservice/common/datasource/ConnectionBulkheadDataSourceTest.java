@@ -0,0 +1,136 @@
+package com.example.carservice.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks out connections of an in-memory database through the bulkhead and verifies how permits are taken,
+ * returned and refused.
+ */
+class ConnectionBulkheadDataSourceTest {
+
+    private static final String POOL = "primary";
+
+    private MeterRegistry meterRegistry;
+
+    private DataSource database;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        database = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @Test
+    void givenCheckedOutConnection_whenClosedTwice_thenItsPermitIsReturnedOnce() throws SQLException {
+
+        // Given
+        final ConnectionBulkheadDataSource bulkhead = bulkhead(database, 2, 10, Duration.ofMillis(100));
+        final Connection connection = bulkhead.getConnection();
+
+        // When
+        final int activeWhileOpen = bulkhead.getActiveConnections();
+        connection.close();
+        connection.close();
+
+        // Then
+        assertEquals(1, activeWhileOpen);
+        assertEquals(0, bulkhead.getActiveConnections());
+        assertInstanceOf(ConnectionProxy.class, connection);
+        assertEquals(0, meterRegistry.get("datasource.bulkhead.active").tag("pool", POOL).gauge().value());
+
+    }
+
+    @Test
+    void givenAllPermitsTaken_whenNoneIsReturnedInTime_thenRequestTimesOutAndIsCounted() throws SQLException {
+
+        // Given
+        final ConnectionBulkheadDataSource bulkhead = bulkhead(database, 1, 10, Duration.ofMillis(50));
+
+        try (Connection ignored = bulkhead.getConnection()) {
+
+            // Then
+            assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+            assertEquals(1, rejected());
+        }
+
+        try (Connection connection = bulkhead.getConnection()) {
+            assertTrue(connection.isValid(1));
+        }
+
+    }
+
+    @Test
+    void givenWaitingQueueFull_whenAnotherCallerArrives_thenItIsRejectedWithoutWaiting() throws Exception {
+
+        // Given
+        final ConnectionBulkheadDataSource bulkhead = bulkhead(database, 1, 1, Duration.ofSeconds(5));
+        final Connection holder = bulkhead.getConnection();
+
+        final CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.getConnection();
+            } catch (SQLException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        while (meterRegistry.get("datasource.bulkhead.waiting").tag("pool", POOL).gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        final long start = System.nanoTime();
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        final long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(waitedMillis < 1_000);
+        assertEquals(1, rejected());
+
+        holder.close();
+        waiter.get(5, TimeUnit.SECONDS).close();
+        assertEquals(0, bulkhead.getActiveConnections());
+
+    }
+
+    @Test
+    void givenPoolThatFails_whenGetConnection_thenPermitIsReturned() {
+
+        // Given
+        final DataSource failing = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        final ConnectionBulkheadDataSource bulkhead = bulkhead(failing, 1, 10, Duration.ofMillis(50));
+
+        // Then
+        assertThrows(SQLException.class, bulkhead::getConnection);
+        assertEquals(0, bulkhead.getActiveConnections());
+        assertEquals(0, rejected());
+
+    }
+
+    private ConnectionBulkheadDataSource bulkhead(final DataSource target,
+                                                  final int maxConcurrent,
+                                                  final int maxWaiting,
+                                                  final Duration acquireTimeout) {
+        return new ConnectionBulkheadDataSource(target, POOL, maxConcurrent, maxWaiting, acquireTimeout, meterRegistry);
+    }
+
+    private double rejected() {
+        return meterRegistry.get("datasource.bulkhead.rejected").tag("pool", POOL).counter().count();
+    }
+
+}
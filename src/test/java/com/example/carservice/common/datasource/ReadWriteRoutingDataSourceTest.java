@@ -0,0 +1,180 @@
+package com.example.carservice.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes through a lazy proxy and a JDBC transaction manager to separate in-memory databases standing in for
+ * the primary and the replicas; each database answers with its own name.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private MeterRegistry meterRegistry;
+
+    private SwitchableDataSource firstReplica;
+
+    private SwitchableDataSource secondReplica;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readWriteTransaction;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        firstReplica = new SwitchableDataSource(database("replica-1"));
+        secondReplica = new SwitchableDataSource(database("replica-2"));
+
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", firstReplica);
+        replicas.put("replica-2", secondReplica);
+        routingDataSource = new ReadWriteRoutingDataSource(database(ReadWriteRoutingDataSource.PRIMARY), replicas,
+                Duration.ofSeconds(1), meterRegistry);
+
+        final DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    void givenReadWriteTransaction_whenQuery_thenPrimaryAnswers() {
+
+        // When
+        String node = readWriteTransaction.execute(status -> currentNode());
+
+        // Then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, node);
+
+    }
+
+    @Test
+    void givenReadOnlyTransactions_whenQuery_thenReplicasAnswerInTurn() {
+
+        // When
+        String first = readOnlyTransaction.execute(status -> currentNode());
+        String second = readOnlyTransaction.execute(status -> currentNode());
+        String third = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertEquals("replica-1", first);
+        assertEquals("replica-2", second);
+        assertEquals("replica-1", third);
+        assertEquals(2, connections("replica-1"));
+        assertEquals(1, connections("replica-2"));
+
+    }
+
+    @Test
+    void givenAllReplicasDown_whenReadOnlyQuery_thenPrimaryAnswersAndReplicasAreMarkedDown() {
+
+        // Given
+        firstReplica.down = true;
+        secondReplica.down = true;
+
+        // When
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, node);
+        assertFalse(routingDataSource.isUp("replica-1"));
+        assertFalse(routingDataSource.isUp("replica-2"));
+        assertEquals(1, meterRegistry.get("datasource.routing.fallbacks").tag("pool", "replica-1").counter().count());
+        assertEquals(0, meterRegistry.get("datasource.replica.up").tag("pool", "replica-1").gauge().value());
+
+    }
+
+    @Test
+    void givenOneReplicaDown_whenReadOnlyQueries_thenOtherReplicaTakesAllReads() {
+
+        // Given
+        firstReplica.down = true;
+
+        // When
+        String first = readOnlyTransaction.execute(status -> currentNode());
+        String second = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertEquals("replica-2", first);
+        assertEquals("replica-2", second);
+
+    }
+
+    @Test
+    void givenReplicaBackUp_whenHealthCheckRuns_thenReplicaTakesReadsAgain() {
+
+        // Given
+        firstReplica.down = true;
+        secondReplica.down = true;
+        readOnlyTransaction.execute(status -> currentNode());
+        firstReplica.down = false;
+
+        // When
+        routingDataSource.checkReplicas();
+
+        // Then
+        assertTrue(routingDataSource.isUp("replica-1"));
+        assertFalse(routingDataSource.isUp("replica-2"));
+        assertEquals("replica-1", readOnlyTransaction.execute(status -> currentNode()));
+
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT NAME FROM NODE", String.class);
+    }
+
+    private double connections(final String pool) {
+        return meterRegistry.get("datasource.routing.connections").tag("pool", pool).counter().count();
+    }
+
+    private static DataSource database(final String name) {
+        final DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE NODE (NAME VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO NODE (NAME) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static final class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private SwitchableDataSource(final DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+
+    }
+
+}
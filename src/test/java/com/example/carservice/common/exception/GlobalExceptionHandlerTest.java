@@ -172,6 +172,28 @@ class GlobalExceptionHandlerTest extends AbstractBaseServiceTest {
 
     }
 
+    @Test
+    void givenPasswordHashingUnavailableException_whenHandlePasswordHashingUnavailableException_thenRespondWithServiceUnavailable() {
+
+        // Given
+        PasswordHashingUnavailableException ex = new PasswordHashingUnavailableException("Password hashing queue is full.");
+
+        CustomError expectedError = CustomError.builder()
+                .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(CustomError.Header.PROCESS_ERROR.getName())
+                .message("Too many authentication requests, please try again shortly!\n Password hashing queue is full.")
+                .isSuccess(false)
+                .build();
+
+        // When
+        ResponseEntity<CustomError> responseEntity = globalExceptionHandler.handlePasswordHashingUnavailableException(ex);
+
+        // Then
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        checkCustomError(expectedError, responseEntity.getBody());
+
+    }
+
     @Test
     void givenTokenAlreadyInvalidatedException_whenHandleTokenAlreadyInvalidatedException_thenRespondWithBadRequest() {
 
@@ -425,6 +447,50 @@ class GlobalExceptionHandlerTest extends AbstractBaseServiceTest {
 
     }
 
+    @Test
+    void givenInvalidCursorException_whenHandleInvalidCursorException_thenRespondWithBadRequest() {
+
+        // Given
+        InvalidCursorException ex = new InvalidCursorException("not-a-cursor");
+
+        CustomError expectedError = CustomError.builder()
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message("Paging cursor is not valid!\n Cursor: not-a-cursor")
+                .isSuccess(false)
+                .build();
+
+        // When
+        ResponseEntity<CustomError> response = globalExceptionHandler.handleInvalidCursorException(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        checkCustomError(expectedError, response.getBody());
+
+    }
+
+    @Test
+    void givenInvalidCarImportException_whenHandleInvalidCarImportException_thenRespondWithBadRequest() {
+
+        // Given
+        InvalidCarImportException ex = new InvalidCarImportException("Missing CSV columns: [userId]");
+
+        CustomError expectedError = CustomError.builder()
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message("Car import is not valid!\n Missing CSV columns: [userId]")
+                .isSuccess(false)
+                .build();
+
+        // When
+        ResponseEntity<CustomError> response = globalExceptionHandler.handleInvalidCarImportException(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        checkCustomError(expectedError, response.getBody());
+
+    }
+
     private void checkCustomError(CustomError expectedError, CustomError actualError) {
 
         assertThat(actualError).isNotNull();
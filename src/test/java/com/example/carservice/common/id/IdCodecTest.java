@@ -0,0 +1,74 @@
+package com.example.carservice.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdCodecTest {
+
+    @Test
+    void givenCanonicalId_whenEncodeAndDecode_thenSameIdIsReturned() {
+
+        // Given
+        String id = UUID.randomUUID().toString();
+
+        // When
+        byte[] encoded = IdCodec.encode(id);
+
+        // Then
+        assertEquals(IdCodec.BINARY_LENGTH, encoded.length);
+        assertEquals(id, IdCodec.decode(encoded));
+
+    }
+
+    @Test
+    void givenInvalidIds_whenEncode_thenIllegalArgumentExceptionIsThrown() {
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.encode("car-id"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.encode(null));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.decode(new byte[8]));
+
+    }
+
+    @Test
+    void givenTimeOrderedIds_whenCreatedInSequence_thenTextAndBinaryFormsAreAscending() {
+
+        // When
+        List<String> ids = IntStream.range(0, 10_000)
+                .mapToObj(index -> TimeOrderedUuid.nextId())
+                .toList();
+
+        // Then
+        for (int index = 1; index < ids.size(); index++) {
+            String previous = ids.get(index - 1);
+            String current = ids.get(index);
+            assertTrue(previous.compareTo(current) < 0);
+            assertTrue(Arrays.compareUnsigned(IdCodec.encode(previous), IdCodec.encode(current)) < 0);
+        }
+
+    }
+
+    @Test
+    void givenTimeOrderedId_whenParsed_thenVersionSevenWithCurrentTimestamp() {
+
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = TimeOrderedUuid.next();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(id.getMostSignificantBits() >>> 16 >= before);
+        assertTrue(id.getMostSignificantBits() >>> 16 <= System.currentTimeMillis() + 100);
+
+    }
+
+}
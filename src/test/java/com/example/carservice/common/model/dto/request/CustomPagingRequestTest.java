@@ -1,8 +1,17 @@
 package com.example.carservice.common.model.dto.request;
 
+import com.example.carservice.common.exception.InvalidCursorException;
 import com.example.carservice.common.model.CustomPaging;
+import com.example.carservice.common.model.KeysetCursor;
+import com.example.carservice.common.model.enums.PagingMode;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.time.LocalDateTime;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -75,4 +84,64 @@ class CustomPagingRequestTest {
         assertEquals(9, paging.getPageNumber());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testKeysetRequest_WithoutCursor_StartsAtFirstPage() {
+        // Given a keyset request without a cursor.
+        CustomPagingRequest request = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageSize(25)
+                        .mode(PagingMode.KEYSET)
+                        .build())
+                .build();
+
+        // Then the scroll position is the initial one and the limit is the page size.
+        assertTrue(request.isKeyset());
+        assertTrue(request.toScrollPosition().isInitial());
+        assertEquals(Limit.of(25), request.toLimit());
+    }
+
+    @Test
+    public void testKeysetRequest_WithCursor_DecodesPositionOfPreviousPage() {
+        // Given a cursor encoding the last row of a previous page.
+        Map<String, Object> keys = Map.of("createdAt", LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123456000), "id", "0192f3a4-5b6c-7d8e-9f01-23456789abcd");
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(keys));
+
+        CustomPagingRequest request = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageSize(25)
+                        .mode(PagingMode.KEYSET)
+                        .cursor(cursor)
+                        .build())
+                .build();
+
+        // When decoding the scroll position
+        KeysetScrollPosition position = request.toScrollPosition();
+
+        // Then the keys round trip and the scroll goes forward.
+        assertEquals(keys, position.getKeys());
+        assertTrue(position.scrollsForward());
+    }
+
+    @Test
+    public void testKeysetRequest_WithMalformedCursor_ShouldThrowInvalidCursorException() {
+        CustomPagingRequest request = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageSize(25)
+                        .mode(PagingMode.KEYSET)
+                        .cursor("not-a-cursor")
+                        .build())
+                .build();
+
+        assertThrows(InvalidCursorException.class, request::toScrollPosition);
+    }
+
+    @Test
+    public void testOffsetRequest_IsNotKeyset() {
+        CustomPagingRequest request = CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        assertFalse(request.isKeyset());
+    }
+
+}
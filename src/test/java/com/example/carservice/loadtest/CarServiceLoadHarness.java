@@ -0,0 +1,239 @@
+package com.example.carservice.loadtest;
+
+import com.example.carservice.base.AbstractTestContainerConfiguration;
+import com.example.carservice.loadtest.LoadTestDataSeeder.SeededCar;
+import com.example.carservice.loadtest.TrafficMix.Endpoint;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: starts the application on a random port against a Testcontainers MySQL, seeds it with
+ * millions of cars and services, replays a weighted mix of login, list, get-by-id, update and assign calls over
+ * HTTP, and reports throughput and p50/p99/p99.9 latencies per endpoint (see {@link LatencyReport}).
+ * <p>
+ * It is not part of the regular test run; run it with {@code mvn test -Ploadtest}, tuning it through the
+ * {@code loadtest.*} system properties of {@link LoadTestSettings}. Application settings can be overridden the
+ * same way, for example {@code -DCAR_SERVICE_VIRTUAL_THREADS=true} to compare execution modes. With Testcontainers
+ * reuse enabled, the seeded container is kept between runs and seeding is skipped or resumed.
+ * </p>
+ * <p>
+ * Each of the {@code concurrency} clients sends its next call as soon as the previous one has returned (closed
+ * model), so latencies are those seen under the throughput the service sustains at that concurrency. Cars,
+ * services and logins are drawn from a uniform sample of the seeded rows; list calls read one of the first
+ * 50 pages of 20 cars. All calls but logins are sent with an admin token.
+ * </p>
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CarServiceLoadHarness extends AbstractTestContainerConfiguration {
+
+    private static final int LIST_PAGES = 50;
+    private static final int LIST_PAGE_SIZE = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private List<SeededCar> cars;
+    private List<String> serviceIds;
+    private String adminToken;
+
+    @DynamicPropertySource
+    private static void overrideLoadTestProps(DynamicPropertyRegistry dynamicPropertyRegistry) {
+        dynamicPropertyRegistry.add("spring.datasource.url",
+                () -> MYSQL_CONTAINER.getJdbcUrl() + (MYSQL_CONTAINER.getJdbcUrl().contains("?") ? "&" : "?")
+                        + "rewriteBatchedStatements=true&useCursorFetch=true");
+        dynamicPropertyRegistry.add("spring.datasource.hikari.maximum-pool-size",
+                () -> System.getProperty("loadtest.pool-size", "20"));
+    }
+
+    @Test
+    void replayTrafficMix() throws Exception {
+
+        // Given
+        final LoadTestDataSeeder seeder = new LoadTestDataSeeder(
+                dataSource, new TransactionTemplate(transactionManager), passwordEncoder, settings);
+        seeder.seed();
+        cars = seeder.sampleCars();
+        serviceIds = seeder.sampleServiceIds();
+        adminToken = objectMapper.readTree(this.login(LoadTestDataSeeder.ADMIN_EMAIL).body())
+                .path("response").path("accessToken").asText();
+        log.info("Replaying {} with {} clients for {} after a {} warmup",
+                settings.mix(), settings.concurrency(), settings.duration(), settings.warmup());
+
+        final LatencyReport report = new LatencyReport();
+
+        // When
+        this.run(report, settings.warmup());
+        report.reset();
+        final long startedAt = System.nanoTime();
+        this.run(report, settings.duration());
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then
+        report.print(elapsed, System.out);
+        report.write(settings.report(), elapsed, this.describeSettings(), objectMapper);
+        log.info("Load-test report written to {}", settings.report().toAbsolutePath());
+
+        assertTrue(report.totalRequests() > 0);
+
+    }
+
+    private void run(final LatencyReport report, final Duration duration) throws Exception {
+
+        final long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<?>> running = new ArrayList<>(settings.concurrency());
+            for (int client = 0; client < settings.concurrency(); client++) {
+                running.add(clients.submit(() -> this.sendUntil(deadline, report)));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        }
+    }
+
+    private Void sendUntil(final long deadline, final LatencyReport report) {
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            final Endpoint endpoint = settings.mix().next(random);
+            final long sentAt = System.nanoTime();
+            try {
+                final HttpResponse<String> response = this.send(endpoint, random);
+                final long latency = System.nanoTime() - sentAt;
+                if (response.statusCode() / 100 == 2) {
+                    report.recordSuccess(endpoint, latency);
+                } else {
+                    report.recordError(endpoint);
+                }
+            } catch (IOException exception) {
+                report.recordError(endpoint);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private HttpResponse<String> send(final Endpoint endpoint, final ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+
+        return switch (endpoint) {
+            case LOGIN -> this.login(LoadTestDataSeeder.userEmail(random.nextInt(settings.users())));
+            case LIST_CARS -> this.send("POST", "/api/v1/cars/all", Map.of(
+                    "pagination", Map.of("pageNumber", random.nextInt(1, LIST_PAGES + 1), "pageSize", LIST_PAGE_SIZE)));
+            case GET_CAR -> this.send("GET", "/api/v1/cars/" + this.randomCar(random).id(), null);
+            case UPDATE_CAR -> {
+                final SeededCar car = this.randomCar(random);
+                final Map<String, Object> request = new LinkedHashMap<>();
+                request.put("model", "Model " + random.nextInt(1_000));
+                request.put("brand", "Toyota");
+                request.put("licensePlate", car.licensePlate());
+                request.put("status", "ACTIVE");
+                request.put("userId", car.userId());
+                yield this.send("PUT", "/api/v1/cars/" + car.id(), request);
+            }
+            case ASSIGN_SERVICE -> this.send("POST", "/api/services/assign", Map.of(
+                    "carId", this.randomCar(random).id(),
+                    "serviceId", serviceIds.get(random.nextInt(serviceIds.size()))));
+        };
+    }
+
+    private HttpResponse<String> login(final String email) throws IOException, InterruptedException {
+
+        final HttpRequest request = HttpRequest.newBuilder(this.uri("/api/v1/authentication/user/login"))
+                .header("Content-Type", "application/json")
+                .POST(this.body(Map.of("email", email, "password", LoadTestDataSeeder.PASSWORD)))
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> send(final String method, final String path, final Object body)
+            throws IOException, InterruptedException {
+
+        final HttpRequest request = HttpRequest.newBuilder(this.uri(path))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + adminToken)
+                .method(method, body != null ? this.body(body) : HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private SeededCar randomCar(final ThreadLocalRandom random) {
+        return cars.get(random.nextInt(cars.size()));
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private HttpRequest.BodyPublisher body(final Object body) throws JsonProcessingException {
+        return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+    }
+
+    private Map<String, Object> describeSettings() {
+        final Map<String, Object> described = new LinkedHashMap<>();
+        described.put("users", settings.users());
+        described.put("cars", settings.cars());
+        described.put("servicesPerCar", settings.servicesPerCar());
+        described.put("sampleSize", settings.sampleSize());
+        described.put("concurrency", settings.concurrency());
+        described.put("warmup", settings.warmup().toString());
+        described.put("duration", settings.duration().toString());
+        described.put("mix", settings.mix().toString());
+        return described;
+    }
+
+}
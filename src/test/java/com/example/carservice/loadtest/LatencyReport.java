@@ -0,0 +1,126 @@
+package com.example.carservice.loadtest;
+
+import com.example.carservice.loadtest.TrafficMix.Endpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of every load-test call in one HdrHistogram per endpoint and reports throughput and
+ * p50/p99/p99.9 latencies, as a table on the console and as a JSON file.
+ * <p>
+ * Latencies are recorded in microseconds with three significant digits; only successful (2xx) calls are
+ * recorded, failed ones are counted as errors.
+ * </p>
+ */
+final class LatencyReport {
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    void recordSuccess(final Endpoint endpoint, final long latencyNanos) {
+        histograms.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    void recordError(final Endpoint endpoint) {
+        errors.get(endpoint).increment();
+    }
+
+    /**
+     * Drops everything recorded so far, at the end of the warmup.
+     */
+    void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long totalRequests() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum() + totalErrors();
+    }
+
+    void print(final Duration elapsed, final PrintStream out) {
+
+        out.printf("%-40s %10s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (Map<String, Object> row : this.rows(elapsed)) {
+            out.printf("%-40s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+                    row.get("endpoint"), row.get("requests"), row.get("throughput"), row.get("errors"),
+                    row.get("p50"), row.get("p99"), row.get("p999"), row.get("max"));
+        }
+    }
+
+    void write(final Path file, final Duration elapsed, final Map<String, Object> settings, final ObjectMapper objectMapper)
+            throws IOException {
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("durationSeconds", elapsed.toMillis() / 1_000.0);
+        report.put("latencyUnit", "ms");
+        report.put("endpoints", this.rows(elapsed));
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+    }
+
+    private List<Map<String, Object>> rows(final Duration elapsed) {
+
+        final double seconds = elapsed.toMillis() / 1_000.0;
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        final Histogram total = new Histogram(3);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            final Histogram histogram = histograms.get(endpoint);
+            final long failed = errors.get(endpoint).sum();
+            if (histogram.getTotalCount() + failed == 0) {
+                continue;
+            }
+            total.add(histogram);
+            rows.add(row(endpoint.getRoute(), histogram, failed, seconds));
+        }
+
+        rows.add(row("total", total, this.totalErrors(), seconds));
+        return rows;
+    }
+
+    private static Map<String, Object> row(final String name, final Histogram histogram, final long failed, final double seconds) {
+        final long requests = histogram.getTotalCount() + failed;
+        final Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", name);
+        row.put("requests", requests);
+        row.put("throughput", requests / seconds);
+        row.put("errors", failed);
+        row.put("p50", millis(histogram.getValueAtPercentile(50)));
+        row.put("p99", millis(histogram.getValueAtPercentile(99)));
+        row.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        row.put("max", millis(histogram.getMaxValue()));
+        return row;
+    }
+
+    private static double millis(final long micros) {
+        return micros / 1_000.0;
+    }
+
+}
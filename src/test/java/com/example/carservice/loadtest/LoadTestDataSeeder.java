@@ -0,0 +1,284 @@
+package com.example.carservice.loadtest;
+
+import com.example.carservice.auth.model.enums.UserStatus;
+import com.example.carservice.auth.model.enums.UserType;
+import com.example.carservice.carservice.model.enums.CarStatus;
+import com.example.carservice.carservice.model.enums.ServiceStatus;
+import com.example.carservice.common.id.IdCodec;
+import com.example.carservice.common.id.TimeOrderedUuid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the load-test database with user accounts, cars and services through batched JDBC inserts, and samples
+ * the seeded rows the replayed traffic targets.
+ * <p>
+ * Cars are inserted in chunks, each committed together with the services of its cars, so that an interrupted
+ * seeding resumes where it stopped on a reused container instead of starting over. Seeded rows are marked with
+ * {@code CREATED_BY = 'loadtest'}.
+ * </p>
+ */
+@Slf4j
+final class LoadTestDataSeeder {
+
+    static final String PASSWORD = "loadtest-password";
+    static final String ADMIN_EMAIL = "loadtest-admin@carservice.com";
+
+    private static final String SEEDED_BY = "loadtest";
+    private static final int CHUNK_SIZE = 5_000;
+    private static final String PLATE_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String[] BRANDS = {"Toyota", "Renault", "Fiat", "Volkswagen", "Ford", "Hyundai", "Honda", "Peugeot"};
+    private static final String[] MODELS = {"Corolla", "Clio", "Egea", "Passat", "Focus", "i20", "Civic", "308"};
+    private static final ServiceStatus[] SERVICE_STATUSES = ServiceStatus.values();
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (id, email, password, first_name, last_name, phone_number, user_type, user_status,
+                               token_epoch, created_at, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String INSERT_CAR_SQL = """
+            INSERT INTO cars (id, license_plate, model, brand, status, user_id, created_at, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_SERVICE_SQL = """
+            INSERT INTO services (id, title, description, status, car_id, created_at, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * A seeded car, with what an update request has to repeat.
+     */
+    record SeededCar(String id, String licensePlate, String userId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final LoadTestSettings settings;
+
+    LoadTestDataSeeder(final DataSource dataSource,
+                       final TransactionTemplate transactionTemplate,
+                       final PasswordEncoder passwordEncoder,
+                       final LoadTestSettings settings) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.settings = settings;
+    }
+
+    static String userEmail(final int index) {
+        return "loadtest-user-" + index + "@carservice.com";
+    }
+
+    /**
+     * Inserts whatever accounts, cars and services are missing.
+     */
+    void seed() {
+
+        final List<String> userIds = this.seedUsers();
+
+        final Integer seededCars = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cars WHERE created_by = ?", Integer.class, SEEDED_BY);
+
+        final long startedAt = System.nanoTime();
+
+        for (int from = seededCars; from < settings.cars(); from += CHUNK_SIZE) {
+            final int chunkStart = from;
+            final int chunkEnd = Math.min(from + CHUNK_SIZE, settings.cars());
+            transactionTemplate.executeWithoutResult(status -> this.insertCars(chunkStart, chunkEnd, userIds));
+
+            if ((chunkEnd / CHUNK_SIZE) % 100 == 0 || chunkEnd == settings.cars()) {
+                log.info("Seeded {}/{} cars in {}s", chunkEnd, settings.cars(), (System.nanoTime() - startedAt) / 1_000_000_000);
+            }
+        }
+    }
+
+    /**
+     * Samples up to {@code sampleSize} seeded cars, uniformly over the whole table.
+     *
+     * @return the sampled cars
+     */
+    List<SeededCar> sampleCars() {
+        final Reservoir<SeededCar> reservoir = new Reservoir<>(settings.sampleSize());
+        streamingJdbcTemplate.query(
+                "SELECT id, license_plate, user_id FROM cars WHERE status = 'ACTIVE'",
+                (RowCallbackHandler) resultSet -> reservoir.offer(new SeededCar(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3)))
+        );
+        return reservoir.items();
+    }
+
+    /**
+     * Samples up to {@code sampleSize} service IDs, uniformly over the whole table.
+     *
+     * @return the sampled service IDs
+     */
+    List<String> sampleServiceIds() {
+        final Reservoir<String> reservoir = new Reservoir<>(settings.sampleSize());
+        streamingJdbcTemplate.query(
+                "SELECT id FROM services",
+                (RowCallbackHandler) resultSet -> reservoir.offer(IdCodec.decode(resultSet.getBytes(1)))
+        );
+        return reservoir.items();
+    }
+
+    private List<String> seedUsers() {
+
+        final List<String> existing = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE created_by = ? AND user_type = ? ORDER BY email",
+                String.class, SEEDED_BY, UserType.USER.ordinal());
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+
+        final String passwordHash = passwordEncoder.encode(PASSWORD);
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final List<String> userIds = new ArrayList<>(settings.users());
+
+        // One admin, who sends the admin-only calls, after the users owning the cars
+        transactionTemplate.executeWithoutResult(status -> this.batchInsert(INSERT_USER_SQL, settings.users() + 1, (statement, user) -> {
+            final boolean admin = user == settings.users();
+            final String userId = TimeOrderedUuid.nextId();
+            if (!admin) {
+                userIds.add(userId);
+            }
+            statement.setString(1, userId);
+            statement.setString(2, admin ? ADMIN_EMAIL : userEmail(user));
+            statement.setString(3, passwordHash);
+            statement.setString(4, admin ? "Load" : "User" + user);
+            statement.setString(5, admin ? "Admin" : "Load");
+            statement.setString(6, String.format("555%07d", user));
+            statement.setInt(7, (admin ? UserType.ADMIN : UserType.USER).ordinal());
+            statement.setString(8, UserStatus.ACTIVE.name());
+            statement.setTimestamp(9, now);
+            statement.setString(10, SEEDED_BY);
+        }));
+
+        log.info("Seeded {} users and {}", settings.users(), ADMIN_EMAIL);
+        return userIds;
+    }
+
+    private void insertCars(final int from, final int to, final List<String> userIds) {
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final List<String> carIds = new ArrayList<>(to - from);
+
+        this.batchInsert(INSERT_CAR_SQL, to - from, (statement, row) -> {
+            final int car = from + row;
+            final String carId = TimeOrderedUuid.nextId();
+            carIds.add(carId);
+            statement.setString(1, carId);
+            statement.setString(2, plate(car));
+            statement.setString(3, MODELS[car % MODELS.length]);
+            statement.setString(4, BRANDS[car % BRANDS.length]);
+            statement.setString(5, CarStatus.ACTIVE.name());
+            statement.setString(6, userIds.get(car % userIds.size()));
+            statement.setTimestamp(7, now);
+            statement.setString(8, SEEDED_BY);
+        });
+
+        final int servicesPerCar = settings.servicesPerCar();
+        if (servicesPerCar == 0) {
+            return;
+        }
+
+        this.batchInsert(INSERT_SERVICE_SQL, carIds.size() * servicesPerCar, (statement, service) -> {
+            final int car = service / servicesPerCar;
+            statement.setBytes(1, IdCodec.encode(TimeOrderedUuid.nextId()));
+            statement.setString(2, "Maintenance " + (from + car) + "-" + (service % servicesPerCar));
+            statement.setString(3, "Engine oil, oil filter and air filter replaced; brakes and tyres inspected.");
+            statement.setString(4, SERVICE_STATUSES[service % SERVICE_STATUSES.length].name());
+            statement.setString(5, carIds.get(car));
+            statement.setTimestamp(6, now);
+            statement.setString(7, SEEDED_BY);
+        });
+    }
+
+    private void batchInsert(final String sql, final int rows, final RowSetter rowSetter) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(final PreparedStatement statement, final int row) throws SQLException {
+                rowSetter.setValues(statement, row);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows;
+            }
+
+        });
+    }
+
+    /**
+     * Builds a unique, valid Turkish plate ({@code 99 XXX 999}) for every car index below 1.4 billion.
+     */
+    private static String plate(final int index) {
+        final int province = index % 81 + 1;
+        int rest = index / 81;
+        final char[] letters = new char[3];
+        for (int position = 2; position >= 0; position--) {
+            letters[position] = PLATE_LETTERS.charAt(rest % PLATE_LETTERS.length());
+            rest /= PLATE_LETTERS.length();
+        }
+        return String.format("%02d %s %d", province, new String(letters), rest % 990 + 10);
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+
+        void setValues(PreparedStatement statement, int row) throws SQLException;
+
+    }
+
+    /**
+     * Keeps a uniform random sample of at most {@code capacity} of the offered items (reservoir sampling).
+     */
+    private static final class Reservoir<T> {
+
+        private final Random random = new Random(42);
+        private final int capacity;
+        private final List<T> items;
+        private long offered;
+
+        private Reservoir(final int capacity) {
+            this.capacity = capacity;
+            this.items = new ArrayList<>(capacity);
+        }
+
+        private void offer(final T item) {
+            offered++;
+            if (items.size() < capacity) {
+                items.add(item);
+                return;
+            }
+            final long slot = random.nextLong(offered);
+            if (slot < capacity) {
+                items.set((int) slot, item);
+            }
+        }
+
+        private List<T> items() {
+            return items;
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.carservice.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of a load-test run, read from system properties so that they can be given on the Maven command line
+ * ({@code mvn test -Ploadtest -Dloadtest.cars=5000000 -Dloadtest.concurrency=128}).
+ *
+ * @param users          number of seeded user accounts owning the cars ({@code loadtest.users})
+ * @param cars           number of seeded cars ({@code loadtest.cars})
+ * @param servicesPerCar number of seeded services per car ({@code loadtest.services-per-car})
+ * @param sampleSize     number of seeded cars and of services the traffic picks its targets from ({@code loadtest.sample-size})
+ * @param concurrency    number of clients sending requests back to back ({@code loadtest.concurrency})
+ * @param warmup         time spent sending unmeasured traffic first ({@code loadtest.warmup})
+ * @param duration       time spent sending measured traffic ({@code loadtest.duration})
+ * @param mix            relative weights of the replayed calls ({@code loadtest.mix})
+ * @param report         file the JSON report is written to ({@code loadtest.report})
+ */
+record LoadTestSettings(int users,
+                        int cars,
+                        int servicesPerCar,
+                        int sampleSize,
+                        int concurrency,
+                        Duration warmup,
+                        Duration duration,
+                        TrafficMix mix,
+                        Path report) {
+
+    static final String DEFAULT_MIX = "login=2,listCars=20,getCar=50,updateCar=18,assignService=10";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 1_000),
+                Integer.getInteger("loadtest.cars", 1_000_000),
+                Integer.getInteger("loadtest.services-per-car", 2),
+                Integer.getInteger("loadtest.sample-size", 100_000),
+                Integer.getInteger("loadtest.concurrency", 64),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "30s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "2m")),
+                TrafficMix.parse(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"))
+        );
+    }
+
+}
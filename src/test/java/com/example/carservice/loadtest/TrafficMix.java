@@ -0,0 +1,99 @@
+package com.example.carservice.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted mix of the calls replayed by the load test, given as {@code name=weight} pairs separated by commas,
+ * for example {@code login=2,listCars=20,getCar=50,updateCar=18,assignService=10}.
+ * Calls left out of the mix are not sent.
+ */
+final class TrafficMix {
+
+    /**
+     * Calls the load test can replay, one per measured endpoint.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    enum Endpoint {
+
+        LOGIN("login", "POST /api/v1/authentication/user/login"),
+        LIST_CARS("listCars", "POST /api/v1/cars/all"),
+        GET_CAR("getCar", "GET /api/v1/cars/{carId}"),
+        UPDATE_CAR("updateCar", "PUT /api/v1/cars/{carId}"),
+        ASSIGN_SERVICE("assignService", "POST /api/services/assign");
+
+        private final String key;
+        private final String route;
+
+        static Endpoint ofKey(final String key) {
+            return Arrays.stream(values())
+                    .filter(endpoint -> endpoint.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown load-test call: " + key));
+        }
+
+    }
+
+    private final Map<Endpoint, Integer> weights;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    private TrafficMix(final Map<Endpoint, Integer> weights) {
+        this.weights = weights;
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int index = 0; index < endpoints.length; index++) {
+            total += weights.get(endpoints[index]);
+            cumulativeWeights[index] = total;
+        }
+    }
+
+    static TrafficMix parse(final String mix) {
+
+        final Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+
+        for (String entry : mix.split(",")) {
+            final String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Load-test mix entries must be name=weight: " + entry);
+            }
+            final int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.ofKey(pair[0].trim()), weight);
+            }
+        }
+
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load-test mix has no call with a positive weight: " + mix);
+        }
+        return new TrafficMix(weights);
+    }
+
+    /**
+     * Picks the next call to send, in proportion to the weights.
+     *
+     * @param random the random generator of the calling client
+     * @return the call to send
+     */
+    Endpoint next(final RandomGenerator random) {
+        final int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (pick >= cumulativeWeights[index]) {
+            index++;
+        }
+        return endpoints[index];
+    }
+
+    @Override
+    public String toString() {
+        return weights.toString();
+    }
+
+}
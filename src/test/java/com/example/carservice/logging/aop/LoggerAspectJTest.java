@@ -4,18 +4,26 @@ import ch.qos.logback.classic.Level;
 import com.example.carservice.auth.exception.*;
 import com.example.carservice.base.AbstractBaseServiceTest;
 import com.example.carservice.carservice.exception.*;
+import com.example.carservice.logging.config.AuditLogProperties;
 import com.example.carservice.logging.entity.LogEntity;
+import com.example.carservice.logging.model.CapturedBody;
+import com.example.carservice.logging.model.enums.AuditBodyEncoding;
 import com.example.carservice.logging.service.LogService;
+import com.example.carservice.logging.utils.ResponseBodyCapturer;
+import com.example.carservice.logging.utils.annotation.ReadOnlyEndpoint;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -41,6 +49,12 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
     @Mock
     private LogService logService;
 
+    @Mock
+    private ResponseBodyCapturer responseBodyCapturer;
+
+    @Spy
+    private AuditLogProperties auditLogProperties = new AuditLogProperties();
+
     @Mock
     private HttpServletRequest httpServletRequest;
 
@@ -231,6 +245,92 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
         assertTrue(logMessage.isPresent(), "Expected error log message not found.");
     }
 
+    @Test
+    void givenCapturedBody_whenLogAfterReturning_thenStoreBodyOnlyInResponse() throws IOException {
+
+        // Given
+        CapturedBody capturedBody = CapturedBody.builder()
+                .content("H4sIAAAAAAAA")
+                .encoding(AuditBodyEncoding.GZIP_BASE64)
+                .truncated(true)
+                .build();
+
+        // When
+        when(httpServletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost/api/test"));
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+        when(httpServletResponse.getStatus()).thenReturn(HttpStatus.OK.value());
+        when(responseBodyCapturer.capture("test response")).thenReturn(capturedBody);
+
+        // Then
+        loggerAspectJ.logAfterReturning(joinPoint, "test response");
+
+        ArgumentCaptor<LogEntity> logEntityCaptor = ArgumentCaptor.forClass(LogEntity.class);
+        verify(logService).saveLogToDatabase(logEntityCaptor.capture());
+
+        LogEntity logEntity = logEntityCaptor.getValue();
+        assertEquals("H4sIAAAAAAAA", logEntity.getResponse());
+        assertEquals(AuditBodyEncoding.GZIP_BASE64, logEntity.getResponseEncoding());
+        assertTrue(logEntity.getResponseTruncated());
+        assertNull(logEntity.getMessage());
+
+    }
+
+    @Test
+    void givenSkipReadOnlyEndpoints_whenLogAfterReturningForGet_thenNothingIsLogged() throws IOException {
+
+        // Given
+        auditLogProperties.setSkipReadOnlyEndpoints(true);
+
+        // When
+        when(httpServletRequest.getMethod()).thenReturn("GET");
+
+        // Then
+        loggerAspectJ.logAfterReturning(joinPoint, "test response");
+
+        // Verify
+        verifyNoInteractions(logService, responseBodyCapturer);
+
+    }
+
+    @Test
+    void givenSkipReadOnlyEndpoints_whenLogAfterReturningForReadOnlyPost_thenNothingIsLogged() throws Exception {
+
+        // Given
+        auditLogProperties.setSkipReadOnlyEndpoints(true);
+        MethodSignature methodSignature = mock(MethodSignature.class);
+
+        // When
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(ReadOnlyController.class.getMethod("list"));
+
+        // Then
+        loggerAspectJ.logAfterReturning(joinPoint, "test response");
+
+        // Verify
+        verifyNoInteractions(logService, responseBodyCapturer);
+
+    }
+
+    @Test
+    void givenSkipReadOnlyEndpoints_whenLogAfterReturningForWrite_thenLogIsSaved() throws IOException {
+
+        // Given
+        auditLogProperties.setSkipReadOnlyEndpoints(true);
+
+        // When
+        when(httpServletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost/api/test"));
+        when(httpServletRequest.getMethod()).thenReturn("PUT");
+        when(httpServletResponse.getStatus()).thenReturn(HttpStatus.OK.value());
+
+        // Then
+        loggerAspectJ.logAfterReturning(joinPoint, "test response");
+
+        // Verify
+        verify(logService, times(1)).saveLogToDatabase(any(LogEntity.class));
+
+    }
+
     @Test
     public void testGetHttpStatusFromException_AllCases() {
         // Given a mapping between exception instances and their expected HTTP status values
@@ -241,12 +341,14 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
         testCases.put(new UserAlreadyExistException("User already exists"), UserAlreadyExistException.STATUS.name());
         testCases.put(new UserNotFoundException("User not found"), UserNotFoundException.STATUS.name());
         testCases.put(new UserStatusNotValidException("User status not valid"), UserStatusNotValidException.STATUS.name());
+        testCases.put(new PasswordHashingUnavailableException(), PasswordHashingUnavailableException.STATUS.name());
         testCases.put(new CarNotFoundException("Car Not Found"), CarNotFoundException.STATUS.name());
         testCases.put(new CarStatusNotValidException("Invalid car status"), CarStatusNotValidException.STATUS.name());
         testCases.put(new LicensePlateAlreadyExistsException("License plate already exists"), LicensePlateAlreadyExistsException.STATUS.name());
         testCases.put(new ServiceCarMismatchException("CarId","ServiceId"), ServiceCarMismatchException.STATUS.name());
         testCases.put(new ServiceNotFoundException("Service Not Found"), ServiceNotFoundException.STATUS.name());
         testCases.put(new ServiceTitleAlreadyExistsException("Service Title already exists"), ServiceTitleAlreadyExistsException.STATUS.name());
+        testCases.put(new InvalidCarImportException("Missing header"), InvalidCarImportException.STATUS.name());
         testCases.put(new Exception("Unknown exception"), HttpStatus.INTERNAL_SERVER_ERROR.name());
 
         // When & Then: using ReflectionTestUtils to call the private method getHttpStatusFromException
@@ -261,4 +363,14 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
         });
     }
 
-}
\ No newline at end of file
+
+    static class ReadOnlyController {
+
+        @ReadOnlyEndpoint
+        public String list() {
+            return "list";
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.example.carservice.logging.service.impl;
+
+import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.logging.config.AuditLogProperties;
+import com.example.carservice.logging.entity.LogEntity;
+import com.example.carservice.logging.model.enums.AuditOverflowPolicy;
+import com.example.carservice.logging.repository.LogJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AsyncLogServiceImplTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private LogJdbcRepository logJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path spillDirectory;
+
+    private AuditLogProperties auditLogProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private AsyncLogServiceImpl asyncLogService;
+
+    @BeforeEach
+    void setUp() {
+        auditLogProperties = new AuditLogProperties();
+        auditLogProperties.getAsync().setBatchSize(3);
+        auditLogProperties.getAsync().setFlushInterval(Duration.ofMillis(50));
+        auditLogProperties.getAsync().setSpillDirectory(spillDirectory);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (asyncLogService != null) {
+            asyncLogService.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenQueuedEntries_whenWriterRuns_thenEntriesAreInsertedInBatches() throws Exception {
+
+        // Given
+        asyncLogService = createService();
+        asyncLogService.start();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            asyncLogService.saveLogToDatabase(logEntity());
+        }
+        asyncLogService.stop();
+
+        // Then
+        ArgumentCaptor<List<LogEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(logJdbcRepository, atLeastOnce()).batchInsert(batchCaptor.capture());
+
+        assertEquals(5, batchCaptor.getAllValues().stream().mapToInt(List::size).sum());
+        assertTrue(batchCaptor.getAllValues().stream().allMatch(batch -> batch.size() <= 3));
+        assertTrue(batchCaptor.getAllValues().stream().flatMap(List::stream)
+                .allMatch(logEntity -> logEntity.getId() != null && logEntity.getTime() != null));
+        assertEquals(5.0, meterRegistry.get("audit.log.written").counter().count());
+
+    }
+
+    @Test
+    void givenFullQueueAndDropPolicy_whenSave_thenEntryIsDroppedAndCounted() {
+
+        // Given
+        auditLogProperties.getAsync().setQueueCapacity(1);
+        auditLogProperties.getAsync().setOverflowPolicy(AuditOverflowPolicy.DROP);
+        asyncLogService = createService();
+
+        // When
+        asyncLogService.saveLogToDatabase(logEntity());
+        asyncLogService.saveLogToDatabase(logEntity());
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("audit.log.queue.depth").gauge().value());
+        assertEquals(1.0, meterRegistry.get("audit.log.dropped").counter().count());
+
+        // Verify
+        verifyNoInteractions(logJdbcRepository);
+
+    }
+
+    @Test
+    void givenFullQueueAndBlockPolicy_whenNoSpaceFreesUp_thenEntryIsDroppedAfterTimeout() {
+
+        // Given
+        auditLogProperties.getAsync().setQueueCapacity(1);
+        auditLogProperties.getAsync().setOverflowPolicy(AuditOverflowPolicy.BLOCK);
+        auditLogProperties.getAsync().setBlockTimeout(Duration.ofMillis(10));
+        asyncLogService = createService();
+
+        // When
+        asyncLogService.saveLogToDatabase(logEntity());
+        asyncLogService.saveLogToDatabase(logEntity());
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("audit.log.dropped").counter().count());
+
+    }
+
+    @Test
+    void givenDatabaseFailureAndSpillPolicy_whenWriterRuns_thenBatchIsSpilledAndLoadedLater() throws Exception {
+
+        // Given
+        auditLogProperties.getAsync().setOverflowPolicy(AuditOverflowPolicy.SPILL);
+        asyncLogService = createService();
+
+        doThrow(new DataAccessResourceFailureException("Database down"))
+                .doNothing()
+                .when(logJdbcRepository).batchInsert(anyList());
+
+        asyncLogService.start();
+
+        // When
+        asyncLogService.saveLogToDatabase(logEntity());
+
+        // Then
+        verify(logJdbcRepository, timeout(2_000).times(2)).batchInsert(anyList());
+
+        assertEquals(1.0, meterRegistry.get("audit.log.spilled").counter().count());
+        assertEquals(0.0, meterRegistry.get("audit.log.dropped").counter().count());
+
+    }
+
+    private AsyncLogServiceImpl createService() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new AsyncLogServiceImpl(
+                logJdbcRepository,
+                auditLogProperties,
+                objectMapper,
+                transactionManager,
+                meterRegistry
+        );
+    }
+
+    private static LogEntity logEntity() {
+        return LogEntity.builder()
+                .endpoint("http://localhost/api/v1/cars/all")
+                .method("POST")
+                .operation("getAllCars")
+                .status(HttpStatus.OK)
+                .build();
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.example.carservice.logging.service.impl;
+
+import com.example.carservice.base.AbstractBaseServiceTest;
+import com.example.carservice.logging.config.AuditLogProperties;
+import com.example.carservice.logging.entity.LogEntity;
+import com.example.carservice.logging.repository.LogJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class SegmentLogServiceImplTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private LogJdbcRepository logJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path segmentDirectory;
+
+    private AuditLogProperties auditLogProperties;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        auditLogProperties = new AuditLogProperties();
+        auditLogProperties.getSegment().setDirectory(segmentDirectory);
+        auditLogProperties.getSegment().setMaxSegmentAge(Duration.ZERO);
+        auditLogProperties.getSegment().setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void givenEntries_whenSaveLogToDatabase_thenOnlyAppendToSegmentFile() throws IOException {
+
+        // Given
+        SegmentLogServiceImpl segmentLogService = createService();
+
+        // When
+        segmentLogService.saveLogToDatabase(logEntity());
+
+        // Then
+        assertEquals(1, countFiles());
+        assertEquals(1.0, meterRegistry.get("audit.log.segment.appended").counter().count());
+
+        // Verify
+        verifyNoInteractions(logJdbcRepository, transactionManager);
+
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenAppendedEntries_whenLoadClosedSegments_thenBulkInsertAndDeleteSegment() throws IOException {
+
+        // Given
+        SegmentLogServiceImpl segmentLogService = createService();
+        for (int i = 0; i < 3; i++) {
+            segmentLogService.saveLogToDatabase(logEntity());
+        }
+
+        // When
+        segmentLogService.loadClosedSegments();
+
+        // Then
+        ArgumentCaptor<List<LogEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(logJdbcRepository, times(2)).batchInsert(batchCaptor.capture());
+
+        assertEquals(List.of(2, 1), batchCaptor.getAllValues().stream().map(List::size).toList());
+        assertTrue(batchCaptor.getAllValues().stream().flatMap(List::stream)
+                .allMatch(logEntity -> logEntity.getId() != null && logEntity.getCreatedAt() != null));
+        assertEquals(0, countFiles());
+        assertEquals(3.0, meterRegistry.get("audit.log.written").counter().count());
+
+    }
+
+    @Test
+    void givenDatabaseFailure_whenLoadClosedSegments_thenSegmentIsKeptForNextRun() throws IOException {
+
+        // Given
+        SegmentLogServiceImpl segmentLogService = createService();
+        segmentLogService.saveLogToDatabase(logEntity());
+
+        doThrow(new DataAccessResourceFailureException("Database down"))
+                .doNothing()
+                .when(logJdbcRepository).batchInsert(anyList());
+
+        // When
+        segmentLogService.loadClosedSegments();
+        long filesAfterFailure = countFiles();
+        segmentLogService.loadClosedSegments();
+
+        // Then
+        assertEquals(1, filesAfterFailure);
+        assertEquals(0, countFiles());
+        assertEquals(1.0, meterRegistry.get("audit.log.written").counter().count());
+
+        // Verify
+        verify(logJdbcRepository, times(2)).batchInsert(anyList());
+        verify(transactionManager).rollback(any());
+
+    }
+
+    @Test
+    void givenSegmentRejectedByDatabase_whenLoadClosedSegmentsRepeatedly_thenSegmentIsQuarantinedAndLaterSegmentsLoad() throws IOException {
+
+        // Given
+        auditLogProperties.getSegment().setSegmentSize(DataSize.ofBytes(1));
+        auditLogProperties.getSegment().setMaxLoadAttempts(2);
+        SegmentLogServiceImpl segmentLogService = createService();
+
+        final LogEntity rejected = logEntity();
+        rejected.setOperation("rejected");
+        segmentLogService.saveLogToDatabase(rejected);
+        segmentLogService.saveLogToDatabase(logEntity());
+
+        doAnswer(invocation -> {
+            final List<LogEntity> batch = invocation.getArgument(0);
+            if ("rejected".equals(batch.get(0).getOperation())) {
+                throw new DataIntegrityViolationException("Data too long");
+            }
+            return null;
+        }).when(logJdbcRepository).batchInsert(anyList());
+
+        // When
+        segmentLogService.loadClosedSegments();
+        final double writtenAfterFirstRun = meterRegistry.get("audit.log.written").counter().count();
+        segmentLogService.loadClosedSegments();
+
+        // Then
+        assertEquals(0.0, writtenAfterFirstRun);
+        assertEquals(1.0, meterRegistry.get("audit.log.written").counter().count());
+        assertEquals(1.0, meterRegistry.get("audit.log.segment.quarantined").counter().count());
+
+        try (Stream<Path> files = Files.list(segmentDirectory.resolve("quarantine"))) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(1, countFiles());
+
+        // Verify
+        verify(logJdbcRepository, times(3)).batchInsert(anyList());
+
+    }
+
+    @Test
+    void givenDatabaseUnavailable_whenLoadClosedSegmentsRepeatedly_thenSegmentIsNeverQuarantined() throws IOException {
+
+        // Given
+        auditLogProperties.getSegment().setMaxLoadAttempts(1);
+        SegmentLogServiceImpl segmentLogService = createService();
+        segmentLogService.saveLogToDatabase(logEntity());
+
+        doThrow(new DataAccessResourceFailureException("Database down"))
+                .when(logJdbcRepository).batchInsert(anyList());
+
+        // When
+        segmentLogService.loadClosedSegments();
+        segmentLogService.loadClosedSegments();
+
+        // Then
+        assertEquals(1, countFiles());
+        assertFalse(Files.exists(segmentDirectory.resolve("quarantine")));
+        assertEquals(0.0, meterRegistry.get("audit.log.segment.quarantined").counter().count());
+
+    }
+
+    private SegmentLogServiceImpl createService() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new SegmentLogServiceImpl(
+                logJdbcRepository,
+                auditLogProperties,
+                objectMapper,
+                transactionManager,
+                meterRegistry
+        );
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(segmentDirectory)) {
+            return files.count();
+        }
+    }
+
+    private static LogEntity logEntity() {
+        return LogEntity.builder()
+                .endpoint("http://localhost/api/v1/cars")
+                .method("POST")
+                .operation("assignCarToUser")
+                .status(HttpStatus.OK)
+                .build();
+    }
+
+}
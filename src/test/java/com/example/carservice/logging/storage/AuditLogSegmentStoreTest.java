@@ -0,0 +1,165 @@
+package com.example.carservice.logging.storage;
+
+import com.example.carservice.logging.entity.LogEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogSegmentStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    void givenRecords_whenAppendAndRoll_thenClosedSegmentReadsBackInBatches() throws IOException {
+
+        // Given
+        AuditLogSegmentStore store = new AuditLogSegmentStore(directory, 1024 * 1024, objectMapper);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            store.append(logEntity("operation-" + i));
+        }
+        store.roll();
+
+        List<Path> segments = store.closedSegments();
+        List<List<LogEntity>> batches = new ArrayList<>();
+        store.forEachBatch(segments.get(0), 2, batches::add);
+
+        // Then
+        assertEquals(1, segments.size());
+        assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+        assertEquals("operation-0", batches.get(0).get(0).getOperation());
+        assertEquals(HttpStatus.OK, batches.get(0).get(0).getStatus());
+        assertNotNull(batches.get(2).get(0).getTime());
+
+    }
+
+    @Test
+    void givenSmallSegmentSize_whenAppend_thenRollToNewSegments() throws IOException {
+
+        // Given
+        AuditLogSegmentStore store = new AuditLogSegmentStore(directory, 1, objectMapper);
+
+        // When
+        store.append(logEntity("first"));
+        store.append(logEntity("second"));
+
+        // Then
+        assertEquals(2, store.closedSegments().size());
+        assertFalse(store.hasOpenRecords());
+
+    }
+
+    @Test
+    void givenOpenSegment_whenRollIfOlderThan_thenRollOnlyOnceMaxAgeIsReached() throws IOException {
+
+        // Given
+        AuditLogSegmentStore store = new AuditLogSegmentStore(directory, 1024 * 1024, objectMapper, true);
+        store.append(logEntity("operation"));
+
+        // When
+        store.rollIfOlderThan(Duration.ofHours(1));
+        int closedBeforeMaxAge = store.closedSegments().size();
+        store.rollIfOlderThan(Duration.ZERO);
+
+        // Then
+        assertEquals(0, closedBeforeMaxAge);
+        assertEquals(1, store.closedSegments().size());
+        assertFalse(store.hasOpenRecords());
+
+    }
+
+    @Test
+    void givenSegmentLeftOpenByCrash_whenStoreIsCreated_thenSegmentIsClosedAndTornLineSkipped() throws IOException {
+
+        // Given
+        AuditLogSegmentStore crashedStore = new AuditLogSegmentStore(directory, 1024 * 1024, objectMapper);
+        crashedStore.append(logEntity("before-crash"));
+        try (var files = Files.list(directory)) {
+            Path openSegment = files.findFirst().orElseThrow();
+            Files.writeString(openSegment, "{\"operation\":\"torn", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+
+        // When
+        AuditLogSegmentStore recoveredStore = new AuditLogSegmentStore(directory, 1024 * 1024, objectMapper);
+        List<LogEntity> records = new ArrayList<>();
+        for (Path segment : recoveredStore.closedSegments()) {
+            recoveredStore.forEachBatch(segment, 10, records::addAll);
+        }
+
+        // Then
+        assertEquals(1, records.size());
+        assertEquals("before-crash", records.get(0).getOperation());
+
+    }
+
+    @Test
+    void givenClosedSegment_whenDelete_thenSegmentIsRemoved() throws IOException {
+
+        // Given
+        AuditLogSegmentStore store = new AuditLogSegmentStore(directory, 1024 * 1024, objectMapper);
+        store.append(logEntity("operation"));
+        store.roll();
+
+        // When
+        store.delete(store.closedSegments().get(0));
+
+        // Then
+        assertTrue(store.closedSegments().isEmpty());
+
+    }
+
+    @Test
+    void givenClosedSegment_whenQuarantine_thenSegmentIsSetAsideAndNoLongerListed() throws IOException {
+
+        // Given
+        AuditLogSegmentStore store = new AuditLogSegmentStore(directory, 1024 * 1024, objectMapper);
+        store.append(logEntity("operation"));
+        store.roll();
+        Path segment = store.closedSegments().get(0);
+
+        // When
+        store.quarantine(segment);
+
+        // Then
+        assertTrue(store.closedSegments().isEmpty());
+        assertTrue(Files.exists(directory.resolve(AuditLogSegmentStore.QUARANTINE_DIRECTORY).resolve(segment.getFileName())));
+
+    }
+
+    private static LogEntity logEntity(final String operation) {
+        return LogEntity.builder()
+                .endpoint("http://localhost/api/v1/cars/all")
+                .method("POST")
+                .operation(operation)
+                .status(HttpStatus.OK)
+                .time(LocalDateTime.now())
+                .build();
+    }
+
+}
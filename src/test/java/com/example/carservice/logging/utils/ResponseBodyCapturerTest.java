@@ -0,0 +1,138 @@
+package com.example.carservice.logging.utils;
+
+import com.example.carservice.logging.config.AuditLogProperties;
+import com.example.carservice.logging.model.CapturedBody;
+import com.example.carservice.logging.model.enums.AuditBodyCaptureMode;
+import com.example.carservice.logging.model.enums.AuditBodyEncoding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseBodyCapturerTest {
+
+    private AuditLogProperties auditLogProperties;
+
+    private ResponseBodyCapturer responseBodyCapturer;
+
+    @BeforeEach
+    void setUp() {
+        auditLogProperties = new AuditLogProperties();
+        auditLogProperties.getBody().setCompress(false);
+        responseBodyCapturer = new ResponseBodyCapturer(new ObjectMapper(), auditLogProperties);
+    }
+
+    @Test
+    void givenNoneMode_whenCapture_thenNothingIsStored() throws IOException {
+
+        // Given
+        auditLogProperties.getBody().setCaptureMode(AuditBodyCaptureMode.NONE);
+
+        // When
+        CapturedBody capturedBody = responseBodyCapturer.capture(Map.of("key", "value"));
+
+        // Then
+        assertNull(capturedBody);
+
+    }
+
+    @Test
+    void givenSmallBody_whenCaptureTruncated_thenWholeJsonIsStored() throws IOException {
+
+        // When
+        CapturedBody capturedBody = responseBodyCapturer.capture(Map.of("key", "value"));
+
+        // Then
+        assertEquals("{\"key\":\"value\"}", capturedBody.getContent());
+        assertEquals(AuditBodyEncoding.PLAIN, capturedBody.getEncoding());
+        assertFalse(capturedBody.isTruncated());
+
+    }
+
+    @Test
+    void givenLargeBody_whenCaptureTruncated_thenOnlyPrefixIsStored() throws IOException {
+
+        // Given
+        auditLogProperties.getBody().setMaxSize(DataSize.ofBytes(64));
+        List<String> largeBody = IntStream.range(0, 10_000).mapToObj(i -> "car-" + i).toList();
+
+        // When
+        CapturedBody capturedBody = responseBodyCapturer.capture(largeBody);
+
+        // Then
+        assertEquals(64, capturedBody.getContent().length());
+        assertTrue(capturedBody.getContent().startsWith("[\"car-0\",\"car-1\""));
+        assertTrue(capturedBody.isTruncated());
+
+    }
+
+    @Test
+    void givenHashMode_whenCapture_thenSha256OfJsonIsStored() throws Exception {
+
+        // Given
+        auditLogProperties.getBody().setCaptureMode(AuditBodyCaptureMode.HASH);
+        String expected = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest("test response".getBytes(StandardCharsets.UTF_8))
+        );
+
+        // When
+        CapturedBody capturedBody = responseBodyCapturer.capture("test response");
+
+        // Then
+        assertEquals(expected, capturedBody.getContent());
+        assertEquals(AuditBodyEncoding.SHA256, capturedBody.getEncoding());
+
+    }
+
+    @Test
+    void givenFullModeNotSampled_whenCapture_thenHashIsStored() throws IOException {
+
+        // Given
+        auditLogProperties.getBody().setCaptureMode(AuditBodyCaptureMode.FULL);
+        auditLogProperties.getBody().setFullSampleRate(0.0);
+
+        // When
+        CapturedBody capturedBody = responseBodyCapturer.capture("test response");
+
+        // Then
+        assertEquals(AuditBodyEncoding.SHA256, capturedBody.getEncoding());
+
+    }
+
+    @Test
+    void givenFullModeSampledAndCompression_whenCapture_thenCompressedBodyIsStored() throws IOException {
+
+        // Given
+        auditLogProperties.getBody().setCaptureMode(AuditBodyCaptureMode.FULL);
+        auditLogProperties.getBody().setFullSampleRate(1.0);
+        auditLogProperties.getBody().setCompress(true);
+        String body = "car-".repeat(1_000);
+
+        // When
+        CapturedBody capturedBody = responseBodyCapturer.capture(body);
+
+        // Then
+        assertEquals(AuditBodyEncoding.GZIP_BASE64, capturedBody.getEncoding());
+        assertTrue(capturedBody.getContent().length() < body.length() / 10);
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(capturedBody.getContent())))) {
+            assertEquals(body, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+    }
+
+}